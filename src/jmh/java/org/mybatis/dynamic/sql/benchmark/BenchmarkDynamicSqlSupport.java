@@ -0,0 +1,54 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.benchmark;
+
+import java.sql.JDBCType;
+import java.util.Date;
+
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+
+public final class BenchmarkDynamicSqlSupport {
+    public static final Person person = new Person();
+    public static final Address address = new Address();
+
+    private BenchmarkDynamicSqlSupport() {}
+
+    public static final class Person extends SqlTable {
+        public final SqlColumn<Integer> id = column("id", JDBCType.INTEGER);
+        public final SqlColumn<String> firstName = column("first_name", JDBCType.VARCHAR);
+        public final SqlColumn<String> lastName = column("last_name", JDBCType.VARCHAR);
+        public final SqlColumn<Date> birthDate = column("birth_date", JDBCType.DATE);
+        public final SqlColumn<Boolean> employed = column("employed", JDBCType.BOOLEAN);
+        public final SqlColumn<String> occupation = column("occupation", JDBCType.VARCHAR);
+        public final SqlColumn<Integer> addressId = column("address_id", JDBCType.INTEGER);
+
+        public Person() {
+            super("Person");
+        }
+    }
+
+    public static final class Address extends SqlTable {
+        public final SqlColumn<Integer> id = column("address_id", JDBCType.INTEGER);
+        public final SqlColumn<String> streetAddress = column("street_address", JDBCType.VARCHAR);
+        public final SqlColumn<String> city = column("city", JDBCType.VARCHAR);
+        public final SqlColumn<String> state = column("state", JDBCType.VARCHAR);
+
+        public Address() {
+            super("Address");
+        }
+    }
+}
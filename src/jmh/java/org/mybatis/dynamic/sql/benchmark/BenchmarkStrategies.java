@@ -0,0 +1,44 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.benchmark;
+
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.util.springbatch.SpringBatchUtility;
+
+/**
+ * Names of the rendering strategies used as the "strategy" parameter of the benchmarks.
+ */
+public final class BenchmarkStrategies {
+    public static final String MYBATIS3 = "MYBATIS3"; //$NON-NLS-1$
+    public static final String SPRING_NAMED_PARAMETER = "SPRING_NAMED_PARAMETER"; //$NON-NLS-1$
+    public static final String SPRING_BATCH = "SPRING_BATCH"; //$NON-NLS-1$
+
+    private BenchmarkStrategies() {}
+
+    public static RenderingStrategy of(String name) {
+        switch (name) {
+        case MYBATIS3:
+            return RenderingStrategies.MYBATIS3;
+        case SPRING_NAMED_PARAMETER:
+            return RenderingStrategies.SPRING_NAMED_PARAMETER;
+        case SPRING_BATCH:
+            return SpringBatchUtility.SPRING_BATCH_READER_RENDERING_STRATEGY;
+        default:
+            throw new IllegalArgumentException("Unknown rendering strategy: " + name); //$NON-NLS-1$
+        }
+    }
+}
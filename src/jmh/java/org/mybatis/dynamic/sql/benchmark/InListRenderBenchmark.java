@@ -0,0 +1,80 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.benchmark;
+
+import static org.mybatis.dynamic.sql.SqlBuilder.isIn;
+import static org.mybatis.dynamic.sql.SqlBuilder.where;
+import static org.mybatis.dynamic.sql.benchmark.BenchmarkDynamicSqlSupport.person;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.where.WhereModel;
+import org.mybatis.dynamic.sql.where.render.WhereClauseProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Renders a where clause with an "in" condition of different sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InListRenderBenchmark {
+
+    @Param({BenchmarkStrategies.MYBATIS3, BenchmarkStrategies.SPRING_NAMED_PARAMETER,
+            BenchmarkStrategies.SPRING_BATCH})
+    public String strategy;
+
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    private RenderingStrategy renderingStrategy;
+    private List<Integer> values;
+    private WhereModel whereModel;
+
+    @Setup
+    public void setup() {
+        renderingStrategy = BenchmarkStrategies.of(strategy);
+        values = IntStream.range(0, size).boxed().collect(Collectors.toList());
+        whereModel = where(person.id, isIn(values)).build();
+    }
+
+    @Benchmark
+    public WhereClauseProvider render() {
+        return whereModel.render(renderingStrategy);
+    }
+
+    @Benchmark
+    public WhereClauseProvider buildAndRender() {
+        return where(person.id, isIn(values)).build().render(renderingStrategy);
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.benchmark;
+
+import static org.mybatis.dynamic.sql.SqlBuilder.insertBatch;
+import static org.mybatis.dynamic.sql.SqlBuilder.insertMultiple;
+import static org.mybatis.dynamic.sql.benchmark.BenchmarkDynamicSqlSupport.person;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.mybatis.dynamic.sql.insert.BatchInsertModel;
+import org.mybatis.dynamic.sql.insert.MultiRowInsertModel;
+import org.mybatis.dynamic.sql.insert.render.BatchInsert;
+import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Renders batch and multiple row inserts for different numbers of rows. A batch insert renders one statement for
+ * all rows, so {@code batchInsertStatements} also creates the statement provider of every row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InsertRenderBenchmark {
+
+    @Param({BenchmarkStrategies.MYBATIS3, BenchmarkStrategies.SPRING_NAMED_PARAMETER,
+            BenchmarkStrategies.SPRING_BATCH})
+    public String strategy;
+
+    @Param({"10", "1000", "10000"})
+    public int rows;
+
+    private RenderingStrategy renderingStrategy;
+    private BatchInsertModel<PersonRecord> batchInsertModel;
+    private MultiRowInsertModel<PersonRecord> multiRowInsertModel;
+
+    @Setup
+    public void setup() {
+        renderingStrategy = BenchmarkStrategies.of(strategy);
+        List<PersonRecord> records = PersonRecord.records(rows);
+
+        batchInsertModel = insertBatch(records)
+                .into(person)
+                .map(person.id).toProperty("id") //$NON-NLS-1$
+                .map(person.firstName).toProperty("firstName") //$NON-NLS-1$
+                .map(person.lastName).toProperty("lastName") //$NON-NLS-1$
+                .map(person.birthDate).toProperty("birthDate") //$NON-NLS-1$
+                .map(person.employed).toProperty("employed") //$NON-NLS-1$
+                .map(person.occupation).toProperty("occupation") //$NON-NLS-1$
+                .map(person.addressId).toProperty("addressId") //$NON-NLS-1$
+                .build();
+
+        multiRowInsertModel = insertMultiple(records)
+                .into(person)
+                .map(person.id).toProperty("id") //$NON-NLS-1$
+                .map(person.firstName).toProperty("firstName") //$NON-NLS-1$
+                .map(person.lastName).toProperty("lastName") //$NON-NLS-1$
+                .map(person.birthDate).toProperty("birthDate") //$NON-NLS-1$
+                .map(person.employed).toProperty("employed") //$NON-NLS-1$
+                .map(person.occupation).toProperty("occupation") //$NON-NLS-1$
+                .map(person.addressId).toProperty("addressId") //$NON-NLS-1$
+                .build();
+    }
+
+    @Benchmark
+    public BatchInsert<PersonRecord> batchInsert() {
+        return batchInsertModel.render(renderingStrategy);
+    }
+
+    @Benchmark
+    public void batchInsertStatements(Blackhole blackhole) {
+        for (InsertStatementProvider<PersonRecord> insertStatement : batchInsertModel.render(renderingStrategy)
+                .insertStatements()) {
+            blackhole.consume(insertStatement);
+        }
+    }
+
+    @Benchmark
+    public MultiRowInsertStatementProvider<PersonRecord> multiRowInsert() {
+        return multiRowInsertModel.render(renderingStrategy);
+    }
+}
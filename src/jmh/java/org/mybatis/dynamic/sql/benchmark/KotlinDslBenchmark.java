@@ -0,0 +1,120 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.UpdateModel;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Builds statements with the Kotlin DSL. The "build" benchmarks only build the model, and the "buildAndRender"
+ * benchmarks also render it, so the cost of the DSL can be compared with the cost of rendering (which is measured
+ * on its own by {@link SelectRenderBenchmark} and {@link UpdateRenderBenchmark}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KotlinDslBenchmark {
+
+    @Param({BenchmarkStrategies.MYBATIS3, BenchmarkStrategies.SPRING_NAMED_PARAMETER,
+            BenchmarkStrategies.SPRING_BATCH})
+    public String strategy;
+
+    private RenderingStrategy renderingStrategy;
+
+    @Setup
+    public void setup() {
+        renderingStrategy = BenchmarkStrategies.of(strategy);
+    }
+
+    @Benchmark
+    public SelectModel buildSimple() {
+        return KotlinStatements.simpleSelect();
+    }
+
+    @Benchmark
+    public SelectStatementProvider buildAndRenderSimple() {
+        return KotlinStatements.simpleSelect().render(renderingStrategy);
+    }
+
+    @Benchmark
+    public SelectModel buildJoined() {
+        return KotlinStatements.joinedSelect();
+    }
+
+    @Benchmark
+    public SelectStatementProvider buildAndRenderJoined() {
+        return KotlinStatements.joinedSelect().render(renderingStrategy);
+    }
+
+    @Benchmark
+    public SelectModel buildUnion() {
+        return KotlinStatements.unionSelect();
+    }
+
+    @Benchmark
+    public SelectStatementProvider buildAndRenderUnion() {
+        return KotlinStatements.unionSelect().render(renderingStrategy);
+    }
+
+    @Benchmark
+    public SelectModel buildSubQuery() {
+        return KotlinStatements.subQuerySelect();
+    }
+
+    @Benchmark
+    public SelectStatementProvider buildAndRenderSubQuery() {
+        return KotlinStatements.subQuerySelect().render(renderingStrategy);
+    }
+
+    @Benchmark
+    public SelectModel buildNestedCriteria() {
+        return KotlinStatements.nestedCriteriaSelect();
+    }
+
+    @Benchmark
+    public SelectStatementProvider buildAndRenderNestedCriteria() {
+        return KotlinStatements.nestedCriteriaSelect().render(renderingStrategy);
+    }
+
+    @Benchmark
+    public UpdateModel buildUpdate() {
+        return KotlinStatements.updateStatement();
+    }
+
+    @Benchmark
+    public UpdateStatementProvider buildAndRenderUpdate() {
+        return KotlinStatements.updateStatement().render(renderingStrategy);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.benchmark;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+public class PersonRecord {
+    private final Integer id;
+    private final String firstName;
+    private final String lastName;
+    private final Date birthDate;
+    private final Boolean employed;
+    private final String occupation;
+    private final Integer addressId;
+
+    public PersonRecord(Integer id) {
+        this.id = id;
+        firstName = "Fred"; //$NON-NLS-1$
+        lastName = "Flintstone"; //$NON-NLS-1$
+        birthDate = new Date();
+        employed = true;
+        occupation = "Brontosaurus Operator"; //$NON-NLS-1$
+        addressId = 1;
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public Date getBirthDate() {
+        return birthDate;
+    }
+
+    public Boolean getEmployed() {
+        return employed;
+    }
+
+    public String getOccupation() {
+        return occupation;
+    }
+
+    public Integer getAddressId() {
+        return addressId;
+    }
+
+    public static List<PersonRecord> records(int count) {
+        List<PersonRecord> records = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            records.add(new PersonRecord(i));
+        }
+        return records;
+    }
+}
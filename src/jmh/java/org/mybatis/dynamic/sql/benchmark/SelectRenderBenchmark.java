@@ -0,0 +1,161 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.benchmark;
+
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+import static org.mybatis.dynamic.sql.benchmark.BenchmarkDynamicSqlSupport.address;
+import static org.mybatis.dynamic.sql.benchmark.BenchmarkDynamicSqlSupport.person;
+
+import java.util.concurrent.TimeUnit;
+
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Renders select statements of different shapes. The models are built once in the setup, so only rendering is
+ * measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SelectRenderBenchmark {
+
+    @Param({BenchmarkStrategies.MYBATIS3, BenchmarkStrategies.SPRING_NAMED_PARAMETER,
+            BenchmarkStrategies.SPRING_BATCH})
+    public String strategy;
+
+    private RenderingStrategy renderingStrategy;
+    private SelectModel simpleSelect;
+    private SelectModel joinedSelect;
+    private SelectModel unionSelect;
+    private SelectModel subQuerySelect;
+    private SelectModel nestedCriteriaSelect;
+
+    @Setup
+    public void setup() {
+        renderingStrategy = BenchmarkStrategies.of(strategy);
+        simpleSelect = simpleSelect();
+        joinedSelect = joinedSelect();
+        unionSelect = unionSelect();
+        subQuerySelect = subQuerySelect();
+        nestedCriteriaSelect = nestedCriteriaSelect();
+    }
+
+    @Benchmark
+    public SelectStatementProvider simple() {
+        return simpleSelect.render(renderingStrategy);
+    }
+
+    @Benchmark
+    public SelectStatementProvider joined() {
+        return joinedSelect.render(renderingStrategy);
+    }
+
+    @Benchmark
+    public SelectStatementProvider union() {
+        return unionSelect.render(renderingStrategy);
+    }
+
+    @Benchmark
+    public SelectStatementProvider subQuery() {
+        return subQuerySelect.render(renderingStrategy);
+    }
+
+    @Benchmark
+    public SelectStatementProvider nestedCriteria() {
+        return nestedCriteriaSelect.render(renderingStrategy);
+    }
+
+    @Benchmark
+    public SelectStatementProvider buildAndRenderSimple() {
+        return simpleSelect().render(renderingStrategy);
+    }
+
+    static SelectModel simpleSelect() {
+        return select(person.id, person.firstName, person.lastName, person.occupation)
+                .from(person)
+                .where(person.id, isEqualTo(1))
+                .and(person.occupation, isNotNull())
+                .orderBy(person.id)
+                .build();
+    }
+
+    static SelectModel joinedSelect() {
+        return select(person.id, person.firstName, person.lastName, address.streetAddress, address.city)
+                .from(person, "p")
+                .join(address, "a").on(person.addressId, equalTo(address.id))
+                .where(address.state, isEqualTo("NM")) //$NON-NLS-1$
+                .and(person.employed, isTrue())
+                .orderBy(person.lastName, person.firstName)
+                .build();
+    }
+
+    static SelectModel unionSelect() {
+        return select(person.id, person.firstName, person.lastName)
+                .from(person)
+                .where(person.id, isLessThan(10))
+                .union()
+                .select(person.id, person.firstName, person.lastName)
+                .from(person)
+                .where(person.occupation, isEqualTo("Developer")) //$NON-NLS-1$
+                .unionAll()
+                .select(person.id, person.firstName, person.lastName)
+                .from(person)
+                .where(person.lastName, isLike("F%")) //$NON-NLS-1$
+                .orderBy(person.id)
+                .build();
+    }
+
+    static SelectModel subQuerySelect() {
+        return select(person.id, person.firstName, person.lastName)
+                .from(person)
+                .where(person.addressId, isIn(
+                        select(address.id)
+                        .from(address)
+                        .where(address.state, isEqualTo("NM")))) //$NON-NLS-1$
+                .and(person.employed, isTrue())
+                .build();
+    }
+
+    static SelectModel nestedCriteriaSelect() {
+        return select(person.id, person.firstName, person.lastName)
+                .from(person)
+                .where(person.id, isGreaterThan(1),
+                        or(person.occupation, isNull(),
+                                and(person.employed, isFalse(),
+                                        or(person.lastName, isEqualTo("Rubble")))), //$NON-NLS-1$
+                        and(person.firstName, isLike("F%"))) //$NON-NLS-1$
+                .and(person.addressId, isEqualTo(1),
+                        or(person.addressId, isEqualTo(2),
+                                and(person.birthDate, isNotNull())))
+                .build();
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.benchmark;
+
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+import static org.mybatis.dynamic.sql.benchmark.BenchmarkDynamicSqlSupport.person;
+
+import java.util.concurrent.TimeUnit;
+
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.update.UpdateModel;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Renders an update statement with several set clauses and a where clause.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UpdateRenderBenchmark {
+
+    @Param({BenchmarkStrategies.MYBATIS3, BenchmarkStrategies.SPRING_NAMED_PARAMETER,
+            BenchmarkStrategies.SPRING_BATCH})
+    public String strategy;
+
+    private RenderingStrategy renderingStrategy;
+    private UpdateModel updateModel;
+
+    @Setup
+    public void setup() {
+        renderingStrategy = BenchmarkStrategies.of(strategy);
+        updateModel = updateStatement();
+    }
+
+    @Benchmark
+    public UpdateStatementProvider render() {
+        return updateModel.render(renderingStrategy);
+    }
+
+    @Benchmark
+    public UpdateStatementProvider buildAndRender() {
+        return updateStatement().render(renderingStrategy);
+    }
+
+    static UpdateModel updateStatement() {
+        return update(person)
+                .set(person.firstName).equalTo("Barney") //$NON-NLS-1$
+                .set(person.lastName).equalTo("Rubble") //$NON-NLS-1$
+                .set(person.occupation).equalToNull()
+                .set(person.employed).equalTo(false)
+                .set(person.addressId).equalTo(2)
+                .where(person.id, isEqualTo(3))
+                .and(person.lastName, isNotEqualTo("Rubble")) //$NON-NLS-1$
+                .build();
+    }
+}
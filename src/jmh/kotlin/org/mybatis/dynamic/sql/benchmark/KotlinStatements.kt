@@ -0,0 +1,120 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+@file:JvmName("KotlinStatements")
+
+package org.mybatis.dynamic.sql.benchmark
+
+import org.mybatis.dynamic.sql.benchmark.BenchmarkDynamicSqlSupport.address
+import org.mybatis.dynamic.sql.benchmark.BenchmarkDynamicSqlSupport.person
+import org.mybatis.dynamic.sql.select.SelectModel
+import org.mybatis.dynamic.sql.update.UpdateModel
+import org.mybatis.dynamic.sql.util.kotlin.elements.equalTo
+import org.mybatis.dynamic.sql.util.kotlin.elements.isEqualTo
+import org.mybatis.dynamic.sql.util.kotlin.elements.isFalse
+import org.mybatis.dynamic.sql.util.kotlin.elements.isGreaterThan
+import org.mybatis.dynamic.sql.util.kotlin.elements.isIn
+import org.mybatis.dynamic.sql.util.kotlin.elements.isLessThan
+import org.mybatis.dynamic.sql.util.kotlin.elements.isLike
+import org.mybatis.dynamic.sql.util.kotlin.elements.isNotEqualTo
+import org.mybatis.dynamic.sql.util.kotlin.elements.isNotNull
+import org.mybatis.dynamic.sql.util.kotlin.elements.isNull
+import org.mybatis.dynamic.sql.util.kotlin.elements.isTrue
+import org.mybatis.dynamic.sql.util.kotlin.model.select
+import org.mybatis.dynamic.sql.util.kotlin.model.update
+
+// The same statements as the Java benchmarks, built with the Kotlin DSL
+
+fun simpleSelect(): SelectModel =
+    select(person.id, person.firstName, person.lastName, person.occupation) {
+        from(person)
+        where(person.id, isEqualTo(1))
+        and(person.occupation, isNotNull())
+        orderBy(person.id)
+    }
+
+fun joinedSelect(): SelectModel =
+    select(person.id, person.firstName, person.lastName, address.streetAddress, address.city) {
+        from(person, "p")
+        join(address, "a") {
+            on(person.addressId, equalTo(address.id))
+        }
+        where(address.state, isEqualTo("NM"))
+        and(person.employed, isTrue())
+        orderBy(person.lastName, person.firstName)
+    }
+
+fun unionSelect(): SelectModel =
+    select(person.id, person.firstName, person.lastName) {
+        from(person)
+        where(person.id, isLessThan(10))
+        union {
+            select(person.id, person.firstName, person.lastName) {
+                from(person)
+                where(person.occupation, isEqualTo("Developer"))
+            }
+        }
+        unionAll {
+            select(person.id, person.firstName, person.lastName) {
+                from(person)
+                where(person.lastName, isLike("F%"))
+            }
+        }
+        orderBy(person.id)
+    }
+
+fun subQuerySelect(): SelectModel =
+    select(person.id, person.firstName, person.lastName) {
+        from(person)
+        where(
+            person.addressId,
+            isIn {
+                select(address.id) {
+                    from(address)
+                    where(address.state, isEqualTo("NM"))
+                }
+            }
+        )
+        and(person.employed, isTrue())
+    }
+
+fun nestedCriteriaSelect(): SelectModel =
+    select(person.id, person.firstName, person.lastName) {
+        from(person)
+        where(person.id, isGreaterThan(1)) {
+            or(person.occupation, isNull()) {
+                and(person.employed, isFalse()) {
+                    or(person.lastName, isEqualTo("Rubble"))
+                }
+            }
+            and(person.firstName, isLike("F%"))
+        }
+        and(person.addressId, isEqualTo(1)) {
+            or(person.addressId, isEqualTo(2)) {
+                and(person.birthDate, isNotNull())
+            }
+        }
+    }
+
+fun updateStatement(): UpdateModel =
+    update(person) {
+        set(person.firstName).equalTo("Barney")
+        set(person.lastName).equalTo("Rubble")
+        set(person.occupation).equalToNull()
+        set(person.employed).equalTo(false)
+        set(person.addressId).equalTo(2)
+        where(person.id, isEqualTo(3))
+        and(person.lastName, isNotEqualTo("Rubble"))
+    }
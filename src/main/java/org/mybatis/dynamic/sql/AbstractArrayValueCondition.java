@@ -0,0 +1,259 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql;
+
+import java.lang.reflect.Array;
+import java.sql.JDBCType;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.render.TableAliasCalculator;
+
+/**
+ * Base class for conditions that bind a list of values as a single JDBC array parameter - for example
+ * {@code id = any(?)}. The rendered SQL does not change with the number of values, and only one bind parameter is
+ * used no matter how many values there are.
+ *
+ * <p>Values are converted with the column's {@link ParameterTypeConverter}, if any, and then collected into an
+ * array. The component type of the array is the class of the converted values if they all have the same class,
+ * otherwise it is Object. The array can be changed before it is bound with an array converter - for example to
+ * build a primitive array. With MyBatis the parameter is rendered with {@code jdbcType=ARRAY} and, optionally,
+ * a type handler.
+ *
+ * <p>Like the "in" conditions, these conditions will not render if the list of values is empty.
+ *
+ * @param <T> the Java type of the column
+ */
+public abstract class AbstractArrayValueCondition<T> implements VisitableCondition<T> {
+    protected final Collection<T> values;
+    protected final Callback emptyCallback;
+    protected final ArrayParameter arrayParameter;
+
+    protected AbstractArrayValueCondition(Collection<T> values, Callback emptyCallback,
+            ArrayParameter arrayParameter) {
+        this.values = Objects.requireNonNull(values);
+        this.emptyCallback = Objects.requireNonNull(emptyCallback);
+        this.arrayParameter = Objects.requireNonNull(arrayParameter);
+    }
+
+    /**
+     * Returns the array that will be bound as the parameter for this condition.
+     *
+     * @param elementConverter converts each value before it is placed in the array - typically
+     *     {@link BindableColumn#convertParameterType(Object)}
+     * @return the parameter value
+     */
+    public final Object arrayValue(Function<? super T, ?> elementConverter) {
+        Object[] converted = new Object[values.size()];
+        Class<?> componentType = null;
+        Iterator<T> iterator = values.iterator();
+        for (int i = 0; i < converted.length; i++) {
+            Object value = elementConverter.apply(iterator.next());
+            converted[i] = value;
+            if (value != null && componentType != Object.class) {
+                componentType = componentType == null || componentType == value.getClass()
+                        ? value.getClass() : Object.class;
+            }
+        }
+
+        Object[] array = converted;
+        if (componentType != null && componentType != Object.class) {
+            array = (Object[]) Array.newInstance(componentType, converted.length);
+            System.arraycopy(converted, 0, array, 0, converted.length);
+        }
+
+        return arrayParameter.arrayConverter == null ? array : arrayParameter.arrayConverter.convert(array);
+    }
+
+    /**
+     * Returns a column that describes the array parameter of this condition to a rendering strategy. The
+     * column has JDBC type ARRAY, the type handler of this condition (if any), and the rendering strategy of the
+     * original column (if any).
+     *
+     * @param column the column the condition is applied to
+     * @return a column that can be used to render the placeholder for the array parameter
+     */
+    public final BindableColumn<Object> arrayParameterColumn(BindableColumn<?> column) {
+        return new ArrayParameterColumn(column, arrayParameter.typeHandler);
+    }
+
+    /**
+     * Returns the expression for the array parameter. This is the placeholder, wrapped in the array function if
+     * one has been set. For example, "unnest(#{parameters.p1,jdbcType=ARRAY})".
+     *
+     * @param placeholder the rendered placeholder
+     * @return the array expression
+     */
+    public final String arrayExpression(String placeholder) {
+        return arrayParameter.arrayFunction == null ? placeholder
+                : arrayParameter.arrayFunction + "(" + placeholder + ")"; //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    public Optional<String> typeHandler() {
+        return Optional.ofNullable(arrayParameter.typeHandler);
+    }
+
+    public Optional<String> arrayFunction() {
+        return Optional.ofNullable(arrayParameter.arrayFunction);
+    }
+
+    @Override
+    public boolean shouldRender() {
+        return !values.isEmpty();
+    }
+
+    @Override
+    public void renderingSkipped() {
+        emptyCallback.call();
+    }
+
+    @Override
+    public <R> R accept(ConditionVisitor<T, R> visitor) {
+        return visitor.visit(this);
+    }
+
+    protected <S extends AbstractArrayValueCondition<T>> S filterSupport(Predicate<? super T> predicate,
+            Function<Collection<T>, S> constructor, S self, Supplier<S> emptySupplier) {
+        if (shouldRender()) {
+            Objects.requireNonNull(predicate);
+            Collection<T> filtered = values.stream().filter(predicate).collect(Collectors.toList());
+            return filtered.isEmpty() ? emptySupplier.get() : constructor.apply(filtered);
+        } else {
+            return self;
+        }
+    }
+
+    protected <R, S extends AbstractArrayValueCondition<R>> S mapSupport(Function<? super T, ? extends R> mapper,
+            Function<Collection<R>, S> constructor, Supplier<S> emptySupplier) {
+        if (shouldRender()) {
+            Objects.requireNonNull(mapper);
+            return constructor.apply(values.stream().map(mapper).collect(Collectors.toList()));
+        } else {
+            return emptySupplier.get();
+        }
+    }
+
+    /**
+     * If renderable, apply the predicate to each value in the list and return a new condition with the filtered values.
+     *     Else returns a condition that will not render (this). If all values are filtered out of the value
+     *     list, then the condition will not render.
+     *
+     * @param predicate predicate applied to the values, if renderable
+     * @return a new condition with filtered values if renderable, otherwise a condition
+     *     that will not render.
+     */
+    public abstract AbstractArrayValueCondition<T> filter(Predicate<? super T> predicate);
+
+    public abstract AbstractArrayValueCondition<T> withListEmptyCallback(Callback callback);
+
+    /**
+     * Renders the condition.
+     *
+     * @param columnName the rendered column name
+     * @param arrayExpression the rendered array parameter - see {@link #arrayExpression(String)}
+     * @return the rendered condition
+     */
+    public abstract String renderCondition(String columnName, String arrayExpression);
+
+    /**
+     * Returns an equivalent condition that binds each value separately - for example, "in" for "= any". This is
+     * used by visitors that do not support array parameters.
+     *
+     * @return the equivalent list value condition
+     */
+    public abstract AbstractListValueCondition<T> toListValueCondition();
+
+    /**
+     * Describes how the array parameter of a condition is rendered and bound. Instances are immutable.
+     */
+    public static final class ArrayParameter {
+        private static final ArrayParameter DEFAULT = new ArrayParameter(null, null, null);
+
+        private final String typeHandler;
+        private final String arrayFunction;
+        private final ParameterTypeConverter<Object[], ?> arrayConverter;
+
+        private ArrayParameter(String typeHandler, String arrayFunction,
+                ParameterTypeConverter<Object[], ?> arrayConverter) {
+            this.typeHandler = typeHandler;
+            this.arrayFunction = arrayFunction;
+            this.arrayConverter = arrayConverter;
+        }
+
+        public ArrayParameter withTypeHandler(String typeHandler) {
+            return new ArrayParameter(Objects.requireNonNull(typeHandler), arrayFunction, arrayConverter);
+        }
+
+        public ArrayParameter withArrayFunction(String arrayFunction) {
+            return new ArrayParameter(typeHandler, Objects.requireNonNull(arrayFunction), arrayConverter);
+        }
+
+        public ArrayParameter withArrayConverter(ParameterTypeConverter<Object[], ?> arrayConverter) {
+            return new ArrayParameter(typeHandler, arrayFunction, Objects.requireNonNull(arrayConverter));
+        }
+
+        public static ArrayParameter defaults() {
+            return DEFAULT;
+        }
+    }
+
+    private static class ArrayParameterColumn implements BindableColumn<Object> {
+        private final BindableColumn<?> column;
+        private final String typeHandler;
+
+        private ArrayParameterColumn(BindableColumn<?> column, String typeHandler) {
+            this.column = Objects.requireNonNull(column);
+            this.typeHandler = typeHandler;
+        }
+
+        @Override
+        public Optional<String> alias() {
+            return Optional.empty();
+        }
+
+        @Override
+        public BindableColumn<Object> as(String alias) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String renderWithTableAlias(TableAliasCalculator tableAliasCalculator) {
+            return column.renderWithTableAlias(tableAliasCalculator);
+        }
+
+        @Override
+        public Optional<JDBCType> jdbcType() {
+            return Optional.of(JDBCType.ARRAY);
+        }
+
+        @Override
+        public Optional<String> typeHandler() {
+            return Optional.ofNullable(typeHandler);
+        }
+
+        @Override
+        public Optional<RenderingStrategy> renderingStrategy() {
+            return column.renderingStrategy();
+        }
+    }
+}
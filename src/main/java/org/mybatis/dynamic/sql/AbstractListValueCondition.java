@@ -17,30 +17,70 @@ package org.mybatis.dynamic.sql;
 
 import java.util.Collection;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.mybatis.dynamic.sql.render.InListPadding;
+import org.mybatis.dynamic.sql.render.SqlWriter;
+
 public abstract class AbstractListValueCondition<T> implements VisitableCondition<T> {
+    // the class that declares the rendering methods in effect for each condition class
+    private static final ClassValue<Class<?>> STRING_RENDERER = declaringClass(String.class, Stream.class);
+    private static final ClassValue<Class<?>> WRITER_RENDERER =
+            declaringClass(String.class, Stream.class, SqlWriter.class);
+
     protected final Collection<T> values;
     protected final Callback emptyCallback;
+    protected final InListPadding listPadding;
 
     protected AbstractListValueCondition(Collection<T> values) {
         this(values, () -> { });
     }
 
     protected AbstractListValueCondition(Collection<T> values, Callback emptyCallback) {
+        this(values, emptyCallback, null);
+    }
+
+    protected AbstractListValueCondition(Collection<T> values, Callback emptyCallback, InListPadding listPadding) {
         this.values = Objects.requireNonNull(values);
         this.emptyCallback = Objects.requireNonNull(emptyCallback);
+        this.listPadding = listPadding;
     }
 
     public final <R> Stream<R> mapValues(Function<T, R> mapper) {
         return values.stream().map(mapper);
     }
 
+    public final void forEachValue(Consumer<? super T> action) {
+        values.forEach(action);
+    }
+
+    /**
+     * Returns the list padding set on this condition, if any.
+     *
+     * @return the list padding for this condition
+     */
+    public Optional<InListPadding> listPadding() {
+        return Optional.ofNullable(listPadding);
+    }
+
+    /**
+     * Returns true if the rendered list may be padded by repeating the last value. This is only safe for conditions
+     * where duplicate values do not change the result - like "in" and "not in". The default is false.
+     *
+     * @return true if the list may be padded
+     * @see InListPadding
+     */
+    public boolean allowsPadding() {
+        return false;
+    }
+
     @Override
     public boolean shouldRender() {
         return !values.isEmpty();
@@ -99,4 +139,63 @@ public abstract class AbstractListValueCondition<T> implements VisitableConditio
     public abstract AbstractListValueCondition<T> withListEmptyCallback(Callback callback);
 
     public abstract String renderCondition(String columnName, Stream<String> placeholders);
+
+    /**
+     * Writes the condition. The default implementation appends the result of
+     * {@link #renderCondition(String, Stream)}. Conditions may override this method to append directly to the writer
+     * without building an intermediate string. Subclasses that override {@link #renderCondition(String, Stream)}
+     * should override this method as well.
+     *
+     * @param columnName the rendered column name
+     * @param placeholders the rendered parameter placeholders
+     * @param writer the writer for the current statement
+     */
+    public void renderCondition(String columnName, Stream<String> placeholders, SqlWriter writer) {
+        writer.append(renderCondition(columnName, placeholders));
+    }
+
+    /**
+     * Writes the condition in a single pass, without creating a placeholder string for each value. This is
+     * much faster for very large lists. The placeholder writer writes the placeholders for all the values,
+     * separated by commas, and adds the values to the statement parameters.
+     *
+     * <p>Conditions that render a simple list of placeholders - like "in" and "not in" - override this method and
+     * return true. The default implementation writes nothing and returns false, in which case the condition is
+     * rendered with {@link #renderCondition(String, Stream, SqlWriter)}. Subclasses that override the other
+     * rendering methods should override this method as well.
+     *
+     * @param columnName the rendered column name
+     * @param placeholderWriter writes the comma separated placeholders for all the values
+     * @param writer the writer for the current statement
+     * @return true if the condition was written
+     */
+    public boolean renderCondition(String columnName, Consumer<SqlWriter> placeholderWriter, SqlWriter writer) {
+        return false;
+    }
+
+    /**
+     * Returns true if the condition is rendered by the methods of the specified class - that is, a subclass has not
+     * overridden {@link #renderCondition(String, Stream)} or {@link #renderCondition(String, Stream, SqlWriter)}.
+     * Conditions use this to skip their faster rendering methods when a subclass written before those methods existed
+     * customizes the rendering.
+     *
+     * @param conditionClass the class that declares the rendering methods
+     * @return true if the rendering methods of the class are in effect
+     */
+    protected boolean isRenderedBy(Class<?> conditionClass) {
+        return STRING_RENDERER.get(getClass()) == conditionClass && WRITER_RENDERER.get(getClass()) == conditionClass;
+    }
+
+    private static ClassValue<Class<?>> declaringClass(Class<?>... parameterTypes) {
+        return new ClassValue<Class<?>>() {
+            @Override
+            protected Class<?> computeValue(Class<?> type) {
+                try {
+                    return type.getMethod("renderCondition", parameterTypes).getDeclaringClass(); //$NON-NLS-1$
+                } catch (NoSuchMethodException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        };
+    }
 }
@@ -17,6 +17,7 @@ package org.mybatis.dynamic.sql;
 
 import java.util.Optional;
 
+import org.mybatis.dynamic.sql.render.SqlWriter;
 import org.mybatis.dynamic.sql.render.TableAliasCalculator;
 
 /**
@@ -67,6 +68,29 @@ public interface BasicColumn {
                 .orElse(nameAndTableAlias);
     }
 
+    /**
+     * Writes the name of the item aliased with a table name if appropriate. The default implementation
+     * appends the result of {@link #renderWithTableAlias(TableAliasCalculator)}. Implementations may override
+     * this method to append directly to the writer without building an intermediate string.
+     *
+     * @param tableAliasCalculator the table alias calculator for the current renderer
+     * @param writer the writer for the current statement
+     */
+    default void renderWithTableAlias(TableAliasCalculator tableAliasCalculator, SqlWriter writer) {
+        writer.append(renderWithTableAlias(tableAliasCalculator));
+    }
+
+    /**
+     * Writes the name of the item aliased with a table name and column alias if appropriate. The default
+     * implementation appends the result of {@link #renderWithTableAndColumnAlias(TableAliasCalculator)}.
+     *
+     * @param tableAliasCalculator the table alias calculator for the current renderer
+     * @param writer the writer for the current statement
+     */
+    default void renderWithTableAndColumnAlias(TableAliasCalculator tableAliasCalculator, SqlWriter writer) {
+        writer.append(renderWithTableAndColumnAlias(tableAliasCalculator));
+    }
+
     /**
      * Utility method to make it easier to build column lists for methods that require an
      * array rather than the varargs method.
@@ -0,0 +1,102 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql;
+
+import java.util.Objects;
+
+/**
+ * A named marker for a value that is supplied after a statement is rendered. Markers can be used in place of a value
+ * in single and two value conditions (like {@code isEqualTo} and {@code isBetween}) and in the set clause of an update
+ * statement. A statement with markers is rendered once into a prepared template - for example
+ * {@link org.mybatis.dynamic.sql.select.SelectModel#prepare(org.mybatis.dynamic.sql.render.RenderingStrategy)} - and
+ * the template creates a statement provider for each set of values. Statements with markers cannot be rendered with
+ * the normal render methods.
+ *
+ * <p>Markers are never held as condition values - conditions with markers are {@link BindParameterCondition}s.
+ * Values bound to a marker are converted with the parameter type converter of the column the marker is used with.
+ *
+ * @param <T> the Java type of the value
+ */
+public final class BindParameter<T> {
+    private final String name;
+    private final Class<T> type;
+
+    private BindParameter(String name, Class<T> type) {
+        this.name = Objects.requireNonNull(name);
+        this.type = Objects.requireNonNull(type);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public Class<T> type() {
+        return type;
+    }
+
+    /**
+     * Checks that a value is suitable for this marker.
+     *
+     * @param value the value, may be null
+     * @return the value
+     * @throws IllegalArgumentException if the value is not an instance of the marker's type
+     */
+    public Object checkValue(Object value) {
+        if (value != null && !type.isInstance(value)) {
+            throw new IllegalArgumentException("Bind parameter \"" + name + "\" requires a value of type " //$NON-NLS-1$
+                    + type.getName() + ", but a value of type " + value.getClass().getName() //$NON-NLS-1$
+                    + " was supplied"); //$NON-NLS-1$
+        }
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        BindParameter<?> other = (BindParameter<?>) obj;
+        return name.equals(other.name) && type.equals(other.type);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, type);
+    }
+
+    @Override
+    public String toString() {
+        return "BindParameter[" + name + "]"; //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    public static <T> BindParameter<T> of(String name, Class<T> type) {
+        return new BindParameter<>(name, type);
+    }
+
+    /**
+     * Creates a marker for a record property in a batch update or delete. The marker accepts a value of any type -
+     * the value is read from each record when the batch is executed, and is converted by the column.
+     *
+     * @param property the property name. Nested properties are separated with periods
+     * @return the marker
+     */
+    public static BindParameter<Object> forProperty(String property) {
+        return of(property, Object.class);
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * A single or two value condition with {@link BindParameter} markers in place of some or all of its values. The
+ * markers are held apart from the values, so a marker is never passed to code that expects a value. The SQL is
+ * rendered by a normal condition - {@code IsEqualTo} for example - that is created without values and used as a
+ * template.
+ *
+ * <p>Conditions with markers can only be rendered into a prepared template - for example with
+ * {@link org.mybatis.dynamic.sql.select.SelectModel#prepare(org.mybatis.dynamic.sql.render.RenderingStrategy)}.
+ *
+ * @param <T> the Java type of the values
+ */
+public class BindParameterCondition<T> implements VisitableCondition<T> {
+    private final VisitableCondition<T> template;
+    private final List<Operand<T>> operands;
+
+    private BindParameterCondition(VisitableCondition<T> template, List<Operand<T>> operands) {
+        this.template = Objects.requireNonNull(template);
+        this.operands = Collections.unmodifiableList(operands);
+    }
+
+    /**
+     * Returns the class of the condition that renders the SQL. Conditions with the same template class and the
+     * same number of operands render the same SQL.
+     *
+     * @return the class of the template condition
+     */
+    public Class<?> templateClass() {
+        return template.getClass();
+    }
+
+    @Override
+    public <R> R accept(ConditionVisitor<T, R> visitor) {
+        return visitor.visit(this);
+    }
+
+    /**
+     * Renders the condition. Every operand is rendered with one of the supplied functions - values with the value
+     * function, and markers with the marker function - in the order they appear in the condition.
+     *
+     * @param columnName the rendered column name
+     * @param valuePlaceholder calculates the placeholder for a value, and records the value
+     * @param bindParameterPlaceholder calculates the placeholder for a marker, and records the marker
+     * @return the rendered condition
+     */
+    public String renderCondition(String columnName, Function<T, String> valuePlaceholder,
+            Function<BindParameter<?>, String> bindParameterPlaceholder) {
+        List<String> placeholders = new ArrayList<>(operands.size());
+        for (Operand<T> operand : operands) {
+            placeholders.add(operand.bindParameter == null ? valuePlaceholder.apply(operand.value)
+                    : bindParameterPlaceholder.apply(operand.bindParameter));
+        }
+
+        if (template instanceof AbstractSingleValueCondition) {
+            return ((AbstractSingleValueCondition<T>) template).renderCondition(columnName, placeholders.get(0));
+        }
+        return ((AbstractTwoValueCondition<T>) template).renderCondition(columnName, placeholders.get(0),
+                placeholders.get(1));
+    }
+
+    /**
+     * Creates a single value condition with a marker in place of the value.
+     *
+     * @param bindParameter the marker
+     * @param conditionFactory creates the template condition. The factory is called with a null value
+     * @param <T> the Java type of the value
+     * @return the condition
+     */
+    public static <T> BindParameterCondition<T> of(BindParameter<T> bindParameter,
+            Function<T, ? extends AbstractSingleValueCondition<T>> conditionFactory) {
+        return new BindParameterCondition<>(conditionFactory.apply(null),
+                Collections.singletonList(Operand.bindParameter(bindParameter)));
+    }
+
+    /**
+     * Creates a single value condition with a marker for a record property in place of the value. This is used in
+     * batch updates and deletes - the property is read from each record, so the marker accepts a value of any type.
+     *
+     * @param property the property name
+     * @param conditionFactory creates the template condition. The factory is called with a null value
+     * @param <T> the Java type of the column
+     * @return the condition
+     */
+    public static <T> BindParameterCondition<T> forProperty(String property,
+            Function<T, ? extends AbstractSingleValueCondition<T>> conditionFactory) {
+        return new BindParameterCondition<>(conditionFactory.apply(null),
+                Collections.singletonList(Operand.bindParameter(BindParameter.forProperty(property))));
+    }
+
+    /**
+     * Starts a two value condition with a marker in place of the first value. The second value may be a value
+     * or a marker.
+     *
+     * @param bindParameter1 the marker for the first value
+     * @param conditionFactory creates the template condition. The factory is called with null values
+     * @param <T> the Java type of the values
+     * @return a builder for the second value
+     */
+    public static <T> AndGatherer<T> of(BindParameter<T> bindParameter1,
+            BiFunction<T, T, ? extends AbstractTwoValueCondition<T>> conditionFactory) {
+        return new AndGatherer<>(conditionFactory.apply(null, null), Operand.bindParameter(bindParameter1));
+    }
+
+    public static class AndGatherer<T> {
+        private final AbstractTwoValueCondition<T> template;
+        private final Operand<T> operand1;
+
+        private AndGatherer(AbstractTwoValueCondition<T> template, Operand<T> operand1) {
+            this.template = template;
+            this.operand1 = operand1;
+        }
+
+        public BindParameterCondition<T> and(T value2) {
+            return build(Operand.value(value2));
+        }
+
+        public BindParameterCondition<T> and(BindParameter<T> bindParameter2) {
+            return build(Operand.bindParameter(bindParameter2));
+        }
+
+        private BindParameterCondition<T> build(Operand<T> operand2) {
+            return new BindParameterCondition<>(template, Arrays.asList(operand1, operand2));
+        }
+    }
+
+    private static class Operand<T> {
+        private final T value;
+        private final BindParameter<?> bindParameter;
+
+        private Operand(T value, BindParameter<?> bindParameter) {
+            this.value = value;
+            this.bindParameter = bindParameter;
+        }
+
+        private static <T> Operand<T> value(T value) {
+            return new Operand<>(value, null);
+        }
+
+        private static <T> Operand<T> bindParameter(BindParameter<?> bindParameter) {
+            return new Operand<>(null, Objects.requireNonNull(bindParameter));
+        }
+    }
+}
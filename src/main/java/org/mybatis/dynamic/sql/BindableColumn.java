@@ -18,6 +18,7 @@ package org.mybatis.dynamic.sql;
 import java.sql.JDBCType;
 import java.util.Optional;
 
+import org.mybatis.dynamic.sql.render.PlaceholderTemplate;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 
 /**
@@ -51,4 +52,16 @@ public interface BindableColumn<T> extends BasicColumn {
     default Object convertParameterType(T value) {
         return value;
     }
+
+    /**
+     * Returns the template for placeholders of this column. The column's rendering strategy is used if it
+     * has one, otherwise the default rendering strategy is used. Implementations may cache the template.
+     *
+     * @param defaultRenderingStrategy the rendering strategy for the statement
+     * @param prefix the parameter prefix
+     * @return the placeholder template
+     */
+    default PlaceholderTemplate placeholderTemplate(RenderingStrategy defaultRenderingStrategy, String prefix) {
+        return renderingStrategy().orElse(defaultRenderingStrategy).placeholderTemplate(this, prefix);
+    }
 }
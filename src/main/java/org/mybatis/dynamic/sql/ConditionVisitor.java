@@ -27,4 +27,29 @@ public interface ConditionVisitor<T, R> {
     R visit(AbstractSubselectCondition<T> condition);
 
     R visit(AbstractColumnComparisonCondition<T> condition);
+
+    /**
+     * Visits a condition that binds its values as a single array parameter. The default implementation visits the
+     * equivalent list value condition, so visitors written before array conditions existed continue to work - the
+     * condition is then handled with one bind parameter for each value.
+     *
+     * @param condition the condition
+     * @return the result of visiting the equivalent list value condition
+     */
+    default R visit(AbstractArrayValueCondition<T> condition) {
+        return visit(condition.toListValueCondition());
+    }
+
+    /**
+     * Visits a condition with bind parameter markers. Markers are only supported by the renderers that create
+     * prepared templates, so the default implementation throws an exception.
+     *
+     * @param condition the condition
+     * @return never returns normally
+     * @throws UnsupportedOperationException always
+     */
+    default R visit(BindParameterCondition<T> condition) {
+        throw new UnsupportedOperationException(
+                "Conditions with bind parameter markers are not supported by " + getClass().getName()); //$NON-NLS-1$
+    }
 }
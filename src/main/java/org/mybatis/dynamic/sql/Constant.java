@@ -52,4 +52,21 @@ public class Constant<T> implements BindableColumn<T> {
     public static <T> Constant<T> of(String value) {
         return new Constant<>(value);
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        Constant<?> other = (Constant<?>) obj;
+        return value.equals(other.value) && Objects.equals(alias, other.alias);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(value, alias);
+    }
 }
@@ -0,0 +1,46 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql;
+
+/**
+ * A group of criteria that is rendered in parentheses. The group has no initial condition - the criteria in the
+ * group are its sub-criteria. The connector of the first criterion in the group is not rendered.
+ *
+ * <p>Groups are used when criteria must be combined with other criteria without changing their meaning. For
+ * example, a keyset pagination predicate is added to a where clause as "(original criteria) and (seek predicate)".
+ */
+public class CriteriaGroup extends SqlCriterion {
+
+    private CriteriaGroup(Builder builder) {
+        super(builder);
+    }
+
+    @Override
+    public <R> R accept(SqlCriterionVisitor<R> visitor) {
+        return visitor.visit(this);
+    }
+
+    public static class Builder extends AbstractBuilder<Builder> {
+        public CriteriaGroup build() {
+            return new CriteriaGroup(this);
+        }
+
+        @Override
+        protected Builder getThis() {
+            return this;
+        }
+    }
+}
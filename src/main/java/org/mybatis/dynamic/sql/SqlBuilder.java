@@ -17,13 +17,19 @@ package org.mybatis.dynamic.sql;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
+import org.mybatis.dynamic.sql.delete.BatchDeleteDSL;
 import org.mybatis.dynamic.sql.delete.DeleteDSL;
 import org.mybatis.dynamic.sql.delete.DeleteModel;
 import org.mybatis.dynamic.sql.insert.BatchInsertDSL;
+import org.mybatis.dynamic.sql.insert.ChunkedBatchInsertDSL;
 import org.mybatis.dynamic.sql.insert.GeneralInsertDSL;
 import org.mybatis.dynamic.sql.insert.InsertDSL;
 import org.mybatis.dynamic.sql.insert.InsertSelectDSL;
@@ -53,6 +59,7 @@ import org.mybatis.dynamic.sql.select.function.Upper;
 import org.mybatis.dynamic.sql.select.join.EqualTo;
 import org.mybatis.dynamic.sql.select.join.JoinCondition;
 import org.mybatis.dynamic.sql.select.join.JoinCriterion;
+import org.mybatis.dynamic.sql.update.BatchUpdateDSL;
 import org.mybatis.dynamic.sql.update.UpdateDSL;
 import org.mybatis.dynamic.sql.update.UpdateModel;
 import org.mybatis.dynamic.sql.util.Buildable;
@@ -68,7 +75,10 @@ import org.mybatis.dynamic.sql.where.condition.IsGreaterThanOrEqualToColumn;
 import org.mybatis.dynamic.sql.where.condition.IsGreaterThanOrEqualToWithSubselect;
 import org.mybatis.dynamic.sql.where.condition.IsGreaterThanWithSubselect;
 import org.mybatis.dynamic.sql.where.condition.IsIn;
+import org.mybatis.dynamic.sql.where.condition.IsInArray;
 import org.mybatis.dynamic.sql.where.condition.IsInCaseInsensitive;
+import org.mybatis.dynamic.sql.where.condition.IsInInts;
+import org.mybatis.dynamic.sql.where.condition.IsInLongs;
 import org.mybatis.dynamic.sql.where.condition.IsInWithSubselect;
 import org.mybatis.dynamic.sql.where.condition.IsLessThan;
 import org.mybatis.dynamic.sql.where.condition.IsLessThanColumn;
@@ -83,6 +93,7 @@ import org.mybatis.dynamic.sql.where.condition.IsNotEqualTo;
 import org.mybatis.dynamic.sql.where.condition.IsNotEqualToColumn;
 import org.mybatis.dynamic.sql.where.condition.IsNotEqualToWithSubselect;
 import org.mybatis.dynamic.sql.where.condition.IsNotIn;
+import org.mybatis.dynamic.sql.where.condition.IsNotInArray;
 import org.mybatis.dynamic.sql.where.condition.IsNotInCaseInsensitive;
 import org.mybatis.dynamic.sql.where.condition.IsNotInWithSubselect;
 import org.mybatis.dynamic.sql.where.condition.IsNotLike;
@@ -128,6 +139,31 @@ public interface SqlBuilder {
         return DeleteDSL.deleteFrom(table);
     }
 
+    /**
+     * Delete a Batch of records. The statement is rendered once and executed for each record with JDBC batch
+     * support - record properties are used in the where clause with {@link SqlBuilder#isEqualToProperty(String)}.
+     *
+     * @param records records to delete
+     * @param <T> the type of record to delete
+     * @return the next step in the DSL
+     */
+    @SafeVarargs
+    static <T> BatchDeleteDSL.FromGatherer<T> deleteBatch(T...records) {
+        return BatchDeleteDSL.delete(records);
+    }
+
+    /**
+     * Delete a Batch of records. The statement is rendered once and executed for each record with JDBC batch
+     * support - record properties are used in the where clause with {@link SqlBuilder#isEqualToProperty(String)}.
+     *
+     * @param records records to delete
+     * @param <T> the type of record to delete
+     * @return the next step in the DSL
+     */
+    static <T> BatchDeleteDSL.FromGatherer<T> deleteBatch(Collection<T> records) {
+        return BatchDeleteDSL.delete(records);
+    }
+
     static <T> InsertDSL.IntoGatherer<T> insert(T row) {
         return InsertDSL.insert(row);
     }
@@ -155,6 +191,32 @@ public interface SqlBuilder {
         return BatchInsertDSL.insert(records);
     }
 
+    /**
+     * Insert a Batch of records that are read from an iterator. The statement is rendered once, and the records are
+     * read in chunks when the batch is executed - each chunk is executed as one JDBC batch. This is suitable for
+     * very large bulk inserts because the records are never all held in memory.
+     *
+     * @param records records to insert
+     * @param <T> the type of record to insert
+     * @return the next step in the DSL
+     */
+    static <T> ChunkedBatchInsertDSL.IntoGatherer<T> insertBatch(Iterator<T> records) {
+        return ChunkedBatchInsertDSL.insert(records);
+    }
+
+    /**
+     * Insert a Batch of records that are read from a stream. The statement is rendered once, and the records are
+     * read in chunks when the batch is executed - each chunk is executed as one JDBC batch. The stream is not
+     * closed by the library.
+     *
+     * @param records records to insert
+     * @param <T> the type of record to insert
+     * @return the next step in the DSL
+     */
+    static <T> ChunkedBatchInsertDSL.IntoGatherer<T> insertBatch(Stream<T> records) {
+        return ChunkedBatchInsertDSL.insert(records.iterator());
+    }
+
     /**
      * Insert multiple records in a single statement. The model object is structured as a single insert statement with
      * multiple values clauses. This statement is suitable for use with a small number of records. It is not suitable
@@ -210,6 +272,33 @@ public interface SqlBuilder {
         return UpdateDSL.update(table);
     }
 
+    /**
+     * Update a Batch of records. The statement is rendered once and executed for each record with JDBC batch
+     * support - record properties are used in the set clause with {@code toProperty}, and in the where clause with
+     * {@link SqlBuilder#isEqualToProperty(String)}.
+     *
+     * @param records records to update
+     * @param <T> the type of record to update
+     * @return the next step in the DSL
+     */
+    @SafeVarargs
+    static <T> BatchUpdateDSL.IntoGatherer<T> updateBatch(T...records) {
+        return BatchUpdateDSL.update(records);
+    }
+
+    /**
+     * Update a Batch of records. The statement is rendered once and executed for each record with JDBC batch
+     * support - record properties are used in the set clause with {@code toProperty}, and in the where clause with
+     * {@link SqlBuilder#isEqualToProperty(String)}.
+     *
+     * @param records records to update
+     * @param <T> the type of record to update
+     * @return the next step in the DSL
+     */
+    static <T> BatchUpdateDSL.IntoGatherer<T> updateBatch(Collection<T> records) {
+        return BatchUpdateDSL.update(records);
+    }
+
     static WhereDSL where() {
         return WhereDSL.where();
     }
@@ -396,6 +485,19 @@ public interface SqlBuilder {
         return Upper.of(column);
     }
 
+    /**
+     * Creates a named marker for a value that is bound after the statement is rendered. See
+     * {@link org.mybatis.dynamic.sql.select.SelectModel#prepare(org.mybatis.dynamic.sql.render.RenderingStrategy)}.
+     *
+     * @param name the name used to bind a value to the marker
+     * @param type the type of the value
+     * @param <T> the type of the value
+     * @return the marker
+     */
+    static <T> BindParameter<T> bindParameter(String name, Class<T> type) {
+        return BindParameter.of(name, type);
+    }
+
     // conditions for all data types
     static ExistsPredicate exists(Buildable<SelectModel> selectModelBuilder) {
         return ExistsPredicate.exists(selectModelBuilder);
@@ -421,6 +523,22 @@ public interface SqlBuilder {
         return isEqualTo(valueSupplier.get());
     }
 
+    static <T> BindParameterCondition<T> isEqualTo(BindParameter<T> bindParameter) {
+        return BindParameterCondition.of(bindParameter, IsEqualTo::of);
+    }
+
+    /**
+     * A condition on a record property in a batch update or delete. The property is read from each record
+     * when the batch is executed.
+     *
+     * @param property the property name
+     * @param <T> the type of the column
+     * @return the condition
+     */
+    static <T> BindParameterCondition<T> isEqualToProperty(String property) {
+        return BindParameterCondition.forProperty(property, IsEqualTo::of);
+    }
+
     static <T> IsEqualToWithSubselect<T> isEqualTo(Buildable<SelectModel> selectModelBuilder) {
         return IsEqualToWithSubselect.of(selectModelBuilder);
     }
@@ -445,6 +563,10 @@ public interface SqlBuilder {
         return isNotEqualTo(valueSupplier.get());
     }
 
+    static <T> BindParameterCondition<T> isNotEqualTo(BindParameter<T> bindParameter) {
+        return BindParameterCondition.of(bindParameter, IsNotEqualTo::of);
+    }
+
     static <T> IsNotEqualToWithSubselect<T> isNotEqualTo(Buildable<SelectModel> selectModelBuilder) {
         return IsNotEqualToWithSubselect.of(selectModelBuilder);
     }
@@ -469,6 +591,10 @@ public interface SqlBuilder {
         return isGreaterThan(valueSupplier.get());
     }
 
+    static <T> BindParameterCondition<T> isGreaterThan(BindParameter<T> bindParameter) {
+        return BindParameterCondition.of(bindParameter, IsGreaterThan::of);
+    }
+
     static <T> IsGreaterThanWithSubselect<T> isGreaterThan(Buildable<SelectModel> selectModelBuilder) {
         return IsGreaterThanWithSubselect.of(selectModelBuilder);
     }
@@ -493,6 +619,10 @@ public interface SqlBuilder {
         return isGreaterThanOrEqualTo(valueSupplier.get());
     }
 
+    static <T> BindParameterCondition<T> isGreaterThanOrEqualTo(BindParameter<T> bindParameter) {
+        return BindParameterCondition.of(bindParameter, IsGreaterThanOrEqualTo::of);
+    }
+
     static <T> IsGreaterThanOrEqualToWithSubselect<T> isGreaterThanOrEqualTo(
             Buildable<SelectModel> selectModelBuilder) {
         return IsGreaterThanOrEqualToWithSubselect.of(selectModelBuilder);
@@ -518,6 +648,10 @@ public interface SqlBuilder {
         return isLessThan(valueSupplier.get());
     }
 
+    static <T> BindParameterCondition<T> isLessThan(BindParameter<T> bindParameter) {
+        return BindParameterCondition.of(bindParameter, IsLessThan::of);
+    }
+
     static <T> IsLessThanWithSubselect<T> isLessThan(Buildable<SelectModel> selectModelBuilder) {
         return IsLessThanWithSubselect.of(selectModelBuilder);
     }
@@ -542,6 +676,10 @@ public interface SqlBuilder {
         return isLessThanOrEqualTo(valueSupplier.get());
     }
 
+    static <T> BindParameterCondition<T> isLessThanOrEqualTo(BindParameter<T> bindParameter) {
+        return BindParameterCondition.of(bindParameter, IsLessThanOrEqualTo::of);
+    }
+
     static <T> IsLessThanOrEqualToWithSubselect<T> isLessThanOrEqualTo(Buildable<SelectModel> selectModelBuilder) {
         return IsLessThanOrEqualToWithSubselect.of(selectModelBuilder);
     }
@@ -567,6 +705,22 @@ public interface SqlBuilder {
         return IsIn.of(values);
     }
 
+    static IsInLongs isIn(long[] values) {
+        return IsInLongs.of(values);
+    }
+
+    static IsInLongs isIn(LongStream values) {
+        return IsInLongs.of(values);
+    }
+
+    static IsInInts isIn(int[] values) {
+        return IsInInts.of(values);
+    }
+
+    static IsInInts isIn(IntStream values) {
+        return IsInInts.of(values);
+    }
+
     static <T> IsInWithSubselect<T> isIn(Buildable<SelectModel> selectModelBuilder) {
         return IsInWithSubselect.of(selectModelBuilder);
     }
@@ -602,6 +756,24 @@ public interface SqlBuilder {
         return values == null ? IsNotIn.empty() : IsNotIn.of(values).filter(Objects::nonNull);
     }
 
+    @SafeVarargs
+    static <T> IsInArray<T> isInArray(T...values) {
+        return IsInArray.of(values);
+    }
+
+    static <T> IsInArray<T> isInArray(Collection<T> values) {
+        return IsInArray.of(values);
+    }
+
+    @SafeVarargs
+    static <T> IsNotInArray<T> isNotInArray(T...values) {
+        return IsNotInArray.of(values);
+    }
+
+    static <T> IsNotInArray<T> isNotInArray(Collection<T> values) {
+        return IsNotInArray.of(values);
+    }
+
     static <T> IsBetween.Builder<T> isBetween(T value1) {
         return IsBetween.isBetween(value1);
     }
@@ -610,6 +782,10 @@ public interface SqlBuilder {
         return isBetween(valueSupplier1.get());
     }
 
+    static <T> BindParameterCondition.AndGatherer<T> isBetween(BindParameter<T> bindParameter1) {
+        return BindParameterCondition.of(bindParameter1, (v1, v2) -> IsBetween.isBetween(v1).and(v2));
+    }
+
     static <T> IsBetween.WhenPresentBuilder<T> isBetweenWhenPresent(T value1) {
         return IsBetween.isBetweenWhenPresent(value1);
     }
@@ -626,6 +802,10 @@ public interface SqlBuilder {
         return isNotBetween(valueSupplier1.get());
     }
 
+    static <T> BindParameterCondition.AndGatherer<T> isNotBetween(BindParameter<T> bindParameter1) {
+        return BindParameterCondition.of(bindParameter1, (v1, v2) -> IsNotBetween.isNotBetween(v1).and(v2));
+    }
+
     static <T> IsNotBetween.WhenPresentBuilder<T> isNotBetweenWhenPresent(T value1) {
         return IsNotBetween.isNotBetweenWhenPresent(value1);
     }
@@ -643,6 +823,10 @@ public interface SqlBuilder {
         return isLike(valueSupplier.get());
     }
 
+    static <T> BindParameterCondition<T> isLike(BindParameter<T> bindParameter) {
+        return BindParameterCondition.of(bindParameter, IsLike::of);
+    }
+
     static <T> IsLike<T> isLikeWhenPresent(T value) {
         return IsLike.of(value).filter(Objects::nonNull);
     }
@@ -659,6 +843,10 @@ public interface SqlBuilder {
         return isNotLike(valueSupplier.get());
     }
 
+    static <T> BindParameterCondition<T> isNotLike(BindParameter<T> bindParameter) {
+        return BindParameterCondition.of(bindParameter, IsNotLike::of);
+    }
+
     static <T> IsNotLike<T> isNotLikeWhenPresent(T value) {
         return IsNotLike.of(value).filter(Objects::nonNull);
     }
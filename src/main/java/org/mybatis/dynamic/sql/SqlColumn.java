@@ -18,10 +18,11 @@ package org.mybatis.dynamic.sql;
 import java.sql.JDBCType;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.function.BiFunction;
 
 import org.jetbrains.annotations.NotNull;
+import org.mybatis.dynamic.sql.render.PlaceholderTemplate;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.render.SqlWriter;
 import org.mybatis.dynamic.sql.render.TableAliasCalculator;
 import org.mybatis.dynamic.sql.util.StringUtilities;
 
@@ -35,7 +36,10 @@ public class SqlColumn<T> implements BindableColumn<T>, SortSpecification {
     protected final String typeHandler;
     protected final RenderingStrategy renderingStrategy;
     protected final ParameterTypeConverter<T, ?> parameterTypeConverter;
-    protected final BiFunction<TableAliasCalculator, SqlTable, Optional<String>> tableQualifierFunction;
+    protected final String tableQualifier;
+    private final String qualifiedName;
+    private volatile QualifiedName calculatedQualifiedName;
+    private volatile PlaceholderTemplate placeholderTemplate;
 
     private SqlColumn(Builder<T> builder) {
         name = Objects.requireNonNull(builder.name);
@@ -46,7 +50,8 @@ public class SqlColumn<T> implements BindableColumn<T>, SortSpecification {
         typeHandler = builder.typeHandler;
         renderingStrategy = builder.renderingStrategy;
         parameterTypeConverter = builder.parameterTypeConverter;
-        tableQualifierFunction = Objects.requireNonNull(builder.tableQualifierFunction);
+        tableQualifier = builder.tableQualifier;
+        qualifiedName = tableQualifier == null ? null : applyTableAlias(tableQualifier);
     }
 
     public String name() {
@@ -98,8 +103,7 @@ public class SqlColumn<T> implements BindableColumn<T>, SortSpecification {
      */
     public SqlColumn<T> qualifiedWith(String tableQualifier) {
         Builder<T> b = copy();
-        b.withTableQualifierFunction((tac, t) -> Optional.of(tableQualifier));
-        return b.build();
+        return b.withTableQualifier(tableQualifier).build();
     }
 
     /**
@@ -130,9 +134,35 @@ public class SqlColumn<T> implements BindableColumn<T>, SortSpecification {
 
     @Override
     public String renderWithTableAlias(TableAliasCalculator tableAliasCalculator) {
-        return tableQualifierFunction.apply(tableAliasCalculator, table)
-                .map(this::applyTableAlias)
-                .orElseGet(this::name);
+        if (qualifiedName != null) {
+            return qualifiedName;
+        }
+
+        String tableAlias = tableAliasCalculator.aliasForColumn(table).orElse(null);
+        if (tableAlias == null) {
+            return name;
+        }
+
+        // the same column is nearly always rendered with the same alias, so remember the last one
+        QualifiedName calculated = calculatedQualifiedName;
+        if (calculated == null || !calculated.tableAlias.equals(tableAlias)) {
+            calculated = new QualifiedName(tableAlias, applyTableAlias(tableAlias));
+            calculatedQualifiedName = calculated;
+        }
+        return calculated.qualifiedName;
+    }
+
+    @Override
+    public void renderWithTableAlias(TableAliasCalculator tableAliasCalculator, SqlWriter writer) {
+        writer.append(renderWithTableAlias(tableAliasCalculator));
+    }
+
+    @Override
+    public void renderWithTableAndColumnAlias(TableAliasCalculator tableAliasCalculator, SqlWriter writer) {
+        renderWithTableAlias(tableAliasCalculator, writer);
+        if (alias != null) {
+            writer.append(" as ").append(alias); //$NON-NLS-1$
+        }
     }
 
     @Override
@@ -140,6 +170,17 @@ public class SqlColumn<T> implements BindableColumn<T>, SortSpecification {
         return Optional.ofNullable(renderingStrategy);
     }
 
+    @Override
+    public PlaceholderTemplate placeholderTemplate(RenderingStrategy defaultRenderingStrategy, String prefix) {
+        RenderingStrategy strategy = renderingStrategy == null ? defaultRenderingStrategy : renderingStrategy;
+        PlaceholderTemplate template = placeholderTemplate;
+        if (template == null || !template.isFor(strategy, prefix)) {
+            template = strategy.placeholderTemplate(this, prefix);
+            placeholderTemplate = template;
+        }
+        return template;
+    }
+
     @NotNull
     public <S> SqlColumn<S> withTypeHandler(String typeHandler) {
         Builder<S> b = copy();
@@ -178,11 +219,51 @@ public class SqlColumn<T> implements BindableColumn<T>, SortSpecification {
                 .withTypeHandler(this.typeHandler)
                 .withRenderingStrategy(this.renderingStrategy)
                 .withParameterTypeConverter((ParameterTypeConverter<S, ?>) this.parameterTypeConverter)
-                .withTableQualifierFunction(this.tableQualifierFunction);
+                .withTableQualifier(this.tableQualifier);
     }
 
     private String applyTableAlias(String tableAlias) {
-        return tableAlias + "." + name(); //$NON-NLS-1$
+        return tableAlias + "." + name; //$NON-NLS-1$
+    }
+
+    private static class QualifiedName {
+        private final String tableAlias;
+        private final String qualifiedName;
+
+        private QualifiedName(String tableAlias, String qualifiedName) {
+            this.tableAlias = tableAlias;
+            this.qualifiedName = qualifiedName;
+        }
+    }
+
+    /**
+     * Columns are equal if they will render identically - same name, table, type information, alias,
+     * sort order, qualifier, rendering strategy, and parameter type converter. This allows columns
+     * to be used as part of a statement shape (see {@link org.mybatis.dynamic.sql.render.RenderCache}).
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        SqlColumn<?> other = (SqlColumn<?>) obj;
+        return name.equals(other.name)
+                && table.equals(other.table)
+                && jdbcType == other.jdbcType
+                && isDescending == other.isDescending
+                && Objects.equals(alias, other.alias)
+                && Objects.equals(typeHandler, other.typeHandler)
+                && Objects.equals(renderingStrategy, other.renderingStrategy)
+                && Objects.equals(parameterTypeConverter, other.parameterTypeConverter)
+                && Objects.equals(tableQualifier, other.tableQualifier);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, table, jdbcType, isDescending, alias, typeHandler, tableQualifier);
     }
 
     public static <T> SqlColumn<T> of(String name, SqlTable table) {
@@ -207,8 +288,7 @@ public class SqlColumn<T> implements BindableColumn<T>, SortSpecification {
         protected String typeHandler;
         protected RenderingStrategy renderingStrategy;
         protected ParameterTypeConverter<T, ?> parameterTypeConverter;
-        protected BiFunction<TableAliasCalculator, SqlTable, Optional<String>> tableQualifierFunction =
-                TableAliasCalculator::aliasForColumn;
+        protected String tableQualifier;
 
         public Builder<T> withName(String name) {
             this.name = name;
@@ -250,9 +330,8 @@ public class SqlColumn<T> implements BindableColumn<T>, SortSpecification {
             return this;
         }
 
-        private Builder<T> withTableQualifierFunction(
-                BiFunction<TableAliasCalculator, SqlTable, Optional<String>> tableQualifierFunction) {
-            this.tableQualifierFunction = tableQualifierFunction;
+        private Builder<T> withTableQualifier(String tableQualifier) {
+            this.tableQualifier = tableQualifier;
             return this;
         }
 
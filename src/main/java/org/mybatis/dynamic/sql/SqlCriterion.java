@@ -40,6 +40,10 @@ public abstract class SqlCriterion {
         return subCriteria.stream().map(mapper);
     }
 
+    public boolean hasSubCriteria() {
+        return !subCriteria.isEmpty();
+    }
+
     public abstract <R> R accept(SqlCriterionVisitor<R> visitor);
 
     protected abstract static class AbstractBuilder<T extends AbstractBuilder<T>> {
@@ -19,4 +19,18 @@ public interface SqlCriterionVisitor<R> {
     <T> R visit(ColumnAndConditionCriterion<T> criterion);
 
     R visit(ExistsCriterion criterion);
+
+    /**
+     * Visits a group of criteria. Groups are created by the library itself (for example when a keyset predicate is
+     * added to a where clause), so the default implementation throws an exception. Visitors that render or inspect
+     * where clauses built by the library should override this method.
+     *
+     * @param criterion the group
+     * @return never returns normally
+     * @throws UnsupportedOperationException always
+     */
+    default R visit(CriteriaGroup criterion) {
+        throw new UnsupportedOperationException(
+                "Criteria groups are not supported by " + getClass().getName()); //$NON-NLS-1$
+    }
 }
@@ -52,4 +52,21 @@ public class StringConstant implements BindableColumn<String> {
     public static StringConstant of(String value) {
         return new StringConstant(value);
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        StringConstant other = (StringConstant) obj;
+        return value.equals(other.value) && Objects.equals(alias, other.alias);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(value, alias);
+    }
 }
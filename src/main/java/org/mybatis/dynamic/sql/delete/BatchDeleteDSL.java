@@ -0,0 +1,112 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.delete;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+
+import org.jetbrains.annotations.NotNull;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.util.Buildable;
+import org.mybatis.dynamic.sql.where.AbstractWhereDSL;
+import org.mybatis.dynamic.sql.where.AbstractWhereSupport;
+import org.mybatis.dynamic.sql.where.WhereModel;
+
+/**
+ * DSL for a delete statement that is executed once for each record in a batch. Record properties are used in the
+ * where clause with {@link org.mybatis.dynamic.sql.SqlBuilder#isEqualToProperty(String)} or any other condition with
+ * a {@link org.mybatis.dynamic.sql.BindParameter} marker - every marker is bound to the record property of the
+ * same name.
+ *
+ * @param <T> the type of record in the batch
+ */
+public class BatchDeleteDSL<T> extends AbstractWhereSupport<BatchDeleteDSL<T>.BatchDeleteWhereBuilder>
+        implements Buildable<BatchDeleteModel<T>> {
+
+    private final Collection<T> records;
+    private final SqlTable table;
+    private final BatchDeleteWhereBuilder whereBuilder = new BatchDeleteWhereBuilder();
+
+    private BatchDeleteDSL(Collection<T> records, SqlTable table) {
+        this.records = Objects.requireNonNull(records);
+        this.table = Objects.requireNonNull(table);
+    }
+
+    @Override
+    public BatchDeleteWhereBuilder where() {
+        return whereBuilder;
+    }
+
+    /**
+     * WARNING! Calling this method could result in an delete statement that deletes
+     * all rows in a table.
+     *
+     * @return the batch delete model
+     */
+    @NotNull
+    @Override
+    public BatchDeleteModel<T> build() {
+        DeleteModel deleteModel = DeleteModel.withTable(table)
+                .withWhereModel(whereBuilder.buildWhereModel())
+                .build();
+        return BatchDeleteModel.withRecords(records)
+                .withDeleteModel(deleteModel)
+                .build();
+    }
+
+    @SafeVarargs
+    public static <T> FromGatherer<T> delete(T...records) {
+        return delete(Arrays.asList(records));
+    }
+
+    public static <T> FromGatherer<T> delete(Collection<T> records) {
+        return new FromGatherer<>(records);
+    }
+
+    public static class FromGatherer<T> {
+        private final Collection<T> records;
+
+        private FromGatherer(Collection<T> records) {
+            this.records = records;
+        }
+
+        public BatchDeleteDSL<T> from(SqlTable table) {
+            return new BatchDeleteDSL<>(records, table);
+        }
+    }
+
+    public class BatchDeleteWhereBuilder extends AbstractWhereDSL<BatchDeleteWhereBuilder>
+            implements Buildable<BatchDeleteModel<T>> {
+
+        private BatchDeleteWhereBuilder() {}
+
+        @NotNull
+        @Override
+        public BatchDeleteModel<T> build() {
+            return BatchDeleteDSL.this.build();
+        }
+
+        @Override
+        protected BatchDeleteWhereBuilder getThis() {
+            return this;
+        }
+
+        protected WhereModel buildWhereModel() {
+            return internalBuild();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.delete;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import org.jetbrains.annotations.NotNull;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.render.RenderCache;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.delete.render.BatchDelete;
+import org.mybatis.dynamic.sql.delete.render.PreparedDelete;
+
+/**
+ * Model for a batch delete. The delete statement is rendered once with a {@link org.mybatis.dynamic.sql.BindParameter}
+ * marker for every record property in the where clause, and the properties of each record are bound when the batch
+ * is executed.
+ *
+ * @param <T> the type of record in the batch
+ */
+public class BatchDeleteModel<T> {
+    private final DeleteModel deleteModel;
+    private final List<T> records;
+
+    private BatchDeleteModel(Builder<T> builder) {
+        deleteModel = Objects.requireNonNull(builder.deleteModel);
+        records = Collections.unmodifiableList(builder.records);
+    }
+
+    public SqlTable table() {
+        return deleteModel.table();
+    }
+
+    public DeleteModel deleteModel() {
+        return deleteModel;
+    }
+
+    public List<T> records() {
+        return records;
+    }
+
+    @NotNull
+    public BatchDelete<T> render(RenderingStrategy renderingStrategy) {
+        return toBatchDelete(deleteModel.prepare(renderingStrategy));
+    }
+
+    @NotNull
+    public BatchDelete<T> render(RenderingStrategy renderingStrategy, RenderCache renderCache) {
+        return toBatchDelete(deleteModel.prepare(renderingStrategy, renderCache));
+    }
+
+    private BatchDelete<T> toBatchDelete(PreparedDelete preparedDelete) {
+        return BatchDelete.withRecords(records)
+                .withPreparedDelete(preparedDelete)
+                .build();
+    }
+
+    public static <T> Builder<T> withRecords(Collection<T> records) {
+        return new Builder<T>().withRecords(records);
+    }
+
+    public static class Builder<T> {
+        private DeleteModel deleteModel;
+        private final List<T> records = new ArrayList<>();
+
+        public Builder<T> withDeleteModel(DeleteModel deleteModel) {
+            this.deleteModel = deleteModel;
+            return this;
+        }
+
+        public Builder<T> withRecords(Collection<T> records) {
+            this.records.addAll(records);
+            return this;
+        }
+
+        public BatchDeleteModel<T> build() {
+            return new BatchDeleteModel<>(this);
+        }
+    }
+}
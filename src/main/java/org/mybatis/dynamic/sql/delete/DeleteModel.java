@@ -22,6 +22,9 @@ import org.jetbrains.annotations.NotNull;
 import org.mybatis.dynamic.sql.SqlTable;
 import org.mybatis.dynamic.sql.delete.render.DeleteRenderer;
 import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.delete.render.PreparedDelete;
+import org.mybatis.dynamic.sql.render.ParameterBindings;
+import org.mybatis.dynamic.sql.render.RenderCache;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.where.WhereModel;
 
@@ -50,6 +53,42 @@ public class DeleteModel {
                 .render();
     }
 
+    @NotNull
+    public DeleteStatementProvider render(RenderingStrategy renderingStrategy, RenderCache renderCache) {
+        return renderCache.render(this, renderingStrategy);
+    }
+
+    /**
+     * Renders the statement once into a template. Values for any
+     * {@link org.mybatis.dynamic.sql.BindParameter} markers in the statement are bound later.
+     *
+     * @param renderingStrategy the rendering strategy
+     * @return a thread safe statement template
+     */
+    @NotNull
+    public PreparedDelete prepare(RenderingStrategy renderingStrategy) {
+        ParameterBindings.Builder bindParameters = new ParameterBindings.Builder();
+        DeleteStatementProvider deleteStatement = DeleteRenderer.withDeleteModel(this)
+                .withRenderingStrategy(renderingStrategy)
+                .withBindParameters(bindParameters)
+                .build()
+                .render();
+        return PreparedDelete.of(deleteStatement, bindParameters);
+    }
+
+    /**
+     * Renders the statement into a template, using a render cache. Values for any
+     * {@link org.mybatis.dynamic.sql.BindParameter} markers in the statement are bound later.
+     *
+     * @param renderingStrategy the rendering strategy
+     * @param renderCache the render cache
+     * @return a thread safe statement template
+     */
+    @NotNull
+    public PreparedDelete prepare(RenderingStrategy renderingStrategy, RenderCache renderCache) {
+        return renderCache.prepare(this, renderingStrategy);
+    }
+
     public static Builder withTable(SqlTable table) {
         return new Builder().withTable(table);
     }
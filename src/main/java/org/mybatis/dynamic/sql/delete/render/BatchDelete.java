@@ -0,0 +1,124 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.delete.render;
+
+import java.util.AbstractList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.mybatis.dynamic.sql.render.StatementFingerprint;
+
+/**
+ * A rendered batch delete. The delete statement is the same for every record - the statement providers bind the
+ * properties of each record to the same SQL.
+ *
+ * @param <T> the type of record in the batch
+ */
+public class BatchDelete<T> {
+    private final PreparedDelete preparedDelete;
+    private final List<T> records;
+
+    private BatchDelete(Builder<T> builder) {
+        preparedDelete = Objects.requireNonNull(builder.preparedDelete);
+        records = Collections.unmodifiableList(Objects.requireNonNull(builder.records));
+    }
+
+    /**
+     * Returns a list of delete statements, one for each record.  This is useful for MyBatis batch support.
+     *
+     * <p>The list is a read only view of the records - a statement is created when an element is retrieved,
+     * so the statements for a large batch are not all held in memory at once.
+     *
+     * @return a List of delete statements
+     */
+    public List<DeleteStatementProvider> deleteStatements() {
+        return new AbstractList<DeleteStatementProvider>() {
+            @Override
+            public DeleteStatementProvider get(int index) {
+                return preparedDelete.bindProperties(records.get(index));
+            }
+
+            @Override
+            public int size() {
+                return records.size();
+            }
+        };
+    }
+
+    /**
+     * Returns the parameters for a record.  This is useful for Spring JDBC batch support.
+     *
+     * @param row the record
+     * @return the parameters of the delete statement for the record
+     */
+    public Map<String, Object> parameters(T row) {
+        return preparedDelete.bindProperties(row).getParameters();
+    }
+
+    /**
+     * Returns the generated SQL for this batch.  This is useful for Spring JDBC batch support.
+     *
+     * @return the generated DELETE statement
+     */
+    public String getDeleteStatementSQL() {
+        return preparedDelete.getDeleteStatement();
+    }
+
+    /**
+     * Returns the fingerprint of the delete statement's shape.
+     *
+     * @return the shape fingerprint
+     * @see StatementFingerprint#shapeOf(String)
+     */
+    public long getShapeFingerprint() {
+        return StatementFingerprint.shapeOf(getDeleteStatementSQL());
+    }
+
+    public List<T> getRecords() {
+        return records;
+    }
+
+    public static <T> Builder<T> withRecords(List<T> records) {
+        return new Builder<T>().withRecords(records);
+    }
+
+    public static class Builder<T> {
+        private PreparedDelete preparedDelete;
+        private List<T> records;
+
+        public Builder<T> withPreparedDelete(PreparedDelete preparedDelete) {
+            this.preparedDelete = preparedDelete;
+            return this;
+        }
+
+        /**
+         * Sets the records for the batch. The list is not copied - it should not be changed after the batch is built.
+         *
+         * @param records the records to delete
+         * @return this builder
+         */
+        public Builder<T> withRecords(List<T> records) {
+            this.records = records;
+            return this;
+        }
+
+        public BatchDelete<T> build() {
+            return new BatchDelete<>(this);
+        }
+    }
+}
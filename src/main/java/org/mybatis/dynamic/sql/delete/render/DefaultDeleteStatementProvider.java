@@ -15,17 +15,20 @@
  */
 package org.mybatis.dynamic.sql.delete.render;
 
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
 
+import org.mybatis.dynamic.sql.render.CopyOnWriteParameters;
+import org.mybatis.dynamic.sql.render.RenderedParameters;
+
 public class DefaultDeleteStatementProvider implements DeleteStatementProvider {
     private final String deleteStatement;
     private final Map<String, Object> parameters;
 
     private DefaultDeleteStatementProvider(Builder builder) {
         deleteStatement = Objects.requireNonNull(builder.deleteStatement);
-        parameters = Objects.requireNonNull(builder.parameters);
+        parameters = CopyOnWriteParameters.of(builder.parameters);
     }
 
     @Override
@@ -44,7 +47,7 @@ public class DefaultDeleteStatementProvider implements DeleteStatementProvider {
 
     public static class Builder {
         private String deleteStatement;
-        private final Map<String, Object> parameters = new HashMap<>();
+        private Map<String, Object> parameters = Collections.emptyMap();
 
         public Builder withDeleteStatement(String deleteStatement) {
             this.deleteStatement = deleteStatement;
@@ -52,7 +55,7 @@ public class DefaultDeleteStatementProvider implements DeleteStatementProvider {
         }
 
         public Builder withParameters(Map<String, Object> parameters) {
-            this.parameters.putAll(parameters);
+            this.parameters = RenderedParameters.combine(this.parameters, parameters);
             return this;
         }
 
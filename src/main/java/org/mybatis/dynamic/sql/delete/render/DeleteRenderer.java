@@ -15,63 +15,55 @@
  */
 package org.mybatis.dynamic.sql.delete.render;
 
-import static org.mybatis.dynamic.sql.util.StringUtilities.spaceBefore;
-
 import java.util.Objects;
-import java.util.Optional;
-import java.util.concurrent.atomic.AtomicInteger;
 
 import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.render.ParameterBindings;
+import org.mybatis.dynamic.sql.render.RenderTimer;
+import org.mybatis.dynamic.sql.render.RenderedLengthEstimate;
+import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
-import org.mybatis.dynamic.sql.render.TableAliasCalculator;
+import org.mybatis.dynamic.sql.render.SqlWriter;
+import org.mybatis.dynamic.sql.render.StatementType;
 import org.mybatis.dynamic.sql.where.WhereModel;
-import org.mybatis.dynamic.sql.where.render.WhereClauseProvider;
 import org.mybatis.dynamic.sql.where.render.WhereRenderer;
 
 public class DeleteRenderer {
+    private static final RenderedLengthEstimate LENGTH_ESTIMATE = new RenderedLengthEstimate();
+
     private final DeleteModel deleteModel;
     private final RenderingStrategy renderingStrategy;
+    private final ParameterBindings.Builder bindParameters;
 
     private DeleteRenderer(Builder builder) {
         deleteModel = Objects.requireNonNull(builder.deleteModel);
         renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
+        bindParameters = builder.bindParameters;
     }
 
     public DeleteStatementProvider render() {
-        return deleteModel.whereModel()
-                .flatMap(this::renderWhereClause)
-                .map(this::renderWithWhereClause)
-                .orElseGet(this::renderWithoutWhereClause);
-    }
-
-    private DeleteStatementProvider renderWithWhereClause(WhereClauseProvider whereClauseProvider) {
-        return DefaultDeleteStatementProvider.withDeleteStatement(calculateDeleteStatement(whereClauseProvider))
-                .withParameters(whereClauseProvider.getParameters())
+        RenderTimer renderTimer = RenderTimer.start(renderingStrategy, StatementType.DELETE);
+        RenderingContext renderingContext = RenderingContext.withRenderingStrategy(renderingStrategy)
+                .withBindParameters(bindParameters)
                 .build();
-    }
-
-    private String calculateDeleteStatement(WhereClauseProvider whereClause) {
-        return calculateDeleteStatement()
-                + spaceBefore(whereClause.getWhereClause());
-    }
-
-    private String calculateDeleteStatement() {
-        return "delete from" //$NON-NLS-1$
-                + spaceBefore(deleteModel.table().tableNameAtRuntime());
-    }
-
-    private DeleteStatementProvider renderWithoutWhereClause() {
-        return DefaultDeleteStatementProvider.withDeleteStatement(calculateDeleteStatement())
+        SqlWriter writer = SqlWriter.withEstimate(LENGTH_ESTIMATE);
+        writer.append("delete from ") //$NON-NLS-1$
+                .append(renderingContext.tableName(deleteModel.table()));
+        deleteModel.whereModel().ifPresent(wm -> renderWhereClause(wm, renderingContext, writer));
+        LENGTH_ESTIMATE.record(writer);
+        DeleteStatementProvider deleteStatement = DefaultDeleteStatementProvider.withDeleteStatement(writer.toSql())
+                .withParameters(writer.parameters())
                 .build();
+        renderTimer.rendered(deleteStatement.getDeleteStatement(), deleteStatement.getParameters().size(),
+                renderingContext.skippedConditions());
+        return deleteStatement;
     }
 
-    private Optional<WhereClauseProvider> renderWhereClause(WhereModel whereModel) {
-        return WhereRenderer.withWhereModel(whereModel)
-                .withRenderingStrategy(renderingStrategy)
-                .withSequence(new AtomicInteger(1))
-                .withTableAliasCalculator(TableAliasCalculator.empty())
+    private void renderWhereClause(WhereModel whereModel, RenderingContext renderingContext, SqlWriter writer) {
+        WhereRenderer.withWhereModel(whereModel)
+                .withRenderingContext(renderingContext)
                 .build()
-                .render();
+                .render(writer);
     }
 
     public static Builder withDeleteModel(DeleteModel deleteModel) {
@@ -81,6 +73,7 @@ public class DeleteRenderer {
     public static class Builder {
         private DeleteModel deleteModel;
         private RenderingStrategy renderingStrategy;
+        private ParameterBindings.Builder bindParameters;
 
         public Builder withDeleteModel(DeleteModel deleteModel) {
             this.deleteModel = deleteModel;
@@ -92,6 +85,18 @@ public class DeleteRenderer {
             return this;
         }
 
+        /**
+         * Allows {@link org.mybatis.dynamic.sql.BindParameter} markers in the statement. This is used when a statement
+         * is rendered into a prepared template.
+         *
+         * @param bindParameters records the markers in the statement
+         * @return this builder
+         */
+        public Builder withBindParameters(ParameterBindings.Builder bindParameters) {
+            this.bindParameters = bindParameters;
+            return this;
+        }
+
         public DeleteRenderer build() {
             return new DeleteRenderer(this);
         }
@@ -17,8 +17,20 @@ package org.mybatis.dynamic.sql.delete.render;
 
 import java.util.Map;
 
+import org.mybatis.dynamic.sql.render.StatementFingerprint;
+
 public interface DeleteStatementProvider {
     Map<String, Object> getParameters();
 
     String getDeleteStatement();
+
+    /**
+     * Returns the fingerprint of the delete statement's shape.
+     *
+     * @return the shape fingerprint
+     * @see StatementFingerprint#shapeOf(String)
+     */
+    default long getShapeFingerprint() {
+        return StatementFingerprint.shapeOf(getDeleteStatement());
+    }
 }
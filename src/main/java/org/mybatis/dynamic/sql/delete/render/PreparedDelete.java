@@ -0,0 +1,98 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.delete.render;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.mybatis.dynamic.sql.BindParameter;
+import org.mybatis.dynamic.sql.render.ParameterBindings;
+
+/**
+ * A delete statement that was rendered once, with {@link BindParameter} markers in place of values. Binding values
+ * creates a statement provider without rendering the statement again.
+ *
+ * <p>Instances are immutable and thread safe - a template can be held in a static final field and shared by every
+ * thread that runs the statement.
+ */
+public final class PreparedDelete {
+    private final String deleteStatement;
+    private final ParameterBindings bindings;
+
+    private PreparedDelete(String deleteStatement, ParameterBindings bindings) {
+        this.deleteStatement = Objects.requireNonNull(deleteStatement);
+        this.bindings = Objects.requireNonNull(bindings);
+    }
+
+    public String getDeleteStatement() {
+        return deleteStatement;
+    }
+
+    public Set<String> parameterNames() {
+        return bindings.parameterNames();
+    }
+
+    /**
+     * Creates a statement provider with a value for every bind parameter marker.
+     *
+     * @param values the values keyed by marker name
+     * @return a statement provider
+     * @throws IllegalArgumentException if the values do not match the markers in the statement
+     */
+    public DeleteStatementProvider bind(Map<String, ?> values) {
+        return provider(bindings.bind(values));
+    }
+
+    public ParameterBindings.Binder<DeleteStatementProvider> bind(String name, Object value) {
+        return new ParameterBindings.Binder<>(bindings, this::provider).bind(name, value);
+    }
+
+    public <T> ParameterBindings.Binder<DeleteStatementProvider> bind(BindParameter<T> bindParameter, T value) {
+        return bind(bindParameter.name(), value);
+    }
+
+    /**
+     * Creates a statement provider with the value of a row property for every bind parameter marker - the marker
+     * names are read as property names.
+     *
+     * @param row the row to read values from
+     * @return a statement provider
+     * @throws IllegalArgumentException if a property cannot be read
+     */
+    public DeleteStatementProvider bindProperties(Object row) {
+        return provider(bindings.bindProperties(row));
+    }
+
+    private DeleteStatementProvider provider(Map<String, Object> parameters) {
+        return DefaultDeleteStatementProvider.withDeleteStatement(deleteStatement)
+                .withParameters(parameters)
+                .build();
+    }
+
+    /**
+     * Creates a template from a statement that was rendered with bind parameter markers.
+     *
+     * @param statementProvider the rendered statement
+     * @param bindParameters the markers that were recorded while the statement was rendered
+     * @return the template
+     */
+    public static PreparedDelete of(DeleteStatementProvider statementProvider,
+            ParameterBindings.Builder bindParameters) {
+        return new PreparedDelete(statementProvider.getDeleteStatement(),
+                bindParameters.withParameters(statementProvider.getParameters()).build());
+    }
+}
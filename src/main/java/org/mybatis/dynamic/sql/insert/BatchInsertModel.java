@@ -20,6 +20,7 @@ import java.util.Collection;
 import org.jetbrains.annotations.NotNull;
 import org.mybatis.dynamic.sql.insert.render.BatchInsert;
 import org.mybatis.dynamic.sql.insert.render.BatchInsertRenderer;
+import org.mybatis.dynamic.sql.render.RenderCache;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 
 public class BatchInsertModel<T> extends AbstractMultiRowInsertModel<T> {
@@ -36,6 +37,11 @@ public class BatchInsertModel<T> extends AbstractMultiRowInsertModel<T> {
                 .render();
     }
 
+    @NotNull
+    public BatchInsert<T> render(RenderingStrategy renderingStrategy, RenderCache renderCache) {
+        return renderCache.render(this, renderingStrategy);
+    }
+
     public static <T> Builder<T> withRecords(Collection<T> records) {
         return new Builder<T>().withRecords(records);
     }
@@ -0,0 +1,117 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.jetbrains.annotations.NotNull;
+import org.mybatis.dynamic.sql.insert.render.BatchInsert;
+import org.mybatis.dynamic.sql.insert.render.BatchInsertRenderer;
+import org.mybatis.dynamic.sql.insert.render.UpsertRenderer;
+import org.mybatis.dynamic.sql.render.RenderTimer;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.render.StatementType;
+import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
+
+/**
+ * Model for a batch upsert. The statement is rendered once, like a batch insert, and the rendered
+ * {@link BatchInsert} is executed with the same JDBC batch support as a batch insert.
+ *
+ * @param <T> the type of record
+ */
+public class BatchUpsertModel<T> {
+    private final BatchInsertModel<T> insertModel;
+    private final OnConflictModel onConflictModel;
+
+    private BatchUpsertModel(Builder<T> builder) {
+        insertModel = Objects.requireNonNull(builder.insertModel);
+        onConflictModel = Objects.requireNonNull(builder.onConflictModel);
+    }
+
+    public BatchInsertModel<T> insertModel() {
+        return insertModel;
+    }
+
+    public OnConflictModel onConflictModel() {
+        return onConflictModel;
+    }
+
+    @NotNull
+    public BatchInsert<T> render(RenderingStrategy renderingStrategy, UpsertDialect dialect) {
+        RenderTimer renderTimer = RenderTimer.start(renderingStrategy, StatementType.BATCH_INSERT);
+        UpsertRenderer upsertRenderer = UpsertRenderer.withTable(insertModel.table())
+                .withColumnMappings(insertModel.mapColumnMappings(Function.identity()).collect(Collectors.toList()))
+                .withOnConflictModel(onConflictModel)
+                .withDialect(dialect)
+                .withInsertRenderer(columnMappings -> renderInsert(columnMappings, renderingStrategy))
+                .withValuesRenderer(columnMappings -> insertRenderer(columnMappings, renderingStrategy)
+                        .renderValuesPhrase())
+                .build();
+        String upsertStatement = upsertRenderer.render();
+        renderTimer.rendered(upsertStatement, upsertRenderer.parametersPerRow(), 0);
+
+        return BatchInsert.withRecords(insertModel.records())
+                .withInsertStatement(upsertStatement)
+                .build();
+    }
+
+    private String renderInsert(List<AbstractColumnMapping> columnMappings, RenderingStrategy renderingStrategy) {
+        return insertRenderer(columnMappings, renderingStrategy)
+                .render()
+                .getInsertStatementSQL();
+    }
+
+    private BatchInsertRenderer<T> insertRenderer(List<AbstractColumnMapping> columnMappings,
+            RenderingStrategy renderingStrategy) {
+        // the statement does not depend on the records, so it is rendered from a model without records
+        BatchInsertModel<T> model = BatchInsertModel.withRecords(Collections.<T>emptyList())
+                .withTable(insertModel.table())
+                .withColumnMappings(columnMappings)
+                .build();
+        // the insert is part of the upsert, so it is not reported as a statement of its own
+        return BatchInsertRenderer.withBatchInsertModel(model)
+                .withRenderingStrategy(renderingStrategy)
+                .withRenderTimer(RenderTimer.none())
+                .build();
+    }
+
+    public static <T> Builder<T> withInsertModel(BatchInsertModel<T> insertModel) {
+        return new Builder<T>().withInsertModel(insertModel);
+    }
+
+    public static class Builder<T> {
+        private BatchInsertModel<T> insertModel;
+        private OnConflictModel onConflictModel;
+
+        public Builder<T> withInsertModel(BatchInsertModel<T> insertModel) {
+            this.insertModel = insertModel;
+            return this;
+        }
+
+        public Builder<T> withOnConflictModel(OnConflictModel onConflictModel) {
+            this.onConflictModel = onConflictModel;
+            return this;
+        }
+
+        public BatchUpsertModel<T> build() {
+            return new BatchUpsertModel<>(this);
+        }
+    }
+}
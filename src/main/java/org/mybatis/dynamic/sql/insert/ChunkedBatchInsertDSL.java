@@ -0,0 +1,120 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+import org.jetbrains.annotations.NotNull;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
+import org.mybatis.dynamic.sql.util.Buildable;
+import org.mybatis.dynamic.sql.util.ConstantMapping;
+import org.mybatis.dynamic.sql.util.NullMapping;
+import org.mybatis.dynamic.sql.util.PropertyMapping;
+import org.mybatis.dynamic.sql.util.StringConstantMapping;
+
+/**
+ * DSL for a batch insert of records that are read from an iterator. Unlike {@link BatchInsertDSL}, the records
+ * are not collected into a list - they are read in chunks when the batch is executed.
+ *
+ * @param <T> the type of record to insert
+ */
+public class ChunkedBatchInsertDSL<T> implements Buildable<ChunkedBatchInsertModel<T>> {
+
+    private final Iterator<T> records;
+    private final SqlTable table;
+    private final List<AbstractColumnMapping> columnMappings = new ArrayList<>();
+    private int chunkSize = ChunkedBatchInsertModel.DEFAULT_CHUNK_SIZE;
+
+    private ChunkedBatchInsertDSL(Iterator<T> records, SqlTable table) {
+        this.records = Objects.requireNonNull(records);
+        this.table = table;
+    }
+
+    public <F> ColumnMappingFinisher<F> map(SqlColumn<F> column) {
+        return new ColumnMappingFinisher<>(column);
+    }
+
+    /**
+     * Sets the number of records in each JDBC batch. The default is
+     * {@value ChunkedBatchInsertModel#DEFAULT_CHUNK_SIZE}.
+     *
+     * @param chunkSize the number of records in each chunk
+     * @return this DSL
+     */
+    public ChunkedBatchInsertDSL<T> withChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    @NotNull
+    @Override
+    public ChunkedBatchInsertModel<T> build() {
+        return ChunkedBatchInsertModel.withRecords(records)
+                .withTable(table)
+                .withColumnMappings(columnMappings)
+                .withChunkSize(chunkSize)
+                .build();
+    }
+
+    public static <T> IntoGatherer<T> insert(Iterator<T> records) {
+        return new IntoGatherer<>(records);
+    }
+
+    public static class IntoGatherer<T> {
+        private final Iterator<T> records;
+
+        private IntoGatherer(Iterator<T> records) {
+            this.records = records;
+        }
+
+        public ChunkedBatchInsertDSL<T> into(SqlTable table) {
+            return new ChunkedBatchInsertDSL<>(records, table);
+        }
+    }
+
+    public class ColumnMappingFinisher<F> {
+        private final SqlColumn<F> column;
+
+        public ColumnMappingFinisher(SqlColumn<F> column) {
+            this.column = column;
+        }
+
+        public ChunkedBatchInsertDSL<T> toProperty(String property) {
+            columnMappings.add(PropertyMapping.of(column, property));
+            return ChunkedBatchInsertDSL.this;
+        }
+
+        public ChunkedBatchInsertDSL<T> toNull() {
+            columnMappings.add(NullMapping.of(column));
+            return ChunkedBatchInsertDSL.this;
+        }
+
+        public ChunkedBatchInsertDSL<T> toConstant(String constant) {
+            columnMappings.add(ConstantMapping.of(column, constant));
+            return ChunkedBatchInsertDSL.this;
+        }
+
+        public ChunkedBatchInsertDSL<T> toStringConstant(String constant) {
+            columnMappings.add(StringConstantMapping.of(column, constant));
+            return ChunkedBatchInsertDSL.this;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+import org.jetbrains.annotations.NotNull;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.insert.render.BatchInsert;
+import org.mybatis.dynamic.sql.insert.render.ChunkedBatchInsert;
+import org.mybatis.dynamic.sql.render.RenderCache;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
+
+/**
+ * Model for a batch insert of records that are read from an iterator. The insert statement is the same as the
+ * statement for a {@link BatchInsertModel} - it is rendered once, and the records are read in chunks when the batch
+ * is executed.
+ *
+ * @param <T> the type of record to insert
+ */
+public class ChunkedBatchInsertModel<T> {
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    private final BatchInsertModel<T> statementModel;
+    private final Iterator<T> records;
+    private final int chunkSize;
+
+    private ChunkedBatchInsertModel(Builder<T> builder) {
+        records = Objects.requireNonNull(builder.records);
+        chunkSize = builder.chunkSize;
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("The chunk size must be at least 1"); //$NON-NLS-1$
+        }
+        // the statement does not depend on the records, so it is rendered from a model without records
+        statementModel = BatchInsertModel.withRecords(Collections.<T>emptyList())
+                .withTable(Objects.requireNonNull(builder.table))
+                .withColumnMappings(builder.columnMappings)
+                .build();
+    }
+
+    public SqlTable table() {
+        return statementModel.table();
+    }
+
+    public int chunkSize() {
+        return chunkSize;
+    }
+
+    @NotNull
+    public ChunkedBatchInsert<T> render(RenderingStrategy renderingStrategy) {
+        return toChunkedBatchInsert(statementModel.render(renderingStrategy));
+    }
+
+    @NotNull
+    public ChunkedBatchInsert<T> render(RenderingStrategy renderingStrategy, RenderCache renderCache) {
+        return toChunkedBatchInsert(statementModel.render(renderingStrategy, renderCache));
+    }
+
+    private ChunkedBatchInsert<T> toChunkedBatchInsert(BatchInsert<T> batchInsert) {
+        return ChunkedBatchInsert.withRecords(records)
+                .withInsertStatement(batchInsert.getInsertStatementSQL())
+                .withChunkSize(chunkSize)
+                .build();
+    }
+
+    public static <T> Builder<T> withRecords(Iterator<T> records) {
+        return new Builder<T>().withRecords(records);
+    }
+
+    public static class Builder<T> {
+        private SqlTable table;
+        private Iterator<T> records;
+        private final List<AbstractColumnMapping> columnMappings = new ArrayList<>();
+        private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+        public Builder<T> withTable(SqlTable table) {
+            this.table = table;
+            return this;
+        }
+
+        public Builder<T> withRecords(Iterator<T> records) {
+            this.records = records;
+            return this;
+        }
+
+        public Builder<T> withColumnMappings(List<AbstractColumnMapping> columnMappings) {
+            this.columnMappings.addAll(columnMappings);
+            return this;
+        }
+
+        public Builder<T> withChunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
+        public ChunkedBatchInsertModel<T> build() {
+            return new ChunkedBatchInsertModel<>(this);
+        }
+    }
+}
@@ -25,6 +25,7 @@ import org.jetbrains.annotations.NotNull;
 import org.mybatis.dynamic.sql.SqlTable;
 import org.mybatis.dynamic.sql.insert.render.GeneralInsertRenderer;
 import org.mybatis.dynamic.sql.insert.render.GeneralInsertStatementProvider;
+import org.mybatis.dynamic.sql.render.RenderCache;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
 
@@ -54,6 +55,11 @@ public class GeneralInsertModel {
                 .render();
     }
 
+    @NotNull
+    public GeneralInsertStatementProvider render(RenderingStrategy renderingStrategy, RenderCache renderCache) {
+        return renderCache.render(this, renderingStrategy);
+    }
+
     public static class Builder {
         private SqlTable table;
         private final List<AbstractColumnMapping> insertMappings = new ArrayList<>();
@@ -45,6 +45,20 @@ public class InsertDSL<T> implements Buildable<InsertModel<T>> {
         return new ColumnMappingFinisher<>(column);
     }
 
+    /**
+     * Turns the insert into an upsert. A row that conflicts with an existing row on the target columns
+     * (usually the primary key) updates the existing row instead of being inserted.
+     *
+     * @param targetColumn the first column that identifies an existing row
+     * @param moreTargetColumns any other columns that identify an existing row
+     * @return the next step in the DSL
+     */
+    public OnConflictDSL<UpsertModel<T>> onConflict(SqlColumn<?> targetColumn, SqlColumn<?>... moreTargetColumns) {
+        return OnConflictDSL.onConflict(onConflictModel -> UpsertModel.withInsertModel(build())
+                .withOnConflictModel(onConflictModel)
+                .build(), targetColumn, moreTargetColumns);
+    }
+
     @NotNull
     @Override
     public InsertModel<T> build() {
@@ -25,6 +25,7 @@ import org.jetbrains.annotations.NotNull;
 import org.mybatis.dynamic.sql.SqlTable;
 import org.mybatis.dynamic.sql.insert.render.InsertRenderer;
 import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
+import org.mybatis.dynamic.sql.render.RenderCache;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
 
@@ -59,6 +60,11 @@ public class InsertModel<T> {
                 .render();
     }
 
+    @NotNull
+    public InsertStatementProvider<T> render(RenderingStrategy renderingStrategy, RenderCache renderCache) {
+        return renderCache.render(this, renderingStrategy);
+    }
+
     public static <T> Builder<T> withRow(T row) {
         return new Builder<T>().withRow(row);
     }
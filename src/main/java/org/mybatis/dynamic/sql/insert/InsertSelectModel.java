@@ -22,6 +22,7 @@ import org.jetbrains.annotations.NotNull;
 import org.mybatis.dynamic.sql.SqlTable;
 import org.mybatis.dynamic.sql.insert.render.InsertSelectRenderer;
 import org.mybatis.dynamic.sql.insert.render.InsertSelectStatementProvider;
+import org.mybatis.dynamic.sql.render.RenderCache;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.select.SelectModel;
 
@@ -56,6 +57,11 @@ public class InsertSelectModel {
                 .render();
     }
 
+    @NotNull
+    public InsertSelectStatementProvider render(RenderingStrategy renderingStrategy, RenderCache renderCache) {
+        return renderCache.render(this, renderingStrategy);
+    }
+
     public static Builder withTable(SqlTable table) {
         return new Builder().withTable(table);
     }
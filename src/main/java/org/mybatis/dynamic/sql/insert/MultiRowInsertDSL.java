@@ -45,6 +45,21 @@ public class MultiRowInsertDSL<T> implements Buildable<MultiRowInsertModel<T>> {
         return new ColumnMappingFinisher<>(column);
     }
 
+    /**
+     * Turns the multiple row insert into an upsert. A row that conflicts with an existing row on the target columns
+     * (usually the primary key) updates the existing row instead of being inserted.
+     *
+     * @param targetColumn the first column that identifies an existing row
+     * @param moreTargetColumns any other columns that identify an existing row
+     * @return the next step in the DSL
+     */
+    public OnConflictDSL<MultiRowUpsertModel<T>> onConflict(SqlColumn<?> targetColumn,
+            SqlColumn<?>... moreTargetColumns) {
+        return OnConflictDSL.onConflict(onConflictModel -> MultiRowUpsertModel.withInsertModel(build())
+                .withOnConflictModel(onConflictModel)
+                .build(), targetColumn, moreTargetColumns);
+    }
+
     @NotNull
     @Override
     public MultiRowInsertModel<T> build() {
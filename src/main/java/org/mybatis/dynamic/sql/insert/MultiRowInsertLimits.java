@@ -0,0 +1,80 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+/**
+ * Limits for the size of a multiple row insert statement. Databases and drivers limit the number of bind parameters
+ * in a statement (for example 65535 for PostgreSQL and 2100 for SQL Server), and some also limit the length of the
+ * statement. When a multiple row insert is rendered with limits, the records are split into several statements that
+ * each stay within the limits.
+ *
+ * <p>The statement length is measured in characters of the SQL text - parameter values are not included.
+ *
+ * <p>Instances are immutable.
+ */
+public class MultiRowInsertLimits {
+    private static final int UNLIMITED = Integer.MAX_VALUE;
+
+    private final int maxParameters;
+    private final int maxStatementLength;
+
+    private MultiRowInsertLimits(int maxParameters, int maxStatementLength) {
+        if (maxParameters < 1) {
+            throw new IllegalArgumentException("The maximum number of parameters must be at least 1"); //$NON-NLS-1$
+        }
+        if (maxStatementLength < 1) {
+            throw new IllegalArgumentException("The maximum statement length must be at least 1"); //$NON-NLS-1$
+        }
+        this.maxParameters = maxParameters;
+        this.maxStatementLength = maxStatementLength;
+    }
+
+    public int maxParameters() {
+        return maxParameters;
+    }
+
+    public int maxStatementLength() {
+        return maxStatementLength;
+    }
+
+    /**
+     * Returns a copy of these limits with a maximum statement length.
+     *
+     * @param maxStatementLength the maximum number of characters in a statement
+     * @return new limits
+     */
+    public MultiRowInsertLimits withMaxStatementLength(int maxStatementLength) {
+        return new MultiRowInsertLimits(maxParameters, maxStatementLength);
+    }
+
+    /**
+     * Returns a copy of these limits with a maximum number of bind parameters.
+     *
+     * @param maxParameters the maximum number of bind parameters in a statement
+     * @return new limits
+     */
+    public MultiRowInsertLimits withMaxParameters(int maxParameters) {
+        return new MultiRowInsertLimits(maxParameters, maxStatementLength);
+    }
+
+    public static MultiRowInsertLimits maxParameters(int maxParameters) {
+        return new MultiRowInsertLimits(maxParameters, UNLIMITED);
+    }
+
+    public static MultiRowInsertLimits maxStatementLength(int maxStatementLength) {
+        return new MultiRowInsertLimits(UNLIMITED, maxStatementLength);
+    }
+}
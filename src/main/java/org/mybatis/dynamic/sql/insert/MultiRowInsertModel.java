@@ -16,10 +16,12 @@
 package org.mybatis.dynamic.sql.insert;
 
 import java.util.Collection;
+import java.util.List;
 
 import org.jetbrains.annotations.NotNull;
 import org.mybatis.dynamic.sql.insert.render.MultiRowInsertRenderer;
 import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
+import org.mybatis.dynamic.sql.render.RenderCache;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 
 public class MultiRowInsertModel<T> extends AbstractMultiRowInsertModel<T> {
@@ -36,6 +38,34 @@ public class MultiRowInsertModel<T> extends AbstractMultiRowInsertModel<T> {
                 .render();
     }
 
+    /**
+     * Renders the insert as one or more statements that each stay within the limits. This is useful when the
+     * number of records could exceed the limit of bind parameters for the database or driver.
+     *
+     * @param renderingStrategy the rendering strategy
+     * @param limits the limits for each statement
+     * @return the statements, in the same order as the records
+     */
+    @NotNull
+    public List<MultiRowInsertStatementProvider<T>> render(RenderingStrategy renderingStrategy,
+            MultiRowInsertLimits limits) {
+        return MultiRowInsertRenderer.withMultiRowInsertModel(this)
+                .withRenderingStrategy(renderingStrategy)
+                .build()
+                .render(limits);
+    }
+
+    @NotNull
+    public MultiRowInsertStatementProvider<T> render(RenderingStrategy renderingStrategy, RenderCache renderCache) {
+        return renderCache.render(this, renderingStrategy);
+    }
+
+    @NotNull
+    public List<MultiRowInsertStatementProvider<T>> render(RenderingStrategy renderingStrategy,
+            MultiRowInsertLimits limits, RenderCache renderCache) {
+        return renderCache.render(this, renderingStrategy, limits);
+    }
+
     public static <T> Builder<T> withRecords(Collection<T> records) {
         return new Builder<T>().withRecords(records);
     }
@@ -0,0 +1,117 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.jetbrains.annotations.NotNull;
+import org.mybatis.dynamic.sql.insert.render.DefaultMultiRowInsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.MultiRowInsertRenderer;
+import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.UpsertRenderer;
+import org.mybatis.dynamic.sql.render.RenderTimer;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.render.StatementType;
+import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
+
+/**
+ * Model for an upsert of multiple rows in a single statement. The rendered statement is a multiple row insert
+ * statement provider, so it is executed with the same mapper methods and templates as a multiple row insert.
+ *
+ * @param <T> the type of record
+ */
+public class MultiRowUpsertModel<T> {
+    private final MultiRowInsertModel<T> insertModel;
+    private final OnConflictModel onConflictModel;
+
+    private MultiRowUpsertModel(Builder<T> builder) {
+        insertModel = Objects.requireNonNull(builder.insertModel);
+        onConflictModel = Objects.requireNonNull(builder.onConflictModel);
+    }
+
+    public MultiRowInsertModel<T> insertModel() {
+        return insertModel;
+    }
+
+    public OnConflictModel onConflictModel() {
+        return onConflictModel;
+    }
+
+    @NotNull
+    public MultiRowInsertStatementProvider<T> render(RenderingStrategy renderingStrategy, UpsertDialect dialect) {
+        RenderTimer renderTimer = RenderTimer.start(renderingStrategy, StatementType.MULTI_ROW_INSERT);
+        UpsertRenderer upsertRenderer = UpsertRenderer.withTable(insertModel.table())
+                .withColumnMappings(insertModel.mapColumnMappings(Function.identity()).collect(Collectors.toList()))
+                .withOnConflictModel(onConflictModel)
+                .withDialect(dialect)
+                .withInsertRenderer(columnMappings -> renderInsert(columnMappings, renderingStrategy))
+                .withValuesRenderer(columnMappings -> insertRenderer(columnMappings, renderingStrategy)
+                        .renderValuesPhrase())
+                .build();
+        String upsertStatement = upsertRenderer.render();
+        renderTimer.rendered(upsertStatement, upsertRenderer.parametersPerRow() * insertModel.recordCount(), 0);
+
+        return new DefaultMultiRowInsertStatementProvider.Builder<T>()
+                .withRecords(insertModel.records())
+                .withInsertStatement(upsertStatement)
+                .build();
+    }
+
+    private String renderInsert(List<AbstractColumnMapping> columnMappings, RenderingStrategy renderingStrategy) {
+        return insertRenderer(columnMappings, renderingStrategy)
+                .render()
+                .getInsertStatement();
+    }
+
+    private MultiRowInsertRenderer<T> insertRenderer(List<AbstractColumnMapping> columnMappings,
+            RenderingStrategy renderingStrategy) {
+        MultiRowInsertModel<T> model = MultiRowInsertModel.withRecords(insertModel.records())
+                .withTable(insertModel.table())
+                .withColumnMappings(columnMappings)
+                .build();
+        // the insert is part of the upsert, so it is not reported as a statement of its own
+        return MultiRowInsertRenderer.withMultiRowInsertModel(model)
+                .withRenderingStrategy(renderingStrategy)
+                .withRenderTimer(RenderTimer.none())
+                .build();
+    }
+
+    public static <T> Builder<T> withInsertModel(MultiRowInsertModel<T> insertModel) {
+        return new Builder<T>().withInsertModel(insertModel);
+    }
+
+    public static class Builder<T> {
+        private MultiRowInsertModel<T> insertModel;
+        private OnConflictModel onConflictModel;
+
+        public Builder<T> withInsertModel(MultiRowInsertModel<T> insertModel) {
+            this.insertModel = insertModel;
+            return this;
+        }
+
+        public Builder<T> withOnConflictModel(OnConflictModel onConflictModel) {
+            this.onConflictModel = onConflictModel;
+            return this;
+        }
+
+        public MultiRowUpsertModel<T> build() {
+            return new MultiRowUpsertModel<>(this);
+        }
+    }
+}
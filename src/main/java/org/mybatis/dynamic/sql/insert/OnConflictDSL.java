@@ -0,0 +1,120 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.jetbrains.annotations.NotNull;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
+import org.mybatis.dynamic.sql.util.Buildable;
+import org.mybatis.dynamic.sql.util.ConstantMapping;
+import org.mybatis.dynamic.sql.util.InsertedValueMapping;
+import org.mybatis.dynamic.sql.util.NullMapping;
+import org.mybatis.dynamic.sql.util.StringConstantMapping;
+
+/**
+ * DSL for the conflict clause of an upsert. It is reached by calling {@code onConflict} after the column mappings of
+ * an insert, batch insert, or multiple row insert.
+ *
+ * <p>By default, an existing row is updated with the inserted value of every mapped column except the conflict target
+ * columns. Use {@code set} to choose the updated columns, or {@code doNothing} to leave existing rows unchanged.
+ *
+ * @param <R> the type of model built by this DSL
+ */
+public class OnConflictDSL<R> implements Buildable<R> {
+    private final Function<OnConflictModel, R> adapterFunction;
+    private final List<SqlColumn<?>> targetColumns;
+    private final List<AbstractColumnMapping> updateMappings = new ArrayList<>();
+
+    private OnConflictDSL(Function<OnConflictModel, R> adapterFunction, List<SqlColumn<?>> targetColumns) {
+        this.adapterFunction = Objects.requireNonNull(adapterFunction);
+        this.targetColumns = Objects.requireNonNull(targetColumns);
+    }
+
+    public <F> SetClauseFinisher<F> set(SqlColumn<F> column) {
+        return new SetClauseFinisher<>(column);
+    }
+
+    /**
+     * Leaves an existing row unchanged.
+     *
+     * @return the finished DSL
+     */
+    public Buildable<R> doNothing() {
+        return () -> build(true);
+    }
+
+    @NotNull
+    @Override
+    public R build() {
+        return build(false);
+    }
+
+    private R build(boolean doNothing) {
+        OnConflictModel onConflictModel = OnConflictModel.withTargetColumns(targetColumns)
+                .withUpdateMappings(updateMappings)
+                .withDoNothing(doNothing)
+                .build();
+        return adapterFunction.apply(onConflictModel);
+    }
+
+    static <R> OnConflictDSL<R> onConflict(Function<OnConflictModel, R> adapterFunction,
+            SqlColumn<?> targetColumn, SqlColumn<?>... moreTargetColumns) {
+        List<SqlColumn<?>> targetColumns = new ArrayList<>();
+        targetColumns.add(targetColumn);
+        targetColumns.addAll(Arrays.asList(moreTargetColumns));
+        return new OnConflictDSL<>(adapterFunction, targetColumns);
+    }
+
+    public class SetClauseFinisher<F> {
+        private final SqlColumn<F> column;
+
+        public SetClauseFinisher(SqlColumn<F> column) {
+            this.column = column;
+        }
+
+        /**
+         * Updates the column with the value that would have been inserted into it. The column must be mapped in the
+         * insert.
+         *
+         * @return the DSL
+         */
+        public OnConflictDSL<R> toInsertedValue() {
+            updateMappings.add(InsertedValueMapping.of(column));
+            return OnConflictDSL.this;
+        }
+
+        public OnConflictDSL<R> toNull() {
+            updateMappings.add(NullMapping.of(column));
+            return OnConflictDSL.this;
+        }
+
+        public OnConflictDSL<R> toConstant(String constant) {
+            updateMappings.add(ConstantMapping.of(column, constant));
+            return OnConflictDSL.this;
+        }
+
+        public OnConflictDSL<R> toStringConstant(String constant) {
+            updateMappings.add(StringConstantMapping.of(column, constant));
+            return OnConflictDSL.this;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
+
+/**
+ * The conflict clause of an upsert: the columns that identify an existing row, and what to do when the row exists.
+ * When there are no update mappings and "do nothing" is not set, the existing row is updated with the inserted value
+ * of every mapped column except the target columns.
+ */
+public class OnConflictModel {
+    private final List<SqlColumn<?>> targetColumns;
+    private final List<AbstractColumnMapping> updateMappings;
+    private final boolean doNothing;
+
+    private OnConflictModel(Builder builder) {
+        targetColumns = Collections.unmodifiableList(builder.targetColumns);
+        updateMappings = Collections.unmodifiableList(builder.updateMappings);
+        doNothing = builder.doNothing;
+        if (targetColumns.isEmpty()) {
+            throw new IllegalArgumentException("An upsert requires at least one conflict target column"); //$NON-NLS-1$
+        }
+        if (doNothing && !updateMappings.isEmpty()) {
+            throw new IllegalArgumentException(
+                    "An upsert cannot both update columns and do nothing on conflict"); //$NON-NLS-1$
+        }
+    }
+
+    public List<SqlColumn<?>> targetColumns() {
+        return targetColumns;
+    }
+
+    public List<AbstractColumnMapping> updateMappings() {
+        return updateMappings;
+    }
+
+    public boolean isDoNothing() {
+        return doNothing;
+    }
+
+    public static Builder withTargetColumns(Collection<SqlColumn<?>> targetColumns) {
+        return new Builder().withTargetColumns(targetColumns);
+    }
+
+    public static class Builder {
+        private final List<SqlColumn<?>> targetColumns = new ArrayList<>();
+        private final List<AbstractColumnMapping> updateMappings = new ArrayList<>();
+        private boolean doNothing;
+
+        public Builder withTargetColumns(Collection<SqlColumn<?>> targetColumns) {
+            this.targetColumns.addAll(targetColumns);
+            return this;
+        }
+
+        public Builder withUpdateMappings(List<AbstractColumnMapping> updateMappings) {
+            this.updateMappings.addAll(updateMappings);
+            return this;
+        }
+
+        public Builder withDoNothing(boolean doNothing) {
+            this.doNothing = doNothing;
+            return this;
+        }
+
+        public OnConflictModel build() {
+            return new OnConflictModel(this);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+/**
+ * The SQL syntax used to render an upsert - an insert that updates (or ignores) a row that already exists.
+ */
+public enum UpsertDialect {
+    /**
+     * Renders {@code insert ... on conflict (target columns) do update set column = excluded.column}, or
+     * {@code do nothing}. This is the syntax of PostgreSQL and SQLite.
+     */
+    ON_CONFLICT,
+
+    /**
+     * Renders {@code insert ... on duplicate key update column = values(column)}. This is the syntax of MySQL and
+     * MariaDB. The conflict target columns are not rendered - the database checks every unique key. "Do nothing" is
+     * rendered as an update of the first target column to itself.
+     */
+    ON_DUPLICATE_KEY_UPDATE,
+
+    /**
+     * Renders a standard SQL {@code merge into ... using (values ...)} statement, matched on the conflict target
+     * columns. This is the syntax of HSQLDB, H2, DB2 and PostgreSQL 15 and later.
+     */
+    MERGE
+}
@@ -0,0 +1,116 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.jetbrains.annotations.NotNull;
+import org.mybatis.dynamic.sql.insert.render.DefaultInsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.InsertRenderer;
+import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.UpsertRenderer;
+import org.mybatis.dynamic.sql.render.RenderTimer;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.render.StatementType;
+import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
+
+/**
+ * Model for an upsert of a single row. The rendered statement is an insert statement provider, so it is executed with
+ * the same mapper methods and templates as an insert.
+ *
+ * @param <T> the type of row
+ */
+public class UpsertModel<T> {
+    private final InsertModel<T> insertModel;
+    private final OnConflictModel onConflictModel;
+
+    private UpsertModel(Builder<T> builder) {
+        insertModel = Objects.requireNonNull(builder.insertModel);
+        onConflictModel = Objects.requireNonNull(builder.onConflictModel);
+    }
+
+    public InsertModel<T> insertModel() {
+        return insertModel;
+    }
+
+    public OnConflictModel onConflictModel() {
+        return onConflictModel;
+    }
+
+    @NotNull
+    public InsertStatementProvider<T> render(RenderingStrategy renderingStrategy, UpsertDialect dialect) {
+        RenderTimer renderTimer = RenderTimer.start(renderingStrategy, StatementType.INSERT);
+        UpsertRenderer upsertRenderer = UpsertRenderer.withTable(insertModel.table())
+                .withColumnMappings(insertModel.mapColumnMappings(Function.identity()).collect(Collectors.toList()))
+                .withOnConflictModel(onConflictModel)
+                .withDialect(dialect)
+                .withInsertRenderer(columnMappings -> renderInsert(columnMappings, renderingStrategy))
+                .withValuesRenderer(columnMappings -> insertRenderer(columnMappings, renderingStrategy)
+                        .renderValuesPhrase())
+                .build();
+        String upsertStatement = upsertRenderer.render();
+        renderTimer.rendered(upsertStatement, upsertRenderer.parametersPerRow(), 0);
+
+        return DefaultInsertStatementProvider.withRow(insertModel.row())
+                .withInsertStatement(upsertStatement)
+                .build();
+    }
+
+    private String renderInsert(List<AbstractColumnMapping> columnMappings, RenderingStrategy renderingStrategy) {
+        return insertRenderer(columnMappings, renderingStrategy)
+                .render()
+                .getInsertStatement();
+    }
+
+    private InsertRenderer<T> insertRenderer(List<AbstractColumnMapping> columnMappings,
+            RenderingStrategy renderingStrategy) {
+        InsertModel<T> model = InsertModel.withRow(insertModel.row())
+                .withTable(insertModel.table())
+                .withColumnMappings(columnMappings)
+                .build();
+        // the insert is part of the upsert, so it is not reported as a statement of its own
+        return InsertRenderer.withInsertModel(model)
+                .withRenderingStrategy(renderingStrategy)
+                .withRenderTimer(RenderTimer.none())
+                .build();
+    }
+
+    public static <T> Builder<T> withInsertModel(InsertModel<T> insertModel) {
+        return new Builder<T>().withInsertModel(insertModel);
+    }
+
+    public static class Builder<T> {
+        private InsertModel<T> insertModel;
+        private OnConflictModel onConflictModel;
+
+        public Builder<T> withInsertModel(InsertModel<T> insertModel) {
+            this.insertModel = insertModel;
+            return this;
+        }
+
+        public Builder<T> withOnConflictModel(OnConflictModel onConflictModel) {
+            this.onConflictModel = onConflictModel;
+            return this;
+        }
+
+        public UpsertModel<T> build() {
+            return new UpsertModel<>(this);
+        }
+    }
+}
@@ -15,19 +15,21 @@
  */
 package org.mybatis.dynamic.sql.insert.render;
 
-import java.util.ArrayList;
+import java.util.AbstractList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
+import org.mybatis.dynamic.sql.render.StatementFingerprint;
+
 public class BatchInsert<T> {
     private final String insertStatement;
     private final List<T> records;
 
     private BatchInsert(Builder<T> builder) {
         insertStatement = Objects.requireNonNull(builder.insertStatement);
-        records = Collections.unmodifiableList(Objects.requireNonNull(builder.records));
+        records = Objects.requireNonNull(builder.records);
     }
 
     /**
@@ -41,6 +43,27 @@ public class BatchInsert<T> {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Returns a read only view of the insert statements. An insert statement is created each time an element is
+     * retrieved, so the statements for a large batch are not all held in memory at once. Use
+     * {@link #insertStatements()} if the statements are read more than once.
+     *
+     * @return a read only view of the InsertStatements
+     */
+    public List<InsertStatementProvider<T>> insertStatementsView() {
+        return new AbstractList<InsertStatementProvider<T>>() {
+            @Override
+            public InsertStatementProvider<T> get(int index) {
+                return toInsertStatement(records.get(index));
+            }
+
+            @Override
+            public int size() {
+                return records.size();
+            }
+        };
+    }
+
     private InsertStatementProvider<T> toInsertStatement(T row) {
         return DefaultInsertStatementProvider.withRow(row)
                 .withInsertStatement(insertStatement)
@@ -56,6 +79,21 @@ public class BatchInsert<T> {
         return insertStatement;
     }
 
+    /**
+     * Returns the fingerprint of the insert statement's shape.
+     *
+     * @return the shape fingerprint
+     * @see StatementFingerprint#shapeOf(String)
+     */
+    public long getShapeFingerprint() {
+        return StatementFingerprint.shapeOf(getInsertStatementSQL());
+    }
+
+    /**
+     * Returns the records in the batch.
+     *
+     * @return a read only view of the records
+     */
     public List<T> getRecords() {
         return Collections.unmodifiableList(records);
     }
@@ -66,15 +104,22 @@ public class BatchInsert<T> {
 
     public static class Builder<T> {
         private String insertStatement;
-        private final List<T> records = new ArrayList<>();
+        private List<T> records;
 
         public Builder<T> withInsertStatement(String insertStatement) {
             this.insertStatement = insertStatement;
             return this;
         }
 
+        /**
+         * Sets the records for the batch. The list is not copied - it should not be changed after the batch is built.
+         * The batch only exposes it through a read only view.
+         *
+         * @param records the records to insert
+         * @return this builder
+         */
         public Builder<T> withRecords(List<T> records) {
-            this.records.addAll(records);
+            this.records = records;
             return this;
         }
 
@@ -22,27 +22,59 @@ import java.util.Objects;
 import java.util.stream.Collectors;
 
 import org.mybatis.dynamic.sql.insert.BatchInsertModel;
+import org.mybatis.dynamic.sql.render.RenderTimer;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.render.StatementType;
 
 public class BatchInsertRenderer<T> {
 
     private final BatchInsertModel<T> model;
     private final RenderingStrategy renderingStrategy;
+    private final RenderTimer renderTimer;
 
     private BatchInsertRenderer(Builder<T> builder) {
         model = Objects.requireNonNull(builder.model);
         renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
+        renderTimer = builder.renderTimer;
     }
 
     public BatchInsert<T> render() {
-        BatchValuePhraseVisitor visitor = new BatchValuePhraseVisitor(renderingStrategy, "record"); //$NON-NLS-1$)
-        List<FieldAndValue> fieldsAndValues = model
-                .mapColumnMappings(m -> m.accept(visitor))
-                .collect(Collectors.toList());
+        RenderTimer timer = startTimer();
+        List<FieldAndValue> fieldsAndValues = calculateFieldsAndValues();
 
-        return BatchInsert.withRecords(model.records())
+        BatchInsert<T> batchInsert = BatchInsert.withRecords(model.records())
                 .withInsertStatement(calculateInsertStatement(fieldsAndValues))
                 .build();
+        if (timer.isListening()) {
+            timer.rendered(batchInsert.getInsertStatementSQL(), parametersPerRow(), 0);
+        }
+        return batchInsert;
+    }
+
+    /**
+     * Renders only the values phrase of the insert - "values (...)" - for statements that use the values of the
+     * insert, like the source of a merge statement. The placeholders are the same as the placeholders of the insert.
+     *
+     * @return the values phrase
+     */
+    public String renderValuesPhrase() {
+        return calculateValuesPhrase(calculateFieldsAndValues());
+    }
+
+    private List<FieldAndValue> calculateFieldsAndValues() {
+        BatchValuePhraseVisitor visitor = new BatchValuePhraseVisitor(renderingStrategy, "record"); //$NON-NLS-1$)
+        return model.mapColumnMappings(m -> m.accept(visitor))
+                .collect(Collectors.toList());
+    }
+
+    private RenderTimer startTimer() {
+        return renderTimer == null ? RenderTimer.start(renderingStrategy, StatementType.BATCH_INSERT) : renderTimer;
+    }
+
+    private int parametersPerRow() {
+        return model.mapColumnMappings(m -> m.accept(ParameterCountVisitor.INSTANCE))
+                .mapToInt(Integer::intValue)
+                .sum();
     }
 
     private String calculateInsertStatement(List<FieldAndValue> fieldsAndValues) {
@@ -71,6 +103,7 @@ public class BatchInsertRenderer<T> {
     public static class Builder<T> {
         private BatchInsertModel<T> model;
         private RenderingStrategy renderingStrategy;
+        private RenderTimer renderTimer;
 
         public Builder<T> withBatchInsertModel(BatchInsertModel<T> model) {
             this.model = model;
@@ -82,6 +115,18 @@ public class BatchInsertRenderer<T> {
             return this;
         }
 
+        /**
+         * Sets the timer that reports the rendered statement. By default a timer is started for the rendering
+         * strategy when the statement is rendered.
+         *
+         * @param renderTimer the timer
+         * @return this builder
+         */
+        public Builder<T> withRenderTimer(RenderTimer renderTimer) {
+            this.renderTimer = renderTimer;
+            return this;
+        }
+
         public BatchInsertRenderer<T> build() {
             return new BatchInsertRenderer<>(this);
         }
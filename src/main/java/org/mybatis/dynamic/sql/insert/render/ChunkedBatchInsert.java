@@ -0,0 +1,157 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert.render;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import org.mybatis.dynamic.sql.render.StatementFingerprint;
+
+/**
+ * A rendered batch insert whose records are read from an iterator in chunks. The insert statement is rendered once
+ * for all the records. Each chunk is meant to be executed as one JDBC batch - records are read from the iterator
+ * only when the next chunk is requested, so at most one chunk of records is held in memory at a time.
+ *
+ * <p>The records can be read only once, so {@link #chunks()} can be called only once.
+ *
+ * @param <T> the type of record to insert
+ */
+public class ChunkedBatchInsert<T> {
+    private final String insertStatement;
+    private final int chunkSize;
+    private Iterator<T> records;
+
+    private ChunkedBatchInsert(Builder<T> builder) {
+        insertStatement = Objects.requireNonNull(builder.insertStatement);
+        records = Objects.requireNonNull(builder.records);
+        chunkSize = builder.chunkSize;
+    }
+
+    /**
+     * Returns the generated SQL for this batch.  This is useful for Spring JDBC batch support.
+     *
+     * @return the generated INSERT statement
+     */
+    public String getInsertStatementSQL() {
+        return insertStatement;
+    }
+
+    /**
+     * Returns the fingerprint of the insert statement's shape.
+     *
+     * @return the shape fingerprint
+     * @see StatementFingerprint#shapeOf(String)
+     */
+    public long getShapeFingerprint() {
+        return StatementFingerprint.shapeOf(getInsertStatementSQL());
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Returns an iterator over the chunks of records. Each chunk is a new list of at most {@link #getChunkSize()}
+     * records, and only the last chunk may be smaller.
+     *
+     * <p>The iterator is single pass - each chunk is read from the record iterator when {@code next()} is called,
+     * and a chunk is not kept after it is returned. This method can be called only once, so the batch cannot be
+     * executed twice.
+     *
+     * @return an iterator over the chunks of records
+     * @throws IllegalStateException if the chunks have already been requested
+     */
+    public Iterator<List<T>> chunks() {
+        if (records == null) {
+            throw new IllegalStateException(
+                    "The records in a chunked batch insert can only be read once"); //$NON-NLS-1$
+        }
+        Iterator<T> iterator = records;
+        records = null;
+        return new ChunkIterator<>(iterator, chunkSize);
+    }
+
+    /**
+     * Returns an insert statement for a single record. This is useful for MyBatis batch support.
+     *
+     * @param row the record to insert
+     * @return an insert statement for the record
+     */
+    public InsertStatementProvider<T> insertStatement(T row) {
+        return DefaultInsertStatementProvider.withRow(row)
+                .withInsertStatement(insertStatement)
+                .build();
+    }
+
+    public static <T> Builder<T> withRecords(Iterator<T> records) {
+        return new Builder<T>().withRecords(records);
+    }
+
+    private static class ChunkIterator<T> implements Iterator<List<T>> {
+        private final Iterator<T> records;
+        private final int chunkSize;
+
+        private ChunkIterator(Iterator<T> records, int chunkSize) {
+            this.records = records;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return records.hasNext();
+        }
+
+        @Override
+        public List<T> next() {
+            if (!records.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            List<T> chunk = new ArrayList<>(chunkSize);
+            while (chunk.size() < chunkSize && records.hasNext()) {
+                chunk.add(records.next());
+            }
+            return chunk;
+        }
+    }
+
+    public static class Builder<T> {
+        private String insertStatement;
+        private Iterator<T> records;
+        private int chunkSize;
+
+        public Builder<T> withInsertStatement(String insertStatement) {
+            this.insertStatement = insertStatement;
+            return this;
+        }
+
+        public Builder<T> withRecords(Iterator<T> records) {
+            this.records = records;
+            return this;
+        }
+
+        public Builder<T> withChunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
+        public ChunkedBatchInsert<T> build() {
+            return new ChunkedBatchInsert<>(this);
+        }
+    }
+}
@@ -15,7 +15,6 @@
  */
 package org.mybatis.dynamic.sql.insert.render;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -27,7 +26,7 @@ public class DefaultMultiRowInsertStatementProvider<T> implements MultiRowInsert
 
     private DefaultMultiRowInsertStatementProvider(Builder<T> builder) {
         insertStatement = Objects.requireNonNull(builder.insertStatement);
-        records = Collections.unmodifiableList(builder.records);
+        records = Collections.unmodifiableList(Objects.requireNonNull(builder.records));
     }
 
     @Override
@@ -41,11 +40,18 @@ public class DefaultMultiRowInsertStatementProvider<T> implements MultiRowInsert
     }
 
     public static class Builder<T> {
-        private final List<T> records = new ArrayList<>();
+        private List<T> records;
         private String insertStatement;
 
+        /**
+         * Sets the records for the statement. The list is not copied - it should not be changed after the statement
+         * is built.
+         *
+         * @param records the records to insert
+         * @return this builder
+         */
         public Builder<T> withRecords(List<T> records) {
-            this.records.addAll(records);
+            this.records = records;
             return this;
         }
 
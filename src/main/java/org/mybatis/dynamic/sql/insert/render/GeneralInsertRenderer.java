@@ -25,7 +25,10 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.mybatis.dynamic.sql.insert.GeneralInsertModel;
+import org.mybatis.dynamic.sql.render.RenderTimer;
+import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.render.StatementType;
 
 public class GeneralInsertRenderer {
 
@@ -38,18 +41,25 @@ public class GeneralInsertRenderer {
     }
 
     public GeneralInsertStatementProvider render() {
-        GeneralInsertValuePhraseVisitor visitor = new GeneralInsertValuePhraseVisitor(renderingStrategy);
+        RenderTimer timer = RenderTimer.start(renderingStrategy, StatementType.GENERAL_INSERT);
+        RenderingContext renderingContext = RenderingContext.withRenderingStrategy(renderingStrategy).build();
+        GeneralInsertValuePhraseVisitor visitor = new GeneralInsertValuePhraseVisitor(renderingContext);
         List<Optional<FieldAndValueAndParameters>> fieldsAndValues = model.mapColumnMappings(m -> m.accept(visitor))
                 .collect(Collectors.toList());
 
-        return DefaultGeneralInsertStatementProvider.withInsertStatement(calculateInsertStatement(fieldsAndValues))
+        GeneralInsertStatementProvider insertStatement = DefaultGeneralInsertStatementProvider.withInsertStatement(
+                calculateInsertStatement(renderingContext, fieldsAndValues))
                 .withParameters(calculateParameters(fieldsAndValues))
                 .build();
+        timer.rendered(insertStatement.getInsertStatement(), insertStatement.getParameters().size(),
+                renderingContext.skippedConditions());
+        return insertStatement;
     }
 
-    private String calculateInsertStatement(List<Optional<FieldAndValueAndParameters>> fieldsAndValues) {
+    private String calculateInsertStatement(RenderingContext renderingContext,
+            List<Optional<FieldAndValueAndParameters>> fieldsAndValues) {
         return "insert into" //$NON-NLS-1$
-                + spaceBefore(model.table().tableNameAtRuntime())
+                + spaceBefore(renderingContext.tableName(model.table()))
                 + spaceBefore(calculateColumnsPhrase(fieldsAndValues))
                 + spaceBefore(calculateValuesPhrase(fieldsAndValues));
     }
@@ -17,8 +17,20 @@ package org.mybatis.dynamic.sql.insert.render;
 
 import java.util.Map;
 
+import org.mybatis.dynamic.sql.render.StatementFingerprint;
+
 public interface GeneralInsertStatementProvider {
     Map<String, Object> getParameters();
 
     String getInsertStatement();
+
+    /**
+     * Returns the fingerprint of the insert statement's shape.
+     *
+     * @return the shape fingerprint
+     * @see StatementFingerprint#shapeOf(String)
+     */
+    default long getShapeFingerprint() {
+        return StatementFingerprint.shapeOf(getInsertStatement());
+    }
 }
@@ -23,27 +23,57 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.mybatis.dynamic.sql.insert.InsertModel;
+import org.mybatis.dynamic.sql.render.RenderTimer;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.render.StatementType;
 
 public class InsertRenderer<T> {
 
     private final InsertModel<T> model;
     private final RenderingStrategy renderingStrategy;
+    private final RenderTimer renderTimer;
 
     private InsertRenderer(Builder<T> builder) {
         model = Objects.requireNonNull(builder.model);
         renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
+        renderTimer = builder.renderTimer;
     }
 
     public InsertStatementProvider<T> render() {
+        RenderTimer timer = startTimer();
         ValuePhraseVisitor visitor = new ValuePhraseVisitor(renderingStrategy);
 
         List<Optional<FieldAndValue>> fieldsAndValues = model.mapColumnMappings(m -> m.accept(visitor))
                 .collect(Collectors.toList());
 
-        return DefaultInsertStatementProvider.withRow(model.row())
+        InsertStatementProvider<T> insertStatement = DefaultInsertStatementProvider.withRow(model.row())
                 .withInsertStatement(calculateInsertStatement(fieldsAndValues))
                 .build();
+        if (timer.isListening()) {
+            timer.rendered(insertStatement.getInsertStatement(), parametersPerRow(), 0);
+        }
+        return insertStatement;
+    }
+
+    /**
+     * Renders only the values phrase of the insert - "values (...)" - for statements that use the values of the
+     * insert, like the source of a merge statement. The placeholders are the same as the placeholders of the insert.
+     *
+     * @return the values phrase
+     */
+    public String renderValuesPhrase() {
+        ValuePhraseVisitor visitor = new ValuePhraseVisitor(renderingStrategy);
+        return calculateValuesPhrase(model.mapColumnMappings(m -> m.accept(visitor)).collect(Collectors.toList()));
+    }
+
+    private RenderTimer startTimer() {
+        return renderTimer == null ? RenderTimer.start(renderingStrategy, StatementType.INSERT) : renderTimer;
+    }
+
+    private int parametersPerRow() {
+        return model.mapColumnMappings(m -> m.accept(ParameterCountVisitor.INSTANCE))
+                .mapToInt(Integer::intValue)
+                .sum();
     }
 
     private String calculateInsertStatement(List<Optional<FieldAndValue>> fieldsAndValues) {
@@ -76,6 +106,7 @@ public class InsertRenderer<T> {
     public static class Builder<T> {
         private InsertModel<T> model;
         private RenderingStrategy renderingStrategy;
+        private RenderTimer renderTimer;
 
         public Builder<T> withInsertModel(InsertModel<T> model) {
             this.model = model;
@@ -87,6 +118,18 @@ public class InsertRenderer<T> {
             return this;
         }
 
+        /**
+         * Sets the timer that reports the rendered statement. By default a timer is started for the rendering
+         * strategy when the statement is rendered.
+         *
+         * @param renderTimer the timer
+         * @return this builder
+         */
+        public Builder<T> withRenderTimer(RenderTimer renderTimer) {
+            this.renderTimer = renderTimer;
+            return this;
+        }
+
         public InsertRenderer<T> build() {
             return new InsertRenderer<>(this);
         }
@@ -15,8 +15,6 @@
  */
 package org.mybatis.dynamic.sql.insert.render;
 
-import static org.mybatis.dynamic.sql.util.StringUtilities.spaceBefore;
-
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -24,8 +22,12 @@ import java.util.stream.Collectors;
 import org.mybatis.dynamic.sql.SqlColumn;
 import org.mybatis.dynamic.sql.insert.InsertColumnListModel;
 import org.mybatis.dynamic.sql.insert.InsertSelectModel;
+import org.mybatis.dynamic.sql.render.RenderTimer;
+import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
-import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.render.SqlWriter;
+import org.mybatis.dynamic.sql.render.StatementType;
+import org.mybatis.dynamic.sql.select.render.SelectRenderer;
 
 public class InsertSelectRenderer {
 
@@ -38,18 +40,25 @@ public class InsertSelectRenderer {
     }
 
     public InsertSelectStatementProvider render() {
-        SelectStatementProvider selectStatement = model.selectModel().render(renderingStrategy);
-
-        return DefaultGeneralInsertStatementProvider.withInsertStatement(calculateInsertStatement(selectStatement))
-                .withParameters(selectStatement.getParameters())
+        RenderTimer timer = RenderTimer.start(renderingStrategy, StatementType.INSERT_SELECT);
+        RenderingContext renderingContext = RenderingContext.withRenderingStrategy(renderingStrategy).build();
+        SqlWriter writer = SqlWriter.withInitialCapacity(256);
+        writer.append("insert into ") //$NON-NLS-1$
+                .append(renderingContext.tableName(model.table()));
+        calculateColumnsPhrase().ifPresent(cp -> writer.append(' ').append(cp));
+        writer.append(' ');
+        SelectRenderer.withSelectModel(model.selectModel())
+                .withRenderingContext(renderingContext)
+                .build()
+                .render(writer);
+
+        InsertSelectStatementProvider insertStatement =
+                DefaultGeneralInsertStatementProvider.withInsertStatement(writer.toSql())
+                .withParameters(writer.parameters())
                 .build();
-    }
-
-    private String calculateInsertStatement(SelectStatementProvider selectStatement) {
-        return "insert into" //$NON-NLS-1$
-                + spaceBefore(model.table().tableNameAtRuntime())
-                + spaceBefore(calculateColumnsPhrase())
-                + spaceBefore(selectStatement.getSelectStatement());
+        timer.rendered(insertStatement.getInsertStatement(), insertStatement.getParameters().size(),
+                renderingContext.skippedConditions());
+        return insertStatement;
     }
 
     private Optional<String> calculateColumnsPhrase() {
@@ -15,6 +15,8 @@
  */
 package org.mybatis.dynamic.sql.insert.render;
 
+import org.mybatis.dynamic.sql.render.StatementFingerprint;
+
 public interface InsertStatementProvider<T> {
     /**
      * Return the row associated with this insert statement.
@@ -38,4 +40,14 @@ public interface InsertStatementProvider<T> {
      * @return the formatted insert statement.
      */
     String getInsertStatement();
+
+    /**
+     * Returns the fingerprint of the insert statement's shape.
+     *
+     * @return the shape fingerprint
+     * @see StatementFingerprint#shapeOf(String)
+     */
+    default long getShapeFingerprint() {
+        return StatementFingerprint.shapeOf(getInsertStatement());
+    }
 }
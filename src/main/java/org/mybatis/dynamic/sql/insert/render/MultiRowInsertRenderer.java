@@ -15,62 +15,152 @@
  */
 package org.mybatis.dynamic.sql.insert.render;
 
-import static org.mybatis.dynamic.sql.util.StringUtilities.spaceBefore;
-
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
+import org.mybatis.dynamic.sql.insert.MultiRowInsertLimits;
 import org.mybatis.dynamic.sql.insert.MultiRowInsertModel;
+import org.mybatis.dynamic.sql.render.RenderTimer;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.render.StatementType;
+import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
 
 public class MultiRowInsertRenderer<T> {
+    // the row index is written in place of this marker - placeholders are rendered once with the marker. Only the
+    // placeholders of property mappings are searched, and a NUL cannot appear in a property name
+    private static final char ROW_MARKER = '\u0000';
 
     private final MultiRowInsertModel<T> model;
     private final RenderingStrategy renderingStrategy;
+    private final RenderTimer renderTimer;
+    private final BiFunction<Integer, IntFunction<String>, String> statementLookup;
 
     private MultiRowInsertRenderer(Builder<T> builder) {
         model = Objects.requireNonNull(builder.model);
         renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
+        renderTimer = builder.renderTimer;
+        statementLookup = Objects.requireNonNull(builder.statementLookup);
     }
 
     public MultiRowInsertStatementProvider<T> render() {
-        // the prefix is a generic format that will be resolved below with String.format(...)
-        MultiRowValuePhraseVisitor visitor =
-                new MultiRowValuePhraseVisitor(renderingStrategy, "records[%s]"); //$NON-NLS-1$
-        List<FieldAndValue> fieldsAndValues = model
-                .mapColumnMappings(m -> m.accept(visitor))
-                .collect(Collectors.toList());
-
-        return new DefaultMultiRowInsertStatementProvider.Builder<T>().withRecords(model.records())
-                .withInsertStatement(calculateInsertStatement(fieldsAndValues))
-                .build();
+        RenderTimer timer = startTimer();
+        StatementTemplate template = calculateStatementTemplate();
+        String insertStatement = template.insertStatement(model.recordCount());
+        timer.rendered(insertStatement, template.parameterCount(model.recordCount()), 0);
+        return toStatementProvider(model.records(), insertStatement);
     }
 
-    private String calculateInsertStatement(List<FieldAndValue> fieldsAndValues) {
-        return "insert into" //$NON-NLS-1$
-                + spaceBefore(model.table().tableNameAtRuntime())
-                + spaceBefore(calculateColumnsPhrase(fieldsAndValues))
-                + spaceBefore(calculateMultiRowInsertValuesPhrase(fieldsAndValues, model.recordCount()));
+    /**
+     * Renders the insert as one or more statements that each stay within the limits. Every statement except the
+     * last one has the same number of records, so they share the same SQL.
+     *
+     * @param limits the limits for each statement
+     * @return the statements - in the same order as the records
+     * @throws IllegalArgumentException if a single row does not fit within the limits
+     */
+    public List<MultiRowInsertStatementProvider<T>> render(MultiRowInsertLimits limits) {
+        List<T> records = model.records();
+        if (records.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        RenderTimer timer = startTimer();
+        StatementTemplate template = calculateStatementTemplate();
+        int rowsPerStatement = template.maxRowCount(limits, records.size());
+        Map<Integer, String> statementsByRowCount = new HashMap<>();
+        List<MultiRowInsertStatementProvider<T>> statements = new ArrayList<>();
+        for (int start = 0; start < records.size(); start += rowsPerStatement) {
+            List<T> chunk = records.subList(start, Math.min(records.size(), start + rowsPerStatement));
+            String insertStatement = statementsByRowCount.computeIfAbsent(chunk.size(),
+                    rowCount -> statementLookup.apply(rowCount, template::insertStatement));
+            timer.rendered(insertStatement, template.parameterCount(chunk.size()), 0);
+            statements.add(toStatementProvider(chunk, insertStatement));
+        }
+        return statements;
     }
 
-    private String calculateColumnsPhrase(List<FieldAndValue> fieldsAndValues) {
-        return fieldsAndValues.stream()
-                .map(FieldAndValue::fieldName)
-                .collect(Collectors.joining(", ", "(", ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    /**
+     * Renders only the values phrase of the insert - "values (...), (...)" - for statements that use the rows of the
+     * insert, like the source of a merge statement. The placeholders are the same as the placeholders of the insert.
+     *
+     * @return the values phrase
+     */
+    public String renderValuesPhrase() {
+        return calculateStatementTemplate().valuesPhrase(model.recordCount());
+    }
+
+    private RenderTimer startTimer() {
+        return renderTimer == null ? RenderTimer.start(renderingStrategy, StatementType.MULTI_ROW_INSERT) : renderTimer;
+    }
+
+    private MultiRowInsertStatementProvider<T> toStatementProvider(List<T> records, String insertStatement) {
+        return new DefaultMultiRowInsertStatementProvider.Builder<T>().withRecords(records)
+                .withInsertStatement(insertStatement)
+                .build();
     }
 
-    private String calculateMultiRowInsertValuesPhrase(List<FieldAndValue> fieldsAndValues, int rowCount) {
-        return IntStream.range(0, rowCount)
-                .mapToObj(i -> toSingleRowOfValues(fieldsAndValues, i))
-                .collect(Collectors.joining(", ", "values ", "")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    private StatementTemplate calculateStatementTemplate() {
+        String prefix = "records[" + ROW_MARKER + ']'; //$NON-NLS-1$
+        MultiRowValuePhraseVisitor visitor = new MultiRowValuePhraseVisitor(renderingStrategy, prefix);
+        List<FieldAndValue> fieldsAndValues = new ArrayList<>();
+        List<String> rowFragments = new ArrayList<>();
+        StringBuilder fragment = new StringBuilder("("); //$NON-NLS-1$
+        int parametersPerRow = 0;
+        for (AbstractColumnMapping mapping : model.mapColumnMappings(Function.identity())
+                .collect(Collectors.toList())) {
+            FieldAndValue fieldAndValue = mapping.accept(visitor);
+            int parameterCount = mapping.accept(ParameterCountVisitor.INSTANCE);
+            if (!fieldsAndValues.isEmpty()) {
+                fragment.append(", "); //$NON-NLS-1$
+            }
+            fieldsAndValues.add(fieldAndValue);
+            parametersPerRow += parameterCount;
+            appendValuePhrase(fragment, rowFragments, fieldAndValue.valuePhrase(), parameterCount > 0);
+        }
+        rowFragments.add(fragment.append(')').toString());
+
+        String header = "insert into " //$NON-NLS-1$
+                + model.table().tableNameAtRuntime()
+                + ' '
+                + calculateColumnsPhrase(fieldsAndValues)
+                + ' ';
+
+        return new StatementTemplate(header, rowFragments.toArray(new String[0]), parametersPerRow);
     }
 
-    private String toSingleRowOfValues(List<FieldAndValue> fieldsAndValues, int row) {
+    /**
+     * Appends a value phrase to the current row fragment. Constants are appended as is - only the placeholders of
+     * mappings with parameters are split where the row index is written.
+     */
+    private void appendValuePhrase(StringBuilder fragment, List<String> rowFragments, String valuePhrase,
+            boolean hasParameters) {
+        if (!hasParameters) {
+            fragment.append(valuePhrase);
+            return;
+        }
+
+        int start = 0;
+        int marker;
+        while ((marker = valuePhrase.indexOf(ROW_MARKER, start)) >= 0) {
+            fragment.append(valuePhrase, start, marker);
+            rowFragments.add(fragment.toString());
+            fragment.setLength(0);
+            start = marker + 1;
+        }
+        fragment.append(valuePhrase, start, valuePhrase.length());
+    }
+
+    private String calculateColumnsPhrase(List<FieldAndValue> fieldsAndValues) {
         return fieldsAndValues.stream()
-                .map(FieldAndValue::valuePhrase)
-                .map(s -> String.format(s, row))
+                .map(FieldAndValue::fieldName)
                 .collect(Collectors.joining(", ", "(", ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
     }
 
@@ -78,9 +168,100 @@ public class MultiRowInsertRenderer<T> {
         return new Builder<T>().withMultiRowInsertModel(model);
     }
 
+    /**
+     * The text of a statement split around the row index, so a row of values is written by appending the
+     * fragments and the index - there is no formatting for each row or column.
+     */
+    private static class StatementTemplate {
+        private static final String VALUES = "values "; //$NON-NLS-1$
+        private static final String ROW_SEPARATOR = ", "; //$NON-NLS-1$
+
+        private final String header;
+        private final String[] rowFragments;
+        private final int fixedRowLength;
+        private final int parametersPerRow;
+
+        private StatementTemplate(String header, String[] rowFragments, int parametersPerRow) {
+            this.header = header;
+            this.rowFragments = rowFragments;
+            this.parametersPerRow = parametersPerRow;
+            int length = 0;
+            for (String fragment : rowFragments) {
+                length += fragment.length();
+            }
+            fixedRowLength = length;
+        }
+
+        String insertStatement(int rowCount) {
+            StringBuilder sb = new StringBuilder(header.length() + valuesPhraseLength(rowCount));
+            sb.append(header);
+            appendValuesPhrase(sb, rowCount);
+            return sb.toString();
+        }
+
+        String valuesPhrase(int rowCount) {
+            StringBuilder sb = new StringBuilder(valuesPhraseLength(rowCount));
+            appendValuesPhrase(sb, rowCount);
+            return sb.toString();
+        }
+
+        private int valuesPhraseLength(int rowCount) {
+            return VALUES.length() + rowCount * (rowLength(rowCount - 1) + ROW_SEPARATOR.length());
+        }
+
+        private void appendValuesPhrase(StringBuilder sb, int rowCount) {
+            sb.append(VALUES);
+            for (int row = 0; row < rowCount; row++) {
+                if (row > 0) {
+                    sb.append(ROW_SEPARATOR);
+                }
+                sb.append(rowFragments[0]);
+                for (int i = 1; i < rowFragments.length; i++) {
+                    sb.append(row).append(rowFragments[i]);
+                }
+            }
+        }
+
+        int parameterCount(int rowCount) {
+            return parametersPerRow * rowCount;
+        }
+
+        int maxRowCount(MultiRowInsertLimits limits, int recordCount) {
+            int maxRows = recordCount;
+            if (parametersPerRow > 0) {
+                maxRows = Math.min(maxRows, limits.maxParameters() / parametersPerRow);
+            }
+
+            long length = header.length() + VALUES.length();
+            for (int row = 0; row < maxRows; row++) {
+                length += rowLength(row) + (row > 0 ? ROW_SEPARATOR.length() : 0);
+                if (length > limits.maxStatementLength()) {
+                    maxRows = row;
+                    break;
+                }
+            }
+
+            if (maxRows == 0) {
+                throw new IllegalArgumentException(
+                        "A single row of a multiple row insert does not fit within the limits"); //$NON-NLS-1$
+            }
+            return maxRows;
+        }
+
+        /**
+         * Returns the length of a row of values - the row index is written between each pair of fragments.
+         */
+        private int rowLength(int row) {
+            return fixedRowLength + (rowFragments.length - 1) * String.valueOf(Math.max(0, row)).length();
+        }
+    }
+
     public static class Builder<T> {
         private MultiRowInsertModel<T> model;
         private RenderingStrategy renderingStrategy;
+        private RenderTimer renderTimer;
+        private BiFunction<Integer, IntFunction<String>, String> statementLookup =
+                (rowCount, renderer) -> renderer.apply(rowCount);
 
         public Builder<T> withMultiRowInsertModel(MultiRowInsertModel<T> model) {
             this.model = model;
@@ -92,6 +273,31 @@ public class MultiRowInsertRenderer<T> {
             return this;
         }
 
+        /**
+         * Sets the timer that reports the rendered statement. By default a timer is started for the rendering
+         * strategy when the statement is rendered.
+         *
+         * @param renderTimer the timer
+         * @return this builder
+         */
+        public Builder<T> withRenderTimer(RenderTimer renderTimer) {
+            this.renderTimer = renderTimer;
+            return this;
+        }
+
+        /**
+         * Sets the function that supplies the SQL for a statement with a number of rows when the insert is split
+         * by limits. The function is called with the row count and a function that renders the SQL for a row count,
+         * so it can return SQL cached by an earlier call. By default, the SQL is rendered on every call.
+         *
+         * @param statementLookup the lookup function
+         * @return this builder
+         */
+        public Builder<T> withStatementLookup(BiFunction<Integer, IntFunction<String>, String> statementLookup) {
+            this.statementLookup = statementLookup;
+            return this;
+        }
+
         public MultiRowInsertRenderer<T> build() {
             return new MultiRowInsertRenderer<>(this);
         }
@@ -17,9 +17,21 @@ package org.mybatis.dynamic.sql.insert.render;
 
 import java.util.List;
 
+import org.mybatis.dynamic.sql.render.StatementFingerprint;
+
 public interface MultiRowInsertStatementProvider<T> {
 
     String getInsertStatement();
 
     List<T> getRecords();
+
+    /**
+     * Returns the fingerprint of the insert statement's shape.
+     *
+     * @return the shape fingerprint
+     * @see StatementFingerprint#shapeOf(String)
+     */
+    default long getShapeFingerprint() {
+        return StatementFingerprint.shapeOf(getInsertStatement());
+    }
 }
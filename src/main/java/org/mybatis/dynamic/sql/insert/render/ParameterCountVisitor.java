@@ -0,0 +1,55 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert.render;
+
+import org.mybatis.dynamic.sql.util.ConstantMapping;
+import org.mybatis.dynamic.sql.util.InsertMappingVisitor;
+import org.mybatis.dynamic.sql.util.NullMapping;
+import org.mybatis.dynamic.sql.util.PropertyMapping;
+import org.mybatis.dynamic.sql.util.PropertyWhenPresentMapping;
+import org.mybatis.dynamic.sql.util.StringConstantMapping;
+
+/**
+ * Counts the bind parameters that a column mapping adds to each row of an insert statement.
+ */
+class ParameterCountVisitor extends InsertMappingVisitor<Integer> {
+    static final ParameterCountVisitor INSTANCE = new ParameterCountVisitor();
+
+    @Override
+    public Integer visit(NullMapping mapping) {
+        return 0;
+    }
+
+    @Override
+    public Integer visit(ConstantMapping mapping) {
+        return 0;
+    }
+
+    @Override
+    public Integer visit(StringConstantMapping mapping) {
+        return 0;
+    }
+
+    @Override
+    public Integer visit(PropertyMapping mapping) {
+        return 1;
+    }
+
+    @Override
+    public Integer visit(PropertyWhenPresentMapping mapping) {
+        return mapping.shouldRender() ? 1 : 0;
+    }
+}
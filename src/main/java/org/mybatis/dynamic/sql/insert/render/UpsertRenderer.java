@@ -0,0 +1,324 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert.render;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.insert.OnConflictModel;
+import org.mybatis.dynamic.sql.insert.UpsertDialect;
+import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
+import org.mybatis.dynamic.sql.util.ConstantMapping;
+import org.mybatis.dynamic.sql.util.InsertMappingVisitor;
+import org.mybatis.dynamic.sql.util.InsertedValueMapping;
+import org.mybatis.dynamic.sql.util.NullMapping;
+import org.mybatis.dynamic.sql.util.PropertyMapping;
+import org.mybatis.dynamic.sql.util.PropertyWhenPresentMapping;
+import org.mybatis.dynamic.sql.util.StringConstantMapping;
+
+/**
+ * Renders an upsert. The insert part of the statement is rendered by the insert renderer of the statement form
+ * (single row, batch or multiple row), so the placeholders are the same as the placeholders of the insert - the
+ * statement is executed with the same statement providers and mapper methods as the insert.
+ *
+ * <p>A merge statement uses the values phrase of the insert renderer for the source rows. Only the columns mapped to
+ * properties are part of the source rows - null and constant mappings are written directly in the insert and update
+ * clauses.
+ */
+public class UpsertRenderer {
+    private static final String TARGET_ALIAS = "t"; //$NON-NLS-1$
+    private static final String SOURCE_ALIAS = "s"; //$NON-NLS-1$
+
+    private final SqlTable table;
+    private final Map<String, AbstractColumnMapping> columnMappings = new LinkedHashMap<>();
+    private final OnConflictModel onConflictModel;
+    private final UpsertDialect dialect;
+    private final Function<List<AbstractColumnMapping>, String> insertRenderer;
+    private final Function<List<AbstractColumnMapping>, String> valuesRenderer;
+
+    private UpsertRenderer(Builder builder) {
+        table = Objects.requireNonNull(builder.table);
+        onConflictModel = Objects.requireNonNull(builder.onConflictModel);
+        dialect = Objects.requireNonNull(builder.dialect);
+        insertRenderer = Objects.requireNonNull(builder.insertRenderer);
+        valuesRenderer = Objects.requireNonNull(builder.valuesRenderer);
+        for (AbstractColumnMapping mapping : Objects.requireNonNull(builder.columnMappings)) {
+            if (shouldRender(mapping)) {
+                columnMappings.put(mapping.columnName(), mapping);
+            }
+        }
+    }
+
+    private static boolean shouldRender(AbstractColumnMapping mapping) {
+        return !(mapping instanceof PropertyWhenPresentMapping)
+                || ((PropertyWhenPresentMapping) mapping).shouldRender();
+    }
+
+    public String render() {
+        for (SqlColumn<?> column : onConflictModel.targetColumns()) {
+            findMapping(column.name(), "The conflict target column \"" //$NON-NLS-1$
+                    + column.name() + "\" is not mapped in the insert"); //$NON-NLS-1$
+        }
+        List<AbstractColumnMapping> updateMappings = calculateUpdateMappings();
+
+        switch (dialect) {
+        case MERGE:
+            return renderMerge(updateMappings);
+        case ON_DUPLICATE_KEY_UPDATE:
+            return renderInsert() + " on duplicate key update " //$NON-NLS-1$
+                    + renderOnDuplicateKeyUpdate(updateMappings);
+        default:
+            return renderInsert() + " on conflict " + targetColumnsPhrase() //$NON-NLS-1$
+                    + renderOnConflictAction(updateMappings);
+        }
+    }
+
+    /**
+     * Returns the number of bind parameters for each row of the upsert. Every dialect binds each mapped property
+     * once for each row.
+     *
+     * @return the number of bind parameters for each row
+     */
+    public int parametersPerRow() {
+        return columnMappings.values().stream()
+                .mapToInt(m -> m.accept(ParameterCountVisitor.INSTANCE))
+                .sum();
+    }
+
+    private String renderOnDuplicateKeyUpdate(List<AbstractColumnMapping> updateMappings) {
+        if (updateMappings.isEmpty()) {
+            // there is no "do nothing" - the row is updated without changing it
+            String columnName = onConflictModel.targetColumns().get(0).name();
+            return columnName + " = " + columnName; //$NON-NLS-1$
+        }
+        return setPhrase(updateMappings, c -> "values(" + c + ")"); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    private String renderOnConflictAction(List<AbstractColumnMapping> updateMappings) {
+        if (updateMappings.isEmpty()) {
+            return " do nothing"; //$NON-NLS-1$
+        }
+        return " do update set " + setPhrase(updateMappings, c -> "excluded." + c); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    private List<AbstractColumnMapping> calculateUpdateMappings() {
+        if (onConflictModel.isDoNothing()) {
+            return Collections.emptyList();
+        }
+
+        if (!onConflictModel.updateMappings().isEmpty()) {
+            return onConflictModel.updateMappings();
+        }
+
+        List<String> targetColumnNames = onConflictModel.targetColumns().stream()
+                .map(SqlColumn::name)
+                .collect(Collectors.toList());
+        return columnMappings.values().stream()
+                .filter(m -> !targetColumnNames.contains(m.columnName()))
+                .map(m -> InsertedValueMapping.of(m.mapColumn(Function.identity())))
+                .collect(Collectors.toList());
+    }
+
+    private String renderInsert() {
+        return insertRenderer.apply(columnMappings.values().stream().collect(Collectors.toList()));
+    }
+
+    private String renderMerge(List<AbstractColumnMapping> updateMappings) {
+        List<AbstractColumnMapping> sourceMappings = columnMappings.values().stream()
+                .filter(m -> m instanceof PropertyMapping)
+                .collect(Collectors.toList());
+        if (sourceMappings.isEmpty()) {
+            throw new IllegalArgumentException(
+                    "A merge statement requires at least one column mapped to a property"); //$NON-NLS-1$
+        }
+
+        String sourceColumns = columnsPhrase(sourceMappings);
+        ValueVisitor sourceValueVisitor = new ValueVisitor(c -> SOURCE_ALIAS + "." + c, null); //$NON-NLS-1$
+        UnaryOperator<String> sourceValue = c -> columnMappings.get(c).accept(sourceValueVisitor);
+
+        String statement = "merge into " + table.tableNameAtRuntime() + " " + TARGET_ALIAS //$NON-NLS-1$ //$NON-NLS-2$
+                + " using (" + valuesRenderer.apply(sourceMappings) + ") " //$NON-NLS-1$ //$NON-NLS-2$
+                + SOURCE_ALIAS + " " + sourceColumns //$NON-NLS-1$
+                + " on " + matchCondition(sourceValue); //$NON-NLS-1$
+
+        if (!updateMappings.isEmpty()) {
+            statement += " when matched then update set " + setPhrase(updateMappings, sourceValue); //$NON-NLS-1$
+        }
+
+        return statement + " when not matched then insert " //$NON-NLS-1$
+                + columnsPhrase(columnMappings.values())
+                + columnMappings.keySet().stream()
+                        .map(sourceValue)
+                        .collect(Collectors.joining(", ", " values (", ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    }
+
+    private String matchCondition(UnaryOperator<String> sourceValue) {
+        return onConflictModel.targetColumns().stream()
+                .map(SqlColumn::name)
+                .map(c -> TARGET_ALIAS + "." + c + " = " + sourceValue.apply(c)) //$NON-NLS-1$ //$NON-NLS-2$
+                .collect(Collectors.joining(" and ")); //$NON-NLS-1$
+    }
+
+    private String targetColumnsPhrase() {
+        return onConflictModel.targetColumns().stream()
+                .map(SqlColumn::name)
+                .collect(Collectors.joining(", ", "(", ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    }
+
+    private String setPhrase(List<AbstractColumnMapping> updateMappings, UnaryOperator<String> insertedValue) {
+        ValueVisitor visitor = new ValueVisitor(null, c -> {
+            findMapping(c, "The column \"" + c //$NON-NLS-1$
+                    + "\" is not mapped in the insert, so it has no inserted value"); //$NON-NLS-1$
+            return insertedValue.apply(c);
+        });
+        return updateMappings.stream()
+                .map(m -> m.columnName() + " = " + m.accept(visitor)) //$NON-NLS-1$
+                .collect(Collectors.joining(", ")); //$NON-NLS-1$
+    }
+
+    private void findMapping(String columnName, String errorMessage) {
+        if (!columnMappings.containsKey(columnName)) {
+            throw new IllegalArgumentException(errorMessage);
+        }
+    }
+
+    private static String columnsPhrase(Collection<AbstractColumnMapping> mappings) {
+        return mappings.stream()
+                .map(AbstractColumnMapping::columnName)
+                .collect(Collectors.joining(", ", "(", ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    }
+
+    public static Builder withTable(SqlTable table) {
+        return new Builder().withTable(table);
+    }
+
+    /**
+     * Renders the value of a mapping. Property values and inserted values depend on the dialect, and on whether the
+     * value is written in the source of a merge or in an update clause.
+     */
+    private static class ValueVisitor extends InsertMappingVisitor<String> {
+        private final UnaryOperator<String> propertyValue;
+        private final UnaryOperator<String> insertedValue;
+
+        private ValueVisitor(UnaryOperator<String> propertyValue, UnaryOperator<String> insertedValue) {
+            this.propertyValue = propertyValue;
+            this.insertedValue = insertedValue;
+        }
+
+        @Override
+        public String visit(NullMapping mapping) {
+            return "null"; //$NON-NLS-1$
+        }
+
+        @Override
+        public String visit(ConstantMapping mapping) {
+            return mapping.constant();
+        }
+
+        @Override
+        public String visit(StringConstantMapping mapping) {
+            return "'" + mapping.constant() + "'"; //$NON-NLS-1$ //$NON-NLS-2$
+        }
+
+        @Override
+        public String visit(PropertyMapping mapping) {
+            return apply(propertyValue, mapping);
+        }
+
+        @Override
+        public String visit(PropertyWhenPresentMapping mapping) {
+            return apply(propertyValue, mapping);
+        }
+
+        @Override
+        public String visit(InsertedValueMapping mapping) {
+            return apply(insertedValue, mapping);
+        }
+
+        private String apply(UnaryOperator<String> function, AbstractColumnMapping mapping) {
+            if (function == null) {
+                throw new UnsupportedOperationException("The value of the column \"" //$NON-NLS-1$
+                        + mapping.columnName() + "\" cannot be written in this clause of an upsert"); //$NON-NLS-1$
+            }
+            return function.apply(mapping.columnName());
+        }
+    }
+
+    public static class Builder {
+        private SqlTable table;
+        private List<AbstractColumnMapping> columnMappings;
+        private OnConflictModel onConflictModel;
+        private UpsertDialect dialect;
+        private Function<List<AbstractColumnMapping>, String> insertRenderer;
+        private Function<List<AbstractColumnMapping>, String> valuesRenderer;
+
+        public Builder withTable(SqlTable table) {
+            this.table = table;
+            return this;
+        }
+
+        public Builder withColumnMappings(List<AbstractColumnMapping> columnMappings) {
+            this.columnMappings = columnMappings;
+            return this;
+        }
+
+        public Builder withOnConflictModel(OnConflictModel onConflictModel) {
+            this.onConflictModel = onConflictModel;
+            return this;
+        }
+
+        public Builder withDialect(UpsertDialect dialect) {
+            this.dialect = dialect;
+            return this;
+        }
+
+        /**
+         * Sets the function that renders an insert statement for a list of column mappings.
+         *
+         * @param insertRenderer the function
+         * @return this builder
+         */
+        public Builder withInsertRenderer(Function<List<AbstractColumnMapping>, String> insertRenderer) {
+            this.insertRenderer = insertRenderer;
+            return this;
+        }
+
+        /**
+         * Sets the function that renders the values phrase of an insert statement - "values (...)" - for a list of
+         * column mappings. The values phrase is the source of a merge statement.
+         *
+         * @param valuesRenderer the function
+         * @return this builder
+         */
+        public Builder withValuesRenderer(Function<List<AbstractColumnMapping>, String> valuesRenderer) {
+            this.valuesRenderer = valuesRenderer;
+            return this;
+        }
+
+        public UpsertRenderer build() {
+            return new UpsertRenderer(this);
+        }
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * A {@link RenderListener} that aggregates render statistics for each statement shape. Statements are grouped by
+ * statement type and {@link StatementFingerprint#shapeOf(String) shape fingerprint} - "in" lists of any length are
+ * one shape - and for each shape the listener counts renders, render time (with a latency histogram), and skipped
+ * conditions. The statistics can be read at any time with
+ * {@link #snapshot()} or {@link #dump()}.
+ *
+ * <p>Recording does not lock - counters are {@link LongAdder}s and the histogram is an {@link AtomicLongArray}.
+ * The number of shapes is bounded. Once the maximum is reached, renders of new shapes are only counted by
+ * {@link #overflowCount()}.
+ *
+ * <p>For example:
+ *
+ * <pre>
+ *     AggregatingRenderListener renderStatistics = AggregatingRenderListener.withMaximumShapes(1000);
+ *     RenderListeners.setGlobalListener(renderStatistics);
+ *     ...
+ *     logger.info(renderStatistics.dump());
+ * </pre>
+ */
+public class AggregatingRenderListener implements RenderListener {
+    private static final int SQL_SAMPLE_LENGTH = 200;
+
+    private final Map<ShapeKey, ShapeMetrics> shapes = new ConcurrentHashMap<>();
+    private final int maximumShapes;
+    private final LongAdder overflowCount = new LongAdder();
+
+    private AggregatingRenderListener(int maximumShapes) {
+        if (maximumShapes <= 0) {
+            throw new IllegalArgumentException("The maximum number of shapes must be positive"); //$NON-NLS-1$
+        }
+        this.maximumShapes = maximumShapes;
+    }
+
+    @Override
+    public void statementRendered(RenderEvent event) {
+        ShapeKey key = new ShapeKey(event.statementType(), event.fingerprint());
+        ShapeMetrics metrics = shapes.get(key);
+        if (metrics == null) {
+            if (shapes.size() >= maximumShapes) {
+                overflowCount.increment();
+                return;
+            }
+            ShapeMetrics newMetrics = new ShapeMetrics(event);
+            metrics = shapes.putIfAbsent(key, newMetrics);
+            if (metrics == null) {
+                metrics = newMetrics;
+            }
+        }
+        metrics.record(event);
+    }
+
+    /**
+     * Returns the statistics for every shape, the shapes with the most total render time first.
+     *
+     * @return the statistics
+     */
+    public List<RenderStatistics> snapshot() {
+        return shapes.values().stream()
+                .map(ShapeMetrics::toStatistics)
+                .sorted(Comparator.comparingLong(RenderStatistics::totalNanos).reversed())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the statistics for every shape as text - one line for each shape, the shapes with the most total
+     * render time first.
+     *
+     * @return the statistics
+     */
+    public String dump() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Render statistics: ") //$NON-NLS-1$
+                .append(shapes.size()).append(" shapes, ") //$NON-NLS-1$
+                .append(overflowCount()).append(" renders of shapes over the maximum") //$NON-NLS-1$
+                .append(System.lineSeparator());
+        snapshot().forEach(s -> sb.append(s).append(System.lineSeparator()));
+        return sb.toString();
+    }
+
+    /**
+     * Returns the number of renders that were not recorded because the maximum number of shapes was reached.
+     *
+     * @return the number of renders not recorded
+     */
+    public long overflowCount() {
+        return overflowCount.sum();
+    }
+
+    public int shapeCount() {
+        return shapes.size();
+    }
+
+    public int maximumShapes() {
+        return maximumShapes;
+    }
+
+    public void reset() {
+        shapes.clear();
+        overflowCount.reset();
+    }
+
+    public static AggregatingRenderListener withMaximumShapes(int maximumShapes) {
+        return new AggregatingRenderListener(maximumShapes);
+    }
+
+    private static class ShapeKey {
+        private final StatementType statementType;
+        private final long fingerprint;
+
+        private ShapeKey(StatementType statementType, long fingerprint) {
+            this.statementType = statementType;
+            this.fingerprint = fingerprint;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof ShapeKey)) {
+                return false;
+            }
+            ShapeKey other = (ShapeKey) obj;
+            return statementType == other.statementType && fingerprint == other.fingerprint;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * statementType.hashCode() + Long.hashCode(fingerprint);
+        }
+    }
+
+    private static class ShapeMetrics {
+        private static final int BUCKETS = 64;
+
+        private final StatementType statementType;
+        private final long fingerprint;
+        private final String sqlSample;
+        private final int sqlLength;
+        private final int parameterCount;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final LongAdder skippedConditions = new LongAdder();
+        private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+
+        private ShapeMetrics(RenderEvent event) {
+            statementType = event.statementType();
+            fingerprint = event.fingerprint();
+            sqlSample = sqlSample(event.sql());
+            sqlLength = event.sqlLength();
+            parameterCount = event.parameterCount();
+        }
+
+        private void record(RenderEvent event) {
+            long nanos = Math.max(0, event.renderNanos());
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+            skippedConditions.add(event.skippedConditions());
+            histogram.incrementAndGet(bucket(nanos));
+        }
+
+        private static String sqlSample(String sql) {
+            if (sql.length() <= SQL_SAMPLE_LENGTH) {
+                return sql;
+            }
+            return sql.substring(0, SQL_SAMPLE_LENGTH) + "..."; //$NON-NLS-1$
+        }
+
+        private static int bucket(long nanos) {
+            return nanos == 0 ? 0 : BUCKETS - 1 - Long.numberOfLeadingZeros(nanos);
+        }
+
+        private RenderStatistics toStatistics() {
+            long[] buckets = new long[BUCKETS];
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets[i] = histogram.get(i);
+            }
+
+            return new RenderStatistics.Builder()
+                    .withStatementType(statementType)
+                    .withFingerprint(fingerprint)
+                    .withSqlSample(sqlSample)
+                    .withCount(count.sum())
+                    .withTotalNanos(totalNanos.sum())
+                    .withMaxNanos(maxNanos.get())
+                    .withSqlLength(sqlLength)
+                    .withParameterCount(parameterCount)
+                    .withSkippedConditions(skippedConditions.sum())
+                    .withHistogram(buckets)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The parameter map returned by statement providers that share {@link RenderedParameters}.
+ *
+ * <p>Reads go straight to the rendered parameters. The first call to {@link #put(String, Object)},
+ * {@link #putAll(Map)}, {@link #remove(Object)} or {@link #clear()} copies them into a {@link HashMap}, so callers
+ * can still add their own parameters while statements that are only executed never pay for a copy. The views
+ * returned by {@link #entrySet()}, {@link #keySet()} and {@link #values()} are read only until the first change.
+ */
+public final class CopyOnWriteParameters extends AbstractMap<String, Object> {
+    private Map<String, Object> parameters;
+    private boolean copied;
+
+    private CopyOnWriteParameters(Map<String, Object> parameters) {
+        this.parameters = Objects.requireNonNull(parameters);
+    }
+
+    @Override
+    public Object get(Object key) {
+        return parameters.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return parameters.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return parameters.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return parameters.isEmpty();
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return copied ? parameters.entrySet() : Collections.unmodifiableMap(parameters).entrySet();
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        return writable().put(key, value);
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> m) {
+        writable().putAll(m);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        return writable().remove(key);
+    }
+
+    @Override
+    public void clear() {
+        writable().clear();
+    }
+
+    private Map<String, Object> writable() {
+        if (!copied) {
+            parameters = new HashMap<>(parameters);
+            copied = true;
+        }
+        return parameters;
+    }
+
+    public static CopyOnWriteParameters of(Map<String, Object> parameters) {
+        return new CopyOnWriteParameters(parameters);
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.mybatis.dynamic.sql.AbstractListValueCondition;
+
+/**
+ * Pads the values of "in" and "not in" conditions so that lists of similar size render the same SQL.
+ *
+ * <p>Every list size renders a different statement - "id in (?,?,?)" and "id in (?,?,?,?)" are different
+ * statements to the database plan cache, MyBatis, and Spring. With padding, the number of placeholders is rounded
+ * up to the next bucket size and the extra placeholders are bound to the last value in the list. Repeating a
+ * value does not change the result of an "in" or "not in" condition.
+ *
+ * <p>Padding is disabled by default. It can be enabled at three levels - the most specific setting wins:
+ *
+ * <ol>
+ *     <li>On a condition with {@code withListPadding} - for example
+ *         {@code isIn(ids).withListPadding(InListPadding.powersOfTwo())}</li>
+ *     <li>On a rendering strategy by overriding {@link RenderingStrategy#inListPadding()}</li>
+ *     <li>Globally with {@link #setGlobalDefault(InListPadding)}</li>
+ * </ol>
+ *
+ * <p>Each padding instance records the list sizes it has seen, so {@link #shapesAvoided()} can report how many
+ * distinct statements padding has saved. Sizes are recorded in a fixed size bit set, so only sizes up to
+ * {@value #MAX_RECORDED_SIZE} are counted. Instances are thread safe and are intended to be shared.
+ *
+ * @see AbstractListValueCondition#allowsPadding()
+ */
+public final class InListPadding {
+    public static final int MAX_RECORDED_SIZE = 4096;
+    private static final InListPadding NONE = new InListPadding(false, null);
+    private static volatile InListPadding globalDefault = NONE;
+
+    private final boolean enabled;
+    private final int[] bucketSizes; // null for powers of two
+    private final SizeSet listSizes = new SizeSet();
+    private final SizeSet paddedSizes = new SizeSet();
+
+    private InListPadding(boolean enabled, int[] bucketSizes) {
+        this.enabled = enabled;
+        this.bucketSizes = bucketSizes;
+    }
+
+    /**
+     * Returns the number of placeholders to render for a list.
+     *
+     * @param listSize the number of values in the list
+     * @return the number of placeholders to render - never less than the list size
+     */
+    public int paddedSize(int listSize) {
+        if (!enabled || listSize <= 0) {
+            return listSize;
+        }
+
+        int paddedSize = calculatePaddedSize(listSize);
+        listSizes.add(listSize);
+        paddedSizes.add(paddedSize);
+        return paddedSize;
+    }
+
+    private int calculatePaddedSize(int listSize) {
+        if (bucketSizes == null) {
+            int highestOneBit = Integer.highestOneBit(listSize);
+            return highestOneBit == listSize || highestOneBit == 1 << 30 ? listSize : highestOneBit << 1;
+        }
+
+        int index = Arrays.binarySearch(bucketSizes, listSize);
+        if (index >= 0) {
+            return listSize;
+        }
+
+        int insertionPoint = -index - 1;
+        if (insertionPoint < bucketSizes.length) {
+            return bucketSizes[insertionPoint];
+        }
+
+        // round up to a multiple of the largest bucket
+        long largest = bucketSizes[bucketSizes.length - 1];
+        long rounded = (listSize + largest - 1) / largest * largest;
+        return rounded > Integer.MAX_VALUE ? listSize : (int) rounded;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the number of distinct list sizes this padding has seen.
+     *
+     * @return the number of distinct list sizes
+     */
+    public int distinctListSizes() {
+        return listSizes.size();
+    }
+
+    /**
+     * Returns the number of distinct placeholder counts this padding has rendered.
+     *
+     * @return the number of distinct padded sizes
+     */
+    public int distinctPaddedSizes() {
+        return paddedSizes.size();
+    }
+
+    /**
+     * Returns the number of distinct list shapes that were not rendered because of padding - the difference
+     * between the number of distinct list sizes and the number of distinct padded sizes.
+     *
+     * @return the number of shapes avoided
+     */
+    public int shapesAvoided() {
+        return distinctListSizes() - distinctPaddedSizes();
+    }
+
+    public void resetStatistics() {
+        listSizes.clear();
+        paddedSizes.clear();
+    }
+
+    /**
+     * Returns the padding for a list condition. The condition's padding is used if it has one, then the
+     * rendering strategy's padding, then the global default. Conditions that do not allow padding are not padded.
+     *
+     * @param condition the condition
+     * @param renderingStrategy the rendering strategy for the statement
+     * @return the padding to apply
+     */
+    public static InListPadding forCondition(AbstractListValueCondition<?> condition,
+            RenderingStrategy renderingStrategy) {
+        if (!condition.allowsPadding()) {
+            return NONE;
+        }
+
+        return condition.listPadding()
+                .orElseGet(() -> renderingStrategy.inListPadding().orElse(globalDefault));
+    }
+
+    /**
+     * Returns padding that does nothing. This can be used to disable padding on a condition or a rendering strategy
+     * when padding is enabled globally.
+     *
+     * @return padding that does nothing
+     */
+    public static InListPadding none() {
+        return NONE;
+    }
+
+    /**
+     * Returns padding that rounds the number of placeholders up to the next power of two.
+     *
+     * @return new padding
+     */
+    public static InListPadding powersOfTwo() {
+        return new InListPadding(true, null);
+    }
+
+    /**
+     * Returns padding that rounds the number of placeholders up to the next bucket size. Lists that are larger
+     * than the largest bucket are rounded up to a multiple of the largest bucket.
+     *
+     * @param bucketSizes the bucket sizes. Must be positive. Order does not matter.
+     * @return new padding
+     */
+    public static InListPadding withBucketSizes(int... bucketSizes) {
+        Objects.requireNonNull(bucketSizes);
+        if (bucketSizes.length == 0) {
+            throw new IllegalArgumentException("At least one bucket size is required"); //$NON-NLS-1$
+        }
+
+        int[] sorted = Arrays.stream(bucketSizes).sorted().distinct().toArray();
+        if (sorted[0] <= 0) {
+            throw new IllegalArgumentException("Bucket sizes must be positive"); //$NON-NLS-1$
+        }
+        return new InListPadding(true, sorted);
+    }
+
+    public static InListPadding globalDefault() {
+        return globalDefault;
+    }
+
+    /**
+     * Sets the padding used when neither the condition nor the rendering strategy specify padding.
+     *
+     * @param inListPadding the padding. Use {@link #none()} to disable padding
+     */
+    public static void setGlobalDefault(InListPadding inListPadding) {
+        globalDefault = Objects.requireNonNull(inListPadding);
+    }
+
+    /**
+     * A set of the sizes 1 to {@link #MAX_RECORDED_SIZE}. Larger sizes are ignored. Adding a size that is already
+     * present does not write, so a warmed up set is read only.
+     */
+    private static class SizeSet {
+        private final AtomicLongArray bits = new AtomicLongArray(MAX_RECORDED_SIZE / Long.SIZE);
+
+        void add(int size) {
+            if (size > MAX_RECORDED_SIZE) {
+                return;
+            }
+
+            int index = (size - 1) / Long.SIZE;
+            long mask = 1L << (size - 1);
+            if ((bits.get(index) & mask) == 0) {
+                bits.accumulateAndGet(index, mask, (a, b) -> a | b);
+            }
+        }
+
+        int size() {
+            int size = 0;
+            for (int i = 0; i < bits.length(); i++) {
+                size += Long.bitCount(bits.get(i));
+            }
+            return size;
+        }
+
+        void clear() {
+            for (int i = 0; i < bits.length(); i++) {
+                bits.set(i, 0);
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import org.mybatis.dynamic.sql.BindableColumn;
+
+/**
+ * Renders every bind parameter as a plain JDBC "?" placeholder. The parameter map of a statement rendered with this
+ * strategy still uses the usual "p1", "p2", ... keys, and the keys are numbered in the order the placeholders appear
+ * in the statement. Use {@link PositionalParameters} to get the values as an ordered array.
+ *
+ * <p>Statements that bind properties of a row (single row, multi row and batch inserts) cannot be executed with
+ * positional parameters, because the placeholders carry the property names.
+ */
+public class JdbcPositionalRenderingStrategy extends RenderingStrategy {
+    private static final String PLACEHOLDER = "?"; //$NON-NLS-1$
+
+    @Override
+    public String getFormattedJdbcPlaceholder(BindableColumn<?> column, String prefix, String parameterName) {
+        return PLACEHOLDER;
+    }
+
+    @Override
+    public String getFormattedJdbcPlaceholder(String prefix, String parameterName) {
+        return PLACEHOLDER;
+    }
+}
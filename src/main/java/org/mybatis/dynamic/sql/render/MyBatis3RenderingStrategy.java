@@ -38,6 +38,11 @@ public class MyBatis3RenderingStrategy extends RenderingStrategy {
                 + "}"; //$NON-NLS-1$
     }
 
+    @Override
+    public PlaceholderTemplate placeholderTemplate(BindableColumn<?> column, String prefix) {
+        return PlaceholderTemplate.spliced(this, column, prefix);
+    }
+
     private String renderTypeHandler(BindableColumn<?> column) {
         return column.typeHandler()
                 .map(th -> ",typeHandler=" + th) //$NON-NLS-1$
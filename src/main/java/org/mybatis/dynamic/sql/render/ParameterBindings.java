@@ -0,0 +1,206 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.mybatis.dynamic.sql.BindParameter;
+import org.mybatis.dynamic.sql.BindableColumn;
+import org.mybatis.dynamic.sql.util.PropertyReader;
+
+/**
+ * The bind parameters of a statement that was rendered with {@link BindParameter} markers. The rendered parameters
+ * are held unchanged, along with the map key and the column of every marker - the markers are recorded by the
+ * {@link RenderingContext} while the statement is rendered. Binding values copies the parameters and sets the value
+ * of each marker, converted by the marker's column - the cost of binding is proportional to the number of parameters
+ * in the statement.
+ *
+ * <p>This class is immutable and thread safe, so a prepared statement template can be shared by any number of
+ * threads.
+ */
+public final class ParameterBindings {
+    private final Map<String, Object> parameters;
+    private final String[] markerKeys;
+    private final BindParameter<?>[] markers;
+    private final BindableColumn<?>[] columns;
+    private final Set<String> names;
+
+    private ParameterBindings(Builder builder) {
+        RenderedParameters copy = new RenderedParameters(builder.parameters.size() + 1);
+        copy.addAll(builder.parameters);
+        parameters = copy;
+        markerKeys = builder.markerKeys.toArray(new String[0]);
+        markers = builder.markers.toArray(new BindParameter<?>[0]);
+        columns = builder.columns.toArray(new BindableColumn<?>[0]);
+
+        Set<String> allNames = new LinkedHashSet<>();
+        for (BindParameter<?> marker : markers) {
+            allNames.add(marker.name());
+        }
+        names = Collections.unmodifiableSet(allNames);
+    }
+
+    /**
+     * Returns the names of the bind parameter markers in the statement.
+     *
+     * @return the marker names, in the order they first appear in the parameters
+     */
+    public Set<String> parameterNames() {
+        return names;
+    }
+
+    /**
+     * Creates the parameters for a statement by replacing every marker with a value.
+     *
+     * @param values the values to bind, keyed by marker name. There must be a value for every marker, and no others.
+     * @return the parameters for the statement
+     * @throws IllegalArgumentException if a value is missing, if a value is supplied for an unknown name,
+     *     or if a value is the wrong type for its marker
+     */
+    public Map<String, Object> bind(Map<String, ?> values) {
+        if (!names.equals(values.keySet())) {
+            throw new IllegalArgumentException(mismatchMessage(values.keySet()));
+        }
+
+        RenderedParameters answer = new RenderedParameters(parameters.size() + 1);
+        answer.addAll(parameters);
+        for (int i = 0; i < markers.length; i++) {
+            answer.add(markerKeys[i], convert(i, markers[i].checkValue(values.get(markers[i].name()))));
+        }
+        return answer;
+    }
+
+    /**
+     * Creates the parameters for a statement by replacing every marker with the value of the row property of
+     * the same name. This is used by batch updates and deletes, where every marker names a property of the records.
+     *
+     * @param row the row to read values from
+     * @return the parameters for the statement
+     * @throws IllegalArgumentException if a property cannot be read, or if a value is the wrong type for its marker
+     */
+    public Map<String, Object> bindProperties(Object row) {
+        RenderedParameters answer = new RenderedParameters(parameters.size() + 1);
+        answer.addAll(parameters);
+        for (int i = 0; i < markers.length; i++) {
+            answer.add(markerKeys[i], convert(i, markers[i].checkValue(PropertyReader.read(row, markers[i].name()))));
+        }
+        return answer;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object convert(int index, Object value) {
+        // the value has been checked against the marker type, and the marker has the type of the column
+        return ((BindableColumn<Object>) columns[index]).convertParameterType(value);
+    }
+
+    private String mismatchMessage(Set<String> suppliedNames) {
+        Set<String> missing = new LinkedHashSet<>(names);
+        missing.removeAll(suppliedNames);
+        Set<String> unknown = new LinkedHashSet<>(suppliedNames);
+        unknown.removeAll(names);
+        return "Bound values do not match the bind parameters of the statement. Missing values: " //$NON-NLS-1$
+                + missing + ", unknown parameters: " + unknown; //$NON-NLS-1$
+    }
+
+    static IllegalStateException unpreparedBindParameter(BindParameter<?> bindParameter) {
+        return new IllegalStateException("The statement contains the bind parameter marker \"" //$NON-NLS-1$
+                + bindParameter.name() + "\". Statements with markers must be rendered with prepare()"); //$NON-NLS-1$
+    }
+
+    /**
+     * Records the markers of a statement while it is rendered, then creates the bindings from the rendered parameters.
+     */
+    public static class Builder {
+        private Map<String, Object> parameters = Collections.emptyMap();
+        private final List<String> markerKeys = new ArrayList<>();
+        private final List<BindParameter<?>> markers = new ArrayList<>();
+        private final List<BindableColumn<?>> columns = new ArrayList<>();
+
+        /**
+         * Records a marker.
+         *
+         * @param parameterMapKey the parameter map key of the marker
+         * @param bindParameter the marker
+         * @param column the column the marker is used with. Bound values are converted by the column
+         * @return this builder
+         */
+        public Builder withBindParameter(String parameterMapKey, BindParameter<?> bindParameter,
+                BindableColumn<?> column) {
+            markerKeys.add(Objects.requireNonNull(parameterMapKey));
+            markers.add(Objects.requireNonNull(bindParameter));
+            columns.add(Objects.requireNonNull(column));
+            return this;
+        }
+
+        public Builder withParameters(Map<String, Object> parameters) {
+            this.parameters = Objects.requireNonNull(parameters);
+            return this;
+        }
+
+        /**
+         * Returns true if another builder has recorded the same markers, with the same map keys and columns.
+         *
+         * @param other the other builder
+         * @return true if the markers match
+         */
+        boolean hasSameBindParameters(Builder other) {
+            return markerKeys.equals(other.markerKeys)
+                    && markers.equals(other.markers)
+                    && columns.equals(other.columns);
+        }
+
+        public ParameterBindings build() {
+            return new ParameterBindings(this);
+        }
+    }
+
+    /**
+     * Collects values for a fluent bind, then creates a statement provider from the bound parameters.
+     *
+     * @param <R> the type of statement provider
+     */
+    public static class Binder<R> {
+        private final Map<String, Object> values = new HashMap<>();
+        private final ParameterBindings bindings;
+        private final Function<Map<String, Object>, R> providerFunction;
+
+        public Binder(ParameterBindings bindings, Function<Map<String, Object>, R> providerFunction) {
+            this.bindings = Objects.requireNonNull(bindings);
+            this.providerFunction = Objects.requireNonNull(providerFunction);
+        }
+
+        public Binder<R> bind(String name, Object value) {
+            values.put(name, value);
+            return this;
+        }
+
+        public <T> Binder<R> bind(BindParameter<T> bindParameter, T value) {
+            return bind(bindParameter.name(), value);
+        }
+
+        public R build() {
+            return providerFunction.apply(bindings.bind(values));
+        }
+    }
+}
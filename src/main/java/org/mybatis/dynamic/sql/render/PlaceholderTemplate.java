@@ -0,0 +1,140 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.util.Objects;
+
+import org.mybatis.dynamic.sql.BindableColumn;
+
+/**
+ * A JDBC placeholder for a column that has been rendered once for a rendering strategy and parameter prefix.
+ *
+ * <p>For most strategies the placeholder for a column only differs by the parameter map key - for example
+ * <code>#{parameters.p1,jdbcType=INTEGER}</code> and <code>#{parameters.p2,jdbcType=INTEGER}</code>. A spliced
+ * template keeps the text before and after the parameter map key, so building a placeholder is a single string
+ * concatenation. A template that cannot be spliced calls the rendering strategy for every placeholder.
+ *
+ * <p>Templates are immutable and may be cached and shared between threads.
+ *
+ * @see RenderingStrategy#placeholderTemplate(BindableColumn, String)
+ */
+public final class PlaceholderTemplate {
+    static final String PARAMETER_MAP_KEY_MARKER = "__parameterMapKey__"; //$NON-NLS-1$
+
+    private final RenderingStrategy renderingStrategy;
+    private final BindableColumn<?> column;
+    private final String prefix;
+    private final String before;
+    private final String after;
+
+    private PlaceholderTemplate(RenderingStrategy renderingStrategy, BindableColumn<?> column, String prefix,
+            String before, String after) {
+        this.renderingStrategy = Objects.requireNonNull(renderingStrategy);
+        this.column = Objects.requireNonNull(column);
+        this.prefix = Objects.requireNonNull(prefix);
+        this.before = before;
+        this.after = after;
+    }
+
+    /**
+     * Returns the placeholder for a parameter map key.
+     *
+     * @param parameterMapKey the parameter map key
+     * @return the formatted placeholder
+     */
+    public String placeholder(String parameterMapKey) {
+        if (before == null) {
+            return renderingStrategy.getFormattedJdbcPlaceholder(column, prefix, parameterMapKey);
+        }
+
+        return new StringBuilder(before.length() + parameterMapKey.length() + after.length())
+                .append(before)
+                .append(parameterMapKey)
+                .append(after)
+                .toString();
+    }
+
+    /**
+     * Writes the placeholder for a parameter sequence number. A spliced template writes the parameter map key
+     * directly to the writer, so no strings are created.
+     *
+     * @param writer the writer for the current statement
+     * @param index the parameter sequence number
+     */
+    public void write(SqlWriter writer, int index) {
+        if (before == null) {
+            writer.append(renderingStrategy.getFormattedJdbcPlaceholder(column, prefix,
+                    RenderingStrategy.formatParameterMapKey(index)));
+        } else {
+            writer.append(before)
+                    .append(RenderingStrategy.PARAMETER_MAP_KEY_PREFIX)
+                    .append(index)
+                    .append(after);
+        }
+    }
+
+    public boolean isSpliced() {
+        return before != null;
+    }
+
+    /**
+     * Returns true if this template was created for the strategy and prefix. Templates are cached by columns,
+     * and a column may be rendered with more than one strategy.
+     *
+     * @param renderingStrategy the rendering strategy
+     * @param prefix the parameter prefix
+     * @return true if the template was created for the strategy and prefix
+     */
+    public boolean isFor(RenderingStrategy renderingStrategy, String prefix) {
+        return this.renderingStrategy == renderingStrategy && this.prefix.equals(prefix);
+    }
+
+    /**
+     * Creates a template that calls the rendering strategy for every placeholder.
+     *
+     * @param renderingStrategy the rendering strategy
+     * @param column the column
+     * @param prefix the parameter prefix
+     * @return the template
+     */
+    public static PlaceholderTemplate rendering(RenderingStrategy renderingStrategy, BindableColumn<?> column,
+            String prefix) {
+        return new PlaceholderTemplate(renderingStrategy, column, prefix, null, null);
+    }
+
+    /**
+     * Creates a spliced template by asking the rendering strategy for a placeholder with a marker in place of the
+     * parameter map key. If the marker does not appear exactly once in the rendered placeholder, the strategy
+     * does not render the parameter map key verbatim and a template that calls the strategy for every
+     * placeholder is returned instead.
+     *
+     * @param renderingStrategy the rendering strategy
+     * @param column the column
+     * @param prefix the parameter prefix
+     * @return the template
+     */
+    public static PlaceholderTemplate spliced(RenderingStrategy renderingStrategy, BindableColumn<?> column,
+            String prefix) {
+        String placeholder = renderingStrategy.getFormattedJdbcPlaceholder(column, prefix, PARAMETER_MAP_KEY_MARKER);
+        int index = placeholder.indexOf(PARAMETER_MAP_KEY_MARKER);
+        if (index < 0 || placeholder.indexOf(PARAMETER_MAP_KEY_MARKER, index + 1) >= 0) {
+            return rendering(renderingStrategy, column, prefix);
+        }
+
+        return new PlaceholderTemplate(renderingStrategy, column, prefix, placeholder.substring(0, index),
+                placeholder.substring(index + PARAMETER_MAP_KEY_MARKER.length()));
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The bind parameters of a statement rendered with {@link RenderingStrategies#JDBC_POSITIONAL}, in the order of the
+ * "?" placeholders in the statement, along with a JDBC type for each value.
+ *
+ * <p>Parameter map keys are numbered in the order the placeholders are written, so the value for the placeholder at
+ * position N is the value with key "pN". The SQL types are derived from the classes of the values, in the same way as
+ * Spring's <code>StatementCreatorUtils</code>. If the type is unknown - including for null values -
+ * {@link #TYPE_UNKNOWN} is returned and the driver or the executing library decides how to bind the value.
+ *
+ * <p>Instances are immutable.
+ */
+public final class PositionalParameters {
+    /**
+     * The SQL type of values with no known type. This is the same value as Spring's
+     * <code>SqlTypeValue.TYPE_UNKNOWN</code>.
+     */
+    public static final int TYPE_UNKNOWN = Integer.MIN_VALUE;
+
+    private static final PositionalParameters EMPTY = new PositionalParameters(new Object[0]);
+    private static final Map<Class<?>, Integer> SQL_TYPES = new HashMap<>();
+
+    static {
+        SQL_TYPES.put(String.class, Types.VARCHAR);
+        SQL_TYPES.put(Boolean.class, Types.BOOLEAN);
+        SQL_TYPES.put(Byte.class, Types.TINYINT);
+        SQL_TYPES.put(Short.class, Types.SMALLINT);
+        SQL_TYPES.put(Integer.class, Types.INTEGER);
+        SQL_TYPES.put(Long.class, Types.BIGINT);
+        SQL_TYPES.put(BigInteger.class, Types.BIGINT);
+        SQL_TYPES.put(Float.class, Types.FLOAT);
+        SQL_TYPES.put(Double.class, Types.DOUBLE);
+        SQL_TYPES.put(BigDecimal.class, Types.DECIMAL);
+        SQL_TYPES.put(java.sql.Date.class, Types.DATE);
+        SQL_TYPES.put(java.sql.Time.class, Types.TIME);
+        SQL_TYPES.put(java.sql.Timestamp.class, Types.TIMESTAMP);
+    }
+
+    private final Object[] values;
+    private final int[] sqlTypes;
+
+    private PositionalParameters(Object[] values) {
+        this.values = values;
+        sqlTypes = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            sqlTypes[i] = sqlTypeOf(values[i]);
+        }
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Returns the value for a placeholder.
+     *
+     * @param index the zero based position of the placeholder
+     * @return the value
+     */
+    public Object value(int index) {
+        return values[index];
+    }
+
+    /**
+     * Returns the SQL type for a placeholder.
+     *
+     * @param index the zero based position of the placeholder
+     * @return a type from {@link Types}, or {@link #TYPE_UNKNOWN}
+     */
+    public int sqlType(int index) {
+        return sqlTypes[index];
+    }
+
+    public Object[] values() {
+        return values.clone();
+    }
+
+    public int[] sqlTypes() {
+        return sqlTypes.clone();
+    }
+
+    private static int sqlTypeOf(Object value) {
+        if (value == null) {
+            return TYPE_UNKNOWN;
+        }
+
+        Integer sqlType = SQL_TYPES.get(value.getClass());
+        if (sqlType != null) {
+            return sqlType;
+        } else if (value instanceof java.util.Date || value instanceof Calendar) {
+            return Types.TIMESTAMP;
+        } else {
+            return TYPE_UNKNOWN;
+        }
+    }
+
+    /**
+     * Orders the parameters of a statement rendered with {@link RenderingStrategies#JDBC_POSITIONAL}.
+     *
+     * @param parameters the parameters of the statement
+     * @return the ordered parameters
+     * @throws IllegalArgumentException if the parameter map keys are not numbered contiguously from "p1"
+     */
+    public static PositionalParameters of(Map<String, Object> parameters) {
+        if (parameters.isEmpty()) {
+            return EMPTY;
+        }
+
+        Object[] values = new Object[parameters.size()];
+        for (Map.Entry<String, Object> entry : parameters.entrySet()) {
+            int index = RenderedParameters.parseIndex(entry.getKey()) - 1;
+            // keys are distinct, so n keys in the range p1 to pn fill every position
+            if (index < 0 || index >= values.length) {
+                throw new IllegalArgumentException("Parameter \"" + entry.getKey() //$NON-NLS-1$
+                        + "\" cannot be bound by position. Statements executed with positional" //$NON-NLS-1$
+                        + " parameters must be rendered with RenderingStrategies.JDBC_POSITIONAL"); //$NON-NLS-1$
+            }
+            values[index] = entry.getValue();
+        }
+        return new PositionalParameters(values);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(values);
+    }
+}
@@ -0,0 +1,372 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.delete.render.DefaultDeleteStatementProvider;
+import org.mybatis.dynamic.sql.delete.render.DeleteRenderer;
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.delete.render.PreparedDelete;
+import org.mybatis.dynamic.sql.insert.BatchInsertModel;
+import org.mybatis.dynamic.sql.insert.GeneralInsertModel;
+import org.mybatis.dynamic.sql.insert.InsertModel;
+import org.mybatis.dynamic.sql.insert.InsertSelectModel;
+import org.mybatis.dynamic.sql.insert.MultiRowInsertLimits;
+import org.mybatis.dynamic.sql.insert.MultiRowInsertModel;
+import org.mybatis.dynamic.sql.insert.render.BatchInsert;
+import org.mybatis.dynamic.sql.insert.render.DefaultGeneralInsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.DefaultInsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.DefaultMultiRowInsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.GeneralInsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.InsertSelectStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.MultiRowInsertRenderer;
+import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.render.DefaultSelectStatementProvider;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.UpdateModel;
+import org.mybatis.dynamic.sql.update.render.DefaultUpdateStatementProvider;
+import org.mybatis.dynamic.sql.update.render.PreparedUpdate;
+import org.mybatis.dynamic.sql.update.render.UpdateRenderer;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+
+/**
+ * An optional cache of rendered SQL keyed by the shape of a statement. Applications that render the same
+ * statement shapes repeatedly (with different parameter values) can use this cache to skip the rendering
+ * process after the first time a shape is seen. On a cache hit, only the parameter values are collected
+ * from the model - the SQL text is reused as is.
+ *
+ * <p>The shape of a statement includes everything that affects the rendered SQL: the rendering strategy,
+ * the tables and their runtime names, table aliases, columns, joins, the classes of the where conditions,
+ * whether each condition will render, the number of values in list conditions, the presence of paging
+ * values, the column mappings in inserts and updates, etc. See {@link StatementShape} for details.
+ *
+ * <p>Columns, constants, and count aggregates have equals methods consistent with rendering. Other
+ * columns (such as functions) are compared by identity - statements using such columns will only hit the
+ * cache if the same column instance is reused. Conditions are compared by class. Custom conditions, subclasses of
+ * the library conditions, and conditions with settings are also compared by their rendered text with neutral
+ * placeholders, so a condition that renders differently based on its state only hits the cache when it renders
+ * the same SQL.
+ *
+ * <p>A cache hit still walks the statement model once to collect the shape and the parameter values, so the cache
+ * saves the string building of the renderers, not the traversal of the model.
+ *
+ * <p>The cache is bounded - when the maximum size is exceeded, the oldest entries are evicted.
+ * The cache is thread safe and is intended to be shared.
+ *
+ * <p>Example:
+ *
+ * <pre>
+ *     private static final RenderCache renderCache = RenderCache.withMaximumSize(500);
+ *
+ *     SelectStatementProvider selectStatement = select(id, firstName)
+ *             .from(person)
+ *             .where(id, isEqualTo(3))
+ *             .build()
+ *             .render(RenderingStrategies.MYBATIS3, renderCache);
+ * </pre>
+ */
+public class RenderCache {
+    private final int maximumSize;
+    private final Map<StatementShape, String> statements = new ConcurrentHashMap<>();
+    private final Queue<StatementShape> insertionOrder = new ArrayDeque<>();
+    private final Object writeLock = new Object();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    private RenderCache(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("The maximum size of a render cache must be at least 1"); //$NON-NLS-1$
+        }
+        this.maximumSize = maximumSize;
+    }
+
+    public SelectStatementProvider render(SelectModel selectModel, RenderingStrategy renderingStrategy) {
+        return render(StatementShapeCollector.of(selectModel, renderingStrategy),
+                () -> selectModel.render(renderingStrategy),
+                SelectStatementProvider::getSelectStatement,
+                SelectStatementProvider::getParameters,
+                (sql, parameters) -> DefaultSelectStatementProvider.withSelectStatement(sql)
+                        .withParameters(parameters)
+                        .build());
+    }
+
+    public UpdateStatementProvider render(UpdateModel updateModel, RenderingStrategy renderingStrategy) {
+        return render(StatementShapeCollector.of(updateModel, renderingStrategy),
+                () -> updateModel.render(renderingStrategy),
+                UpdateStatementProvider::getUpdateStatement,
+                UpdateStatementProvider::getParameters,
+                (sql, parameters) -> DefaultUpdateStatementProvider.withUpdateStatement(sql)
+                        .withParameters(parameters)
+                        .build());
+    }
+
+    public DeleteStatementProvider render(DeleteModel deleteModel, RenderingStrategy renderingStrategy) {
+        return render(StatementShapeCollector.of(deleteModel, renderingStrategy),
+                () -> deleteModel.render(renderingStrategy),
+                DeleteStatementProvider::getDeleteStatement,
+                DeleteStatementProvider::getParameters,
+                (sql, parameters) -> DefaultDeleteStatementProvider.withDeleteStatement(sql)
+                        .withParameters(parameters)
+                        .build());
+    }
+
+    /**
+     * Renders an update statement with {@link org.mybatis.dynamic.sql.BindParameter} markers into a prepared
+     * template. On a cache hit, the values and markers are collected from the model and the SQL text is reused.
+     *
+     * @param updateModel the update model
+     * @param renderingStrategy the rendering strategy
+     * @return the prepared template
+     */
+    public PreparedUpdate prepare(UpdateModel updateModel, RenderingStrategy renderingStrategy) {
+        return prepare(StatementShapeCollector.forPrepare(updateModel, renderingStrategy),
+                bindParameters -> UpdateRenderer.withUpdateModel(updateModel)
+                        .withRenderingStrategy(renderingStrategy)
+                        .withBindParameters(bindParameters)
+                        .build()
+                        .render(),
+                UpdateStatementProvider::getUpdateStatement,
+                UpdateStatementProvider::getParameters,
+                (sql, parameters) -> DefaultUpdateStatementProvider.withUpdateStatement(sql)
+                        .withParameters(parameters)
+                        .build(),
+                PreparedUpdate::of);
+    }
+
+    /**
+     * Renders a delete statement with {@link org.mybatis.dynamic.sql.BindParameter} markers into a prepared
+     * template. On a cache hit, the values and markers are collected from the model and the SQL text is reused.
+     *
+     * @param deleteModel the delete model
+     * @param renderingStrategy the rendering strategy
+     * @return the prepared template
+     */
+    public PreparedDelete prepare(DeleteModel deleteModel, RenderingStrategy renderingStrategy) {
+        return prepare(StatementShapeCollector.forPrepare(deleteModel, renderingStrategy),
+                bindParameters -> DeleteRenderer.withDeleteModel(deleteModel)
+                        .withRenderingStrategy(renderingStrategy)
+                        .withBindParameters(bindParameters)
+                        .build()
+                        .render(),
+                DeleteStatementProvider::getDeleteStatement,
+                DeleteStatementProvider::getParameters,
+                (sql, parameters) -> DefaultDeleteStatementProvider.withDeleteStatement(sql)
+                        .withParameters(parameters)
+                        .build(),
+                PreparedDelete::of);
+    }
+
+    public <T> InsertStatementProvider<T> render(InsertModel<T> insertModel, RenderingStrategy renderingStrategy) {
+        return render(StatementShapeCollector.of(insertModel, renderingStrategy),
+                () -> insertModel.render(renderingStrategy),
+                InsertStatementProvider::getInsertStatement,
+                p -> Collections.emptyMap(),
+                (sql, parameters) -> DefaultInsertStatementProvider.withRow(insertModel.row())
+                        .withInsertStatement(sql)
+                        .build());
+    }
+
+    public GeneralInsertStatementProvider render(GeneralInsertModel generalInsertModel,
+            RenderingStrategy renderingStrategy) {
+        return render(StatementShapeCollector.of(generalInsertModel, renderingStrategy),
+                () -> generalInsertModel.render(renderingStrategy),
+                GeneralInsertStatementProvider::getInsertStatement,
+                GeneralInsertStatementProvider::getParameters,
+                (sql, parameters) -> DefaultGeneralInsertStatementProvider.withInsertStatement(sql)
+                        .withParameters(parameters)
+                        .build());
+    }
+
+    public InsertSelectStatementProvider render(InsertSelectModel insertSelectModel,
+            RenderingStrategy renderingStrategy) {
+        return render(StatementShapeCollector.of(insertSelectModel, renderingStrategy),
+                () -> insertSelectModel.render(renderingStrategy),
+                InsertSelectStatementProvider::getInsertStatement,
+                InsertSelectStatementProvider::getParameters,
+                (sql, parameters) -> DefaultGeneralInsertStatementProvider.withInsertStatement(sql)
+                        .withParameters(parameters)
+                        .build());
+    }
+
+    public <T> BatchInsert<T> render(BatchInsertModel<T> batchInsertModel, RenderingStrategy renderingStrategy) {
+        return render(StatementShapeCollector.of("batchInsert", batchInsertModel, renderingStrategy), //$NON-NLS-1$
+                () -> batchInsertModel.render(renderingStrategy),
+                BatchInsert::getInsertStatementSQL,
+                p -> Collections.emptyMap(),
+                (sql, parameters) -> BatchInsert.withRecords(batchInsertModel.records())
+                        .withInsertStatement(sql)
+                        .build());
+    }
+
+    public <T> MultiRowInsertStatementProvider<T> render(MultiRowInsertModel<T> multiRowInsertModel,
+            RenderingStrategy renderingStrategy) {
+        return render(StatementShapeCollector.of("multiRowInsert", multiRowInsertModel, //$NON-NLS-1$
+                        multiRowInsertModel.recordCount(), renderingStrategy),
+                () -> multiRowInsertModel.render(renderingStrategy),
+                MultiRowInsertStatementProvider::getInsertStatement,
+                p -> Collections.emptyMap(),
+                (sql, parameters) -> new DefaultMultiRowInsertStatementProvider.Builder<T>()
+                        .withRecords(multiRowInsertModel.records())
+                        .withInsertStatement(sql)
+                        .build());
+    }
+
+    /**
+     * Renders a multiple row insert as one or more statements that each stay within the limits. The SQL for each
+     * number of rows is cached, and is shared with {@link #render(MultiRowInsertModel, RenderingStrategy)} for
+     * inserts with the same number of rows. The limits are applied on every call - only the SQL is cached.
+     *
+     * @param multiRowInsertModel the insert
+     * @param renderingStrategy the rendering strategy
+     * @param limits the limits for each statement
+     * @param <T> the type of record to insert
+     * @return the statements, in the same order as the records
+     */
+    public <T> List<MultiRowInsertStatementProvider<T>> render(MultiRowInsertModel<T> multiRowInsertModel,
+            RenderingStrategy renderingStrategy, MultiRowInsertLimits limits) {
+        return MultiRowInsertRenderer.withMultiRowInsertModel(multiRowInsertModel)
+                .withRenderingStrategy(renderingStrategy)
+                .withStatementLookup((rowCount, renderer) -> render(
+                        StatementShapeCollector.of("multiRowInsert", multiRowInsertModel, //$NON-NLS-1$
+                                rowCount, renderingStrategy),
+                        () -> renderer.apply(rowCount)))
+                .build()
+                .render(limits);
+    }
+
+    private String render(StatementShapeCollector collector, Supplier<String> renderer) {
+        StatementShape shape = collector.shape();
+        String sql = statements.get(shape);
+        if (sql != null) {
+            hitCount.increment();
+            return sql;
+        }
+
+        missCount.increment();
+        sql = renderer.get();
+        put(shape, sql);
+        return sql;
+    }
+
+    private <R> R render(StatementShapeCollector collector, Supplier<R> renderer, Function<R, String> sqlFunction,
+            Function<R, Map<String, Object>> parametersFunction,
+            BiFunction<String, Map<String, Object>, R> cachedStatementFunction) {
+        StatementShape shape = collector.shape();
+        String sql = statements.get(shape);
+        if (sql != null) {
+            hitCount.increment();
+            collector.notifySkippedConditions();
+            return cachedStatementFunction.apply(sql, collector.parameters());
+        }
+
+        missCount.increment();
+        R statement = renderer.get();
+        if (collector.matches(parametersFunction.apply(statement))) {
+            put(shape, sqlFunction.apply(statement));
+        }
+        return statement;
+    }
+
+    private <S, R> R prepare(StatementShapeCollector collector, Function<ParameterBindings.Builder, S> renderer,
+            Function<S, String> sqlFunction, Function<S, Map<String, Object>> parametersFunction,
+            BiFunction<String, Map<String, Object>, S> cachedStatementFunction,
+            BiFunction<S, ParameterBindings.Builder, R> templateFunction) {
+        StatementShape shape = collector.shape();
+        String sql = statements.get(shape);
+        if (sql != null) {
+            hitCount.increment();
+            collector.notifySkippedConditions();
+            return templateFunction.apply(cachedStatementFunction.apply(sql, collector.parameters()),
+                    collector.bindParameters());
+        }
+
+        missCount.increment();
+        ParameterBindings.Builder bindParameters = new ParameterBindings.Builder();
+        S statement = renderer.apply(bindParameters);
+        if (collector.matches(parametersFunction.apply(statement))
+                && collector.bindParameters().hasSameBindParameters(bindParameters)) {
+            put(shape, sqlFunction.apply(statement));
+        }
+        return templateFunction.apply(statement, bindParameters);
+    }
+
+    // writes are serialized so the statements and their insertion order stay consistent - reads do not lock
+    private void put(StatementShape shape, String sql) {
+        synchronized (writeLock) {
+            if (statements.putIfAbsent(shape, sql) == null) {
+                insertionOrder.add(shape);
+                evictIfNecessary();
+            }
+        }
+    }
+
+    private void evictIfNecessary() {
+        while (statements.size() > maximumSize) {
+            StatementShape eldest = insertionOrder.poll();
+            if (eldest == null) {
+                return;
+            }
+            if (statements.remove(eldest) != null) {
+                evictionCount.increment();
+            }
+        }
+    }
+
+    public long hitCount() {
+        return hitCount.sum();
+    }
+
+    public long missCount() {
+        return missCount.sum();
+    }
+
+    public long evictionCount() {
+        return evictionCount.sum();
+    }
+
+    public int size() {
+        return statements.size();
+    }
+
+    public int maximumSize() {
+        return maximumSize;
+    }
+
+    public void clear() {
+        synchronized (writeLock) {
+            statements.clear();
+            insertionOrder.clear();
+        }
+    }
+
+    public static RenderCache withMaximumSize(int maximumSize) {
+        return new RenderCache(maximumSize);
+    }
+}
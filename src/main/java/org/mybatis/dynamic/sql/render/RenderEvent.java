@@ -0,0 +1,146 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.util.Objects;
+
+/**
+ * Describes a rendered statement. The statement's fingerprint is calculated when it is first requested, so
+ * listeners that do not need it do not pay for it.
+ *
+ * @see RenderListener
+ */
+public final class RenderEvent {
+    private final StatementType statementType;
+    private final RenderingStrategy renderingStrategy;
+    private final String sql;
+    private final long renderNanos;
+    private final int parameterCount;
+    private final int skippedConditions;
+    private long fingerprint;
+    private boolean fingerprintCalculated;
+
+    private RenderEvent(Builder builder) {
+        statementType = Objects.requireNonNull(builder.statementType);
+        renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
+        sql = Objects.requireNonNull(builder.sql);
+        renderNanos = builder.renderNanos;
+        parameterCount = builder.parameterCount;
+        skippedConditions = builder.skippedConditions;
+    }
+
+    public StatementType statementType() {
+        return statementType;
+    }
+
+    public RenderingStrategy renderingStrategy() {
+        return renderingStrategy;
+    }
+
+    public String sql() {
+        return sql;
+    }
+
+    /**
+     * Returns the fingerprint of the statement's shape. This is the same fingerprint that the statement provider
+     * returns from {@code getShapeFingerprint()}.
+     *
+     * @return the fingerprint
+     * @see StatementFingerprint#shapeOf(String)
+     */
+    public long fingerprint() {
+        if (!fingerprintCalculated) {
+            fingerprint = StatementFingerprint.shapeOf(sql);
+            fingerprintCalculated = true;
+        }
+        return fingerprint;
+    }
+
+    public long renderNanos() {
+        return renderNanos;
+    }
+
+    public int sqlLength() {
+        return sql.length();
+    }
+
+    /**
+     * Returns the number of bind parameters in the statement. For inserts that bind record properties, this is the
+     * number of properties bound for all rows in the statement.
+     *
+     * @return the number of bind parameters
+     */
+    public int parameterCount() {
+        return parameterCount;
+    }
+
+    /**
+     * Returns the number of optional where clause conditions that were not rendered - conditions with a
+     * {@code when} filter, or "when present" conditions without a value, for example.
+     *
+     * @return the number of skipped conditions
+     */
+    public int skippedConditions() {
+        return skippedConditions;
+    }
+
+    public static Builder withStatementType(StatementType statementType) {
+        return new Builder().withStatementType(statementType);
+    }
+
+    public static class Builder {
+        private StatementType statementType;
+        private RenderingStrategy renderingStrategy;
+        private String sql;
+        private long renderNanos;
+        private int parameterCount;
+        private int skippedConditions;
+
+        public Builder withStatementType(StatementType statementType) {
+            this.statementType = statementType;
+            return this;
+        }
+
+        public Builder withRenderingStrategy(RenderingStrategy renderingStrategy) {
+            this.renderingStrategy = renderingStrategy;
+            return this;
+        }
+
+        public Builder withSql(String sql) {
+            this.sql = sql;
+            return this;
+        }
+
+        public Builder withRenderNanos(long renderNanos) {
+            this.renderNanos = renderNanos;
+            return this;
+        }
+
+        public Builder withParameterCount(int parameterCount) {
+            this.parameterCount = parameterCount;
+            return this;
+        }
+
+        public Builder withSkippedConditions(int skippedConditions) {
+            this.skippedConditions = skippedConditions;
+            return this;
+        }
+
+        public RenderEvent build() {
+            return new RenderEvent(this);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+/**
+ * Receives an event for every statement that is rendered. A listener can be registered for all statements with
+ * {@link RenderListeners#setGlobalListener(RenderListener)}, or for the statements rendered with one rendering
+ * strategy by overriding {@link RenderingStrategy#renderListener()}. The strategy's listener is used in place of the
+ * global listener.
+ *
+ * <p>Listeners are called on the rendering thread, right after a statement is rendered, so they must be thread safe
+ * and fast. Exceptions thrown by a listener are not caught. Statements served from a {@link RenderCache} are not
+ * rendered, so they are not reported - the cache keeps its own hit counts.
+ *
+ * @see AggregatingRenderListener
+ */
+@FunctionalInterface
+public interface RenderListener {
+    void statementRendered(RenderEvent event);
+}
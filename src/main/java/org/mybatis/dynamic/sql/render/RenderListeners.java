@@ -0,0 +1,55 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Holds the global {@link RenderListener}.
+ */
+public final class RenderListeners {
+    private static volatile RenderListener globalListener;
+
+    private RenderListeners() {}
+
+    public static Optional<RenderListener> globalListener() {
+        return Optional.ofNullable(globalListener);
+    }
+
+    /**
+     * Sets the listener for statements rendered with a strategy that does not have its own listener.
+     *
+     * @param renderListener the listener
+     */
+    public static void setGlobalListener(RenderListener renderListener) {
+        globalListener = Objects.requireNonNull(renderListener);
+    }
+
+    public static void removeGlobalListener() {
+        globalListener = null;
+    }
+
+    /**
+     * Returns the listener for statements rendered with a strategy, or null if there is no listener.
+     *
+     * @param renderingStrategy the rendering strategy
+     * @return the listener, or null
+     */
+    static RenderListener listenerFor(RenderingStrategy renderingStrategy) {
+        return renderingStrategy.renderListener().orElse(globalListener);
+    }
+}
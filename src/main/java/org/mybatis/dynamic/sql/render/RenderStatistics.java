@@ -0,0 +1,217 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A snapshot of the statistics that an {@link AggregatingRenderListener} has collected for one statement shape.
+ *
+ * <p>Render times are counted in a histogram with power of two buckets - bucket {@code i} counts the renders that
+ * took from 2<sup>i</sup> to 2<sup>i+1</sup>-1 nanoseconds (bucket 0 also counts renders that took 0 nanoseconds).
+ * Percentiles are estimated from the histogram, so they are accurate to within a factor of two.
+ */
+public final class RenderStatistics {
+    private final StatementType statementType;
+    private final long fingerprint;
+    private final String sqlSample;
+    private final long count;
+    private final long totalNanos;
+    private final long maxNanos;
+    private final int sqlLength;
+    private final int parameterCount;
+    private final long skippedConditions;
+    private final long[] histogram;
+
+    private RenderStatistics(Builder builder) {
+        statementType = Objects.requireNonNull(builder.statementType);
+        fingerprint = builder.fingerprint;
+        sqlSample = Objects.requireNonNull(builder.sqlSample);
+        count = builder.count;
+        totalNanos = builder.totalNanos;
+        maxNanos = builder.maxNanos;
+        sqlLength = builder.sqlLength;
+        parameterCount = builder.parameterCount;
+        skippedConditions = builder.skippedConditions;
+        histogram = Objects.requireNonNull(builder.histogram);
+    }
+
+    public StatementType statementType() {
+        return statementType;
+    }
+
+    public long fingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Returns the start of the SQL of the first statement recorded for this shape. Long statements are truncated.
+     *
+     * @return the start of the SQL
+     */
+    public String sqlSample() {
+        return sqlSample;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public long totalNanos() {
+        return totalNanos;
+    }
+
+    public long maxNanos() {
+        return maxNanos;
+    }
+
+    public long meanNanos() {
+        return count == 0 ? 0 : totalNanos / count;
+    }
+
+    public int sqlLength() {
+        return sqlLength;
+    }
+
+    public int parameterCount() {
+        return parameterCount;
+    }
+
+    /**
+     * Returns the total number of optional conditions skipped in all renders of this shape.
+     *
+     * @return the number of skipped conditions
+     */
+    public long skippedConditions() {
+        return skippedConditions;
+    }
+
+    public long[] histogram() {
+        return histogram.clone();
+    }
+
+    /**
+     * Estimates a render time percentile from the histogram. The estimate is the upper bound of the bucket
+     * that holds the percentile, but never more than the maximum render time.
+     *
+     * @param percentile the percentile - between 0 and 100
+     * @return the estimated render time in nanoseconds
+     */
+    public long percentileNanos(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("A percentile must be between 0 and 100"); //$NON-NLS-1$
+        }
+
+        long total = Arrays.stream(histogram).sum();
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+        long seen = 0;
+        for (int i = 0; i < histogram.length; i++) {
+            seen += histogram[i];
+            if (seen >= rank) {
+                long upperBound = i >= 62 ? Long.MAX_VALUE : (2L << i) - 1;
+                return Math.min(upperBound, maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    @Override
+    public String toString() {
+        return statementType
+                + " " + StatementFingerprint.toHex(fingerprint) //$NON-NLS-1$
+                + " count=" + count //$NON-NLS-1$
+                + " meanNanos=" + meanNanos() //$NON-NLS-1$
+                + " p50Nanos=" + percentileNanos(50) //$NON-NLS-1$
+                + " p99Nanos=" + percentileNanos(99) //$NON-NLS-1$
+                + " maxNanos=" + maxNanos //$NON-NLS-1$
+                + " sqlLength=" + sqlLength //$NON-NLS-1$
+                + " parameters=" + parameterCount //$NON-NLS-1$
+                + " skippedConditions=" + skippedConditions //$NON-NLS-1$
+                + " sql=" + sqlSample; //$NON-NLS-1$
+    }
+
+    public static class Builder {
+        private StatementType statementType;
+        private long fingerprint;
+        private String sqlSample;
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+        private int sqlLength;
+        private int parameterCount;
+        private long skippedConditions;
+        private long[] histogram;
+
+        public Builder withStatementType(StatementType statementType) {
+            this.statementType = statementType;
+            return this;
+        }
+
+        public Builder withFingerprint(long fingerprint) {
+            this.fingerprint = fingerprint;
+            return this;
+        }
+
+        public Builder withSqlSample(String sqlSample) {
+            this.sqlSample = sqlSample;
+            return this;
+        }
+
+        public Builder withCount(long count) {
+            this.count = count;
+            return this;
+        }
+
+        public Builder withTotalNanos(long totalNanos) {
+            this.totalNanos = totalNanos;
+            return this;
+        }
+
+        public Builder withMaxNanos(long maxNanos) {
+            this.maxNanos = maxNanos;
+            return this;
+        }
+
+        public Builder withSqlLength(int sqlLength) {
+            this.sqlLength = sqlLength;
+            return this;
+        }
+
+        public Builder withParameterCount(int parameterCount) {
+            this.parameterCount = parameterCount;
+            return this;
+        }
+
+        public Builder withSkippedConditions(long skippedConditions) {
+            this.skippedConditions = skippedConditions;
+            return this;
+        }
+
+        public Builder withHistogram(long[] histogram) {
+            this.histogram = histogram.clone();
+            return this;
+        }
+
+        public RenderStatistics build() {
+            return new RenderStatistics(this);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.util.Objects;
+
+/**
+ * Times the rendering of a statement and reports it to the {@link RenderListener} for the rendering strategy.
+ * Renderers start a timer before they render and call {@link #rendered(String, int, int)} when the SQL is complete.
+ * When there is no listener, {@link #start(RenderingStrategy, StatementType)} returns a shared timer that does
+ * nothing, so rendering without a listener neither allocates nor reads the clock.
+ */
+public class RenderTimer {
+    private static final RenderTimer NO_LISTENER = new RenderTimer();
+
+    private final RenderListener renderListener;
+    private final RenderingStrategy renderingStrategy;
+    private final StatementType statementType;
+    private long start;
+
+    private RenderTimer() {
+        renderListener = null;
+        renderingStrategy = null;
+        statementType = null;
+    }
+
+    private RenderTimer(RenderListener renderListener, RenderingStrategy renderingStrategy,
+            StatementType statementType) {
+        this.renderListener = renderListener;
+        this.renderingStrategy = renderingStrategy;
+        this.statementType = statementType;
+        start = System.nanoTime();
+    }
+
+    /**
+     * Reports a rendered statement. A renderer that renders several statements calls this once for each
+     * statement - the time for each statement is measured from the end of the previous call.
+     *
+     * @param sql the rendered SQL
+     * @param parameterCount the number of bind parameters in the statement
+     * @param skippedConditions the number of optional conditions that were not rendered
+     */
+    public void rendered(String sql, int parameterCount, int skippedConditions) {
+        if (renderListener == null) {
+            return;
+        }
+
+        long renderNanos = System.nanoTime() - start;
+        renderListener.statementRendered(RenderEvent.withStatementType(statementType)
+                .withRenderingStrategy(renderingStrategy)
+                .withSql(sql)
+                .withRenderNanos(renderNanos)
+                .withParameterCount(parameterCount)
+                .withSkippedConditions(skippedConditions)
+                .build());
+        start = System.nanoTime();
+    }
+
+    /**
+     * Returns true when the rendered statement is reported to a listener. Renderers use this to avoid calculating
+     * values that are only needed for the report.
+     *
+     * @return true if {@link #rendered(String, int, int)} reports to a listener
+     */
+    public boolean isListening() {
+        return renderListener != null;
+    }
+
+    public static RenderTimer start(RenderingStrategy renderingStrategy, StatementType statementType) {
+        RenderListener renderListener = RenderListeners.listenerFor(Objects.requireNonNull(renderingStrategy));
+        if (renderListener == null) {
+            return NO_LISTENER;
+        }
+        return new RenderTimer(renderListener, renderingStrategy, statementType);
+    }
+
+    /**
+     * Returns a timer that never reports. This is used when a renderer renders part of a statement for another
+     * renderer - the other renderer reports the complete statement.
+     *
+     * @return a timer that does nothing
+     */
+    public static RenderTimer none() {
+        return NO_LISTENER;
+    }
+}
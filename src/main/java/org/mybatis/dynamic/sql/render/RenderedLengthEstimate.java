@@ -0,0 +1,58 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+/**
+ * A running estimate of the length, and number of parameters, of rendered statements. Renderers keep one estimate
+ * for each kind of statement and use it to size the buffer and parameters of a {@link SqlWriter} so that they
+ * rarely need to grow during rendering.
+ *
+ * <p>The estimate is a slowly decaying high water mark: it jumps immediately to any longer statement and shrinks
+ * gradually when statements get shorter. The estimate is shared by every statement of a kind, so it is capped - a
+ * rare very large statement (a long "in" list for example) must not make the following renders on every thread
+ * allocate buffers of the same size. Larger statements grow their buffers as they render. Updates are not
+ * synchronized - a lost update only affects the size of some future buffer, never the rendered SQL.
+ */
+public class RenderedLengthEstimate {
+    private static final int MINIMUM_CAPACITY = 64;
+    private static final int HEADROOM = 16;
+    private static final int MINIMUM_PARAMETER_CAPACITY = 8;
+    private static final int MAXIMUM_CAPACITY = 4096;
+    private static final int MAXIMUM_PARAMETER_CAPACITY = 256;
+
+    private volatile int estimate = MINIMUM_CAPACITY;
+    private volatile int parameterEstimate = MINIMUM_PARAMETER_CAPACITY;
+
+    public int initialCapacity() {
+        return estimate + HEADROOM;
+    }
+
+    public int initialParameterCapacity() {
+        // parameter numbers start at 1
+        return parameterEstimate + 1;
+    }
+
+    public void record(SqlWriter writer) {
+        estimate = next(estimate, writer.length(), MINIMUM_CAPACITY, MAXIMUM_CAPACITY);
+        parameterEstimate = next(parameterEstimate, writer.parameters().size(), MINIMUM_PARAMETER_CAPACITY,
+                MAXIMUM_PARAMETER_CAPACITY);
+    }
+
+    private static int next(int current, int actual, int minimum, int maximum) {
+        int decayed = Math.max(minimum, current - (current >> 4));
+        return Math.max(Math.min(actual, maximum), decayed);
+    }
+}
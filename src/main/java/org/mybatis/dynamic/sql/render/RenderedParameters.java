@@ -0,0 +1,255 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * The bind parameters of a rendered statement.
+ *
+ * <p>Parameter map keys are generated sequentially by {@link RenderingStrategy#formatParameterMapKey(int)}
+ * ("p1", "p2", ...), so the values are stored in an array addressed by the number in the key rather than in a
+ * hash table. Keys in any other format are kept in a secondary map.
+ *
+ * <p>Through the {@link Map} interface this class is read only. Parameters are added by a {@link SqlWriter} while a
+ * statement is rendered. Statement providers share the instance rather than copying it, so the parameters of a
+ * statement are stored exactly once no matter how deeply the statement is nested.
+ */
+public final class RenderedParameters extends AbstractMap<String, Object> {
+    private static final Object ABSENT = new Object();
+    private static final int MAXIMUM_INDEX_DIGITS = 9;
+    private static final int MAXIMUM_GAP = 64;
+
+    private Object[] values;
+    private int indexedSize;
+    private Map<String, Object> otherParameters = Collections.emptyMap();
+    private Set<Entry<String, Object>> entrySet;
+
+    RenderedParameters(int initialCapacity) {
+        values = new Object[Math.max(initialCapacity, 1)];
+        Arrays.fill(values, ABSENT);
+    }
+
+    void add(String mapKey, Object value) {
+        int index = parseIndex(mapKey);
+        if (index >= 0 && ensureCapacity(index)) {
+            set(index, value);
+        } else {
+            if (otherParameters.isEmpty()) {
+                otherParameters = new LinkedHashMap<>();
+            }
+            otherParameters.put(mapKey, value);
+        }
+    }
+
+    void add(int index, Object value) {
+        if (index >= 0 && ensureCapacity(index)) {
+            set(index, value);
+        } else {
+            add(RenderingStrategy.formatParameterMapKey(index), value);
+        }
+    }
+
+    private void set(int index, Object value) {
+        if (values[index] == ABSENT) {
+            indexedSize++;
+        }
+        values[index] = value;
+    }
+
+    void addAll(Map<String, Object> parameters) {
+        if (parameters instanceof RenderedParameters) {
+            RenderedParameters other = (RenderedParameters) parameters;
+            for (int i = 0; i < other.values.length; i++) {
+                if (other.values[i] != ABSENT) {
+                    add(RenderingStrategy.formatParameterMapKey(i), other.values[i]);
+                }
+            }
+            other.otherParameters.forEach(this::add);
+        } else {
+            parameters.forEach(this::add);
+        }
+    }
+
+    private boolean ensureCapacity(int index) {
+        if (index < values.length) {
+            return true;
+        }
+
+        if (index > values.length * 2 + MAXIMUM_GAP) {
+            // a very sparse index is not worth a large array
+            return false;
+        }
+
+        int oldLength = values.length;
+        values = Arrays.copyOf(values, Math.max(index + 1, oldLength * 2));
+        Arrays.fill(values, oldLength, values.length, ABSENT);
+        return true;
+    }
+
+    @Override
+    public Object get(Object key) {
+        int index = indexOf(key);
+        if (index >= 0) {
+            return values[index] == ABSENT ? null : values[index];
+        }
+        return otherParameters.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        int index = indexOf(key);
+        if (index >= 0) {
+            return values[index] != ABSENT;
+        }
+        return otherParameters.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return indexedSize + otherParameters.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private int indexOf(Object key) {
+        if (key instanceof String) {
+            int index = parseIndex((String) key);
+            if (index >= 0 && index < values.length) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the number in a map key of the form "pN", or -1 if the key is in any other form. Keys with leading
+     * zeros are not in the canonical form and are not parsed.
+     *
+     * @param mapKey the key to parse
+     * @return the number in the key, or -1
+     */
+    static int parseIndex(String mapKey) {
+        int length = mapKey.length();
+        if (length < 2 || length > MAXIMUM_INDEX_DIGITS + 1 || mapKey.charAt(0) != 'p'
+                || (mapKey.charAt(1) == '0' && length > 2)) {
+            return -1;
+        }
+
+        int index = 0;
+        for (int i = 1; i < length; i++) {
+            char c = mapKey.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            index = index * 10 + (c - '0');
+        }
+        return index;
+    }
+
+    /**
+     * Combines parameter maps for the statement provider builders. Rendered parameters are adopted as is rather
+     * than copied. Any other map is copied so that later changes to it do not affect the statement.
+     *
+     * @param existing the parameters already held by a builder
+     * @param additional the parameters to add
+     * @return the combined parameters
+     */
+    public static Map<String, Object> combine(Map<String, Object> existing, Map<String, Object> additional) {
+        if (existing.isEmpty() && additional instanceof RenderedParameters) {
+            return additional;
+        }
+
+        Map<String, Object> answer = existing instanceof HashMap ? existing : new HashMap<>(existing);
+        answer.putAll(additional);
+        return answer;
+    }
+
+    private class EntrySet extends AbstractSet<Entry<String, Object>> {
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return RenderedParameters.this.size();
+        }
+    }
+
+    private class EntryIterator implements Iterator<Entry<String, Object>> {
+        private int nextIndex = advance(0);
+        private Iterator<Entry<String, Object>> otherIterator;
+
+        private int advance(int start) {
+            int i = start;
+            while (i < values.length && values[i] == ABSENT) {
+                i++;
+            }
+            return i;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (nextIndex < values.length) {
+                return true;
+            }
+            return otherIterator().hasNext();
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (nextIndex < values.length) {
+                int index = nextIndex;
+                nextIndex = advance(index + 1);
+                return new SimpleImmutableEntry<>(RenderingStrategy.formatParameterMapKey(index), values[index]);
+            }
+
+            if (otherIterator().hasNext()) {
+                return new SimpleImmutableEntry<>(otherIterator.next());
+            }
+
+            throw new NoSuchElementException();
+        }
+
+        private Iterator<Entry<String, Object>> otherIterator() {
+            if (otherIterator == null) {
+                otherIterator = otherParameters.entrySet().iterator();
+            }
+            return otherIterator;
+        }
+    }
+}
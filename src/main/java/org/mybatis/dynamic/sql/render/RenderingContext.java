@@ -0,0 +1,340 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.mybatis.dynamic.sql.BindParameter;
+import org.mybatis.dynamic.sql.BindableColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+
+/**
+ * Holds the state that is shared by all renderers while a single statement is rendered - the rendering strategy,
+ * the parameter sequence, and the table alias calculator for the query expression that is currently being rendered.
+ * One context is created for a statement and passed to every renderer that takes part in rendering the statement,
+ * including renderers for sub queries.
+ *
+ * <p>The context also remembers table names and table aliases that have been calculated for the statement, so
+ * they are calculated at most once per statement.
+ *
+ * <p>This class is mutable and is not thread safe. A context must not be shared between statements.
+ */
+public class RenderingContext {
+    private final RenderingStrategy renderingStrategy;
+    private int sequence;
+    private int skippedConditions;
+    private TableAliasCalculator tableAliasCalculator;
+    private final TableLookup<String> tableNames = new TableLookup<>();
+    private BindableColumn<?> lastColumn;
+    private String lastPrefix;
+    private PlaceholderTemplate lastTemplate;
+    private final ParameterBindings.Builder bindParameters;
+
+    private RenderingContext(Builder builder) {
+        renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
+        sequence = builder.sequence;
+        tableAliasCalculator = cachingCalculator(builder.tableAliasCalculator);
+        bindParameters = builder.bindParameters;
+    }
+
+    public RenderingStrategy renderingStrategy() {
+        return renderingStrategy;
+    }
+
+    /**
+     * Returns the parameter map key for the next bind parameter in the statement.
+     *
+     * @return the next parameter map key
+     */
+    public String nextParameterMapKey() {
+        return RenderingStrategy.formatParameterMapKey(sequence++);
+    }
+
+    /**
+     * Returns the sequence number for the next bind parameter in the statement. This is an alternative to
+     * {@link #nextParameterMapKey()} for renderers that write parameters with
+     * {@link SqlWriter#addParameter(int, Object)} and {@link PlaceholderTemplate#write(SqlWriter, int)}.
+     *
+     * @return the next sequence number
+     */
+    public int nextParameterIndex() {
+        return sequence++;
+    }
+
+    /**
+     * Returns the sequence number that will be used for the next bind parameter.
+     *
+     * @return the next sequence number
+     */
+    public int sequence() {
+        return sequence;
+    }
+
+    /**
+     * Records optional conditions that were not rendered.
+     *
+     * @param count the number of conditions that were not rendered
+     */
+    public void conditionsSkipped(int count) {
+        skippedConditions += count;
+    }
+
+    /**
+     * Records a bind parameter marker in the statement. Markers are only allowed when the statement is rendered into
+     * a prepared template - the parameter for the marker should be added with a null value, and the value is set when
+     * the template is bound.
+     *
+     * @param parameterMapKey the parameter map key of the marker
+     * @param bindParameter the marker
+     * @param column the column the marker is used with
+     * @throws IllegalStateException if the statement is not being rendered into a prepared template
+     */
+    public void addBindParameter(String parameterMapKey, BindParameter<?> bindParameter, BindableColumn<?> column) {
+        if (bindParameters == null) {
+            throw ParameterBindings.unpreparedBindParameter(bindParameter);
+        }
+        bindParameters.withBindParameter(parameterMapKey, bindParameter, column);
+    }
+
+    /**
+     * Returns the number of optional conditions in the statement that were not rendered.
+     *
+     * @return the number of skipped conditions
+     */
+    public int skippedConditions() {
+        return skippedConditions;
+    }
+
+    public TableAliasCalculator tableAliasCalculator() {
+        return tableAliasCalculator;
+    }
+
+    /**
+     * Sets the table alias calculator for a query expression. Renderers should restore the returned calculator
+     * when they finish rendering the query expression.
+     *
+     * @param tableAliasCalculator the table alias calculator for the query expression about to be rendered
+     * @return the table alias calculator that was in effect before this call
+     */
+    public TableAliasCalculator replaceTableAliasCalculator(TableAliasCalculator tableAliasCalculator) {
+        TableAliasCalculator previous = this.tableAliasCalculator;
+        this.tableAliasCalculator = cachingCalculator(tableAliasCalculator);
+        return previous;
+    }
+
+    /**
+     * Returns the name of the table at runtime. The name is calculated once per statement.
+     *
+     * @param table the table
+     * @return the name of the table
+     */
+    public String tableName(SqlTable table) {
+        String tableName = tableNames.get(table);
+        if (tableName == null) {
+            tableName = table.tableNameAtRuntime();
+            tableNames.put(table, tableName);
+        }
+        return tableName;
+    }
+
+    /**
+     * Returns the formatted JDBC placeholder for a bind parameter of a column. The column's rendering strategy is
+     * used if it has one, otherwise the rendering strategy for the statement is used. The placeholder is built from
+     * the column's {@link PlaceholderTemplate}.
+     *
+     * @param column the column
+     * @param prefix the parameter prefix
+     * @param parameterMapKey the parameter map key
+     * @return the formatted placeholder
+     */
+    public String formattedPlaceholder(BindableColumn<?> column, String prefix, String parameterMapKey) {
+        return placeholderTemplate(column, prefix).placeholder(parameterMapKey);
+    }
+
+    /**
+     * Returns the placeholder template for a column. The column's rendering strategy is used if it has one,
+     * otherwise the rendering strategy for the statement is used.
+     *
+     * @param column the column
+     * @param prefix the parameter prefix
+     * @return the placeholder template
+     */
+    public PlaceholderTemplate placeholderTemplate(BindableColumn<?> column, String prefix) {
+        // the last template is remembered for columns that do not cache their own, such as functions
+        if (column != lastColumn || !prefix.equals(lastPrefix)) {
+            lastTemplate = column.placeholderTemplate(renderingStrategy, prefix);
+            lastColumn = column;
+            lastPrefix = prefix;
+        }
+        return lastTemplate;
+    }
+
+    /**
+     * Returns the formatted JDBC placeholder for a bind parameter that is not related to a column.
+     *
+     * @param prefix the parameter prefix
+     * @param parameterMapKey the parameter map key
+     * @return the formatted placeholder
+     */
+    public String formattedPlaceholder(String prefix, String parameterMapKey) {
+        return renderingStrategy.getFormattedJdbcPlaceholder(prefix, parameterMapKey);
+    }
+
+    private static TableAliasCalculator cachingCalculator(TableAliasCalculator tableAliasCalculator) {
+        if (tableAliasCalculator instanceof CachingTableAliasCalculator) {
+            return tableAliasCalculator;
+        }
+        return new CachingTableAliasCalculator(Objects.requireNonNull(tableAliasCalculator));
+    }
+
+    public static Builder withRenderingStrategy(RenderingStrategy renderingStrategy) {
+        return new Builder().withRenderingStrategy(renderingStrategy);
+    }
+
+    /**
+     * Remembers the aliases calculated by another table alias calculator. Alias calculation is not free - the
+     * calculator for joins, for example, creates several objects for each column - and the same few tables are
+     * looked up over and over while a statement is rendered.
+     */
+    private static class CachingTableAliasCalculator extends TableAliasCalculator {
+        private final TableAliasCalculator delegate;
+        private final TableLookup<Optional<String>> columnAliases = new TableLookup<>();
+        private final TableLookup<Optional<String>> tableAliases = new TableLookup<>();
+
+        private CachingTableAliasCalculator(TableAliasCalculator delegate) {
+            super(Collections.emptyMap());
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Optional<String> aliasForColumn(SqlTable table) {
+            Optional<String> alias = columnAliases.get(table);
+            if (alias == null) {
+                alias = delegate.aliasForColumn(table);
+                columnAliases.put(table, alias);
+            }
+            return alias;
+        }
+
+        @Override
+        public Optional<String> aliasForTable(SqlTable table) {
+            Optional<String> alias = tableAliases.get(table);
+            if (alias == null) {
+                alias = delegate.aliasForTable(table);
+                tableAliases.put(table, alias);
+            }
+            return alias;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            return delegate.equals(((CachingTableAliasCalculator) obj).delegate);
+        }
+
+        @Override
+        public int hashCode() {
+            return delegate.hashCode();
+        }
+    }
+
+    /**
+     * A tiny identity map for tables. A statement references only a few tables, so a linear search of a small
+     * array is faster, and much smaller, than a hash map.
+     *
+     * @param <V> the type of value
+     */
+    private static class TableLookup<V> {
+        private SqlTable[] tables;
+        private Object[] values;
+        private int size;
+
+        @SuppressWarnings("unchecked")
+        V get(SqlTable table) {
+            for (int i = 0; i < size; i++) {
+                if (tables[i] == table) {
+                    return (V) values[i];
+                }
+            }
+            return null;
+        }
+
+        void put(SqlTable table, V value) {
+            if (tables == null) {
+                tables = new SqlTable[4];
+                values = new Object[4];
+            } else if (size == tables.length) {
+                tables = Arrays.copyOf(tables, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+            tables[size] = table;
+            values[size] = value;
+            size++;
+        }
+    }
+
+    public static class Builder {
+        private RenderingStrategy renderingStrategy;
+        private int sequence = 1;
+        private TableAliasCalculator tableAliasCalculator = TableAliasCalculator.empty();
+        private ParameterBindings.Builder bindParameters;
+
+        public Builder withRenderingStrategy(RenderingStrategy renderingStrategy) {
+            this.renderingStrategy = renderingStrategy;
+            return this;
+        }
+
+        /**
+         * Sets the sequence number for the first bind parameter. The default is 1.
+         *
+         * @param sequence the first sequence number
+         * @return this builder
+         */
+        public Builder withSequence(int sequence) {
+            this.sequence = sequence;
+            return this;
+        }
+
+        public Builder withTableAliasCalculator(TableAliasCalculator tableAliasCalculator) {
+            this.tableAliasCalculator = tableAliasCalculator;
+            return this;
+        }
+
+        /**
+         * Allows bind parameter markers in the statement. Markers are recorded in the supplied builder. If this
+         * is not set, rendering fails if the statement contains a marker.
+         *
+         * @param bindParameters records the markers in the statement
+         * @return this builder
+         */
+        public Builder withBindParameters(ParameterBindings.Builder bindParameters) {
+            this.bindParameters = bindParameters;
+            return this;
+        }
+
+        public RenderingContext build() {
+            return new RenderingContext(this);
+        }
+    }
+}
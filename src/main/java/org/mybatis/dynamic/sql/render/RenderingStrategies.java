@@ -21,4 +21,6 @@ public class RenderingStrategies {
     public static final RenderingStrategy MYBATIS3 = new MyBatis3RenderingStrategy();
 
     public static final RenderingStrategy SPRING_NAMED_PARAMETER = new SpringNamedParameterRenderingStrategy();
+
+    public static final RenderingStrategy JDBC_POSITIONAL = new JdbcPositionalRenderingStrategy();
 }
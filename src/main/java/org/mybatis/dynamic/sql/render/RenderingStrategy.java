@@ -15,6 +15,7 @@
  */
 package org.mybatis.dynamic.sql.render;
 
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.mybatis.dynamic.sql.BindableColumn;
@@ -22,14 +23,73 @@ import org.mybatis.dynamic.sql.BindableColumn;
 public abstract class RenderingStrategy {
     public static final String DEFAULT_PARAMETER_PREFIX = "parameters"; //$NON-NLS-1$
 
+    static final String PARAMETER_MAP_KEY_PREFIX = "p"; //$NON-NLS-1$
+    private static final String[] PARAMETER_MAP_KEYS = new String[1024];
+
+    static {
+        for (int i = 0; i < PARAMETER_MAP_KEYS.length; i++) {
+            PARAMETER_MAP_KEYS[i] = PARAMETER_MAP_KEY_PREFIX + i;
+        }
+    }
+
     public static String formatParameterMapKey(AtomicInteger sequence) {
-        return "p" + sequence.getAndIncrement(); //$NON-NLS-1$
+        return formatParameterMapKey(sequence.getAndIncrement());
+    }
+
+    /**
+     * Returns the parameter map key for a sequence number. Keys for the first 1024 numbers are shared strings.
+     *
+     * @param index the sequence number
+     * @return the parameter map key
+     */
+    public static String formatParameterMapKey(int index) {
+        if (index >= 0 && index < PARAMETER_MAP_KEYS.length) {
+            return PARAMETER_MAP_KEYS[index];
+        }
+        return PARAMETER_MAP_KEY_PREFIX + index;
     }
 
     public abstract String getFormattedJdbcPlaceholder(BindableColumn<?> column, String prefix, String parameterName);
 
     public abstract String getFormattedJdbcPlaceholder(String prefix, String parameterName);
 
+    /**
+     * Returns a template for the placeholders of a column. Renderers ask for a template once and reuse it for
+     * every value bound to the column, and columns may cache the template. The default template calls
+     * {@link #getFormattedJdbcPlaceholder(BindableColumn, String, String)} for every placeholder. Strategies that
+     * render the parameter map key verbatim should return {@link PlaceholderTemplate#spliced}.
+     *
+     * @param column the column
+     * @param prefix the parameter prefix
+     * @return the placeholder template
+     */
+    public PlaceholderTemplate placeholderTemplate(BindableColumn<?> column, String prefix) {
+        return PlaceholderTemplate.rendering(this, column, prefix);
+    }
+
+    /**
+     * Returns the list padding for "in" and "not in" conditions rendered with this strategy. The default is empty,
+     * which means the global default padding is used. Override this method to configure padding for a strategy.
+     *
+     * @return the list padding for this strategy
+     * @see InListPadding
+     */
+    public Optional<InListPadding> inListPadding() {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the listener for statements rendered with this strategy. The default is empty, which means the global
+     * listener is used. Override this method to report the statements rendered with a strategy to a different
+     * listener.
+     *
+     * @return the render listener for this strategy
+     * @see RenderListeners#setGlobalListener(RenderListener)
+     */
+    public Optional<RenderListener> renderListener() {
+        return Optional.empty();
+    }
+
     public String getMultiRowFormattedJdbcPlaceholder(BindableColumn<?> column, String prefix, String parameterName) {
         return getFormattedJdbcPlaceholder(column, prefix, parameterName);
     }
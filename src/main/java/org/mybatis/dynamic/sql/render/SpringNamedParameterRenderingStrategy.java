@@ -33,4 +33,9 @@ public class SpringNamedParameterRenderingStrategy extends RenderingStrategy {
     public String getMultiRowFormattedJdbcPlaceholder(BindableColumn<?> column, String prefix, String parameterName) {
         return ":" + prefix + "." + parameterName; //$NON-NLS-1$ //$NON-NLS-2$
     }
+
+    @Override
+    public PlaceholderTemplate placeholderTemplate(BindableColumn<?> column, String prefix) {
+        return PlaceholderTemplate.spliced(this, column, prefix);
+    }
 }
@@ -0,0 +1,182 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Accumulates the SQL text and bind parameters of a single statement. The renderers write every clause of a
+ * statement into one writer rather than building and merging intermediate strings and parameter maps.
+ *
+ * <p>This class is also an extension point. Columns, functions, and conditions can override the
+ * rendering methods that accept a SqlWriter (for example
+ * {@link org.mybatis.dynamic.sql.BasicColumn#renderWithTableAlias(TableAliasCalculator, SqlWriter)}) and append
+ * their SQL directly.
+ *
+ * <p>A SqlWriter is not thread safe and should not be reused across statements.
+ */
+public class SqlWriter {
+    private final StringBuilder buffer;
+    private final RenderedParameters parameters;
+
+    private SqlWriter(int initialCapacity, RenderedParameters parameters) {
+        buffer = new StringBuilder(initialCapacity);
+        this.parameters = parameters;
+    }
+
+    public SqlWriter append(String s) {
+        buffer.append(s);
+        return this;
+    }
+
+    public SqlWriter append(char c) {
+        buffer.append(c);
+        return this;
+    }
+
+    public SqlWriter append(int i) {
+        buffer.append(i);
+        return this;
+    }
+
+    /**
+     * Appends a space if the buffer is not empty and does not already end with a space.
+     *
+     * @return this writer
+     */
+    public SqlWriter appendSpace() {
+        int length = buffer.length();
+        if (length > 0 && buffer.charAt(length - 1) != ' ') {
+            buffer.append(' ');
+        }
+        return this;
+    }
+
+    /**
+     * Appends all the strings from the stream separated by the delimiter.
+     *
+     * @param strings the strings to append
+     * @param delimiter the delimiter to place between strings
+     * @return this writer
+     */
+    public SqlWriter appendJoined(Stream<String> strings, String delimiter) {
+        return appendJoined(strings, delimiter, (s, w) -> w.buffer.append(s));
+    }
+
+    /**
+     * Writes all the items from the stream separated by the delimiter.
+     *
+     * @param items the items to write
+     * @param delimiter the delimiter to place between items
+     * @param itemWriter a function that will write each item to this writer
+     * @param <T> the type of item
+     * @return this writer
+     */
+    public <T> SqlWriter appendJoined(Stream<T> items, String delimiter, BiConsumer<? super T, SqlWriter> itemWriter) {
+        // forEach rather than iterator() - a stream iterator buffers the pipeline output
+        items.forEach(new JoiningConsumer<>(delimiter, itemWriter));
+        return this;
+    }
+
+    public SqlWriter addParameter(String mapKey, Object value) {
+        parameters.add(Objects.requireNonNull(mapKey), value);
+        return this;
+    }
+
+    /**
+     * Adds a parameter by its sequence number. This is equivalent to adding the parameter with the key from
+     * {@link RenderingStrategy#formatParameterMapKey(int)}, but does not create the key.
+     *
+     * @param index the parameter sequence number
+     * @param value the parameter value
+     * @return this writer
+     */
+    public SqlWriter addParameter(int index, Object value) {
+        parameters.add(index, value);
+        return this;
+    }
+
+    public SqlWriter addParameters(Map<String, Object> parameters) {
+        this.parameters.addAll(parameters);
+        return this;
+    }
+
+    /**
+     * Returns a new writer with its own buffer that adds parameters to the parameters of this writer. This is
+     * useful for rendering a nested statement (such as a sub query) whose text must be wrapped before it is
+     * appended, without copying the parameters of the nested statement.
+     *
+     * @param initialCapacity the initial capacity of the new buffer
+     * @return a new writer that shares parameters with this writer
+     */
+    public SqlWriter nestedWriter(int initialCapacity) {
+        return new SqlWriter(initialCapacity, parameters);
+    }
+
+    public int length() {
+        return buffer.length();
+    }
+
+    public boolean isEmpty() {
+        return buffer.length() == 0;
+    }
+
+    public String toSql() {
+        return buffer.toString();
+    }
+
+    /**
+     * Returns the parameters added to this writer. The returned map is read only.
+     *
+     * @return the parameters
+     */
+    public Map<String, Object> parameters() {
+        return parameters;
+    }
+
+    public static SqlWriter withInitialCapacity(int initialCapacity) {
+        return new SqlWriter(initialCapacity, new RenderedParameters(16));
+    }
+
+    public static SqlWriter withEstimate(RenderedLengthEstimate estimate) {
+        return new SqlWriter(estimate.initialCapacity(), new RenderedParameters(estimate.initialParameterCapacity()));
+    }
+
+    private class JoiningConsumer<T> implements Consumer<T> {
+        private final String delimiter;
+        private final BiConsumer<? super T, SqlWriter> itemWriter;
+        private boolean first = true;
+
+        private JoiningConsumer(String delimiter, BiConsumer<? super T, SqlWriter> itemWriter) {
+            this.delimiter = delimiter;
+            this.itemWriter = itemWriter;
+        }
+
+        @Override
+        public void accept(T item) {
+            if (first) {
+                first = false;
+            } else {
+                buffer.append(delimiter);
+            }
+            itemWriter.accept(item, SqlWriter.this);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.util.BitSet;
+
+/**
+ * Calculates fingerprints for rendered SQL. A fingerprint is a 64 bit FNV-1a hash, so unlike
+ * {@link StatementShape#hashCode()} it does not depend on object identity - it is the same in every JVM and can be
+ * used to correlate statements across processes and over time.
+ *
+ * <p>{@link #of(String)} hashes the SQL exactly as rendered. Bind values are not part of rendered SQL, so every
+ * statement with the same text has the same fingerprint.
+ *
+ * <p>{@link #shapeOf(String)} hashes the {@link #normalize(String) normalized} SQL instead. Placeholders are
+ * normalized to a question mark and the placeholders of an "in" list to a single placeholder, so the shape fingerprint
+ * is the same for every rendering strategy and for every length of an "in" list.
+ */
+public final class StatementFingerprint {
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray(); //$NON-NLS-1$
+
+    private StatementFingerprint() {}
+
+    /**
+     * Returns the fingerprint of the SQL exactly as rendered, written as 16 hexadecimal digits.
+     *
+     * @param sql the rendered SQL
+     * @return the fingerprint
+     */
+    public static String of(String sql) {
+        return toHex(hash(sql));
+    }
+
+    /**
+     * Returns the fingerprint of the normalized SQL. Statements that differ only in the rendering strategy, the
+     * parameter names, or the number of values in an "in" list have the same shape fingerprint.
+     *
+     * @param sql the rendered SQL
+     * @return the shape fingerprint
+     * @see #normalize(String)
+     */
+    public static long shapeOf(String sql) {
+        return hash(normalize(sql));
+    }
+
+    /**
+     * Normalizes rendered SQL to its shape. Every placeholder - {@code #{...}}, {@code :name} or {@code ?} - is
+     * written as {@code ?}, and a run of comma separated placeholders in an "in" or "not in" list is written as a
+     * single {@code ?}. Quoted literals are not changed.
+     *
+     * <p>Only "in" lists are collapsed - the values of an insert and the arguments of a function keep one
+     * placeholder for each value, and multiple row inserts with different numbers of rows keep different shapes.
+     *
+     * @param sql the rendered SQL
+     * @return the normalized SQL
+     */
+    public static String normalize(String sql) {
+        StringBuilder sb = new StringBuilder(sql.length());
+        // bit n is set when the parenthesis at depth n opens an "in" list
+        BitSet inLists = new BitSet();
+        int depth = 0;
+        int length = sql.length();
+        int i = 0;
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (c == '\'') {
+                int end = sql.indexOf('\'', i + 1);
+                end = end < 0 ? length : end + 1;
+                sb.append(sql, i, end);
+                i = end;
+            } else if (c == '#' && i + 1 < length && sql.charAt(i + 1) == '{') {
+                int end = sql.indexOf('}', i + 2);
+                i = end < 0 ? length : end + 1;
+                appendPlaceholder(sb, isInList(inLists, depth));
+            } else if (c == ':' && isNamedParameter(sql, i)) {
+                i++;
+                while (i < length && isParameterNameChar(sql.charAt(i))) {
+                    i++;
+                }
+                appendPlaceholder(sb, isInList(inLists, depth));
+            } else if (c == '?') {
+                i++;
+                appendPlaceholder(sb, isInList(inLists, depth));
+            } else {
+                if (c == '(') {
+                    inLists.set(depth, endsWithIn(sb));
+                    depth++;
+                } else if (c == ')' && depth > 0) {
+                    depth--;
+                }
+                sb.append(c);
+                i++;
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns a fingerprint written as 16 hexadecimal digits.
+     *
+     * @param fingerprint the fingerprint
+     * @return the fingerprint in hexadecimal
+     */
+    public static String toHex(long fingerprint) {
+        long value = fingerprint;
+        char[] digits = new char[16];
+        for (int i = digits.length - 1; i >= 0; i--) {
+            digits[i] = HEX_DIGITS[(int) (value & 0xf)];
+            value >>>= 4;
+        }
+        return new String(digits);
+    }
+
+    private static long hash(String sql) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            hash = (hash ^ (c & 0xff)) * FNV_PRIME;
+            hash = (hash ^ (c >>> 8)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static boolean isInList(BitSet inLists, int depth) {
+        return depth > 0 && inLists.get(depth - 1);
+    }
+
+    /**
+     * Returns true if the normalized SQL ends with the keyword "in" - the next parenthesis opens an "in" list.
+     */
+    private static boolean endsWithIn(StringBuilder sb) {
+        int i = sb.length() - 1;
+        while (i >= 0 && sb.charAt(i) == ' ') {
+            i--;
+        }
+        return i >= 1
+                && Character.toLowerCase(sb.charAt(i)) == 'n'
+                && Character.toLowerCase(sb.charAt(i - 1)) == 'i'
+                && (i == 1 || !Character.isLetterOrDigit(sb.charAt(i - 2)) && sb.charAt(i - 2) != '_');
+    }
+
+    /**
+     * Appends a placeholder. In an "in" list, a placeholder that continues a run of placeholders is not appended.
+     */
+    private static void appendPlaceholder(StringBuilder sb, boolean inList) {
+        if (!inList) {
+            sb.append('?');
+            return;
+        }
+
+        int i = sb.length() - 1;
+        while (i >= 0 && sb.charAt(i) == ' ') {
+            i--;
+        }
+        if (i >= 0 && sb.charAt(i) == ',') {
+            i--;
+            while (i >= 0 && sb.charAt(i) == ' ') {
+                i--;
+            }
+            if (i >= 0 && sb.charAt(i) == '?') {
+                sb.setLength(i + 1);
+                return;
+            }
+        }
+        sb.append('?');
+    }
+
+    /**
+     * A named parameter starts with a single colon followed by a letter or underscore. A double colon is a cast.
+     */
+    private static boolean isNamedParameter(String sql, int colon) {
+        if (colon > 0 && sql.charAt(colon - 1) == ':') {
+            return false;
+        }
+        int next = colon + 1;
+        return next < sql.length() && (Character.isLetter(sql.charAt(next)) || sql.charAt(next) == '_');
+    }
+
+    private static boolean isParameterNameChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '.' || c == '[' || c == ']';
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The shape of a statement - everything about a statement model that affects the rendered SQL, but
+ * none of the values that will be bound to the statement. Two models with equal shapes will render
+ * identical SQL for the same rendering strategy, so a shape is suitable as the key for a cache of
+ * rendered statements.
+ *
+ * <p>A shape is an ordered list of tokens. Tokens are compared with {@link Object#equals(Object)}, so any
+ * object that participates in a shape (columns, tables, etc.) must have an equals method that is consistent
+ * with rendering. Objects that do not override equals are compared by identity which is always safe, but
+ * may result in fewer cache hits.
+ */
+public final class StatementShape {
+    private final Object[] tokens;
+    private final int hashCode;
+
+    private StatementShape(Builder builder) {
+        tokens = builder.tokens.toArray();
+        hashCode = Arrays.hashCode(tokens);
+    }
+
+    public int size() {
+        return tokens.length;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof StatementShape)) {
+            return false;
+        }
+        StatementShape other = (StatementShape) obj;
+        return hashCode == other.hashCode && Arrays.equals(tokens, other.tokens);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return "StatementShape" + Arrays.toString(tokens); //$NON-NLS-1$
+    }
+
+    public static class Builder {
+        private final List<Object> tokens = new ArrayList<>();
+
+        public Builder withToken(Object token) {
+            tokens.add(token);
+            return this;
+        }
+
+        public StatementShape build() {
+            return new StatementShape(this);
+        }
+    }
+}
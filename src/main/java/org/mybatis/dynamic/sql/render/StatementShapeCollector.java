@@ -0,0 +1,615 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.mybatis.dynamic.sql.AbstractArrayValueCondition;
+import org.mybatis.dynamic.sql.AbstractColumnComparisonCondition;
+import org.mybatis.dynamic.sql.AbstractListValueCondition;
+import org.mybatis.dynamic.sql.AbstractNoValueCondition;
+import org.mybatis.dynamic.sql.AbstractSingleValueCondition;
+import org.mybatis.dynamic.sql.AbstractSubselectCondition;
+import org.mybatis.dynamic.sql.AbstractTwoValueCondition;
+import org.mybatis.dynamic.sql.BindParameter;
+import org.mybatis.dynamic.sql.BindParameterCondition;
+import org.mybatis.dynamic.sql.BindableColumn;
+import org.mybatis.dynamic.sql.ColumnAndConditionCriterion;
+import org.mybatis.dynamic.sql.ConditionVisitor;
+import org.mybatis.dynamic.sql.CriteriaGroup;
+import org.mybatis.dynamic.sql.ExistsCriterion;
+import org.mybatis.dynamic.sql.SqlCriterion;
+import org.mybatis.dynamic.sql.SqlCriterionVisitor;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.TableExpression;
+import org.mybatis.dynamic.sql.TableExpressionVisitor;
+import org.mybatis.dynamic.sql.VisitableCondition;
+import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.insert.AbstractMultiRowInsertModel;
+import org.mybatis.dynamic.sql.insert.GeneralInsertModel;
+import org.mybatis.dynamic.sql.insert.InsertModel;
+import org.mybatis.dynamic.sql.insert.InsertSelectModel;
+import org.mybatis.dynamic.sql.select.OrderByModel;
+import org.mybatis.dynamic.sql.select.PagingModel;
+import org.mybatis.dynamic.sql.select.QueryExpressionModel;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.SubQuery;
+import org.mybatis.dynamic.sql.select.join.JoinCriterion;
+import org.mybatis.dynamic.sql.select.join.JoinModel;
+import org.mybatis.dynamic.sql.select.join.JoinSpecification;
+import org.mybatis.dynamic.sql.update.UpdateModel;
+import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
+import org.mybatis.dynamic.sql.util.BindParameterMapping;
+import org.mybatis.dynamic.sql.util.ColumnMappingVisitor;
+import org.mybatis.dynamic.sql.util.ColumnToColumnMapping;
+import org.mybatis.dynamic.sql.util.ConstantMapping;
+import org.mybatis.dynamic.sql.util.NullMapping;
+import org.mybatis.dynamic.sql.util.PropertyMapping;
+import org.mybatis.dynamic.sql.util.PropertyWhenPresentMapping;
+import org.mybatis.dynamic.sql.util.SelectMapping;
+import org.mybatis.dynamic.sql.util.StringConstantMapping;
+import org.mybatis.dynamic.sql.util.ValueMapping;
+import org.mybatis.dynamic.sql.util.ValueOrNullMapping;
+import org.mybatis.dynamic.sql.util.ValueWhenPresentMapping;
+import org.mybatis.dynamic.sql.where.condition.IsBetween;
+import org.mybatis.dynamic.sql.where.condition.IsEqualTo;
+import org.mybatis.dynamic.sql.where.condition.IsEqualToWithSubselect;
+import org.mybatis.dynamic.sql.where.condition.IsGreaterThan;
+import org.mybatis.dynamic.sql.where.condition.IsGreaterThanOrEqualTo;
+import org.mybatis.dynamic.sql.where.condition.IsGreaterThanOrEqualToWithSubselect;
+import org.mybatis.dynamic.sql.where.condition.IsGreaterThanWithSubselect;
+import org.mybatis.dynamic.sql.where.condition.IsIn;
+import org.mybatis.dynamic.sql.where.condition.IsInArray;
+import org.mybatis.dynamic.sql.where.condition.IsInCaseInsensitive;
+import org.mybatis.dynamic.sql.where.condition.IsInInts;
+import org.mybatis.dynamic.sql.where.condition.IsInLongs;
+import org.mybatis.dynamic.sql.where.condition.IsInWithSubselect;
+import org.mybatis.dynamic.sql.where.condition.IsLessThan;
+import org.mybatis.dynamic.sql.where.condition.IsLessThanOrEqualTo;
+import org.mybatis.dynamic.sql.where.condition.IsLessThanOrEqualToWithSubselect;
+import org.mybatis.dynamic.sql.where.condition.IsLessThanWithSubselect;
+import org.mybatis.dynamic.sql.where.condition.IsLike;
+import org.mybatis.dynamic.sql.where.condition.IsLikeCaseInsensitive;
+import org.mybatis.dynamic.sql.where.condition.IsNotBetween;
+import org.mybatis.dynamic.sql.where.condition.IsNotEqualTo;
+import org.mybatis.dynamic.sql.where.condition.IsNotEqualToWithSubselect;
+import org.mybatis.dynamic.sql.where.condition.IsNotIn;
+import org.mybatis.dynamic.sql.where.condition.IsNotInArray;
+import org.mybatis.dynamic.sql.where.condition.IsNotInCaseInsensitive;
+import org.mybatis.dynamic.sql.where.condition.IsNotInWithSubselect;
+import org.mybatis.dynamic.sql.where.condition.IsNotLike;
+import org.mybatis.dynamic.sql.where.condition.IsNotLikeCaseInsensitive;
+import org.mybatis.dynamic.sql.where.condition.IsNotNull;
+import org.mybatis.dynamic.sql.where.condition.IsNull;
+
+/**
+ * Walks a statement model in exactly the same order as the renderers and collects two things: the
+ * {@link StatementShape} of the statement, and the parameter values that the renderers would bind.
+ * Parameter values are collected in sequence order, so the value at index 0 is the value the renderers
+ * would place in parameter "p1", etc.
+ *
+ * <p>This class does not call {@link VisitableCondition#renderingSkipped()} - skipped conditions are
+ * remembered so that the callbacks can be invoked if the statement is served from the cache.
+ *
+ * <p>{@link BindParameter} markers are only allowed when the collector is created for a prepared template. Like the
+ * renderers, the collector records a null parameter for each marker.
+ */
+final class StatementShapeCollector {
+    private static final Object END = new Object() {
+        @Override
+        public String toString() {
+            return "END"; //$NON-NLS-1$
+        }
+    };
+
+    /**
+     * Library conditions whose rendering depends only on their class. Any other condition - a subclass, a custom
+     * condition, or a library condition with settings like the chunk size of an "in" condition - is rendered with
+     * neutral placeholders and the rendering becomes part of the shape.
+     */
+    private static final Set<Class<?>> CLASS_RENDERED_CONDITIONS = new HashSet<>(Arrays.asList(
+            IsEqualTo.class, IsNotEqualTo.class, IsGreaterThan.class, IsGreaterThanOrEqualTo.class,
+            IsLessThan.class, IsLessThanOrEqualTo.class, IsLike.class, IsNotLike.class,
+            IsLikeCaseInsensitive.class, IsNotLikeCaseInsensitive.class, IsBetween.class, IsNotBetween.class,
+            IsNull.class, IsNotNull.class, IsIn.class, IsNotIn.class, IsInCaseInsensitive.class,
+            IsNotInCaseInsensitive.class, IsInLongs.class, IsInInts.class, IsInArray.class, IsNotInArray.class,
+            IsEqualToWithSubselect.class, IsNotEqualToWithSubselect.class, IsGreaterThanWithSubselect.class,
+            IsGreaterThanOrEqualToWithSubselect.class, IsLessThanWithSubselect.class,
+            IsLessThanOrEqualToWithSubselect.class, IsInWithSubselect.class, IsNotInWithSubselect.class));
+
+    private final StatementShape.Builder shapeBuilder = new StatementShape.Builder();
+    private final List<Object> parameters = new ArrayList<>();
+    private final List<VisitableCondition<?>> skippedConditions = new ArrayList<>();
+    private final MappingCollector mappingCollector = new MappingCollector();
+    private final TableExpressionCollector tableExpressionCollector = new TableExpressionCollector();
+    private final RenderingStrategy renderingStrategy;
+    private final ParameterBindings.Builder bindParameters;
+
+    private StatementShapeCollector(String statementType, RenderingStrategy renderingStrategy) {
+        this(statementType, renderingStrategy, null);
+    }
+
+    private StatementShapeCollector(String statementType, RenderingStrategy renderingStrategy,
+            ParameterBindings.Builder bindParameters) {
+        this.renderingStrategy = renderingStrategy;
+        this.bindParameters = bindParameters;
+        token(statementType);
+        token(Objects.requireNonNull(renderingStrategy));
+    }
+
+    StatementShape shape() {
+        return shapeBuilder.build();
+    }
+
+    Map<String, Object> parameters() {
+        RenderedParameters answer = new RenderedParameters(parameters.size() + 1);
+        for (int i = 0; i < parameters.size(); i++) {
+            answer.add(RenderingStrategy.formatParameterMapKey(i + 1), parameters.get(i));
+        }
+        return answer;
+    }
+
+    /**
+     * Returns true if the parameters rendered by the normal renderers are exactly the parameters collected
+     * by this class. This is a safety check before a rendered statement is cached.
+     *
+     * @param renderedParameters the parameters calculated by the renderer
+     * @return true if the parameters match
+     */
+    boolean matches(Map<String, Object> renderedParameters) {
+        if (renderedParameters.size() != parameters.size()) {
+            return false;
+        }
+
+        AtomicInteger sequence = new AtomicInteger(1);
+        return parameters.stream().allMatch(p -> {
+            String mapKey = RenderingStrategy.formatParameterMapKey(sequence);
+            return renderedParameters.containsKey(mapKey)
+                    && Objects.deepEquals(renderedParameters.get(mapKey), p);
+        });
+    }
+
+    /**
+     * Returns the markers collected for a prepared template.
+     *
+     * @return the markers in the statement
+     */
+    ParameterBindings.Builder bindParameters() {
+        return bindParameters;
+    }
+
+    void notifySkippedConditions() {
+        skippedConditions.forEach(VisitableCondition::renderingSkipped);
+    }
+
+    private void token(Object token) {
+        shapeBuilder.withToken(token);
+    }
+
+    private void tokenRendering(VisitableCondition<?> condition, Supplier<String> rendering) {
+        if (!CLASS_RENDERED_CONDITIONS.contains(condition.getClass())) {
+            token(rendering.get());
+        }
+    }
+
+    private String addBindParameter(BindParameter<?> bindParameter, BindableColumn<?> column) {
+        if (bindParameters == null) {
+            throw ParameterBindings.unpreparedBindParameter(bindParameter);
+        }
+        bindParameters.withBindParameter(RenderingStrategy.formatParameterMapKey(parameters.size() + 1),
+                bindParameter, column);
+        parameters.add(null);
+        return "?"; //$NON-NLS-1$
+    }
+
+    private void collect(SelectModel selectModel) {
+        token("select"); //$NON-NLS-1$
+        selectModel.mapQueryExpressions(Function.identity()).forEach(this::collect);
+        selectModel.orderByModel().ifPresent(this::collect);
+        selectModel.pagingModel().ifPresent(this::collect);
+        token(END);
+    }
+
+    private void collect(QueryExpressionModel queryExpression) {
+        TableAliasCalculator tableAliasCalculator = queryExpression.tableAliasCalculator();
+        token("queryExpression"); //$NON-NLS-1$
+        token(queryExpression.connector().orElse(null));
+        token(queryExpression.isDistinct());
+        token(tableAliasCalculator);
+        queryExpression.mapColumns(Function.identity()).forEach(this::token);
+        token("from"); //$NON-NLS-1$
+        queryExpression.table().accept(tableExpressionCollector);
+        queryExpression.joinModel().ifPresent(this::collect);
+        queryExpression.whereModel().ifPresent(wm -> collect(wm.mapCriteria(Function.identity()),
+                tableAliasCalculator));
+        queryExpression.groupByModel().ifPresent(gbm -> {
+            token("groupBy"); //$NON-NLS-1$
+            gbm.mapColumns(Function.identity()).forEach(this::token);
+        });
+        token(END);
+    }
+
+    private void collect(JoinModel joinModel) {
+        joinModel.mapJoinSpecifications(Function.identity()).forEach(this::collect);
+    }
+
+    private void collect(JoinSpecification joinSpecification) {
+        token(joinSpecification.joinType());
+        joinSpecification.table().accept(tableExpressionCollector);
+        joinSpecification.mapJoinCriteria(Function.identity()).forEach(this::collect);
+        token(END);
+    }
+
+    private void collect(JoinCriterion joinCriterion) {
+        token(joinCriterion.connector());
+        token(joinCriterion.leftColumn());
+        token(joinCriterion.operator());
+        token(joinCriterion.rightColumn());
+    }
+
+    private void collect(OrderByModel orderByModel) {
+        token("orderBy"); //$NON-NLS-1$
+        orderByModel.mapColumns(Function.identity()).forEach(ss -> {
+            token(ss.orderByName());
+            token(ss.isDescending());
+        });
+    }
+
+    private void collect(PagingModel pagingModel) {
+        Optional<Long> limit = pagingModel.limit();
+        Optional<Long> offset = pagingModel.offset();
+        Optional<Long> fetchFirstRows = pagingModel.fetchFirstRows();
+        token("paging"); //$NON-NLS-1$
+        token(limit.isPresent());
+        token(offset.isPresent());
+        // mirrors the paging renderers - fetch first is ignored if there is a limit
+        if (limit.isPresent()) {
+            parameters.add(limit.get());
+            offset.ifPresent(parameters::add);
+        } else {
+            token(fetchFirstRows.isPresent());
+            offset.ifPresent(parameters::add);
+            fetchFirstRows.ifPresent(parameters::add);
+        }
+    }
+
+    private void collect(Stream<SqlCriterion> criteria, TableAliasCalculator tableAliasCalculator) {
+        token("where"); //$NON-NLS-1$
+        token(tableAliasCalculator);
+        CriterionCollector criterionCollector = new CriterionCollector(tableAliasCalculator);
+        criteria.forEach(c -> c.accept(criterionCollector));
+        token(END);
+    }
+
+    private void collectTable(SqlTable table) {
+        token(table);
+        token(table.tableNameAtRuntime());
+    }
+
+    private void collect(AbstractColumnMapping columnMapping) {
+        token(columnMapping.getClass());
+        token(columnMapping.mapColumn(Function.identity()));
+        columnMapping.accept(mappingCollector);
+    }
+
+    static StatementShapeCollector of(SelectModel selectModel, RenderingStrategy renderingStrategy) {
+        StatementShapeCollector collector = new StatementShapeCollector("select", renderingStrategy); //$NON-NLS-1$
+        collector.collect(selectModel);
+        return collector;
+    }
+
+    static StatementShapeCollector of(UpdateModel updateModel, RenderingStrategy renderingStrategy) {
+        return collect(new StatementShapeCollector("update", renderingStrategy), updateModel); //$NON-NLS-1$
+    }
+
+    static StatementShapeCollector forPrepare(UpdateModel updateModel, RenderingStrategy renderingStrategy) {
+        return collect(new StatementShapeCollector("update", renderingStrategy, //$NON-NLS-1$
+                new ParameterBindings.Builder()), updateModel);
+    }
+
+    private static StatementShapeCollector collect(StatementShapeCollector collector, UpdateModel updateModel) {
+        collector.collectTable(updateModel.table());
+        updateModel.mapColumnMappings(Function.identity()).forEach(collector::collect);
+        updateModel.whereModel().ifPresent(wm -> collector.collect(wm.mapCriteria(Function.identity()),
+                TableAliasCalculator.empty()));
+        return collector;
+    }
+
+    static StatementShapeCollector of(DeleteModel deleteModel, RenderingStrategy renderingStrategy) {
+        return collect(new StatementShapeCollector("delete", renderingStrategy), deleteModel); //$NON-NLS-1$
+    }
+
+    static StatementShapeCollector forPrepare(DeleteModel deleteModel, RenderingStrategy renderingStrategy) {
+        return collect(new StatementShapeCollector("delete", renderingStrategy, //$NON-NLS-1$
+                new ParameterBindings.Builder()), deleteModel);
+    }
+
+    private static StatementShapeCollector collect(StatementShapeCollector collector, DeleteModel deleteModel) {
+        collector.collectTable(deleteModel.table());
+        deleteModel.whereModel().ifPresent(wm -> collector.collect(wm.mapCriteria(Function.identity()),
+                TableAliasCalculator.empty()));
+        return collector;
+    }
+
+    static StatementShapeCollector of(InsertModel<?> insertModel, RenderingStrategy renderingStrategy) {
+        StatementShapeCollector collector = new StatementShapeCollector("insert", renderingStrategy); //$NON-NLS-1$
+        collector.collectTable(insertModel.table());
+        insertModel.mapColumnMappings(Function.identity()).forEach(collector::collect);
+        return collector;
+    }
+
+    static StatementShapeCollector of(GeneralInsertModel generalInsertModel, RenderingStrategy renderingStrategy) {
+        StatementShapeCollector collector =
+                new StatementShapeCollector("generalInsert", renderingStrategy); //$NON-NLS-1$
+        collector.collectTable(generalInsertModel.table());
+        generalInsertModel.mapColumnMappings(Function.identity()).forEach(collector::collect);
+        return collector;
+    }
+
+    static StatementShapeCollector of(InsertSelectModel insertSelectModel, RenderingStrategy renderingStrategy) {
+        StatementShapeCollector collector =
+                new StatementShapeCollector("insertSelect", renderingStrategy); //$NON-NLS-1$
+        collector.collectTable(insertSelectModel.table());
+        insertSelectModel.columnList().ifPresent(cl -> cl.mapColumns(Function.identity()).forEach(collector::token));
+        collector.collect(insertSelectModel.selectModel());
+        return collector;
+    }
+
+    static StatementShapeCollector of(String statementType, AbstractMultiRowInsertModel<?> multiRowInsertModel,
+            RenderingStrategy renderingStrategy) {
+        StatementShapeCollector collector = new StatementShapeCollector(statementType, renderingStrategy);
+        collector.collectTable(multiRowInsertModel.table());
+        multiRowInsertModel.mapColumnMappings(Function.identity()).forEach(collector::collect);
+        return collector;
+    }
+
+    static StatementShapeCollector of(String statementType, AbstractMultiRowInsertModel<?> multiRowInsertModel,
+            int recordCount, RenderingStrategy renderingStrategy) {
+        StatementShapeCollector collector = of(statementType, multiRowInsertModel, renderingStrategy);
+        collector.token(recordCount);
+        return collector;
+    }
+
+    private class TableExpressionCollector implements TableExpressionVisitor<Void> {
+        @Override
+        public Void visit(SqlTable table) {
+            collectTable(table);
+            return null;
+        }
+
+        @Override
+        public Void visit(SubQuery subQuery) {
+            token("subQuery"); //$NON-NLS-1$
+            token(subQuery.alias().orElse(null));
+            collect(subQuery.selectModel());
+            return null;
+        }
+    }
+
+    private class CriterionCollector implements SqlCriterionVisitor<Void> {
+        private final TableAliasCalculator tableAliasCalculator;
+
+        private CriterionCollector(TableAliasCalculator tableAliasCalculator) {
+            this.tableAliasCalculator = tableAliasCalculator;
+        }
+
+        @Override
+        public <T> Void visit(ColumnAndConditionCriterion<T> criterion) {
+            VisitableCondition<T> condition = criterion.condition();
+            token(criterion.connector().orElse(null));
+            token(criterion.column());
+            token(condition.getClass());
+            boolean shouldRender = condition.shouldRender();
+            token(shouldRender);
+            if (shouldRender) {
+                condition.accept(new ConditionCollector<>(criterion.column(), tableAliasCalculator));
+            } else {
+                skippedConditions.add(condition);
+            }
+            collectSubCriteria(criterion);
+            return null;
+        }
+
+        @Override
+        public Void visit(ExistsCriterion criterion) {
+            token(criterion.connector().orElse(null));
+            token(criterion.existsPredicate().operator());
+            collect(criterion.existsPredicate().selectModelBuilder().build());
+            collectSubCriteria(criterion);
+            return null;
+        }
+
+        @Override
+        public Void visit(CriteriaGroup criterion) {
+            token(criterion.connector().orElse(null));
+            token("group"); //$NON-NLS-1$
+            collectSubCriteria(criterion);
+            return null;
+        }
+
+        private void collectSubCriteria(SqlCriterion criterion) {
+            criterion.mapSubCriteria(Function.identity()).forEach(c -> c.accept(this));
+            token(END);
+        }
+    }
+
+    private class ConditionCollector<T> implements ConditionVisitor<T, Void> {
+        private final BindableColumn<T> column;
+        private final TableAliasCalculator tableAliasCalculator;
+
+        private ConditionCollector(BindableColumn<T> column, TableAliasCalculator tableAliasCalculator) {
+            this.column = column;
+            this.tableAliasCalculator = tableAliasCalculator;
+        }
+
+        @Override
+        public Void visit(AbstractListValueCondition<T> condition) {
+            int before = parameters.size();
+            condition.mapValues(column::convertParameterType).forEach(parameters::add);
+            int count = parameters.size() - before;
+            int paddedCount = InListPadding.forCondition(condition, renderingStrategy).paddedSize(count);
+            for (int i = count; i < paddedCount; i++) {
+                parameters.add(parameters.get(parameters.size() - 1));
+            }
+            token(paddedCount);
+            tokenRendering(condition, () -> condition.renderCondition("", //$NON-NLS-1$
+                    Stream.generate(() -> "?").limit(paddedCount))); //$NON-NLS-1$
+            return null;
+        }
+
+        @Override
+        public Void visit(AbstractNoValueCondition<T> condition) {
+            tokenRendering(condition, () -> condition.renderCondition("")); //$NON-NLS-1$
+            return null;
+        }
+
+        @Override
+        public Void visit(AbstractSingleValueCondition<T> condition) {
+            parameters.add(column.convertParameterType(condition.value()));
+            tokenRendering(condition, () -> condition.renderCondition("", "?")); //$NON-NLS-1$ //$NON-NLS-2$
+            return null;
+        }
+
+        @Override
+        public Void visit(AbstractTwoValueCondition<T> condition) {
+            parameters.add(column.convertParameterType(condition.value1()));
+            parameters.add(column.convertParameterType(condition.value2()));
+            tokenRendering(condition,
+                    () -> condition.renderCondition("", "?", "?")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+            return null;
+        }
+
+        @Override
+        public Void visit(AbstractSubselectCondition<T> condition) {
+            collect(condition.selectModel());
+            tokenRendering(condition, () -> condition.renderCondition("", "")); //$NON-NLS-1$ //$NON-NLS-2$
+            return null;
+        }
+
+        @Override
+        public Void visit(AbstractColumnComparisonCondition<T> condition) {
+            // the comparison column is not visible, so the rendered condition is the shape
+            token(condition.renderCondition("", tableAliasCalculator)); //$NON-NLS-1$
+            return null;
+        }
+
+        @Override
+        public Void visit(AbstractArrayValueCondition<T> condition) {
+            parameters.add(condition.arrayValue(column::convertParameterType));
+            token(condition.typeHandler().orElse(null));
+            token(condition.arrayFunction().orElse(null));
+            tokenRendering(condition, () -> condition.renderCondition("", "?")); //$NON-NLS-1$ //$NON-NLS-2$
+            return null;
+        }
+
+        @Override
+        public Void visit(BindParameterCondition<T> condition) {
+            // the column is not visible, and the placeholders are the same for every strategy, so the rendered
+            // condition is the shape
+            token(condition.renderCondition("", this::addValue, //$NON-NLS-1$
+                    bindParameter -> addBindParameter(bindParameter, column)));
+            return null;
+        }
+
+        private String addValue(T value) {
+            parameters.add(column.convertParameterType(value));
+            return "?"; //$NON-NLS-1$
+        }
+    }
+
+    private class MappingCollector implements ColumnMappingVisitor<Void> {
+        @Override
+        public Void visit(NullMapping mapping) {
+            return null;
+        }
+
+        @Override
+        public Void visit(ConstantMapping mapping) {
+            token(mapping.constant());
+            return null;
+        }
+
+        @Override
+        public Void visit(StringConstantMapping mapping) {
+            token(mapping.constant());
+            return null;
+        }
+
+        @Override
+        public <T> Void visit(ValueMapping<T> mapping) {
+            parameters.add(mapping.value());
+            return null;
+        }
+
+        @Override
+        public <T> Void visit(ValueOrNullMapping<T> mapping) {
+            return collectOptionalValue(mapping.value());
+        }
+
+        @Override
+        public <T> Void visit(ValueWhenPresentMapping<T> mapping) {
+            return collectOptionalValue(mapping.value());
+        }
+
+        @Override
+        public Void visit(SelectMapping mapping) {
+            collect(mapping.selectModel());
+            return null;
+        }
+
+        @Override
+        public Void visit(PropertyMapping mapping) {
+            token(mapping.property());
+            return null;
+        }
+
+        @Override
+        public Void visit(PropertyWhenPresentMapping mapping) {
+            token(mapping.property());
+            token(mapping.shouldRender());
+            return null;
+        }
+
+        @Override
+        public Void visit(ColumnToColumnMapping mapping) {
+            token(mapping.rightColumn());
+            return null;
+        }
+
+        @Override
+        public Void visit(BindParameterMapping mapping) {
+            addBindParameter(mapping.bindParameter(), mapping.mapColumn(Function.identity()));
+            return null;
+        }
+
+        private Void collectOptionalValue(Optional<Object> value) {
+            token(value.isPresent());
+            value.ifPresent(parameters::add);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Counts the distinct statement shapes executed for each table and for each call site. Optional conditions such as
+ * {@code isEqualToWhenPresent} render a different statement for each combination of present values, so a single call
+ * site can produce more shapes than fit in the MyBatis or Spring statement caches. This registry makes that visible
+ * before it becomes a problem.
+ *
+ * <p>Record a statement with its {@link StatementFingerprint#shapeOf(String) shape fingerprint} - every statement
+ * provider returns it from {@code getShapeFingerprint()}. The call site is any name that identifies the code that
+ * builds the statement, for example the name of a mapper method. The registry is safe for concurrent use.
+ *
+ * <p>Memory is bounded by the shape limit. Once a table or call site has more shapes than the limit, new shapes
+ * for it are no longer stored, so its count stops at about one more than the limit.
+ *
+ * <p>For example:
+ *
+ * <pre>
+ *     StatementShapeRegistry shapeRegistry = StatementShapeRegistry.withShapeLimit(256);
+ *     ...
+ *     SelectStatementProvider selectStatement = ...
+ *     shapeRegistry.record(person.tableNameAtRuntime(), "PersonMapper.search", selectStatement.getShapeFingerprint());
+ *     ...
+ *     if (!shapeRegistry.callSitesOverLimit().isEmpty()) {
+ *         logger.warn("Statement shapes over the limit: {}", shapeRegistry.callSitesOverLimit());
+ *     }
+ * </pre>
+ */
+public class StatementShapeRegistry {
+    private final int shapeLimit;
+    private final Map<String, Set<Long>> shapesByTable = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> shapesByCallSite = new ConcurrentHashMap<>();
+
+    private StatementShapeRegistry(int shapeLimit) {
+        if (shapeLimit <= 0) {
+            throw new IllegalArgumentException("The shape limit must be positive"); //$NON-NLS-1$
+        }
+        this.shapeLimit = shapeLimit;
+    }
+
+    /**
+     * Records the execution of a statement shape.
+     *
+     * @param tableName the name of the table the statement is for
+     * @param callSite the name of the code that built the statement
+     * @param shapeFingerprint the shape fingerprint of the statement
+     * @return true if the shape is new for the table or for the call site
+     */
+    public boolean record(String tableName, String callSite, long shapeFingerprint) {
+        boolean newForTable = record(shapesByTable, Objects.requireNonNull(tableName), shapeFingerprint);
+        boolean newForCallSite = record(shapesByCallSite, Objects.requireNonNull(callSite), shapeFingerprint);
+        return newForTable || newForCallSite;
+    }
+
+    private boolean record(Map<String, Set<Long>> shapes, String key, long shapeFingerprint) {
+        Set<Long> keyShapes = shapes.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet());
+        if (keyShapes.size() > shapeLimit) {
+            return false;
+        }
+        return keyShapes.add(shapeFingerprint);
+    }
+
+    public int shapeCountForTable(String tableName) {
+        return shapeCount(shapesByTable, tableName);
+    }
+
+    public int shapeCountForCallSite(String callSite) {
+        return shapeCount(shapesByCallSite, callSite);
+    }
+
+    /**
+     * Returns the number of shapes for each table, sorted by table name.
+     *
+     * @return the number of shapes for each table
+     */
+    public Map<String, Integer> shapeCountsByTable() {
+        return shapeCounts(shapesByTable);
+    }
+
+    /**
+     * Returns the number of shapes for each call site, sorted by call site.
+     *
+     * @return the number of shapes for each call site
+     */
+    public Map<String, Integer> shapeCountsByCallSite() {
+        return shapeCounts(shapesByCallSite);
+    }
+
+    public Set<String> tablesOverLimit() {
+        return overLimit(shapesByTable);
+    }
+
+    public Set<String> callSitesOverLimit() {
+        return overLimit(shapesByCallSite);
+    }
+
+    public int shapeLimit() {
+        return shapeLimit;
+    }
+
+    public void reset() {
+        shapesByTable.clear();
+        shapesByCallSite.clear();
+    }
+
+    private static int shapeCount(Map<String, Set<Long>> shapes, String key) {
+        Set<Long> keyShapes = shapes.get(key);
+        return keyShapes == null ? 0 : keyShapes.size();
+    }
+
+    private static Map<String, Integer> shapeCounts(Map<String, Set<Long>> shapes) {
+        Map<String, Integer> counts = new TreeMap<>();
+        shapes.forEach((k, v) -> counts.put(k, v.size()));
+        return Collections.unmodifiableMap(counts);
+    }
+
+    private Set<String> overLimit(Map<String, Set<Long>> shapes) {
+        return shapes.entrySet().stream()
+                .filter(e -> e.getValue().size() > shapeLimit)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    public static StatementShapeRegistry withShapeLimit(int shapeLimit) {
+        return new StatementShapeRegistry(shapeLimit);
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+/**
+ * The kinds of statement reported to a {@link RenderListener}.
+ */
+public enum StatementType {
+    SELECT,
+    UPDATE,
+    DELETE,
+    INSERT,
+    BATCH_INSERT,
+    MULTI_ROW_INSERT,
+    GENERAL_INSERT,
+    INSERT_SELECT
+}
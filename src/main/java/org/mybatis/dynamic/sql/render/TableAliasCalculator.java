@@ -39,6 +39,22 @@ public class TableAliasCalculator {
         return Optional.ofNullable(aliases.get(table));
     }
 
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        return aliases.equals(((TableAliasCalculator) obj).aliases);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getClass(), aliases);
+    }
+
     public static TableAliasCalculator of(SqlTable table, String alias) {
         Map<SqlTable, String> tableAliases = new HashMap<>();
         tableAliases.put(table, alias);
@@ -45,6 +45,10 @@ public class ColumnSortSpecification implements SortSpecification {
         return tableAlias + "." + column.name(); //$NON-NLS-1$
     }
 
+    SqlColumn<?> qualifiedColumn() {
+        return column.qualifiedWith(tableAlias);
+    }
+
     @Override
     public boolean isDescending() {
         return isDescending;
@@ -0,0 +1,107 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.select;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * The key values of a row in a keyset (seek) paginated query. A keyset is the continuation token for the next
+ * page - the values are the order by column values of the last row of the current page, in the same order as
+ * the order by columns.
+ *
+ * <p>Keyset values are bound as parameters, so a keyset can be kept between requests and used with any
+ * rendering strategy. None of the values may be null.
+ *
+ * @see SelectDSL#seekAfter(Keyset)
+ * @see SelectDSL#seekBefore(Keyset)
+ */
+public class Keyset {
+    private final List<Object> values;
+
+    private Keyset(List<?> values) {
+        List<Object> copy = new ArrayList<>(values.size());
+        for (Object value : values) {
+            copy.add(Objects.requireNonNull(value, "Keyset values cannot be null")); //$NON-NLS-1$
+        }
+        this.values = Collections.unmodifiableList(copy);
+    }
+
+    public List<Object> values() {
+        return values;
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    /**
+     * Calculates the keyset for the next page from the last row of the current page.
+     *
+     * @param rows the rows of the current page
+     * @param keyExtractors functions that return the order by column values of a row, in the same order as the
+     *     order by columns
+     * @param <T> the type of row
+     * @return the keyset of the last row, or an empty Optional if there are no rows
+     */
+    @SafeVarargs
+    public static <T> Optional<Keyset> ofLastRow(List<T> rows, Function<? super T, ?>...keyExtractors) {
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+
+        T lastRow = rows.get(rows.size() - 1);
+        List<Object> values = new ArrayList<>(keyExtractors.length);
+        for (Function<? super T, ?> keyExtractor : keyExtractors) {
+            values.add(keyExtractor.apply(lastRow));
+        }
+        return Optional.of(new Keyset(values));
+    }
+
+    public static Keyset of(Object...values) {
+        return new Keyset(Arrays.asList(values));
+    }
+
+    public static Keyset of(List<?> values) {
+        return new Keyset(values);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof Keyset)) {
+            return false;
+        }
+        return values.equals(((Keyset) obj).values);
+    }
+
+    @Override
+    public int hashCode() {
+        return values.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "Keyset" + values; //$NON-NLS-1$
+    }
+}
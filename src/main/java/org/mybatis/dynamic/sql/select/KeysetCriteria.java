@@ -0,0 +1,148 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.select;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.mybatis.dynamic.sql.AbstractSingleValueCondition;
+import org.mybatis.dynamic.sql.BindParameter;
+import org.mybatis.dynamic.sql.BindParameterCondition;
+import org.mybatis.dynamic.sql.ColumnAndConditionCriterion;
+import org.mybatis.dynamic.sql.SortSpecification;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlCriterion;
+import org.mybatis.dynamic.sql.VisitableCondition;
+import org.mybatis.dynamic.sql.where.condition.IsEqualTo;
+import org.mybatis.dynamic.sql.where.condition.IsGreaterThan;
+import org.mybatis.dynamic.sql.where.condition.IsGreaterThanOrEqualTo;
+import org.mybatis.dynamic.sql.where.condition.IsLessThan;
+import org.mybatis.dynamic.sql.where.condition.IsLessThanOrEqualTo;
+
+/**
+ * Builds the seek predicate for keyset pagination from the order by columns and the keyset of the last row.
+ *
+ * <p>The predicate is written in the expanded form so that it works on every database, and so that columns
+ * can be sorted in different directions. For order by columns (a, b, c) the predicate for rows after the keyset is:
+ *
+ * <pre>
+ *     (a &gt;= ? and (a &gt; ? or (a = ? and b &gt; ?) or (a = ? and b = ? and c &gt; ?)))
+ * </pre>
+ *
+ * <p>The leading "a &gt;= ?" is redundant, but it gives the optimizer a simple range on the first column, so an
+ * index on the order by columns can be used for a range scan. Comparisons are reversed for descending columns,
+ * and for rows before the keyset.
+ */
+final class KeysetCriteria {
+    private final List<SqlColumn<Object>> columns = new ArrayList<>();
+    private final List<Boolean> seeksGreater = new ArrayList<>();
+    private final List<Object> values;
+
+    private KeysetCriteria(List<SortSpecification> orderByColumns, Keyset keyset, boolean isBefore) {
+        if (orderByColumns.size() != keyset.size()) {
+            throw new IllegalArgumentException("A keyset must have one value for each order by column - " //$NON-NLS-1$
+                    + "there are " + orderByColumns.size() + " order by columns and " //$NON-NLS-1$ //$NON-NLS-2$
+                    + keyset.size() + " keyset values"); //$NON-NLS-1$
+        }
+
+        for (SortSpecification orderByColumn : orderByColumns) {
+            columns.add(column(orderByColumn));
+            seeksGreater.add(orderByColumn.isDescending() == isBefore);
+        }
+        values = keyset.values();
+    }
+
+    private SqlCriterion build() {
+        if (columns.size() == 1) {
+            return criterion(0, strictComparison(0), "and"); //$NON-NLS-1$
+        }
+
+        List<SqlCriterion> alternatives = new ArrayList<>();
+        for (int i = 1; i < columns.size(); i++) {
+            List<SqlCriterion> subCriteria = new ArrayList<>();
+            for (int j = 1; j < i; j++) {
+                subCriteria.add(criterion(j, condition(j, IsEqualTo::of), "and")); //$NON-NLS-1$
+            }
+            subCriteria.add(criterion(i, strictComparison(i), "and")); //$NON-NLS-1$
+            alternatives.add(criterion(0, condition(0, IsEqualTo::of), "or", subCriteria)); //$NON-NLS-1$
+        }
+
+        SqlCriterion expanded = criterion(0, strictComparison(0), "and", alternatives); //$NON-NLS-1$
+        List<SqlCriterion> range = new ArrayList<>();
+        range.add(expanded);
+        return criterion(0, inclusiveComparison(0), "and", range); //$NON-NLS-1$
+    }
+
+    private VisitableCondition<Object> strictComparison(int index) {
+        return seeksGreater.get(index) ? condition(index, IsGreaterThan::of) : condition(index, IsLessThan::of);
+    }
+
+    private VisitableCondition<Object> inclusiveComparison(int index) {
+        return seeksGreater.get(index) ? condition(index, IsGreaterThanOrEqualTo::of)
+                : condition(index, IsLessThanOrEqualTo::of);
+    }
+
+    @SuppressWarnings("unchecked")
+    private VisitableCondition<Object> condition(int index,
+            Function<Object, ? extends AbstractSingleValueCondition<Object>> conditionFactory) {
+        Object value = values.get(index);
+        if (value instanceof BindParameter) {
+            return BindParameterCondition.of((BindParameter<Object>) value, conditionFactory);
+        }
+        return conditionFactory.apply(value);
+    }
+
+    private SqlCriterion criterion(int index, VisitableCondition<Object> condition, String connector) {
+        return ColumnAndConditionCriterion.withColumn(columns.get(index))
+                .withCondition(condition)
+                .withConnector(connector)
+                .build();
+    }
+
+    private SqlCriterion criterion(int index, VisitableCondition<Object> condition, String connector,
+            List<SqlCriterion> subCriteria) {
+        return ColumnAndConditionCriterion.withColumn(columns.get(index))
+                .withCondition(condition)
+                .withConnector(connector)
+                .withSubCriteria(subCriteria)
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static SqlColumn<Object> column(SortSpecification orderByColumn) {
+        if (orderByColumn instanceof SqlColumn) {
+            return (SqlColumn<Object>) orderByColumn;
+        } else if (orderByColumn instanceof ColumnSortSpecification) {
+            return (SqlColumn<Object>) ((ColumnSortSpecification) orderByColumn).qualifiedColumn();
+        }
+
+        throw new IllegalArgumentException("Keyset pagination requires order by columns that are table " //$NON-NLS-1$
+                + "columns. \"" + orderByColumn.orderByName() + "\" is not a table column"); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    /**
+     * Builds the seek predicate. The predicate has the connector "and".
+     *
+     * @param orderByColumns the order by columns of the statement
+     * @param keyset the keyset of the last row of the previous page
+     * @param isBefore true if the predicate should select rows before the keyset
+     * @return the seek predicate
+     */
+    static SqlCriterion of(List<SortSpecification> orderByColumns, Keyset keyset, boolean isBefore) {
+        return new KeysetCriteria(orderByColumns, keyset, isBefore).build();
+    }
+}
@@ -34,6 +34,19 @@ public class OrderByModel {
         return columns.stream().map(mapper);
     }
 
+    /**
+     * Returns a model that sorts every column in the opposite direction.
+     *
+     * @return the reversed model
+     */
+    OrderByModel reversed() {
+        List<SortSpecification> reversedColumns = new ArrayList<>();
+        for (SortSpecification column : columns) {
+            reversedColumns.add(new ReversedSortSpecification(column));
+        }
+        return new OrderByModel(reversedColumns);
+    }
+
     public static OrderByModel of(Collection<SortSpecification> columns) {
         return new OrderByModel(columns);
     }
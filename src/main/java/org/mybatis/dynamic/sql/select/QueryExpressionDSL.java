@@ -168,6 +168,14 @@ public class QueryExpressionDSL<R>
         return selectDSL.offset(offset);
     }
 
+    public SelectDSL<R> seekAfter(Keyset keyset) {
+        return selectDSL.seekAfter(keyset);
+    }
+
+    public SelectDSL<R> seekBefore(Keyset keyset) {
+        return selectDSL.seekBefore(keyset);
+    }
+
     public SelectDSL<R>.FetchFirstFinisher fetchFirst(long fetchFirstRows) {
         return selectDSL.fetchFirst(fetchFirstRows);
     }
@@ -16,15 +16,19 @@
 package org.mybatis.dynamic.sql.select;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.mybatis.dynamic.sql.BasicColumn;
+import org.mybatis.dynamic.sql.CriteriaGroup;
+import org.mybatis.dynamic.sql.SqlCriterion;
 import org.mybatis.dynamic.sql.SqlTable;
 import org.mybatis.dynamic.sql.TableExpression;
 import org.mybatis.dynamic.sql.render.GuaranteedTableAliasCalculator;
@@ -42,6 +46,17 @@ public class QueryExpressionModel {
     private final WhereModel whereModel;
     private final GroupByModel groupByModel;
 
+    private QueryExpressionModel(QueryExpressionModel source, WhereModel whereModel) {
+        connector = source.connector;
+        isDistinct = source.isDistinct;
+        selectList = source.selectList;
+        table = source.table;
+        joinModel = source.joinModel;
+        tableAliasCalculator = source.tableAliasCalculator;
+        this.whereModel = whereModel;
+        groupByModel = source.groupByModel;
+    }
+
     private QueryExpressionModel(Builder builder) {
         connector = builder.connector;
         isDistinct = builder.isDistinct;
@@ -96,6 +111,26 @@ public class QueryExpressionModel {
         return Optional.ofNullable(groupByModel);
     }
 
+    /**
+     * Returns a copy of this model with an additional criterion in the where clause. The criterion is added with
+     * "and" - if the where clause already has criteria, they are grouped so the criterion applies to all of them.
+     *
+     * @param criterion the criterion to add
+     * @return a new model
+     */
+    QueryExpressionModel withCriterion(SqlCriterion criterion) {
+        List<SqlCriterion> criteria = new ArrayList<>();
+        List<SqlCriterion> originalCriteria = whereModel().map(wm -> wm.mapCriteria(Function.identity())
+                .collect(Collectors.toList())).orElseGet(Collections::emptyList);
+        if (!originalCriteria.isEmpty()) {
+            criteria.add(new CriteriaGroup.Builder()
+                    .withSubCriteria(originalCriteria)
+                    .build());
+        }
+        criteria.add(criterion);
+        return new QueryExpressionModel(this, WhereModel.of(criteria));
+    }
+
     public static Builder withSelectList(List<BasicColumn> columnList) {
         return new Builder().withSelectList(columnList);
     }
@@ -0,0 +1,47 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.select;
+
+import java.util.Objects;
+
+import org.mybatis.dynamic.sql.SortSpecification;
+
+/**
+ * Sorts in the opposite direction of another sort specification. This is used to read the rows before a keyset -
+ * the nearest rows are read first.
+ */
+class ReversedSortSpecification implements SortSpecification {
+    private final SortSpecification delegate;
+
+    ReversedSortSpecification(SortSpecification delegate) {
+        this.delegate = Objects.requireNonNull(delegate);
+    }
+
+    @Override
+    public SortSpecification descending() {
+        return isDescending() ? this : delegate;
+    }
+
+    @Override
+    public String orderByName() {
+        return delegate.orderByName();
+    }
+
+    @Override
+    public boolean isDescending() {
+        return !delegate.isDescending();
+    }
+}
@@ -43,6 +43,8 @@ public class SelectDSL<R> implements Buildable<R> {
     private final Function<SelectModel, R> adapterFunction;
     private final List<QueryExpressionDSL<R>> queryExpressions = new ArrayList<>();
     private OrderByModel orderByModel;
+    private Keyset keyset;
+    private boolean isSeekBefore;
     private Long limit;
     private Long offset;
     private Long fetchFirstRows;
@@ -110,6 +112,45 @@ public class SelectDSL<R> implements Buildable<R> {
         orderByModel = OrderByModel.of(columns);
     }
 
+    /**
+     * Selects the rows that sort after a keyset (seek pagination). The values are the order by column values of
+     * the last row of the previous page, in the same order as the order by columns. Unlike an offset, the database
+     * does not read and discard the rows of earlier pages, so the cost of a page does not depend on its depth.
+     *
+     * <p>Every order by column must be a table column, and together the order by columns must uniquely identify a
+     * row - add the primary key as the last order by column if necessary.
+     *
+     * @param values the order by column values of the last row of the previous page
+     * @return this DSL
+     */
+    public SelectDSL<R> seekAfter(Object...values) {
+        return seekAfter(Keyset.of(values));
+    }
+
+    public SelectDSL<R> seekAfter(Keyset keyset) {
+        this.keyset = Objects.requireNonNull(keyset);
+        isSeekBefore = false;
+        return this;
+    }
+
+    /**
+     * Selects the rows that sort before a keyset (seek pagination). The order by clause is reversed, so the rows
+     * nearest the keyset are returned first - reverse the rows of the page to show them in the original order.
+     *
+     * @param values the order by column values of the first row of the following page
+     * @return this DSL
+     * @see #seekAfter(Object...)
+     */
+    public SelectDSL<R> seekBefore(Object...values) {
+        return seekBefore(Keyset.of(values));
+    }
+
+    public SelectDSL<R> seekBefore(Keyset keyset) {
+        this.keyset = Objects.requireNonNull(keyset);
+        isSeekBefore = true;
+        return this;
+    }
+
     public LimitFinisher limit(long limit) {
         this.limit = limit;
         return new LimitFinisher();
@@ -132,6 +173,9 @@ public class SelectDSL<R> implements Buildable<R> {
                 .withOrderByModel(orderByModel)
                 .withPagingModel(buildPagingModel())
                 .build();
+        if (keyset != null) {
+            selectModel = isSeekBefore ? selectModel.seekBefore(keyset) : selectModel.seekAfter(keyset);
+        }
         return adapterFunction.apply(selectModel);
     }
 
@@ -20,10 +20,16 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.jetbrains.annotations.NotNull;
+import org.mybatis.dynamic.sql.SortSpecification;
+import org.mybatis.dynamic.sql.SqlCriterion;
+import org.mybatis.dynamic.sql.render.ParameterBindings;
+import org.mybatis.dynamic.sql.render.RenderCache;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.select.render.PreparedSelect;
 import org.mybatis.dynamic.sql.select.render.SelectRenderer;
 import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
 
@@ -58,6 +64,75 @@ public class SelectModel {
                 .render();
     }
 
+    @NotNull
+    public SelectStatementProvider render(RenderingStrategy renderingStrategy, RenderCache renderCache) {
+        return renderCache.render(this, renderingStrategy);
+    }
+
+    /**
+     * Renders the statement once into a template. Values for any
+     * {@link org.mybatis.dynamic.sql.BindParameter} markers in the statement are bound later.
+     *
+     * @param renderingStrategy the rendering strategy
+     * @return a thread safe statement template
+     */
+    @NotNull
+    public PreparedSelect prepare(RenderingStrategy renderingStrategy) {
+        ParameterBindings.Builder bindParameters = new ParameterBindings.Builder();
+        SelectStatementProvider selectStatement = SelectRenderer.withSelectModel(this)
+                .withRenderingStrategy(renderingStrategy)
+                .withBindParameters(bindParameters)
+                .build()
+                .render();
+        return PreparedSelect.of(selectStatement, bindParameters);
+    }
+
+    /**
+     * Returns a copy of this model that selects the rows that sort after a keyset (seek pagination). A seek
+     * predicate for the order by columns is added to the where clause. The model must have an order by clause,
+     * must not be a union query, and must not already have a keyset.
+     *
+     * <p>The keyset values may be {@link org.mybatis.dynamic.sql.BindParameter} markers, so a statement for
+     * "the next page" can be prepared once and bound with the keyset of each page.
+     *
+     * @param keyset the order by column values of the last row of the previous page
+     * @return a new model
+     * @see SelectDSL#seekAfter(Object...)
+     */
+    public SelectModel seekAfter(Keyset keyset) {
+        return seek(keyset, false);
+    }
+
+    /**
+     * Returns a copy of this model that selects the rows that sort before a keyset. The order by clause is
+     * reversed, so the rows nearest the keyset are returned first.
+     *
+     * @param keyset the order by column values of the first row of the following page
+     * @return a new model
+     * @see SelectDSL#seekBefore(Object...)
+     */
+    public SelectModel seekBefore(Keyset keyset) {
+        return seek(keyset, true);
+    }
+
+    private SelectModel seek(Keyset keyset, boolean isBefore) {
+        if (orderByModel == null) {
+            throw new IllegalStateException("Keyset pagination requires an order by clause"); //$NON-NLS-1$
+        }
+        if (queryExpressions.size() > 1) {
+            throw new IllegalStateException("Keyset pagination is not supported for union queries"); //$NON-NLS-1$
+        }
+
+        List<SortSpecification> orderByColumns = orderByModel.mapColumns(Function.identity())
+                .collect(Collectors.toList());
+        SqlCriterion seekCriterion = KeysetCriteria.of(orderByColumns, keyset, isBefore);
+        return new Builder()
+                .withQueryExpression(queryExpressions.get(0).withCriterion(seekCriterion))
+                .withOrderByModel(isBefore ? orderByModel.reversed() : orderByModel)
+                .withPagingModel(pagingModel)
+                .build();
+    }
+
     public static Builder withQueryExpressions(List<QueryExpressionModel> queryExpressions) {
         return new Builder().withQueryExpressions(queryExpressions);
     }
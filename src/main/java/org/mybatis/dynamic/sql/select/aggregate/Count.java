@@ -46,4 +46,21 @@ public class Count extends AbstractCount {
     public static Count of(BasicColumn column) {
         return new Count(column);
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        Count other = (Count) obj;
+        return column.equals(other.column) && alias().equals(other.alias());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(column, alias());
+    }
 }
@@ -15,6 +15,8 @@
  */
 package org.mybatis.dynamic.sql.select.aggregate;
 
+import java.util.Objects;
+
 import org.mybatis.dynamic.sql.render.TableAliasCalculator;
 
 public class CountAll extends AbstractCount {
@@ -36,4 +38,21 @@ public class CountAll extends AbstractCount {
     public CountAll as(String alias) {
         return new CountAll(alias);
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        CountAll other = (CountAll) obj;
+        return alias().equals(other.alias());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(alias());
+    }
 }
@@ -46,4 +46,21 @@ public class CountDistinct extends AbstractCount {
     public static CountDistinct of(BasicColumn column) {
         return new CountDistinct(column);
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        CountDistinct other = (CountDistinct) obj;
+        return column.equals(other.column) && alias().equals(other.alias());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(column, alias());
+    }
 }
@@ -25,6 +25,7 @@ import java.util.stream.Stream;
 
 import org.mybatis.dynamic.sql.BasicColumn;
 import org.mybatis.dynamic.sql.BindableColumn;
+import org.mybatis.dynamic.sql.render.SqlWriter;
 import org.mybatis.dynamic.sql.render.TableAliasCalculator;
 
 public class OperatorFunction<T> extends AbstractUniTypeFunction<T, OperatorFunction<T>> {
@@ -57,6 +58,25 @@ public class OperatorFunction<T> extends AbstractUniTypeFunction<T, OperatorFunc
                 .collect(Collectors.joining(paddedOperator, "(", ")")); //$NON-NLS-1$ //$NON-NLS-2$
     }
 
+    @Override
+    public void renderWithTableAlias(TableAliasCalculator tableAliasCalculator, SqlWriter writer) {
+        writer.append('(');
+        column.renderWithTableAlias(tableAliasCalculator, writer);
+        writer.append(' ').append(operator).append(' ');
+        secondColumn.renderWithTableAlias(tableAliasCalculator, writer);
+        for (BasicColumn subsequentColumn : subsequentColumns) {
+            writer.append(' ').append(operator).append(' ');
+            subsequentColumn.renderWithTableAlias(tableAliasCalculator, writer);
+        }
+        writer.append(')');
+    }
+
+    @Override
+    public void renderWithTableAndColumnAlias(TableAliasCalculator tableAliasCalculator, SqlWriter writer) {
+        renderWithTableAlias(tableAliasCalculator, writer);
+        alias().ifPresent(a -> writer.append(" as ").append(a)); //$NON-NLS-1$
+    }
+
     public static <T> OperatorFunction<T> of(String operator, BindableColumn<T> firstColumn, BasicColumn secondColumn,
             BasicColumn... subsequentColumns) {
         return of(operator, firstColumn, secondColumn, Arrays.asList(subsequentColumns));
@@ -16,17 +16,19 @@
 package org.mybatis.dynamic.sql.select.render;
 
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
+import org.mybatis.dynamic.sql.render.CopyOnWriteParameters;
+import org.mybatis.dynamic.sql.render.RenderedParameters;
+
 public class DefaultSelectStatementProvider implements SelectStatementProvider {
     private final String selectStatement;
     private final Map<String, Object> parameters;
 
     private DefaultSelectStatementProvider(Builder builder) {
         selectStatement = Objects.requireNonNull(builder.selectStatement);
-        parameters = Collections.unmodifiableMap(Objects.requireNonNull(builder.parameters));
+        parameters = CopyOnWriteParameters.of(builder.parameters);
     }
 
     @Override
@@ -45,7 +47,7 @@ public class DefaultSelectStatementProvider implements SelectStatementProvider {
 
     public static class Builder {
         private String selectStatement;
-        private final Map<String, Object> parameters = new HashMap<>();
+        private Map<String, Object> parameters = Collections.emptyMap();
 
         public Builder withSelectStatement(String selectStatement) {
             this.selectStatement = selectStatement;
@@ -53,7 +55,7 @@ public class DefaultSelectStatementProvider implements SelectStatementProvider {
         }
 
         public Builder withParameters(Map<String, Object> parameters) {
-            this.parameters.putAll(parameters);
+            this.parameters = RenderedParameters.combine(this.parameters, parameters);
             return this;
         }
 
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2020 the original author or authors.
+ *    Copyright 2016-2021 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -18,68 +18,88 @@ package org.mybatis.dynamic.sql.select.render;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.render.SqlWriter;
 import org.mybatis.dynamic.sql.select.PagingModel;
 import org.mybatis.dynamic.sql.util.FragmentAndParameters;
 
 public class FetchFirstPagingModelRenderer {
+    private final RenderingContext renderingContext;
     private final RenderingStrategy renderingStrategy;
     private final PagingModel pagingModel;
     private final AtomicInteger sequence;
 
     public FetchFirstPagingModelRenderer(RenderingStrategy renderingStrategy,
             PagingModel pagingModel, AtomicInteger sequence) {
+        this.renderingContext = null;
         this.renderingStrategy = renderingStrategy;
         this.pagingModel = pagingModel;
         this.sequence = sequence;
     }
 
-    public Optional<FragmentAndParameters> render() {
-        return pagingModel.offset()
-                .map(this::renderWithOffset)
-                .orElseGet(this::renderFetchFirstRowsOnly);
+    FetchFirstPagingModelRenderer(RenderingContext renderingContext, PagingModel pagingModel) {
+        this.renderingContext = renderingContext;
+        this.renderingStrategy = null;
+        this.pagingModel = pagingModel;
+        this.sequence = null;
     }
 
-    private Optional<FragmentAndParameters> renderWithOffset(Long offset) {
-        return pagingModel.fetchFirstRows()
-                .map(ffr -> renderOffsetAndFetchFirstRows(offset, ffr))
-                .orElseGet(() -> renderOffsetOnly(offset));
+    public Optional<FragmentAndParameters> render() {
+        SqlWriter writer = SqlWriter.withInitialCapacity(64);
+        render(writer);
+        if (writer.isEmpty()) {
+            return Optional.empty();
+        }
+        return FragmentAndParameters.withFragment(writer.toSql())
+                .withParameters(writer.parameters())
+                .buildOptional();
     }
 
-    private Optional<FragmentAndParameters> renderFetchFirstRowsOnly() {
-        return pagingModel.fetchFirstRows().flatMap(this::renderFetchFirstRowsOnly);
-    }
+    /**
+     * Writes the paging phrase, if there is anything to write. A space is written before the phrase if the writer
+     * already has content.
+     *
+     * @param writer the writer for the current statement
+     */
+    public void render(SqlWriter writer) {
+        if (renderingContext != null) {
+            render(renderingContext, writer);
+            return;
+        }
 
-    private Optional<FragmentAndParameters> renderFetchFirstRowsOnly(Long fetchFirstRows) {
-        String mapKey = RenderingStrategy.formatParameterMapKey(sequence);
-        return FragmentAndParameters
-                .withFragment("fetch first " + renderPlaceholder(mapKey) //$NON-NLS-1$
-                    + " rows only") //$NON-NLS-1$
-                .withParameter(mapKey, fetchFirstRows)
-                .buildOptional();
+        RenderingContext context = RenderingContext.withRenderingStrategy(renderingStrategy)
+                .withSequence(sequence.get())
+                .build();
+        render(context, writer);
+        sequence.set(context.sequence());
     }
 
-    private Optional<FragmentAndParameters> renderOffsetOnly(Long offset) {
-        String mapKey = RenderingStrategy.formatParameterMapKey(sequence);
-        return FragmentAndParameters.withFragment("offset " + renderPlaceholder(mapKey) //$NON-NLS-1$
-                + " rows") //$NON-NLS-1$
-                .withParameter(mapKey, offset)
-                .buildOptional();
-    }
+    private void render(RenderingContext context, SqlWriter writer) {
+        Optional<Long> offset = pagingModel.offset();
+        Optional<Long> fetchFirstRows = pagingModel.fetchFirstRows();
 
-    private Optional<FragmentAndParameters> renderOffsetAndFetchFirstRows(Long offset, Long fetchFirstRows) {
-        String mapKey1 = RenderingStrategy.formatParameterMapKey(sequence);
-        String mapKey2 = RenderingStrategy.formatParameterMapKey(sequence);
-        return FragmentAndParameters.withFragment("offset " + renderPlaceholder(mapKey1) //$NON-NLS-1$
-                + " rows fetch first " + renderPlaceholder(mapKey2) //$NON-NLS-1$
-                + " rows only") //$NON-NLS-1$
-                .withParameter(mapKey1, offset)
-                .withParameter(mapKey2, fetchFirstRows)
-                .buildOptional();
+        if (offset.isPresent()) {
+            writer.appendSpace().append("offset "); //$NON-NLS-1$
+            bindValue(offset.get(), context, writer);
+            writer.append(" rows"); //$NON-NLS-1$
+            if (fetchFirstRows.isPresent()) {
+                writer.append(' ');
+            }
+        } else if (fetchFirstRows.isPresent()) {
+            writer.appendSpace();
+        }
+
+        if (fetchFirstRows.isPresent()) {
+            writer.append("fetch first "); //$NON-NLS-1$
+            bindValue(fetchFirstRows.get(), context, writer);
+            writer.append(" rows only"); //$NON-NLS-1$
+        }
     }
 
-    private String renderPlaceholder(String parameterName) {
-        return renderingStrategy.getFormattedJdbcPlaceholder(RenderingStrategy.DEFAULT_PARAMETER_PREFIX,
-                parameterName);
+    private void bindValue(Long value, RenderingContext context, SqlWriter writer) {
+        String mapKey = context.nextParameterMapKey();
+        writer.append(context.formattedPlaceholder(RenderingStrategy.DEFAULT_PARAMETER_PREFIX, mapKey))
+                .addParameter(mapKey, value);
     }
 }
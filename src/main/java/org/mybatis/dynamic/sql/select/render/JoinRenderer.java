@@ -15,67 +15,59 @@
  */
 package org.mybatis.dynamic.sql.select.render;
 
-import static org.mybatis.dynamic.sql.util.StringUtilities.spaceAfter;
-import static org.mybatis.dynamic.sql.util.StringUtilities.spaceBefore;
-
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
-import org.mybatis.dynamic.sql.BasicColumn;
+import org.mybatis.dynamic.sql.render.RenderingContext;
+import org.mybatis.dynamic.sql.render.SqlWriter;
+import org.mybatis.dynamic.sql.render.TableAliasCalculator;
 import org.mybatis.dynamic.sql.select.QueryExpressionModel;
 import org.mybatis.dynamic.sql.select.join.JoinCriterion;
 import org.mybatis.dynamic.sql.select.join.JoinModel;
 import org.mybatis.dynamic.sql.select.join.JoinSpecification;
 import org.mybatis.dynamic.sql.util.FragmentAndParameters;
-import org.mybatis.dynamic.sql.util.FragmentCollector;
 
 public class JoinRenderer {
     private final JoinModel joinModel;
     private final QueryExpressionModel queryExpression;
     private final TableExpressionRenderer tableExpressionRenderer;
+    private final TableAliasCalculator tableAliasCalculator;
 
     private JoinRenderer(Builder builder) {
         joinModel = Objects.requireNonNull(builder.joinModel);
         queryExpression = Objects.requireNonNull(builder.queryExpression);
         tableExpressionRenderer = Objects.requireNonNull(builder.tableExpressionRenderer);
+        tableAliasCalculator = builder.renderingContext == null ? queryExpression.tableAliasCalculator()
+                : builder.renderingContext.tableAliasCalculator();
     }
 
     public FragmentAndParameters render() {
-        FragmentCollector fc = joinModel.mapJoinSpecifications(this::renderJoinSpecification)
-                .collect(FragmentCollector.collect());
-
-        return FragmentAndParameters.withFragment(fc.fragments().collect(Collectors.joining(" "))) //$NON-NLS-1$
-                .withParameters(fc.parameters())
-                .build();
-    }
-
-    private FragmentAndParameters renderJoinSpecification(JoinSpecification joinSpecification) {
-        FragmentAndParameters renderedTable = joinSpecification.table().accept(tableExpressionRenderer);
-
-        String fragment = spaceAfter(joinSpecification.joinType().shortType())
-                + "join" //$NON-NLS-1$
-                + spaceBefore(renderedTable.fragment())
-                + spaceBefore(renderConditions(joinSpecification));
-
-        return FragmentAndParameters.withFragment(fragment)
-                .withParameters(renderedTable.parameters())
+        SqlWriter writer = SqlWriter.withInitialCapacity(128);
+        render(writer);
+        return FragmentAndParameters.withFragment(writer.toSql())
+                .withParameters(writer.parameters())
                 .build();
     }
 
-    private String renderConditions(JoinSpecification joinSpecification) {
-        return joinSpecification.mapJoinCriteria(this::renderCriterion)
-                .collect(Collectors.joining(" ")); //$NON-NLS-1$
+    public void render(SqlWriter writer) {
+        writer.appendJoined(joinModel.mapJoinSpecifications(Function.identity()), " ", //$NON-NLS-1$
+                this::renderJoinSpecification);
     }
 
-    private String renderCriterion(JoinCriterion joinCriterion) {
-        return joinCriterion.connector()
-                + spaceBefore(applyTableAlias(joinCriterion.leftColumn()))
-                + spaceBefore(joinCriterion.operator())
-                + spaceBefore(applyTableAlias(joinCriterion.rightColumn()));
+    private void renderJoinSpecification(JoinSpecification joinSpecification, SqlWriter writer) {
+        joinSpecification.joinType().shortType().ifPresent(t -> writer.append(t).append(' '));
+        writer.append("join "); //$NON-NLS-1$
+        tableExpressionRenderer.render(joinSpecification.table(), writer);
+        writer.append(' ')
+                .appendJoined(joinSpecification.mapJoinCriteria(Function.identity()), " ", //$NON-NLS-1$
+                        this::renderCriterion);
     }
 
-    private String applyTableAlias(BasicColumn column) {
-        return column.renderWithTableAlias(queryExpression.tableAliasCalculator());
+    private void renderCriterion(JoinCriterion joinCriterion, SqlWriter writer) {
+        writer.append(joinCriterion.connector()).append(' ');
+        joinCriterion.leftColumn().renderWithTableAlias(tableAliasCalculator, writer);
+        writer.append(' ').append(joinCriterion.operator()).append(' ');
+        joinCriterion.rightColumn().renderWithTableAlias(tableAliasCalculator, writer);
     }
 
     public static Builder withJoinModel(JoinModel joinModel) {
@@ -86,6 +78,7 @@ public class JoinRenderer {
         private JoinModel joinModel;
         private QueryExpressionModel queryExpression;
         private TableExpressionRenderer tableExpressionRenderer;
+        private RenderingContext renderingContext;
 
         public Builder withJoinModel(JoinModel joinModel) {
             this.joinModel = joinModel;
@@ -102,6 +95,18 @@ public class JoinRenderer {
             return this;
         }
 
+        /**
+         * Sets the rendering context for the current statement. When a rendering context is set, the table alias
+         * calculator is taken from the context rather than the query expression.
+         *
+         * @param renderingContext the rendering context for the current statement
+         * @return this builder
+         */
+        public Builder withRenderingContext(RenderingContext renderingContext) {
+            this.renderingContext = renderingContext;
+            return this;
+        }
+
         public JoinRenderer build() {
             return new JoinRenderer(this);
         }
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2020 the original author or authors.
+ *    Copyright 2016-2021 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -18,11 +18,14 @@ package org.mybatis.dynamic.sql.select.render;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.render.SqlWriter;
 import org.mybatis.dynamic.sql.select.PagingModel;
 import org.mybatis.dynamic.sql.util.FragmentAndParameters;
 
 public class LimitAndOffsetPagingModelRenderer {
+    private final RenderingContext renderingContext;
     private final RenderingStrategy renderingStrategy;
     private final Long limit;
     private final PagingModel pagingModel;
@@ -30,36 +33,59 @@ public class LimitAndOffsetPagingModelRenderer {
 
     public LimitAndOffsetPagingModelRenderer(RenderingStrategy renderingStrategy,
             Long limit, PagingModel pagingModel, AtomicInteger sequence) {
+        this.renderingContext = null;
         this.renderingStrategy = renderingStrategy;
         this.limit = limit;
         this.pagingModel = pagingModel;
         this.sequence = sequence;
     }
 
-    public Optional<FragmentAndParameters> render() {
-        return pagingModel.offset().map(this::renderLimitAndOffset)
-                .orElseGet(this::renderLimitOnly);
+    LimitAndOffsetPagingModelRenderer(RenderingContext renderingContext, Long limit, PagingModel pagingModel) {
+        this.renderingContext = renderingContext;
+        this.renderingStrategy = null;
+        this.limit = limit;
+        this.pagingModel = pagingModel;
+        this.sequence = null;
     }
 
-    private Optional<FragmentAndParameters> renderLimitOnly() {
-        String mapKey = RenderingStrategy.formatParameterMapKey(sequence);
-        return FragmentAndParameters.withFragment("limit " + renderPlaceholder(mapKey)) //$NON-NLS-1$
-                .withParameter(mapKey, limit)
+    public Optional<FragmentAndParameters> render() {
+        SqlWriter writer = SqlWriter.withInitialCapacity(64);
+        render(writer);
+        return FragmentAndParameters.withFragment(writer.toSql())
+                .withParameters(writer.parameters())
                 .buildOptional();
     }
 
-    private Optional<FragmentAndParameters> renderLimitAndOffset(Long offset) {
-        String mapKey1 = RenderingStrategy.formatParameterMapKey(sequence);
-        String mapKey2 = RenderingStrategy.formatParameterMapKey(sequence);
-        return FragmentAndParameters.withFragment("limit " + renderPlaceholder(mapKey1) //$NON-NLS-1$
-                    + " offset " + renderPlaceholder(mapKey2)) //$NON-NLS-1$
-                .withParameter(mapKey1, limit)
-                .withParameter(mapKey2, offset)
-                .buildOptional();
+    /**
+     * Writes the paging phrase. A space is written before the phrase if the writer already has content.
+     *
+     * @param writer the writer for the current statement
+     */
+    public void render(SqlWriter writer) {
+        if (renderingContext != null) {
+            render(renderingContext, writer);
+            return;
+        }
+
+        RenderingContext context = RenderingContext.withRenderingStrategy(renderingStrategy)
+                .withSequence(sequence.get())
+                .build();
+        render(context, writer);
+        sequence.set(context.sequence());
+    }
+
+    private void render(RenderingContext context, SqlWriter writer) {
+        writer.appendSpace().append("limit "); //$NON-NLS-1$
+        bindValue(limit, context, writer);
+        pagingModel.offset().ifPresent(offset -> {
+            writer.append(" offset "); //$NON-NLS-1$
+            bindValue(offset, context, writer);
+        });
     }
 
-    private String renderPlaceholder(String parameterName) {
-        return renderingStrategy.getFormattedJdbcPlaceholder(RenderingStrategy.DEFAULT_PARAMETER_PREFIX,
-                parameterName);
+    private void bindValue(Long value, RenderingContext context, SqlWriter writer) {
+        String mapKey = context.nextParameterMapKey();
+        writer.append(context.formattedPlaceholder(RenderingStrategy.DEFAULT_PARAMETER_PREFIX, mapKey))
+                .addParameter(mapKey, value);
     }
 }
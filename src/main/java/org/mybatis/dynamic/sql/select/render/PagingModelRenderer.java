@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2020 the original author or authors.
+ *    Copyright 2016-2021 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -19,7 +19,9 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.render.SqlWriter;
 import org.mybatis.dynamic.sql.select.PagingModel;
 import org.mybatis.dynamic.sql.util.FragmentAndParameters;
 
@@ -27,11 +29,20 @@ public class PagingModelRenderer {
     private final RenderingStrategy renderingStrategy;
     private final PagingModel pagingModel;
     private final AtomicInteger sequence;
+    private final RenderingContext renderingContext;
 
     private PagingModelRenderer(Builder builder) {
         renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
         pagingModel = Objects.requireNonNull(builder.pagingModel);
         sequence = Objects.requireNonNull(builder.sequence);
+        renderingContext = null;
+    }
+
+    PagingModelRenderer(PagingModel pagingModel, RenderingContext renderingContext) {
+        this.renderingStrategy = null;
+        this.pagingModel = Objects.requireNonNull(pagingModel);
+        this.sequence = null;
+        this.renderingContext = Objects.requireNonNull(renderingContext);
     }
 
     public Optional<FragmentAndParameters> render() {
@@ -48,6 +59,21 @@ public class PagingModelRenderer {
         return new FetchFirstPagingModelRenderer(renderingStrategy, pagingModel, sequence).render();
     }
 
+    /**
+     * Writes the paging phrase, if there is anything to write, using the rendering context of the enclosing
+     * statement. A space is written before the phrase if the writer already has content.
+     *
+     * @param writer the writer for the current statement
+     */
+    void render(SqlWriter writer) {
+        Optional<Long> limit = pagingModel.limit();
+        if (limit.isPresent()) {
+            new LimitAndOffsetPagingModelRenderer(renderingContext, limit.get(), pagingModel).render(writer);
+        } else {
+            new FetchFirstPagingModelRenderer(renderingContext, pagingModel).render(writer);
+        }
+    }
+
     public static class Builder {
         private RenderingStrategy renderingStrategy;
         private PagingModel pagingModel;
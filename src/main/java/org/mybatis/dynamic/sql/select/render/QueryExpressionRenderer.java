@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2020 the original author or authors.
+ *    Copyright 2016-2021 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -15,124 +15,113 @@
  */
 package org.mybatis.dynamic.sql.select.render;
 
-import static org.mybatis.dynamic.sql.util.StringUtilities.spaceAfter;
-import static org.mybatis.dynamic.sql.util.StringUtilities.spaceBefore;
-
 import java.util.Objects;
-import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 import org.mybatis.dynamic.sql.BasicColumn;
-import org.mybatis.dynamic.sql.TableExpression;
+import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.render.SqlWriter;
+import org.mybatis.dynamic.sql.render.TableAliasCalculator;
 import org.mybatis.dynamic.sql.select.GroupByModel;
 import org.mybatis.dynamic.sql.select.QueryExpressionModel;
 import org.mybatis.dynamic.sql.select.join.JoinModel;
-import org.mybatis.dynamic.sql.util.CustomCollectors;
 import org.mybatis.dynamic.sql.util.FragmentAndParameters;
 import org.mybatis.dynamic.sql.where.WhereModel;
-import org.mybatis.dynamic.sql.where.render.WhereClauseProvider;
 import org.mybatis.dynamic.sql.where.render.WhereRenderer;
 
 public class QueryExpressionRenderer {
     private final QueryExpressionModel queryExpression;
+    private final RenderingContext renderingContext;
     private final RenderingStrategy renderingStrategy;
     private final AtomicInteger sequence;
-    private final TableExpressionRenderer tableExpressionRenderer;
 
     private QueryExpressionRenderer(Builder builder) {
         queryExpression = Objects.requireNonNull(builder.queryExpression);
-        renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
-        sequence = Objects.requireNonNull(builder.sequence);
-        tableExpressionRenderer = new TableExpressionRenderer.Builder()
-                .withTableAliasCalculator(queryExpression.tableAliasCalculator())
-                .withRenderingStrategy(renderingStrategy)
-                .withSequence(sequence)
-                .build();
+        renderingContext = builder.renderingContext;
+        if (renderingContext == null) {
+            renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
+            sequence = Objects.requireNonNull(builder.sequence);
+        } else {
+            renderingStrategy = null;
+            sequence = null;
+        }
     }
 
-    public FragmentAndParameters render() {
-        FragmentAndParameters answer = calculateQueryExpressionStart();
-        answer = addJoinClause(answer);
-        answer = addWhereClause(answer);
-        answer = addGroupByClause(answer);
-        return answer;
+    QueryExpressionRenderer(QueryExpressionModel queryExpression, RenderingContext renderingContext) {
+        this.queryExpression = Objects.requireNonNull(queryExpression);
+        this.renderingContext = Objects.requireNonNull(renderingContext);
+        renderingStrategy = null;
+        sequence = null;
     }
 
-    private FragmentAndParameters calculateQueryExpressionStart() {
-        String start = spaceAfter(queryExpression.connector())
-                + "select " //$NON-NLS-1$
-                + (queryExpression.isDistinct() ? "distinct " : "") //$NON-NLS-1$ //$NON-NLS-2$
-                + calculateColumnList()
-                + " from "; //$NON-NLS-1$
-
-        FragmentAndParameters renderedTable = renderTableExpression(queryExpression.table());
-        start += renderedTable.fragment();
-
-        return FragmentAndParameters.withFragment(start)
-                .withParameters(renderedTable.parameters())
+    public FragmentAndParameters render() {
+        SqlWriter writer = SqlWriter.withInitialCapacity(256);
+        render(writer);
+        return FragmentAndParameters.withFragment(writer.toSql())
+                .withParameters(writer.parameters())
                 .build();
     }
 
-    private String calculateColumnList() {
-        return queryExpression.mapColumns(this::applyTableAndColumnAlias)
-                .collect(Collectors.joining(", ")); //$NON-NLS-1$
-    }
+    public void render(SqlWriter writer) {
+        if (renderingContext != null) {
+            render(renderingContext, writer);
+            return;
+        }
 
-    private String applyTableAndColumnAlias(BasicColumn selectListItem) {
-        return selectListItem.renderWithTableAndColumnAlias(queryExpression.tableAliasCalculator());
+        RenderingContext context = RenderingContext.withRenderingStrategy(renderingStrategy)
+                .withSequence(sequence.get())
+                .build();
+        render(context, writer);
+        sequence.set(context.sequence());
     }
 
-    private FragmentAndParameters renderTableExpression(TableExpression table) {
-        return table.accept(tableExpressionRenderer);
-    }
+    private void render(RenderingContext context, SqlWriter writer) {
+        TableAliasCalculator previousTableAliasCalculator =
+                context.replaceTableAliasCalculator(queryExpression.tableAliasCalculator());
+        TableAliasCalculator tableAliasCalculator = context.tableAliasCalculator();
+        TableExpressionRenderer tableExpressionRenderer = new TableExpressionRenderer(context);
 
-    private FragmentAndParameters addJoinClause(FragmentAndParameters partial) {
-        return queryExpression.joinModel()
-                .map(this::renderJoin)
-                .map(fp -> partial.add(spaceBefore(fp.fragment()), fp.parameters()))
-                .orElse(partial);
+        queryExpression.connector().ifPresent(c -> writer.append(c).append(' '));
+        writer.append("select "); //$NON-NLS-1$
+        if (queryExpression.isDistinct()) {
+            writer.append("distinct "); //$NON-NLS-1$
+        }
+        writer.appendJoined(queryExpression.mapColumns(Function.identity()), ", ", //$NON-NLS-1$
+                (c, w) -> c.renderWithTableAndColumnAlias(tableAliasCalculator, w));
+        writer.append(" from "); //$NON-NLS-1$
+        tableExpressionRenderer.render(queryExpression.table(), writer);
+        queryExpression.joinModel().ifPresent(jm -> renderJoin(jm, context, tableExpressionRenderer, writer));
+        queryExpression.whereModel().ifPresent(wm -> renderWhereClause(wm, context, writer));
+        queryExpression.groupByModel().ifPresent(gbm -> renderGroupBy(gbm, tableAliasCalculator, writer));
+
+        context.replaceTableAliasCalculator(previousTableAliasCalculator);
     }
 
-    private FragmentAndParameters renderJoin(JoinModel joinModel) {
-        return JoinRenderer.withJoinModel(joinModel)
+    private void renderJoin(JoinModel joinModel, RenderingContext context,
+            TableExpressionRenderer tableExpressionRenderer, SqlWriter writer) {
+        writer.append(' ');
+        JoinRenderer.withJoinModel(joinModel)
                 .withQueryExpression(queryExpression)
                 .withTableExpressionRenderer(tableExpressionRenderer)
+                .withRenderingContext(context)
                 .build()
-                .render();
-    }
-
-    private FragmentAndParameters addWhereClause(FragmentAndParameters partial) {
-        return queryExpression.whereModel()
-                .flatMap(this::renderWhereClause)
-                .map(wc -> partial.add(spaceBefore(wc.getWhereClause()), wc.getParameters()))
-                .orElse(partial);
+                .render(writer);
     }
 
-    private Optional<WhereClauseProvider> renderWhereClause(WhereModel whereModel) {
-        return WhereRenderer.withWhereModel(whereModel)
-                .withRenderingStrategy(renderingStrategy)
-                .withTableAliasCalculator(queryExpression.tableAliasCalculator())
-                .withSequence(sequence)
+    private void renderWhereClause(WhereModel whereModel, RenderingContext context, SqlWriter writer) {
+        WhereRenderer.withWhereModel(whereModel)
+                .withRenderingContext(context)
                 .build()
-                .render();
-    }
-
-    private FragmentAndParameters addGroupByClause(FragmentAndParameters partial) {
-        return queryExpression.groupByModel()
-                .map(this::renderGroupBy)
-                .map(s -> partial.add(spaceBefore(s)))
-                .orElse(partial);
+                .render(writer);
     }
 
-    private String renderGroupBy(GroupByModel groupByModel) {
-        return groupByModel.mapColumns(this::applyTableAlias)
-                .collect(CustomCollectors.joining(", ", "group by ", "")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-    }
-
-    private String applyTableAlias(BasicColumn column) {
-        return column.renderWithTableAlias(queryExpression.tableAliasCalculator());
+    private void renderGroupBy(GroupByModel groupByModel, TableAliasCalculator tableAliasCalculator,
+            SqlWriter writer) {
+        writer.append(" group by ") //$NON-NLS-1$
+                .appendJoined(groupByModel.mapColumns(Function.identity()), ", ", //$NON-NLS-1$
+                        (c, w) -> c.renderWithTableAlias(tableAliasCalculator, w));
     }
 
     public static Builder withQueryExpression(QueryExpressionModel model) {
@@ -143,6 +132,7 @@ public class QueryExpressionRenderer {
         private QueryExpressionModel queryExpression;
         private RenderingStrategy renderingStrategy;
         private AtomicInteger sequence;
+        private RenderingContext renderingContext;
 
         public Builder withQueryExpression(QueryExpressionModel queryExpression) {
             this.queryExpression = queryExpression;
@@ -159,6 +149,18 @@ public class QueryExpressionRenderer {
             return this;
         }
 
+        /**
+         * Sets the rendering context for the statement that contains this query expression. When a rendering
+         * context is set, the rendering strategy and sequence are taken from the context.
+         *
+         * @param renderingContext the rendering context for the current statement
+         * @return this builder
+         */
+        public Builder withRenderingContext(RenderingContext renderingContext) {
+            this.renderingContext = renderingContext;
+            return this;
+        }
+
         public QueryExpressionRenderer build() {
             return new QueryExpressionRenderer(this);
         }
@@ -16,83 +16,101 @@
 package org.mybatis.dynamic.sql.select.render;
 
 import java.util.Objects;
-import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 import org.mybatis.dynamic.sql.SortSpecification;
+import org.mybatis.dynamic.sql.render.ParameterBindings;
+import org.mybatis.dynamic.sql.render.RenderTimer;
+import org.mybatis.dynamic.sql.render.RenderedLengthEstimate;
+import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.render.SqlWriter;
+import org.mybatis.dynamic.sql.render.StatementType;
 import org.mybatis.dynamic.sql.select.OrderByModel;
-import org.mybatis.dynamic.sql.select.PagingModel;
-import org.mybatis.dynamic.sql.select.QueryExpressionModel;
 import org.mybatis.dynamic.sql.select.SelectModel;
-import org.mybatis.dynamic.sql.util.CustomCollectors;
-import org.mybatis.dynamic.sql.util.FragmentAndParameters;
-import org.mybatis.dynamic.sql.util.FragmentCollector;
 
 public class SelectRenderer {
+    private static final RenderedLengthEstimate LENGTH_ESTIMATE = new RenderedLengthEstimate();
+
     private final SelectModel selectModel;
+    private final RenderingContext renderingContext;
     private final RenderingStrategy renderingStrategy;
     private final AtomicInteger sequence;
+    private final ParameterBindings.Builder bindParameters;
 
     private SelectRenderer(Builder builder) {
         selectModel = Objects.requireNonNull(builder.selectModel);
-        renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
-        sequence = builder.sequence().orElseGet(() -> new AtomicInteger(1));
+        renderingContext = builder.renderingContext;
+        if (renderingContext == null) {
+            renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
+        } else {
+            renderingStrategy = null;
+        }
+        sequence = builder.sequence;
+        bindParameters = builder.bindParameters;
     }
 
     public SelectStatementProvider render() {
-        FragmentCollector fragmentCollector = selectModel
-                .mapQueryExpressions(this::renderQueryExpression)
-                .collect(FragmentCollector.collect());
-        renderOrderBy(fragmentCollector);
-        renderPagingModel(fragmentCollector);
-
-        String selectStatement = fragmentCollector.fragments().collect(Collectors.joining(" ")); //$NON-NLS-1$
-
-        return DefaultSelectStatementProvider.withSelectStatement(selectStatement)
-                .withParameters(fragmentCollector.parameters())
+        RenderTimer renderTimer = RenderTimer.start(
+                renderingContext == null ? renderingStrategy : renderingContext.renderingStrategy(),
+                StatementType.SELECT);
+        SqlWriter writer = SqlWriter.withEstimate(LENGTH_ESTIMATE);
+        RenderingContext context = renderStatement(writer);
+        LENGTH_ESTIMATE.record(writer);
+        SelectStatementProvider selectStatement = DefaultSelectStatementProvider.withSelectStatement(writer.toSql())
+                .withParameters(writer.parameters())
                 .build();
+        renderTimer.rendered(selectStatement.getSelectStatement(), selectStatement.getParameters().size(),
+                context.skippedConditions());
+        return selectStatement;
     }
 
-    private FragmentAndParameters renderQueryExpression(QueryExpressionModel queryExpressionModel) {
-        return QueryExpressionRenderer.withQueryExpression(queryExpressionModel)
-                .withRenderingStrategy(renderingStrategy)
-                .withSequence(sequence)
-                .build()
-                .render();
+    /**
+     * Writes the select statement to an existing writer. This is used when rendering a select statement
+     * that is part of some enclosing statement - sub queries for example.
+     *
+     * @param writer the writer for the current statement
+     */
+    public void render(SqlWriter writer) {
+        renderStatement(writer);
     }
 
-    private void renderOrderBy(FragmentCollector fragmentCollector) {
-        selectModel.orderByModel().ifPresent(om -> renderOrderBy(fragmentCollector, om));
-    }
+    private RenderingContext renderStatement(SqlWriter writer) {
+        if (renderingContext != null) {
+            render(renderingContext, writer);
+            return renderingContext;
+        }
 
-    private void renderOrderBy(FragmentCollector fragmentCollector, OrderByModel orderByModel) {
-        String phrase = orderByModel.mapColumns(this::calculateOrderByPhrase)
-                .collect(CustomCollectors.joining(", ", "order by ", "")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-        fragmentCollector.add(FragmentAndParameters.withFragment(phrase).build());
+        RenderingContext context = RenderingContext.withRenderingStrategy(renderingStrategy)
+                .withSequence(sequence == null ? 1 : sequence.get())
+                .withBindParameters(bindParameters)
+                .build();
+        render(context, writer);
+        if (sequence != null) {
+            sequence.set(context.sequence());
+        }
+        return context;
     }
 
-    private String calculateOrderByPhrase(SortSpecification column) {
-        String phrase = column.orderByName();
-        if (column.isDescending()) {
-            phrase = phrase + " DESC"; //$NON-NLS-1$
-        }
-        return phrase;
+    private void render(RenderingContext context, SqlWriter writer) {
+        writer.appendJoined(selectModel.mapQueryExpressions(Function.identity()), " ", //$NON-NLS-1$
+                (qe, w) -> new QueryExpressionRenderer(qe, context).render(w));
+        selectModel.orderByModel().ifPresent(om -> renderOrderBy(om, writer));
+        selectModel.pagingModel().ifPresent(pm -> new PagingModelRenderer(pm, context).render(writer));
     }
 
-    private void renderPagingModel(FragmentCollector fragmentCollector) {
-        selectModel.pagingModel().flatMap(this::renderPagingModel)
-            .ifPresent(fragmentCollector::add);
+    private void renderOrderBy(OrderByModel orderByModel, SqlWriter writer) {
+        writer.append(" order by ") //$NON-NLS-1$
+                .appendJoined(orderByModel.mapColumns(Function.identity()), ", ", //$NON-NLS-1$
+                        this::renderOrderByPhrase);
     }
 
-    private Optional<FragmentAndParameters> renderPagingModel(PagingModel pagingModel) {
-        return new PagingModelRenderer.Builder()
-                .withPagingModel(pagingModel)
-                .withRenderingStrategy(renderingStrategy)
-                .withSequence(sequence)
-                .build()
-                .render();
+    private void renderOrderByPhrase(SortSpecification column, SqlWriter writer) {
+        writer.append(column.orderByName());
+        if (column.isDescending()) {
+            writer.append(" DESC"); //$NON-NLS-1$
+        }
     }
 
     public static Builder withSelectModel(SelectModel selectModel) {
@@ -103,6 +121,8 @@ public class SelectRenderer {
         private SelectModel selectModel;
         private RenderingStrategy renderingStrategy;
         private AtomicInteger sequence;
+        private RenderingContext renderingContext;
+        private ParameterBindings.Builder bindParameters;
 
         public Builder withSelectModel(SelectModel selectModel) {
             this.selectModel = selectModel;
@@ -119,8 +139,30 @@ public class SelectRenderer {
             return this;
         }
 
-        private Optional<AtomicInteger> sequence() {
-            return Optional.ofNullable(sequence);
+        /**
+         * Sets the rendering context for the enclosing statement. This is used when a select statement is part of
+         * some enclosing statement - sub queries for example. When a rendering context is set, the rendering
+         * strategy and sequence are taken from the context.
+         *
+         * @param renderingContext the rendering context for the current statement
+         * @return this builder
+         */
+        public Builder withRenderingContext(RenderingContext renderingContext) {
+            this.renderingContext = renderingContext;
+            return this;
+        }
+
+        /**
+         * Allows {@link org.mybatis.dynamic.sql.BindParameter} markers in the statement. This is used when a statement
+         * is rendered into a prepared template. When a
+         * rendering context is set, markers are allowed if they are allowed by the context.
+         *
+         * @param bindParameters records the markers in the statement
+         * @return this builder
+         */
+        public Builder withBindParameters(ParameterBindings.Builder bindParameters) {
+            this.bindParameters = bindParameters;
+            return this;
         }
 
         public SelectRenderer build() {
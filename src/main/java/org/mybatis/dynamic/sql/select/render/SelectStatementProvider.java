@@ -17,8 +17,20 @@ package org.mybatis.dynamic.sql.select.render;
 
 import java.util.Map;
 
+import org.mybatis.dynamic.sql.render.StatementFingerprint;
+
 public interface SelectStatementProvider {
     Map<String, Object> getParameters();
 
     String getSelectStatement();
+
+    /**
+     * Returns the fingerprint of the select statement's shape.
+     *
+     * @return the shape fingerprint
+     * @see StatementFingerprint#shapeOf(String)
+     */
+    default long getShapeFingerprint() {
+        return StatementFingerprint.shapeOf(getSelectStatement());
+    }
 }
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2020 the original author or authors.
+ *    Copyright 2016-2021 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -15,66 +15,111 @@
  */
 package org.mybatis.dynamic.sql.select.render;
 
-import static org.mybatis.dynamic.sql.util.StringUtilities.spaceBefore;
-
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.TableExpression;
 import org.mybatis.dynamic.sql.TableExpressionVisitor;
+import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.render.SqlWriter;
 import org.mybatis.dynamic.sql.render.TableAliasCalculator;
 import org.mybatis.dynamic.sql.select.SubQuery;
 import org.mybatis.dynamic.sql.util.FragmentAndParameters;
 
 public class TableExpressionRenderer implements TableExpressionVisitor<FragmentAndParameters> {
+    private final RenderingContext renderingContext;
     private final TableAliasCalculator tableAliasCalculator;
     private final RenderingStrategy renderingStrategy;
     private final AtomicInteger sequence;
 
     private TableExpressionRenderer(Builder builder) {
-        tableAliasCalculator = Objects.requireNonNull(builder.tableAliasCalculator);
-        renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
-        sequence = Objects.requireNonNull(builder.sequence);
+        renderingContext = builder.renderingContext;
+        if (renderingContext == null) {
+            tableAliasCalculator = Objects.requireNonNull(builder.tableAliasCalculator);
+            renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
+            sequence = Objects.requireNonNull(builder.sequence);
+        } else {
+            tableAliasCalculator = null;
+            renderingStrategy = null;
+            sequence = null;
+        }
+    }
+
+    TableExpressionRenderer(RenderingContext renderingContext) {
+        this.renderingContext = Objects.requireNonNull(renderingContext);
+        tableAliasCalculator = null;
+        renderingStrategy = null;
+        sequence = null;
     }
 
     @Override
     public FragmentAndParameters visit(SqlTable table) {
-        return FragmentAndParameters.withFragment(
-                tableAliasCalculator.aliasForTable(table)
-                        .map(a -> table.tableNameAtRuntime() + spaceBefore(a))
-                        .orElseGet(table::tableNameAtRuntime))
-                .build();
+        return renderFragment(table);
     }
 
     @Override
     public FragmentAndParameters visit(SubQuery subQuery) {
-        SelectStatementProvider selectStatement = new SelectRenderer.Builder()
-                .withSelectModel(subQuery.selectModel())
-                .withRenderingStrategy(renderingStrategy)
-                .withSequence(sequence)
-                .build()
-                .render();
+        return renderFragment(subQuery);
+    }
 
-        String fragment = "(" + selectStatement.getSelectStatement() + ")"; //$NON-NLS-1$ //$NON-NLS-2$
+    private FragmentAndParameters renderFragment(TableExpression tableExpression) {
+        SqlWriter writer = SqlWriter.withInitialCapacity(64);
+        render(tableExpression, writer);
+        return FragmentAndParameters.withFragment(writer.toSql())
+                .withParameters(writer.parameters())
+                .build();
+    }
 
-        fragment = applyAlias(fragment, subQuery);
+    /**
+     * Writes a table expression directly to the writer.
+     *
+     * @param tableExpression the table expression to render
+     * @param writer the writer for the current statement
+     */
+    public void render(TableExpression tableExpression, SqlWriter writer) {
+        if (renderingContext != null) {
+            render(tableExpression, renderingContext, writer);
+            return;
+        }
 
-        return FragmentAndParameters.withFragment(fragment)
-                .withParameters(selectStatement.getParameters())
+        RenderingContext context = RenderingContext.withRenderingStrategy(renderingStrategy)
+                .withSequence(sequence.get())
+                .withTableAliasCalculator(tableAliasCalculator)
                 .build();
+        render(tableExpression, context, writer);
+        sequence.set(context.sequence());
     }
 
-    private String applyAlias(String fragment, SubQuery subQuery) {
-        return subQuery.alias()
-                .map(a -> fragment + spaceBefore(a))
-                .orElse(fragment);
+    private void render(TableExpression tableExpression, RenderingContext context, SqlWriter writer) {
+        tableExpression.accept(new TableExpressionVisitor<Void>() {
+            @Override
+            public Void visit(SqlTable table) {
+                writer.append(context.tableName(table));
+                context.tableAliasCalculator().aliasForTable(table).ifPresent(a -> writer.append(' ').append(a));
+                return null;
+            }
+
+            @Override
+            public Void visit(SubQuery subQuery) {
+                writer.append('(');
+                SelectRenderer.withSelectModel(subQuery.selectModel())
+                        .withRenderingContext(context)
+                        .build()
+                        .render(writer);
+                writer.append(')');
+                subQuery.alias().ifPresent(a -> writer.append(' ').append(a));
+                return null;
+            }
+        });
     }
 
     public static class Builder {
         private TableAliasCalculator tableAliasCalculator;
         private RenderingStrategy renderingStrategy;
         private AtomicInteger sequence;
+        private RenderingContext renderingContext;
 
         public Builder withTableAliasCalculator(TableAliasCalculator tableAliasCalculator) {
             this.tableAliasCalculator = tableAliasCalculator;
@@ -91,6 +136,18 @@ public class TableExpressionRenderer implements TableExpressionVisitor<FragmentA
             return this;
         }
 
+        /**
+         * Sets the rendering context for the current statement. When a rendering context is set, the table alias
+         * calculator, rendering strategy, and sequence are taken from the context.
+         *
+         * @param renderingContext the rendering context for the current statement
+         * @return this builder
+         */
+        public Builder withRenderingContext(RenderingContext renderingContext) {
+            this.renderingContext = renderingContext;
+            return this;
+        }
+
         public TableExpressionRenderer build() {
             return new TableExpressionRenderer(this);
         }
@@ -0,0 +1,155 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.update;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import org.jetbrains.annotations.NotNull;
+import org.mybatis.dynamic.sql.BindParameter;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
+import org.mybatis.dynamic.sql.util.BindParameterMapping;
+import org.mybatis.dynamic.sql.util.Buildable;
+import org.mybatis.dynamic.sql.util.ConstantMapping;
+import org.mybatis.dynamic.sql.util.NullMapping;
+import org.mybatis.dynamic.sql.util.StringConstantMapping;
+import org.mybatis.dynamic.sql.where.AbstractWhereDSL;
+import org.mybatis.dynamic.sql.where.AbstractWhereSupport;
+import org.mybatis.dynamic.sql.where.WhereModel;
+
+/**
+ * DSL for an update statement that is executed once for each record in a batch. Record properties are used in
+ * the set clause with {@code toProperty}, and in the where clause with
+ * {@link org.mybatis.dynamic.sql.SqlBuilder#isEqualToProperty(String)} or any other condition with a
+ * {@link BindParameter} marker - every marker is bound to the record property of the same name.
+ *
+ * @param <T> the type of record in the batch
+ */
+public class BatchUpdateDSL<T> extends AbstractWhereSupport<BatchUpdateDSL<T>.BatchUpdateWhereBuilder>
+        implements Buildable<BatchUpdateModel<T>> {
+
+    private final Collection<T> records;
+    private final SqlTable table;
+    private final List<AbstractColumnMapping> columnMappings = new ArrayList<>();
+    private final BatchUpdateWhereBuilder whereBuilder = new BatchUpdateWhereBuilder();
+
+    private BatchUpdateDSL(Collection<T> records, SqlTable table) {
+        this.records = Objects.requireNonNull(records);
+        this.table = Objects.requireNonNull(table);
+    }
+
+    public <F> SetClauseFinisher<F> set(SqlColumn<F> column) {
+        return new SetClauseFinisher<>(column);
+    }
+
+    @Override
+    public BatchUpdateWhereBuilder where() {
+        return whereBuilder;
+    }
+
+    /**
+     * WARNING! Calling this method could result in an update statement that updates
+     * all rows in a table for every record in the batch.
+     *
+     * @return the batch update model
+     */
+    @NotNull
+    @Override
+    public BatchUpdateModel<T> build() {
+        UpdateModel updateModel = UpdateModel.withTable(table)
+                .withColumnMappings(columnMappings)
+                .withWhereModel(whereBuilder.buildWhereModel())
+                .build();
+        return BatchUpdateModel.withRecords(records)
+                .withUpdateModel(updateModel)
+                .build();
+    }
+
+    @SafeVarargs
+    public static <T> IntoGatherer<T> update(T...records) {
+        return update(Arrays.asList(records));
+    }
+
+    public static <T> IntoGatherer<T> update(Collection<T> records) {
+        return new IntoGatherer<>(records);
+    }
+
+    public static class IntoGatherer<T> {
+        private final Collection<T> records;
+
+        private IntoGatherer(Collection<T> records) {
+            this.records = records;
+        }
+
+        public BatchUpdateDSL<T> into(SqlTable table) {
+            return new BatchUpdateDSL<>(records, table);
+        }
+    }
+
+    public class SetClauseFinisher<F> {
+        private final SqlColumn<F> column;
+
+        public SetClauseFinisher(SqlColumn<F> column) {
+            this.column = column;
+        }
+
+        public BatchUpdateDSL<T> toProperty(String property) {
+            columnMappings.add(BindParameterMapping.forProperty(column, property));
+            return BatchUpdateDSL.this;
+        }
+
+        public BatchUpdateDSL<T> toNull() {
+            columnMappings.add(NullMapping.of(column));
+            return BatchUpdateDSL.this;
+        }
+
+        public BatchUpdateDSL<T> toConstant(String constant) {
+            columnMappings.add(ConstantMapping.of(column, constant));
+            return BatchUpdateDSL.this;
+        }
+
+        public BatchUpdateDSL<T> toStringConstant(String constant) {
+            columnMappings.add(StringConstantMapping.of(column, constant));
+            return BatchUpdateDSL.this;
+        }
+    }
+
+    public class BatchUpdateWhereBuilder extends AbstractWhereDSL<BatchUpdateWhereBuilder>
+            implements Buildable<BatchUpdateModel<T>> {
+
+        private BatchUpdateWhereBuilder() {}
+
+        @NotNull
+        @Override
+        public BatchUpdateModel<T> build() {
+            return BatchUpdateDSL.this.build();
+        }
+
+        @Override
+        protected BatchUpdateWhereBuilder getThis() {
+            return this;
+        }
+
+        protected WhereModel buildWhereModel() {
+            return internalBuild();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.update;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import org.jetbrains.annotations.NotNull;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.render.RenderCache;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.update.render.BatchUpdate;
+import org.mybatis.dynamic.sql.update.render.PreparedUpdate;
+
+/**
+ * Model for a batch update. The update statement is rendered once with a {@link org.mybatis.dynamic.sql.BindParameter}
+ * marker for every record property, and the properties of each record are bound when the batch is executed.
+ *
+ * @param <T> the type of record in the batch
+ */
+public class BatchUpdateModel<T> {
+    private final UpdateModel updateModel;
+    private final List<T> records;
+
+    private BatchUpdateModel(Builder<T> builder) {
+        updateModel = Objects.requireNonNull(builder.updateModel);
+        records = Collections.unmodifiableList(builder.records);
+    }
+
+    public SqlTable table() {
+        return updateModel.table();
+    }
+
+    public UpdateModel updateModel() {
+        return updateModel;
+    }
+
+    public List<T> records() {
+        return records;
+    }
+
+    @NotNull
+    public BatchUpdate<T> render(RenderingStrategy renderingStrategy) {
+        return toBatchUpdate(updateModel.prepare(renderingStrategy));
+    }
+
+    @NotNull
+    public BatchUpdate<T> render(RenderingStrategy renderingStrategy, RenderCache renderCache) {
+        return toBatchUpdate(updateModel.prepare(renderingStrategy, renderCache));
+    }
+
+    private BatchUpdate<T> toBatchUpdate(PreparedUpdate preparedUpdate) {
+        return BatchUpdate.withRecords(records)
+                .withPreparedUpdate(preparedUpdate)
+                .build();
+    }
+
+    public static <T> Builder<T> withRecords(Collection<T> records) {
+        return new Builder<T>().withRecords(records);
+    }
+
+    public static class Builder<T> {
+        private UpdateModel updateModel;
+        private final List<T> records = new ArrayList<>();
+
+        public Builder<T> withUpdateModel(UpdateModel updateModel) {
+            this.updateModel = updateModel;
+            return this;
+        }
+
+        public Builder<T> withRecords(Collection<T> records) {
+            this.records.addAll(records);
+            return this;
+        }
+
+        public BatchUpdateModel<T> build() {
+            return new BatchUpdateModel<>(this);
+        }
+    }
+}
@@ -23,10 +23,12 @@ import java.util.function.Supplier;
 
 import org.jetbrains.annotations.NotNull;
 import org.mybatis.dynamic.sql.BasicColumn;
+import org.mybatis.dynamic.sql.BindParameter;
 import org.mybatis.dynamic.sql.SqlColumn;
 import org.mybatis.dynamic.sql.SqlTable;
 import org.mybatis.dynamic.sql.select.SelectModel;
 import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
+import org.mybatis.dynamic.sql.util.BindParameterMapping;
 import org.mybatis.dynamic.sql.util.Buildable;
 import org.mybatis.dynamic.sql.util.ColumnToColumnMapping;
 import org.mybatis.dynamic.sql.util.ConstantMapping;
@@ -117,6 +119,11 @@ public class UpdateDSL<R> extends AbstractWhereSupport<UpdateDSL<R>.UpdateWhereB
             return UpdateDSL.this;
         }
 
+        public UpdateDSL<R> equalTo(BindParameter<T> bindParameter) {
+            columnMappings.add(BindParameterMapping.of(column, bindParameter));
+            return UpdateDSL.this;
+        }
+
         public UpdateDSL<R> equalTo(Buildable<SelectModel> buildable) {
             columnMappings.add(SelectMapping.of(column, buildable));
             return UpdateDSL.this;
@@ -24,7 +24,10 @@ import java.util.stream.Stream;
 
 import org.jetbrains.annotations.NotNull;
 import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.render.ParameterBindings;
+import org.mybatis.dynamic.sql.render.RenderCache;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.update.render.PreparedUpdate;
 import org.mybatis.dynamic.sql.update.render.UpdateRenderer;
 import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
 import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
@@ -61,6 +64,42 @@ public class UpdateModel {
                 .render();
     }
 
+    @NotNull
+    public UpdateStatementProvider render(RenderingStrategy renderingStrategy, RenderCache renderCache) {
+        return renderCache.render(this, renderingStrategy);
+    }
+
+    /**
+     * Renders the statement once into a template. Values for any
+     * {@link org.mybatis.dynamic.sql.BindParameter} markers in the statement are bound later.
+     *
+     * @param renderingStrategy the rendering strategy
+     * @return a thread safe statement template
+     */
+    @NotNull
+    public PreparedUpdate prepare(RenderingStrategy renderingStrategy) {
+        ParameterBindings.Builder bindParameters = new ParameterBindings.Builder();
+        UpdateStatementProvider updateStatement = UpdateRenderer.withUpdateModel(this)
+                .withRenderingStrategy(renderingStrategy)
+                .withBindParameters(bindParameters)
+                .build()
+                .render();
+        return PreparedUpdate.of(updateStatement, bindParameters);
+    }
+
+    /**
+     * Renders the statement into a template, using a render cache. Values for any
+     * {@link org.mybatis.dynamic.sql.BindParameter} markers in the statement are bound later.
+     *
+     * @param renderingStrategy the rendering strategy
+     * @param renderCache the render cache
+     * @return a thread safe statement template
+     */
+    @NotNull
+    public PreparedUpdate prepare(RenderingStrategy renderingStrategy, RenderCache renderCache) {
+        return renderCache.prepare(this, renderingStrategy);
+    }
+
     public static Builder withTable(SqlTable table) {
         return new Builder().withTable(table);
     }
@@ -0,0 +1,124 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.update.render;
+
+import java.util.AbstractList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.mybatis.dynamic.sql.render.StatementFingerprint;
+
+/**
+ * A rendered batch update. The update statement is the same for every record - the statement providers bind the
+ * properties of each record to the same SQL.
+ *
+ * @param <T> the type of record in the batch
+ */
+public class BatchUpdate<T> {
+    private final PreparedUpdate preparedUpdate;
+    private final List<T> records;
+
+    private BatchUpdate(Builder<T> builder) {
+        preparedUpdate = Objects.requireNonNull(builder.preparedUpdate);
+        records = Collections.unmodifiableList(Objects.requireNonNull(builder.records));
+    }
+
+    /**
+     * Returns a list of update statements, one for each record.  This is useful for MyBatis batch support.
+     *
+     * <p>The list is a read only view of the records - a statement is created when an element is retrieved,
+     * so the statements for a large batch are not all held in memory at once.
+     *
+     * @return a List of update statements
+     */
+    public List<UpdateStatementProvider> updateStatements() {
+        return new AbstractList<UpdateStatementProvider>() {
+            @Override
+            public UpdateStatementProvider get(int index) {
+                return preparedUpdate.bindProperties(records.get(index));
+            }
+
+            @Override
+            public int size() {
+                return records.size();
+            }
+        };
+    }
+
+    /**
+     * Returns the parameters for a record.  This is useful for Spring JDBC batch support.
+     *
+     * @param row the record
+     * @return the parameters of the update statement for the record
+     */
+    public Map<String, Object> parameters(T row) {
+        return preparedUpdate.bindProperties(row).getParameters();
+    }
+
+    /**
+     * Returns the generated SQL for this batch.  This is useful for Spring JDBC batch support.
+     *
+     * @return the generated UPDATE statement
+     */
+    public String getUpdateStatementSQL() {
+        return preparedUpdate.getUpdateStatement();
+    }
+
+    /**
+     * Returns the fingerprint of the update statement's shape.
+     *
+     * @return the shape fingerprint
+     * @see StatementFingerprint#shapeOf(String)
+     */
+    public long getShapeFingerprint() {
+        return StatementFingerprint.shapeOf(getUpdateStatementSQL());
+    }
+
+    public List<T> getRecords() {
+        return records;
+    }
+
+    public static <T> Builder<T> withRecords(List<T> records) {
+        return new Builder<T>().withRecords(records);
+    }
+
+    public static class Builder<T> {
+        private PreparedUpdate preparedUpdate;
+        private List<T> records;
+
+        public Builder<T> withPreparedUpdate(PreparedUpdate preparedUpdate) {
+            this.preparedUpdate = preparedUpdate;
+            return this;
+        }
+
+        /**
+         * Sets the records for the batch. The list is not copied - it should not be changed after the batch is built.
+         *
+         * @param records the records to update
+         * @return this builder
+         */
+        public Builder<T> withRecords(List<T> records) {
+            this.records = records;
+            return this;
+        }
+
+        public BatchUpdate<T> build() {
+            return new BatchUpdate<>(this);
+        }
+    }
+}
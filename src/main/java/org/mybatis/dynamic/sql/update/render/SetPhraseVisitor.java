@@ -19,11 +19,9 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 
-import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
-import org.mybatis.dynamic.sql.render.TableAliasCalculator;
-import org.mybatis.dynamic.sql.select.render.SelectRenderer;
-import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.render.SqlWriter;
 import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
 import org.mybatis.dynamic.sql.util.ColumnToColumnMapping;
 import org.mybatis.dynamic.sql.util.ConstantMapping;
@@ -48,91 +46,58 @@ public class SetPhraseVisitor extends UpdateMappingVisitor<Optional<FragmentAndP
 
     @Override
     public Optional<FragmentAndParameters> visit(NullMapping mapping) {
-        return FragmentAndParameters.withFragment(mapping.columnName() + " = null") //$NON-NLS-1$
-                .buildOptional();
+        return render(mapping);
     }
 
     @Override
     public Optional<FragmentAndParameters> visit(ConstantMapping mapping) {
-        String fragment = mapping.columnName() + " = " + mapping.constant(); //$NON-NLS-1$
-        return FragmentAndParameters.withFragment(fragment)
-                .buildOptional();
+        return render(mapping);
     }
 
     @Override
     public Optional<FragmentAndParameters> visit(StringConstantMapping mapping) {
-        String fragment = mapping.columnName()
-                + " = '" //$NON-NLS-1$
-                + mapping.constant()
-                + "'"; //$NON-NLS-1$
-
-        return FragmentAndParameters.withFragment(fragment)
-                .buildOptional();
+        return render(mapping);
     }
 
     @Override
     public <T> Optional<FragmentAndParameters> visit(ValueMapping<T> mapping) {
-        return buildFragment(mapping, mapping.value());
+        return render(mapping);
     }
 
     @Override
     public <T> Optional<FragmentAndParameters> visit(ValueOrNullMapping<T> mapping) {
-        return mapping.value()
-                .map(v -> buildFragment(mapping, v))
-                .orElseGet(() -> FragmentAndParameters
-                        .withFragment(mapping.columnName() + " = null") //$NON-NLS-1$
-                        .buildOptional()
-                );
+        return render(mapping);
     }
 
     @Override
     public <T> Optional<FragmentAndParameters> visit(ValueWhenPresentMapping<T> mapping) {
-        return mapping.value().flatMap(v -> buildFragment(mapping, v));
+        return render(mapping);
     }
 
     @Override
     public Optional<FragmentAndParameters> visit(SelectMapping mapping) {
-        SelectStatementProvider selectStatement = SelectRenderer.withSelectModel(mapping.selectModel())
-                .withRenderingStrategy(renderingStrategy)
-                .withSequence(sequence)
-                .build()
-                .render();
-
-        String fragment = mapping.columnName()
-                + " = (" //$NON-NLS-1$
-                + selectStatement.getSelectStatement()
-                + ")"; //$NON-NLS-1$
-
-        return FragmentAndParameters.withFragment(fragment)
-                .withParameters(selectStatement.getParameters())
-                .buildOptional();
+        return render(mapping);
     }
 
     @Override
     public Optional<FragmentAndParameters> visit(ColumnToColumnMapping mapping) {
-        String setPhrase = mapping.columnName()
-                + " = "  //$NON-NLS-1$
-                + mapping.rightColumn().renderWithTableAlias(TableAliasCalculator.empty());
-
-        return FragmentAndParameters.withFragment(setPhrase)
-                .buildOptional();
+        return render(mapping);
     }
 
-    private <T> Optional<FragmentAndParameters> buildFragment(AbstractColumnMapping mapping, T value) {
-        String mapKey = RenderingStrategy.formatParameterMapKey(sequence);
+    private Optional<FragmentAndParameters> render(AbstractColumnMapping mapping) {
+        RenderingContext renderingContext = RenderingContext.withRenderingStrategy(renderingStrategy)
+                .withSequence(sequence.get())
+                .build();
+        SqlWriter writer = SqlWriter.withInitialCapacity(64);
+        mapping.accept(new SetPhraseWriter(renderingContext, writer));
+        sequence.set(renderingContext.sequence());
 
-        String jdbcPlaceholder = mapping.mapColumn(c -> calculateJdbcPlaceholder(c, mapKey));
-        String setPhrase = mapping.columnName()
-                + " = "  //$NON-NLS-1$
-                + jdbcPlaceholder;
+        if (writer.isEmpty()) {
+            return Optional.empty();
+        }
 
-        return FragmentAndParameters.withFragment(setPhrase)
-                .withParameter(mapKey, value)
+        return FragmentAndParameters.withFragment(writer.toSql())
+                .withParameters(writer.parameters())
                 .buildOptional();
     }
-
-    private String calculateJdbcPlaceholder(SqlColumn<?> column, String parameterName) {
-        return column.renderingStrategy().orElse(renderingStrategy)
-                .getFormattedJdbcPlaceholder(column, RenderingStrategy.DEFAULT_PARAMETER_PREFIX, parameterName);
-    }
 }
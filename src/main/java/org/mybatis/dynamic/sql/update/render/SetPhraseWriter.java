@@ -0,0 +1,140 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.update.render;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.mybatis.dynamic.sql.render.RenderingContext;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.render.SqlWriter;
+import org.mybatis.dynamic.sql.select.render.SelectRenderer;
+import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
+import org.mybatis.dynamic.sql.util.BindParameterMapping;
+import org.mybatis.dynamic.sql.util.ColumnToColumnMapping;
+import org.mybatis.dynamic.sql.util.ConstantMapping;
+import org.mybatis.dynamic.sql.util.NullMapping;
+import org.mybatis.dynamic.sql.util.SelectMapping;
+import org.mybatis.dynamic.sql.util.StringConstantMapping;
+import org.mybatis.dynamic.sql.util.UpdateMappingVisitor;
+import org.mybatis.dynamic.sql.util.ValueMapping;
+import org.mybatis.dynamic.sql.util.ValueOrNullMapping;
+import org.mybatis.dynamic.sql.util.ValueWhenPresentMapping;
+
+/**
+ * Writes set phrases, and their parameters, directly to a {@link SqlWriter}. This is the writer based
+ * equivalent of {@link SetPhraseVisitor}. One instance is used for all the set phrases of a statement - phrases
+ * after the first are separated by commas.
+ */
+class SetPhraseWriter extends UpdateMappingVisitor<Void> {
+
+    private final RenderingContext renderingContext;
+    private final SqlWriter writer;
+    private boolean isFirst = true;
+
+    SetPhraseWriter(RenderingContext renderingContext, SqlWriter writer) {
+        this.renderingContext = Objects.requireNonNull(renderingContext);
+        this.writer = Objects.requireNonNull(writer);
+    }
+
+    @Override
+    public Void visit(NullMapping mapping) {
+        startPhrase(mapping).append("null"); //$NON-NLS-1$
+        return null;
+    }
+
+    @Override
+    public Void visit(ConstantMapping mapping) {
+        startPhrase(mapping).append(mapping.constant());
+        return null;
+    }
+
+    @Override
+    public Void visit(StringConstantMapping mapping) {
+        startPhrase(mapping).append('\'').append(mapping.constant()).append('\'');
+        return null;
+    }
+
+    @Override
+    public <T> Void visit(ValueMapping<T> mapping) {
+        writeValuePhrase(mapping, mapping.value());
+        return null;
+    }
+
+    @Override
+    public <T> Void visit(ValueOrNullMapping<T> mapping) {
+        Optional<Object> value = mapping.value();
+        if (value.isPresent()) {
+            writeValuePhrase(mapping, value.get());
+        } else {
+            startPhrase(mapping).append("null"); //$NON-NLS-1$
+        }
+        return null;
+    }
+
+    @Override
+    public <T> Void visit(ValueWhenPresentMapping<T> mapping) {
+        mapping.value().ifPresent(v -> writeValuePhrase(mapping, v));
+        return null;
+    }
+
+    @Override
+    public Void visit(SelectMapping mapping) {
+        startPhrase(mapping).append('(');
+        SelectRenderer.withSelectModel(mapping.selectModel())
+                .withRenderingContext(renderingContext)
+                .build()
+                .render(writer);
+        writer.append(')');
+        return null;
+    }
+
+    @Override
+    public Void visit(ColumnToColumnMapping mapping) {
+        startPhrase(mapping);
+        mapping.rightColumn().renderWithTableAlias(renderingContext.tableAliasCalculator(), writer);
+        return null;
+    }
+
+    @Override
+    public Void visit(BindParameterMapping mapping) {
+        String mapKey = renderingContext.nextParameterMapKey();
+        renderingContext.addBindParameter(mapKey, mapping.bindParameter(), mapping.mapColumn(Function.identity()));
+        // the slot keeps the parameters in order for positional strategies - the value is set when bound
+        writeParameterPhrase(mapping, mapKey, null);
+        return null;
+    }
+
+    private void writeValuePhrase(AbstractColumnMapping mapping, Object value) {
+        writeParameterPhrase(mapping, renderingContext.nextParameterMapKey(), value);
+    }
+
+    private void writeParameterPhrase(AbstractColumnMapping mapping, String mapKey, Object value) {
+        String jdbcPlaceholder = mapping.mapColumn(c -> renderingContext.formattedPlaceholder(c,
+                RenderingStrategy.DEFAULT_PARAMETER_PREFIX, mapKey));
+        startPhrase(mapping).append(jdbcPlaceholder).addParameter(mapKey, value);
+    }
+
+    private SqlWriter startPhrase(AbstractColumnMapping mapping) {
+        if (isFirst) {
+            isFirst = false;
+        } else {
+            writer.append(", "); //$NON-NLS-1$
+        }
+        return writer.append(mapping.columnName()).append(" = "); //$NON-NLS-1$
+    }
+}
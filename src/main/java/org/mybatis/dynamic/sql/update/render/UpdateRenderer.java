@@ -15,98 +15,61 @@
  */
 package org.mybatis.dynamic.sql.update.render;
 
-import static org.mybatis.dynamic.sql.util.StringUtilities.spaceBefore;
-
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
+import org.mybatis.dynamic.sql.render.ParameterBindings;
+import org.mybatis.dynamic.sql.render.RenderTimer;
+import org.mybatis.dynamic.sql.render.RenderedLengthEstimate;
+import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
-import org.mybatis.dynamic.sql.render.TableAliasCalculator;
+import org.mybatis.dynamic.sql.render.SqlWriter;
+import org.mybatis.dynamic.sql.render.StatementType;
 import org.mybatis.dynamic.sql.update.UpdateModel;
-import org.mybatis.dynamic.sql.util.FragmentAndParameters;
 import org.mybatis.dynamic.sql.where.WhereModel;
-import org.mybatis.dynamic.sql.where.render.WhereClauseProvider;
 import org.mybatis.dynamic.sql.where.render.WhereRenderer;
 
 public class UpdateRenderer {
+    private static final RenderedLengthEstimate LENGTH_ESTIMATE = new RenderedLengthEstimate();
+
     private final UpdateModel updateModel;
     private final RenderingStrategy renderingStrategy;
-    private final AtomicInteger sequence = new AtomicInteger(1);
+    private final ParameterBindings.Builder bindParameters;
 
     private UpdateRenderer(Builder builder) {
         updateModel = Objects.requireNonNull(builder.updateModel);
         renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
+        bindParameters = builder.bindParameters;
     }
 
     public UpdateStatementProvider render() {
-        SetPhraseVisitor visitor = new SetPhraseVisitor(sequence, renderingStrategy);
-
-        List<Optional<FragmentAndParameters>> fragmentsAndParameters =
-                updateModel.mapColumnMappings(m -> m.accept(visitor))
-                .collect(Collectors.toList());
-
-        return updateModel.whereModel()
-                .flatMap(this::renderWhereClause)
-                .map(wc -> renderWithWhereClause(fragmentsAndParameters, wc))
-                .orElseGet(() -> renderWithoutWhereClause(fragmentsAndParameters));
-    }
-
-    private UpdateStatementProvider renderWithWhereClause(List<Optional<FragmentAndParameters>> fragmentsAndParameters,
-            WhereClauseProvider whereClause) {
-        return DefaultUpdateStatementProvider
-                .withUpdateStatement(calculateUpdateStatement(fragmentsAndParameters, whereClause))
-                .withParameters(calculateParameters(fragmentsAndParameters))
-                .withParameters(whereClause.getParameters())
+        RenderTimer renderTimer = RenderTimer.start(renderingStrategy, StatementType.UPDATE);
+        RenderingContext renderingContext = RenderingContext.withRenderingStrategy(renderingStrategy)
+                .withBindParameters(bindParameters)
                 .build();
-    }
-
-    private String calculateUpdateStatement(List<Optional<FragmentAndParameters>> fragmentsAndParameters,
-            WhereClauseProvider whereClause) {
-        return calculateUpdateStatement(fragmentsAndParameters)
-                + spaceBefore(whereClause.getWhereClause());
-    }
-
-    private String calculateUpdateStatement(List<Optional<FragmentAndParameters>> fragmentsAndParameters) {
-        return "update" //$NON-NLS-1$
-                + spaceBefore(updateModel.table().tableNameAtRuntime())
-                + spaceBefore(calculateSetPhrase(fragmentsAndParameters));
-    }
-
-    private UpdateStatementProvider renderWithoutWhereClause(
-            List<Optional<FragmentAndParameters>> fragmentsAndParameters) {
-        return DefaultUpdateStatementProvider.withUpdateStatement(calculateUpdateStatement(fragmentsAndParameters))
-                .withParameters(calculateParameters(fragmentsAndParameters))
+        SqlWriter writer = SqlWriter.withEstimate(LENGTH_ESTIMATE);
+        writer.append("update ") //$NON-NLS-1$
+                .append(renderingContext.tableName(updateModel.table()))
+                .append(" set "); //$NON-NLS-1$
+
+        SetPhraseWriter setPhraseWriter = new SetPhraseWriter(renderingContext, writer);
+        updateModel.mapColumnMappings(Function.identity()).forEach(m -> m.accept(setPhraseWriter));
+
+        updateModel.whereModel().ifPresent(wm -> renderWhereClause(wm, renderingContext, writer));
+        LENGTH_ESTIMATE.record(writer);
+        UpdateStatementProvider updateStatement = DefaultUpdateStatementProvider.withUpdateStatement(writer.toSql())
+                .withParameters(writer.parameters())
                 .build();
+        renderTimer.rendered(updateStatement.getUpdateStatement(), updateStatement.getParameters().size(),
+                renderingContext.skippedConditions());
+        return updateStatement;
     }
 
-    private String calculateSetPhrase(List<Optional<FragmentAndParameters>> fragmentsAndParameters) {
-        return fragmentsAndParameters.stream()
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .map(FragmentAndParameters::fragment)
-                .collect(Collectors.joining(", ", "set ", "")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-    }
-
-    private Map<String, Object> calculateParameters(List<Optional<FragmentAndParameters>> fragmentsAndParameters) {
-        return fragmentsAndParameters.stream()
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .map(FragmentAndParameters::parameters)
-                .collect(HashMap::new, HashMap::putAll, HashMap::putAll);
-    }
-
-    private Optional<WhereClauseProvider> renderWhereClause(WhereModel whereModel) {
-        return WhereRenderer.withWhereModel(whereModel)
-                .withRenderingStrategy(renderingStrategy)
-                .withSequence(sequence)
-                .withTableAliasCalculator(TableAliasCalculator.empty())
+    private void renderWhereClause(WhereModel whereModel, RenderingContext renderingContext, SqlWriter writer) {
+        WhereRenderer.withWhereModel(whereModel)
+                .withRenderingContext(renderingContext)
                 .build()
-                .render();
+                .render(writer);
     }
 
     public static Builder withUpdateModel(UpdateModel updateModel) {
@@ -116,6 +79,7 @@ public class UpdateRenderer {
     public static class Builder {
         private UpdateModel updateModel;
         private RenderingStrategy renderingStrategy;
+        private ParameterBindings.Builder bindParameters;
 
         public Builder withUpdateModel(UpdateModel updateModel) {
             this.updateModel = updateModel;
@@ -127,6 +91,18 @@ public class UpdateRenderer {
             return this;
         }
 
+        /**
+         * Allows {@link org.mybatis.dynamic.sql.BindParameter} markers in the statement. This is used when a statement
+         * is rendered into a prepared template.
+         *
+         * @param bindParameters records the markers in the statement
+         * @return this builder
+         */
+        public Builder withBindParameters(ParameterBindings.Builder bindParameters) {
+            this.bindParameters = bindParameters;
+            return this;
+        }
+
         public UpdateRenderer build() {
             return new UpdateRenderer(this);
         }
@@ -17,8 +17,20 @@ package org.mybatis.dynamic.sql.update.render;
 
 import java.util.Map;
 
+import org.mybatis.dynamic.sql.render.StatementFingerprint;
+
 public interface UpdateStatementProvider {
     Map<String, Object> getParameters();
 
     String getUpdateStatement();
+
+    /**
+     * Returns the fingerprint of the update statement's shape.
+     *
+     * @return the shape fingerprint
+     * @see StatementFingerprint#shapeOf(String)
+     */
+    default long getShapeFingerprint() {
+        return StatementFingerprint.shapeOf(getUpdateStatement());
+    }
 }
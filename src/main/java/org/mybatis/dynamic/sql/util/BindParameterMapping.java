@@ -0,0 +1,59 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import java.util.Objects;
+
+import org.mybatis.dynamic.sql.BindParameter;
+import org.mybatis.dynamic.sql.SqlColumn;
+
+/**
+ * Maps a column to a {@link BindParameter} marker in the set clause of an update statement. The value is supplied
+ * when the prepared statement is bound.
+ */
+public class BindParameterMapping extends AbstractColumnMapping {
+    private final BindParameter<?> bindParameter;
+
+    private BindParameterMapping(SqlColumn<?> column, BindParameter<?> bindParameter) {
+        super(column);
+        this.bindParameter = Objects.requireNonNull(bindParameter);
+    }
+
+    public BindParameter<?> bindParameter() {
+        return bindParameter;
+    }
+
+    @Override
+    public <R> R accept(ColumnMappingVisitor<R> visitor) {
+        return visitor.visit(this);
+    }
+
+    public static <T> BindParameterMapping of(SqlColumn<T> column, BindParameter<T> bindParameter) {
+        return new BindParameterMapping(column, bindParameter);
+    }
+
+    /**
+     * Maps a column to a record property in a batch update. The property is read from each record, so the marker
+     * accepts a value of any type.
+     *
+     * @param column the column
+     * @param property the property name
+     * @return the mapping
+     */
+    public static BindParameterMapping forProperty(SqlColumn<?> column, String property) {
+        return new BindParameterMapping(column, BindParameter.forProperty(property));
+    }
+}
@@ -49,4 +49,29 @@ public interface ColumnMappingVisitor<R> {
     R visit(PropertyWhenPresentMapping mapping);
 
     R visit(ColumnToColumnMapping columnMapping);
+
+    /**
+     * Visits the mapping of a column to its inserted value in the update clause of an upsert. The mapping is only
+     * supported by upserts, so the default implementation throws an exception.
+     *
+     * @param mapping the mapping
+     * @return the result of the visit
+     */
+    default R visit(InsertedValueMapping mapping) {
+        throw new UnsupportedOperationException("Inserted value mappings are only supported in the update clause of an"
+                + " upsert, not by " + getClass().getName()); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    /**
+     * Visits the mapping of a column to a bind parameter marker in the set clause of an update. Markers are only
+     * supported when an update is rendered into a prepared template, so the default implementation throws an
+     * exception.
+     *
+     * @param mapping the mapping
+     * @return the result of the visit
+     */
+    default R visit(BindParameterMapping mapping) {
+        throw new UnsupportedOperationException("Bind parameter markers are not supported by " //$NON-NLS-1$
+                + getClass().getName());
+    }
 }
@@ -48,9 +48,12 @@ public class FragmentCollector {
     }
 
     public Map<String, Object> parameters() {
-        return fragments.stream()
-                .map(FragmentAndParameters::parameters)
-                .collect(HashMap::new, HashMap::putAll, HashMap::putAll);
+        int size = fragments.stream()
+                .mapToInt(f -> f.parameters().size())
+                .sum();
+        Map<String, Object> answer = new HashMap<>(size * 4 / 3 + 1);
+        fragments.forEach(f -> answer.putAll(f.parameters()));
+        return answer;
     }
 
     public boolean hasMultipleFragments() {
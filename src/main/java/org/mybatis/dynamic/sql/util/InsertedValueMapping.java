@@ -0,0 +1,38 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import org.mybatis.dynamic.sql.SqlColumn;
+
+/**
+ * This class represents a mapping between a column and the value that would have been inserted into the column. It is
+ * used in the update clause of an upsert - the value is rendered as {@code excluded.column},
+ * {@code values(column)}, or a reference to the source row of a merge, depending on the upsert dialect.
+ */
+public class InsertedValueMapping extends AbstractColumnMapping {
+    private InsertedValueMapping(SqlColumn<?> column) {
+        super(column);
+    }
+
+    public static InsertedValueMapping of(SqlColumn<?> column) {
+        return new InsertedValueMapping(column);
+    }
+
+    @Override
+    public <R> R accept(ColumnMappingVisitor<R> visitor) {
+        return visitor.visit(this);
+    }
+}
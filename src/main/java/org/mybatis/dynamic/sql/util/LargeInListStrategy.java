@@ -0,0 +1,327 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.mybatis.dynamic.sql.SqlBuilder;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.VisitableCondition;
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.insert.MultiRowInsertDSL;
+import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.where.condition.IsEqualTo;
+import org.mybatis.dynamic.sql.where.condition.IsIn;
+import org.mybatis.dynamic.sql.where.condition.IsInChunked;
+import org.mybatis.dynamic.sql.where.condition.IsInWithSubselect;
+
+/**
+ * Chooses how a statement is restricted to a list of keys, based on the size of the list:
+ *
+ * <ul>
+ *     <li>Lists up to the maximum list size are rendered as a normal "in" condition</li>
+ *     <li>Larger lists are split into "in" conditions of the maximum list size, combined with "or" - see
+ *         {@link IsInChunked}</li>
+ *     <li>If a key table is configured, lists larger than the key table threshold are inserted into the key table
+ *         with one multiple row insert per batch. The statement is rendered with a semi-join against the key table -
+ *         {@code id in (select key_value from KeyTable)} - and the keys this call inserted are deleted from the key
+ *         table after the statement executes</li>
+ * </ul>
+ *
+ * <p>A key table is configured in one of two ways:
+ *
+ * <ul>
+ *     <li>{@link #withKeyTable(SqlTable, SqlColumn, SqlColumn)} configures a regular table that may be shared by
+ *         sessions and concurrent calls. Every call writes a unique tag with its keys, and the semi-join and the
+ *         cleanup are restricted to that tag:
+ *         <pre>
+ * create table KeyTable (key_value int not null, call_tag varchar(36) not null);
+ *         </pre></li>
+ *     <li>{@link #withTemporaryKeyTable(SqlTable, SqlColumn)} configures a session scoped temporary table without a
+ *         tag column. The semi-join reads every row in the table, so keys inserted by one session must not be visible
+ *         to other sessions, and a session must not start a call while another call is executing - for example from
+ *         inside the statement function. Temporary table syntax differs between databases, so this class does not
+ *         create the table. For example, with HSQLDB:
+ *         <pre>
+ * create global temporary table KeyTable (key_value int not null) on commit delete rows;
+ *         </pre></li>
+ * </ul>
+ *
+ * <p>The key inserts, the statement, and the cleanup must run on the same connection - in a MyBatis SqlSession, or
+ * in a Spring transaction. The execution helpers in {@link org.mybatis.dynamic.sql.util.mybatis3.MyBatis3Utils} and
+ * {@link org.mybatis.dynamic.sql.util.spring.NamedParameterJdbcTemplateExtensions} use this class.
+ *
+ * <p>Instances are immutable and thread safe.
+ *
+ * @param <T> the Java type of the keys
+ */
+public class LargeInListStrategy<T> {
+    public static final int DEFAULT_MAXIMUM_LIST_SIZE = 1000;
+
+    private final int maximumListSize;
+    private final SqlTable keyTable;
+    private final SqlColumn<T> keyColumn;
+    private final SqlColumn<String> callTagColumn;
+    private final int keyTableThreshold;
+    private final int keyBatchSize;
+
+    private LargeInListStrategy(Builder<T> builder) {
+        maximumListSize = builder.maximumListSize;
+        keyTable = builder.keyTable;
+        keyColumn = builder.keyColumn;
+        callTagColumn = builder.callTagColumn;
+        keyTableThreshold = builder.keyTableThreshold;
+        keyBatchSize = builder.keyBatchSize;
+    }
+
+    /**
+     * Returns true if a list of keys of the specified size will be written to the key table.
+     *
+     * @param listSize the number of keys
+     * @return true if the key table will be used
+     */
+    public boolean usesKeyTable(int listSize) {
+        return keyTable != null && listSize > keyTableThreshold;
+    }
+
+    /**
+     * Returns an "in" condition for the keys that does not use the key table - a normal "in" condition if the list is
+     * no larger than the maximum list size, otherwise a chunked "in" condition.
+     *
+     * @param keys the keys
+     * @return the condition
+     */
+    public VisitableCondition<T> inCondition(Collection<T> keys) {
+        if (keys.size() <= maximumListSize) {
+            return IsIn.of(keys);
+        } else {
+            return IsInChunked.of(keys, maximumListSize);
+        }
+    }
+
+    /**
+     * Executes a statement that is restricted to a list of keys. The statement function receives the condition that
+     * should be applied to the key column of the statement, and is expected to render and execute the statement.
+     *
+     * <p>If the key inserts or the statement fail, the keys are still deleted from the key table. A failure of the
+     * cleanup is then added to the original exception as a suppressed exception.
+     *
+     * @param keys the keys
+     * @param statement renders and executes the statement with the supplied condition
+     * @param renderingStrategy the rendering strategy for the key table statements
+     * @param keyWriter executes the multiple row insert statements that write the keys to the key table
+     * @param keyCleaner executes the statements that delete the keys from the key table
+     * @param <R> the type of the statement result
+     * @return the result of the statement
+     */
+    public <R> R execute(Collection<T> keys, Function<VisitableCondition<T>, R> statement,
+            RenderingStrategy renderingStrategy, Consumer<MultiRowInsertStatementProvider<KeyRow>> keyWriter,
+            Consumer<DeleteStatementProvider> keyCleaner) {
+        if (!usesKeyTable(keys.size())) {
+            return statement.apply(inCondition(keys));
+        }
+
+        List<List<T>> batches = batches(keys);
+        String callTag = callTagColumn == null ? null : UUID.randomUUID().toString();
+        R result;
+        try {
+            batches.forEach(b -> keyWriter.accept(renderKeyInsert(b, callTag, renderingStrategy)));
+            result = statement.apply(IsInWithSubselect.of(callTag == null
+                    ? SqlBuilder.select(keyColumn).from(keyTable)
+                    : SqlBuilder.select(keyColumn).from(keyTable).where(callTagColumn, IsEqualTo.of(callTag))));
+        } catch (RuntimeException | Error e) {
+            try {
+                deleteKeys(batches, callTag, renderingStrategy, keyCleaner);
+            } catch (RuntimeException cleanupException) {
+                e.addSuppressed(cleanupException);
+            }
+            throw e;
+        }
+        deleteKeys(batches, callTag, renderingStrategy, keyCleaner);
+        return result;
+    }
+
+    private void deleteKeys(List<List<T>> batches, String callTag, RenderingStrategy renderingStrategy,
+            Consumer<DeleteStatementProvider> keyCleaner) {
+        if (callTag == null) {
+            // only delete the keys this call inserted
+            batches.forEach(b -> keyCleaner.accept(SqlBuilder.deleteFrom(keyTable)
+                    .where(keyColumn, IsIn.of(b))
+                    .build()
+                    .render(renderingStrategy)));
+        } else {
+            keyCleaner.accept(SqlBuilder.deleteFrom(keyTable)
+                    .where(callTagColumn, IsEqualTo.of(callTag))
+                    .build()
+                    .render(renderingStrategy));
+        }
+    }
+
+    private List<List<T>> batches(Collection<T> keys) {
+        List<List<T>> batches = new ArrayList<>((keys.size() + keyBatchSize - 1) / keyBatchSize);
+        List<T> batch = null;
+        for (T key : keys) {
+            if (batch == null || batch.size() == keyBatchSize) {
+                batch = new ArrayList<>(keyBatchSize);
+                batches.add(batch);
+            }
+            batch.add(key);
+        }
+        return batches;
+    }
+
+    private MultiRowInsertStatementProvider<KeyRow> renderKeyInsert(List<T> batch, String callTag,
+            RenderingStrategy renderingStrategy) {
+        List<KeyRow> rows = new ArrayList<>(batch.size());
+        for (T key : batch) {
+            rows.add(new KeyRow(keyColumn.convertParameterType(key), callTag));
+        }
+
+        MultiRowInsertDSL<KeyRow> dsl = SqlBuilder.insertMultiple(rows)
+                .into(keyTable)
+                .map(keyColumn).toProperty("key"); //$NON-NLS-1$
+        if (callTag != null) {
+            dsl.map(callTagColumn).toProperty("callTag"); //$NON-NLS-1$
+        }
+        return dsl.build().render(renderingStrategy);
+    }
+
+    /**
+     * Creates a builder for a strategy that uses a regular key table. The key table may be shared by sessions and
+     * concurrent calls - each call writes a unique tag to the call tag column with its keys.
+     *
+     * @param keyTable the key table
+     * @param keyColumn the column of the key table that holds the keys
+     * @param callTagColumn the column of the key table that holds the call tags. Tags are 36 character strings
+     * @param <T> the Java type of the keys
+     * @return the builder
+     */
+    public static <T> Builder<T> withKeyTable(SqlTable keyTable, SqlColumn<T> keyColumn,
+            SqlColumn<String> callTagColumn) {
+        return new Builder<T>().withKeyTable(keyTable, keyColumn, callTagColumn);
+    }
+
+    /**
+     * Creates a builder for a strategy that uses a session scoped temporary key table without a tag column - see the
+     * class documentation for the restrictions.
+     *
+     * @param keyTable the key table
+     * @param keyColumn the column of the key table that holds the keys
+     * @param <T> the Java type of the keys
+     * @return the builder
+     */
+    public static <T> Builder<T> withTemporaryKeyTable(SqlTable keyTable, SqlColumn<T> keyColumn) {
+        return new Builder<T>().withTemporaryKeyTable(keyTable, keyColumn);
+    }
+
+    public static <T> Builder<T> withMaximumListSize(int maximumListSize) {
+        return new Builder<T>().withMaximumListSize(maximumListSize);
+    }
+
+    /**
+     * A row of the key table. The key is converted with the parameter type converter of the key column.
+     */
+    public static final class KeyRow {
+        private final Object key;
+        private final String callTag;
+
+        private KeyRow(Object key, String callTag) {
+            this.key = key;
+            this.callTag = callTag;
+        }
+
+        public Object getKey() {
+            return key;
+        }
+
+        public String getCallTag() {
+            return callTag;
+        }
+    }
+
+    public static class Builder<T> {
+        private int maximumListSize = DEFAULT_MAXIMUM_LIST_SIZE;
+        private SqlTable keyTable;
+        private SqlColumn<T> keyColumn;
+        private SqlColumn<String> callTagColumn;
+        private int keyTableThreshold = 10_000;
+        private int keyBatchSize = 1000;
+
+        /**
+         * Sets the largest number of values in a single "in" list. The default is 1000.
+         *
+         * @param maximumListSize the maximum list size
+         * @return this builder
+         */
+        public Builder<T> withMaximumListSize(int maximumListSize) {
+            this.maximumListSize = maximumListSize;
+            return this;
+        }
+
+        public Builder<T> withKeyTable(SqlTable keyTable, SqlColumn<T> keyColumn, SqlColumn<String> callTagColumn) {
+            this.keyTable = Objects.requireNonNull(keyTable);
+            this.keyColumn = Objects.requireNonNull(keyColumn);
+            this.callTagColumn = Objects.requireNonNull(callTagColumn);
+            return this;
+        }
+
+        public Builder<T> withTemporaryKeyTable(SqlTable keyTable, SqlColumn<T> keyColumn) {
+            this.keyTable = Objects.requireNonNull(keyTable);
+            this.keyColumn = Objects.requireNonNull(keyColumn);
+            this.callTagColumn = null;
+            return this;
+        }
+
+        /**
+         * Sets the list size above which keys are written to the key table. The default is 10,000.
+         *
+         * @param keyTableThreshold the key table threshold
+         * @return this builder
+         */
+        public Builder<T> withKeyTableThreshold(int keyTableThreshold) {
+            this.keyTableThreshold = keyTableThreshold;
+            return this;
+        }
+
+        /**
+         * Sets the number of keys in each multiple row insert into the key table. The default is 1000. Databases
+         * limit the number of rows or parameters in a statement, so the batch size may need to be lower.
+         *
+         * @param keyBatchSize the key batch size
+         * @return this builder
+         */
+        public Builder<T> withKeyBatchSize(int keyBatchSize) {
+            this.keyBatchSize = keyBatchSize;
+            return this;
+        }
+
+        public LargeInListStrategy<T> build() {
+            if (maximumListSize < 1 || keyBatchSize < 1) {
+                throw new IllegalArgumentException(
+                        "The maximum list size and key batch size must be positive"); //$NON-NLS-1$
+            }
+            return new LargeInListStrategy<>(this);
+        }
+    }
+}
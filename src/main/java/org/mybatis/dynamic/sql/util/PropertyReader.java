@@ -0,0 +1,98 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reads properties of rows with the JavaBeans getters of their classes. Nested properties are separated with
+ * periods, and rows that are maps are read by key. Getters are looked up once for each class.
+ */
+public final class PropertyReader {
+    private static final ClassValue<Map<String, Method>> GETTERS = new ClassValue<Map<String, Method>>() {
+        @Override
+        protected Map<String, Method> computeValue(Class<?> type) {
+            return findGetters(type);
+        }
+    };
+
+    private PropertyReader() {}
+
+    /**
+     * Reads a property of a row.
+     *
+     * @param row the row
+     * @param property the property name. Nested properties are separated with periods
+     * @return the value of the property, or null if the property, or any parent of a nested property, is null
+     * @throws IllegalArgumentException if the property cannot be read
+     */
+    public static Object read(Object row, String property) {
+        Object value = row;
+        int start = 0;
+        while (value != null) {
+            int end = property.indexOf('.', start);
+            if (end == -1) {
+                return readSimpleProperty(value, property.substring(start));
+            }
+            value = readSimpleProperty(value, property.substring(start, end));
+            start = end + 1;
+        }
+        return null;
+    }
+
+    private static Object readSimpleProperty(Object bean, String property) {
+        if (bean instanceof Map) {
+            return ((Map<?, ?>) bean).get(property);
+        }
+
+        Method getter = GETTERS.get(bean.getClass()).get(property);
+        if (getter == null) {
+            throw new IllegalArgumentException("There is no readable property \"" + property //$NON-NLS-1$
+                    + "\" in class " + bean.getClass().getName()); //$NON-NLS-1$
+        }
+
+        try {
+            return getter.invoke(bean);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalArgumentException("Error reading property \"" + property //$NON-NLS-1$
+                    + "\" of class " + bean.getClass().getName(), e); //$NON-NLS-1$
+        }
+    }
+
+    private static Map<String, Method> findGetters(Class<?> type) {
+        try {
+            Map<String, Method> getters = new HashMap<>();
+            for (PropertyDescriptor descriptor : Introspector.getBeanInfo(type).getPropertyDescriptors()) {
+                Method getter = descriptor.getReadMethod();
+                if (getter != null) {
+                    getter.setAccessible(true);
+                    getters.put(descriptor.getName(), getter);
+                }
+            }
+            return Collections.unmodifiableMap(getters);
+        } catch (IntrospectionException e) {
+            throw new IllegalArgumentException("Error reading the properties of class " //$NON-NLS-1$
+                    + type.getName(), e);
+        }
+    }
+}
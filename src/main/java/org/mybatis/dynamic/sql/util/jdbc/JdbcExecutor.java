@@ -0,0 +1,408 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import javax.sql.DataSource;
+
+import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.insert.BatchInsertModel;
+import org.mybatis.dynamic.sql.insert.ChunkedBatchInsertModel;
+import org.mybatis.dynamic.sql.insert.GeneralInsertModel;
+import org.mybatis.dynamic.sql.insert.InsertModel;
+import org.mybatis.dynamic.sql.insert.InsertSelectModel;
+import org.mybatis.dynamic.sql.insert.MultiRowInsertLimits;
+import org.mybatis.dynamic.sql.insert.MultiRowInsertModel;
+import org.mybatis.dynamic.sql.insert.render.BatchInsert;
+import org.mybatis.dynamic.sql.insert.render.ChunkedBatchInsert;
+import org.mybatis.dynamic.sql.insert.render.GeneralInsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.InsertSelectStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
+import org.mybatis.dynamic.sql.render.PositionalParameters;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.render.PreparedSelect;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.UpdateModel;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+import org.mybatis.dynamic.sql.util.Buildable;
+
+/**
+ * Executes statements with plain JDBC - this class has no dependencies other than the JDK.
+ *
+ * <p>Statements are rendered with {@link RenderingStrategies#JDBC_POSITIONAL} and the parameters are set by position.
+ * Methods that accept a statement provider expect the provider to be rendered with that strategy. Single row, multi
+ * row and batch inserts bind properties of the rows, so they are accepted as models only - they are rendered with "?"
+ * placeholders, and the properties are read from the rows with their JavaBeans getters.
+ *
+ * <p>An executor uses one connection. The prepared statement for the last statement executed is kept open, and is
+ * reused if the next statement has the same SQL. So running the same statement shape over and over - in a loop, or
+ * with {@link #forEachParameterSet(PreparedSelect, Iterable, RowMapper)} - prepares the statement only once.
+ * Executors are not thread safe, and should be closed when they are no longer needed. Transactions are controlled
+ * with the connection as usual.
+ */
+public class JdbcExecutor implements AutoCloseable {
+    private final DataSource dataSource;
+    private Connection connection;
+    private String cachedSql;
+    private PreparedStatement cachedStatement;
+
+    private JdbcExecutor(DataSource dataSource, Connection connection) {
+        this.dataSource = dataSource;
+        this.connection = connection;
+    }
+
+    public long count(Buildable<SelectModel> countStatement) throws SQLException {
+        return count(countStatement.build().render(RenderingStrategies.JDBC_POSITIONAL));
+    }
+
+    public long count(SelectStatementProvider countStatement) throws SQLException {
+        return execute(countStatement.getSelectStatement(), ps -> {
+            setParameters(ps, countStatement.getParameters());
+            try (ResultSet rs = ps.executeQuery()) {
+                if (!rs.next()) {
+                    throw new SQLException("A count statement returned no rows"); //$NON-NLS-1$
+                }
+                return rs.getLong(1);
+            }
+        });
+    }
+
+    public int delete(Buildable<DeleteModel> deleteStatement) throws SQLException {
+        return delete(deleteStatement.build().render(RenderingStrategies.JDBC_POSITIONAL));
+    }
+
+    public int delete(DeleteStatementProvider deleteStatement) throws SQLException {
+        return executeUpdate(deleteStatement.getDeleteStatement(), deleteStatement.getParameters());
+    }
+
+    public int generalInsert(Buildable<GeneralInsertModel> insertStatement) throws SQLException {
+        return generalInsert(insertStatement.build().render(RenderingStrategies.JDBC_POSITIONAL));
+    }
+
+    public int generalInsert(GeneralInsertStatementProvider insertStatement) throws SQLException {
+        return executeUpdate(insertStatement.getInsertStatement(), insertStatement.getParameters());
+    }
+
+    public <T> int insert(Buildable<InsertModel<T>> insertStatement) throws SQLException {
+        RowPlaceholderRenderingStrategy renderingStrategy = new RowPlaceholderRenderingStrategy();
+        InsertStatementProvider<T> provider = insertStatement.build().render(renderingStrategy);
+        return execute(provider.getInsertStatement(), ps -> {
+            renderingStrategy.setParameters(ps, 1, provider.getRow());
+            return ps.executeUpdate();
+        });
+    }
+
+    public <T> int[] insertBatch(Buildable<BatchInsertModel<T>> insertStatement) throws SQLException {
+        RowPlaceholderRenderingStrategy renderingStrategy = new RowPlaceholderRenderingStrategy();
+        BatchInsert<T> batchInsert = insertStatement.build().render(renderingStrategy);
+        return execute(batchInsert.getInsertStatementSQL(), ps -> {
+            for (T row : batchInsert.getRecords()) {
+                renderingStrategy.setParameters(ps, 1, row);
+                ps.addBatch();
+            }
+            return ps.executeBatch();
+        });
+    }
+
+    /**
+     * Executes a chunked batch insert. Each chunk of records is executed as one JDBC batch on the same prepared
+     * statement, and the callback is called with the update counts of the chunk after it is executed.
+     *
+     * @param insertStatement the batch insert
+     * @param afterChunk called with the update counts of each chunk after the chunk is executed
+     * @param <T> the type of record to insert
+     * @return the number of records inserted
+     * @throws SQLException if a database access error occurs
+     */
+    public <T> long insertBatch(Buildable<ChunkedBatchInsertModel<T>> insertStatement, Consumer<int[]> afterChunk)
+            throws SQLException {
+        RowPlaceholderRenderingStrategy renderingStrategy = new RowPlaceholderRenderingStrategy();
+        ChunkedBatchInsert<T> batchInsert = insertStatement.build().render(renderingStrategy);
+        return execute(batchInsert.getInsertStatementSQL(), ps -> {
+            long count = 0;
+            Iterator<List<T>> chunks = batchInsert.chunks();
+            while (chunks.hasNext()) {
+                List<T> chunk = chunks.next();
+                for (T row : chunk) {
+                    renderingStrategy.setParameters(ps, 1, row);
+                    ps.addBatch();
+                }
+                afterChunk.accept(ps.executeBatch());
+                count += chunk.size();
+            }
+            return count;
+        });
+    }
+
+    public <T> int insertMultiple(Buildable<MultiRowInsertModel<T>> insertStatement) throws SQLException {
+        RowPlaceholderRenderingStrategy renderingStrategy = new RowPlaceholderRenderingStrategy();
+        return insertMultiple(insertStatement.build().render(renderingStrategy), renderingStrategy);
+    }
+
+    /**
+     * Executes a multiple row insert as one or more statements that each stay within the limits. All statements
+     * except the last have the same SQL, so the prepared statement is reused.
+     *
+     * @param insertStatement the insert statement
+     * @param limits the limits for each statement
+     * @param <T> the type of record to insert
+     * @return the total number of rows inserted
+     * @throws SQLException if a database access error occurs
+     */
+    public <T> int insertMultiple(Buildable<MultiRowInsertModel<T>> insertStatement, MultiRowInsertLimits limits)
+            throws SQLException {
+        RowPlaceholderRenderingStrategy renderingStrategy = new RowPlaceholderRenderingStrategy();
+        int rows = 0;
+        for (MultiRowInsertStatementProvider<T> provider : insertStatement.build().render(renderingStrategy, limits)) {
+            rows += insertMultiple(provider, renderingStrategy);
+        }
+        return rows;
+    }
+
+    private <T> int insertMultiple(MultiRowInsertStatementProvider<T> provider,
+            RowPlaceholderRenderingStrategy renderingStrategy) throws SQLException {
+        return execute(provider.getInsertStatement(), ps -> {
+            int index = 1;
+            for (T row : provider.getRecords()) {
+                renderingStrategy.setParameters(ps, index, row);
+                index += renderingStrategy.parameterCount();
+            }
+            return ps.executeUpdate();
+        });
+    }
+
+    public int insertSelect(Buildable<InsertSelectModel> insertStatement) throws SQLException {
+        return insertSelect(insertStatement.build().render(RenderingStrategies.JDBC_POSITIONAL));
+    }
+
+    public int insertSelect(InsertSelectStatementProvider insertStatement) throws SQLException {
+        return executeUpdate(insertStatement.getInsertStatement(), insertStatement.getParameters());
+    }
+
+    public <T> List<T> selectList(Buildable<SelectModel> selectStatement, RowMapper<T> rowMapper)
+            throws SQLException {
+        return selectList(selectStatement.build().render(RenderingStrategies.JDBC_POSITIONAL), rowMapper);
+    }
+
+    public <T> List<T> selectList(SelectStatementProvider selectStatement, RowMapper<T> rowMapper)
+            throws SQLException {
+        return execute(selectStatement.getSelectStatement(), ps -> {
+            setParameters(ps, selectStatement.getParameters());
+            try (ResultSet rs = ps.executeQuery()) {
+                List<T> rows = new ArrayList<>();
+                while (rs.next()) {
+                    rows.add(rowMapper.mapRow(rs, rows.size()));
+                }
+                return rows;
+            }
+        });
+    }
+
+    public <T> Optional<T> selectOne(Buildable<SelectModel> selectStatement, RowMapper<T> rowMapper)
+            throws SQLException {
+        return selectOne(selectStatement.build().render(RenderingStrategies.JDBC_POSITIONAL), rowMapper);
+    }
+
+    /**
+     * Executes a select statement that is expected to return at most one row.
+     *
+     * @param selectStatement the select statement
+     * @param rowMapper the row mapper
+     * @param <T> the type of the row
+     * @return the row, or an empty optional if the statement returned no rows
+     * @throws SQLException if the statement fails, or if the statement returned more than one row
+     */
+    public <T> Optional<T> selectOne(SelectStatementProvider selectStatement, RowMapper<T> rowMapper)
+            throws SQLException {
+        List<T> rows = selectList(selectStatement, rowMapper);
+        if (rows.size() > 1) {
+            throw new SQLException("Expected one row, but the statement returned " + rows.size()); //$NON-NLS-1$
+        }
+        return rows.stream().findFirst();
+    }
+
+    public <T> List<List<T>> forEachParameterSet(Buildable<SelectModel> selectStatement,
+            Iterable<? extends Map<String, ?>> parameterSets, RowMapper<T> rowMapper) throws SQLException {
+        return forEachParameterSet(selectStatement.build().prepare(RenderingStrategies.JDBC_POSITIONAL),
+                parameterSets, rowMapper);
+    }
+
+    /**
+     * Runs a select statement template once for each set of values. The statement is prepared once, and every set
+     * of values is executed with the same prepared statement.
+     *
+     * @param selectStatement a template prepared with {@link RenderingStrategies#JDBC_POSITIONAL}
+     * @param parameterSets the values for the bind parameter markers of the template, keyed by marker name
+     * @param rowMapper the row mapper
+     * @param <T> the type of the rows
+     * @return the rows for each set of values, in the order of the sets
+     * @throws SQLException if a statement fails
+     * @throws IllegalArgumentException if a set of values does not match the markers in the template
+     */
+    public <T> List<List<T>> forEachParameterSet(PreparedSelect selectStatement,
+            Iterable<? extends Map<String, ?>> parameterSets, RowMapper<T> rowMapper) throws SQLException {
+        List<List<T>> results = new ArrayList<>();
+        for (Map<String, ?> parameterSet : parameterSets) {
+            results.add(selectList(selectStatement.bind(parameterSet), rowMapper));
+        }
+        return results;
+    }
+
+    public int update(Buildable<UpdateModel> updateStatement) throws SQLException {
+        return update(updateStatement.build().render(RenderingStrategies.JDBC_POSITIONAL));
+    }
+
+    public int update(UpdateStatementProvider updateStatement) throws SQLException {
+        return executeUpdate(updateStatement.getUpdateStatement(), updateStatement.getParameters());
+    }
+
+    /**
+     * Closes the cached prepared statement. If the executor was created with a data source, the connection is
+     * closed too.
+     *
+     * @throws SQLException if the statement or the connection cannot be closed
+     */
+    @Override
+    public void close() throws SQLException {
+        try {
+            closeStatement();
+        } finally {
+            if (dataSource != null && connection != null) {
+                Connection c = connection;
+                connection = null;
+                c.close();
+            }
+        }
+    }
+
+    private int executeUpdate(String sql, Map<String, Object> parameters) throws SQLException {
+        return execute(sql, ps -> {
+            setParameters(ps, parameters);
+            return ps.executeUpdate();
+        });
+    }
+
+    private <R> R execute(String sql, StatementCallback<R> callback) throws SQLException {
+        PreparedStatement ps = prepare(sql);
+        try {
+            return callback.doInStatement(ps);
+        } catch (SQLException | RuntimeException e) {
+            // the statement may be left with a half built batch or an open result - don't reuse it. A failure to
+            // close it must not hide the original failure
+            try {
+                closeStatement();
+            } catch (SQLException | RuntimeException closeFailure) {
+                e.addSuppressed(closeFailure);
+            }
+            throw e;
+        }
+    }
+
+    private PreparedStatement prepare(String sql) throws SQLException {
+        if (sql.equals(cachedSql)) {
+            cachedStatement.clearParameters();
+            return cachedStatement;
+        }
+
+        closeStatement();
+        cachedStatement = connection().prepareStatement(sql);
+        cachedSql = sql;
+        return cachedStatement;
+    }
+
+    private void closeStatement() throws SQLException {
+        if (cachedStatement != null) {
+            PreparedStatement ps = cachedStatement;
+            cachedStatement = null;
+            cachedSql = null;
+            ps.close();
+        }
+    }
+
+    private Connection connection() throws SQLException {
+        if (connection == null) {
+            connection = dataSource.getConnection();
+        }
+        return connection;
+    }
+
+    private static void setParameters(PreparedStatement ps, Map<String, Object> parameters) throws SQLException {
+        PositionalParameters positionalParameters = PositionalParameters.of(parameters);
+        for (int i = 0; i < positionalParameters.size(); i++) {
+            setParameter(ps, i + 1, positionalParameters.value(i), positionalParameters.sqlType(i));
+        }
+    }
+
+    static void setParameter(PreparedStatement ps, int index, Object value, int sqlType) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, sqlType == PositionalParameters.TYPE_UNKNOWN ? Types.NULL : sqlType);
+        } else if (value instanceof java.util.Date && !isSqlDateTime(value)) {
+            ps.setTimestamp(index, new Timestamp(((java.util.Date) value).getTime()));
+        } else if (value instanceof Calendar) {
+            Calendar calendar = (Calendar) value;
+            ps.setTimestamp(index, new Timestamp(calendar.getTimeInMillis()), calendar);
+        } else {
+            ps.setObject(index, value);
+        }
+    }
+
+    private static boolean isSqlDateTime(Object value) {
+        return value instanceof java.sql.Date || value instanceof java.sql.Time || value instanceof Timestamp;
+    }
+
+    /**
+     * Creates an executor that uses a connection. The connection is not closed when the executor is closed.
+     *
+     * @param connection the connection
+     * @return the executor
+     */
+    public static JdbcExecutor of(Connection connection) {
+        return new JdbcExecutor(null, Objects.requireNonNull(connection));
+    }
+
+    /**
+     * Creates an executor that gets a connection from a data source the first time a statement is executed, and
+     * closes the connection when the executor is closed.
+     *
+     * @param dataSource the data source
+     * @return the executor
+     */
+    public static JdbcExecutor of(DataSource dataSource) {
+        return new JdbcExecutor(Objects.requireNonNull(dataSource), null);
+    }
+
+    @FunctionalInterface
+    private interface StatementCallback<R> {
+        R doInStatement(PreparedStatement ps) throws SQLException;
+    }
+}
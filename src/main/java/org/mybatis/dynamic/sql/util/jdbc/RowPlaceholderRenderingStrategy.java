@@ -0,0 +1,77 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.jdbc;
+
+import java.sql.JDBCType;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.mybatis.dynamic.sql.BindableColumn;
+import org.mybatis.dynamic.sql.render.PositionalParameters;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.util.PropertyReader;
+
+/**
+ * Renders "?" placeholders for statements that bind properties of a row - single row, multi row and batch inserts -
+ * and remembers the property, and the JDBC type of the column, for each placeholder. After the statement is rendered
+ * the parameters can be set by position from any row.
+ *
+ * <p>Multi row inserts render the placeholders for one row only, and repeat them for every row. So the properties
+ * remembered are always the properties of one row.
+ *
+ * <p>Instances remember the placeholders of one statement and must not be reused.
+ */
+class RowPlaceholderRenderingStrategy extends RenderingStrategy {
+    private static final String PLACEHOLDER = "?"; //$NON-NLS-1$
+
+    private final List<String> properties = new ArrayList<>();
+    private final List<Integer> sqlTypes = new ArrayList<>();
+
+    @Override
+    public String getFormattedJdbcPlaceholder(BindableColumn<?> column, String prefix, String parameterName) {
+        properties.add(parameterName);
+        sqlTypes.add(column.jdbcType().map(JDBCType::getVendorTypeNumber).orElse(PositionalParameters.TYPE_UNKNOWN));
+        return PLACEHOLDER;
+    }
+
+    @Override
+    public String getFormattedJdbcPlaceholder(String prefix, String parameterName) {
+        properties.add(parameterName);
+        sqlTypes.add(PositionalParameters.TYPE_UNKNOWN);
+        return PLACEHOLDER;
+    }
+
+    int parameterCount() {
+        return properties.size();
+    }
+
+    /**
+     * Sets the properties of a row as parameters of a statement.
+     *
+     * @param ps the statement
+     * @param firstIndex the JDBC index of the parameter for the first property
+     * @param row the row
+     * @throws SQLException if a parameter cannot be set
+     */
+    void setParameters(PreparedStatement ps, int firstIndex, Object row) throws SQLException {
+        for (int i = 0; i < properties.size(); i++) {
+            JdbcExecutor.setParameter(ps, firstIndex + i, PropertyReader.read(row, properties.get(i)),
+                    sqlTypes.get(i));
+        }
+    }
+}
@@ -19,10 +19,14 @@ import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.apache.ibatis.annotations.ResultType;
 import org.apache.ibatis.annotations.SelectProvider;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.ResultHandler;
 import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
 import org.mybatis.dynamic.sql.util.SqlProviderAdapter;
 
@@ -42,6 +46,10 @@ import org.mybatis.dynamic.sql.util.SqlProviderAdapter;
  *   or a List of values.</li>
  * </ul>
  *
+ * <p>Methods that return a List read the entire result into memory. For large results there are methods that
+ * return a MyBatis {@link Cursor}, and methods that pass each row to a {@link ResultHandler} or a {@link Consumer}
+ * as it is read. A cursor must be read, and closed, before the SqlSession is closed.
+ *
  * <p>This mapper can be injected as-is into a MyBatis configuration, or it can be extended with existing mappers.
  *
  * @author Jeff Butler
@@ -113,6 +121,50 @@ public interface CommonSelectMapper {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Select any number of rows and return a Cursor of Maps containing row values (one Map for each row returned).
+     * Rows are read from the database as the cursor is iterated.
+     *
+     * <p>See {@link CommonSelectMapper#selectManyMappedRows(SelectStatementProvider)} for details about
+     * how MyBatis will construct the Map of values.
+     *
+     * @param selectStatement the select statement
+     * @return A Cursor of Maps containing the row values. The cursor must be closed.
+     */
+    @SelectProvider(type = SqlProviderAdapter.class, method = "select")
+    Cursor<Map<String, Object>> selectManyMappedRowsCursor(SelectStatementProvider selectStatement);
+
+    /**
+     * Select any number of rows and pass a Map of the row values to a result handler as each row is read.
+     * MyBatis does not collect the rows.
+     *
+     * <p>See {@link CommonSelectMapper#selectManyMappedRows(SelectStatementProvider)} for details about
+     * how MyBatis will construct the Map of values.
+     *
+     * @param selectStatement the select statement
+     * @param resultHandler the handler for the rows
+     */
+    @SelectProvider(type = SqlProviderAdapter.class, method = "select")
+    @ResultType(Map.class)
+    void selectManyMappedRowsWithHandler(SelectStatementProvider selectStatement,
+                                         ResultHandler<Map<String, Object>> resultHandler);
+
+    /**
+     * Select any number of rows, convert the values to a custom type, and pass each converted object to a
+     * consumer. Each row is converted as it is read, so neither the Maps of row values nor the converted objects
+     * are collected. This is the best choice for very large results.
+     *
+     * @param selectStatement the select statement
+     * @param rowMapper a function that will convert a Map of row values to the desired data type
+     * @param consumer a consumer for the converted objects
+     * @param <R> the datatype of the converted object
+     */
+    default <R> void selectMany(SelectStatementProvider selectStatement,
+                                Function<Map<String, Object>, R> rowMapper, Consumer<? super R> consumer) {
+        selectManyMappedRowsWithHandler(selectStatement,
+                context -> consumer.accept(rowMapper.apply(context.getResultObject())));
+    }
+
     /**
      * Retrieve a single {@link java.math.BigDecimal} from a result set. The result set must have
      * only one column and one or zero rows. The column must be retrievable from the result set
@@ -148,6 +200,18 @@ public interface CommonSelectMapper {
     @SelectProvider(type = SqlProviderAdapter.class, method = "select")
     List<BigDecimal> selectManyBigDecimals(SelectStatementProvider selectStatement);
 
+    /**
+     * Retrieve a Cursor of {@link java.math.BigDecimal} from a result set. The result set must have
+     * only one column, but can have any number of rows. The column must be retrievable from the result set
+     * via the ResultSet.getBigDecimal() method.
+     *
+     * @param selectStatement the select statement
+     * @return a cursor of extracted values that must be closed. Any value may be null if a column in the result
+     *     set is null
+     */
+    @SelectProvider(type = SqlProviderAdapter.class, method = "select")
+    Cursor<BigDecimal> selectManyBigDecimalsCursor(SelectStatementProvider selectStatement);
+
     /**
      * Retrieve a single {@link java.lang.Double} from a result set. The result set must have
      * only one column and one or zero rows. The column must be retrievable from the result set
@@ -183,6 +247,18 @@ public interface CommonSelectMapper {
     @SelectProvider(type = SqlProviderAdapter.class, method = "select")
     List<Double> selectManyDoubles(SelectStatementProvider selectStatement);
 
+    /**
+     * Retrieve a Cursor of {@link java.lang.Double} from a result set. The result set must have
+     * only one column, but can have any number of rows. The column must be retrievable from the result set
+     * via the ResultSet.getDouble() method.
+     *
+     * @param selectStatement the select statement
+     * @return a cursor of extracted values that must be closed. Any value may be null if a column in the result
+     *     set is null
+     */
+    @SelectProvider(type = SqlProviderAdapter.class, method = "select")
+    Cursor<Double> selectManyDoublesCursor(SelectStatementProvider selectStatement);
+
     /**
      * Retrieve a single {@link java.lang.Integer} from a result set. The result set must have
      * only one column and one or zero rows. The column must be retrievable from the result set
@@ -218,6 +294,18 @@ public interface CommonSelectMapper {
     @SelectProvider(type = SqlProviderAdapter.class, method = "select")
     List<Integer> selectManyIntegers(SelectStatementProvider selectStatement);
 
+    /**
+     * Retrieve a Cursor of {@link java.lang.Integer} from a result set. The result set must have
+     * only one column, but can have any number of rows. The column must be retrievable from the result set
+     * via the ResultSet.getInt() method.
+     *
+     * @param selectStatement the select statement
+     * @return a cursor of extracted values that must be closed. Any value may be null if a column in the result
+     *     set is null
+     */
+    @SelectProvider(type = SqlProviderAdapter.class, method = "select")
+    Cursor<Integer> selectManyIntegersCursor(SelectStatementProvider selectStatement);
+
     /**
      * Retrieve a single {@link java.lang.Long} from a result set. The result set must have
      * only one column and one or zero rows. The column must be retrievable from the result set
@@ -253,6 +341,18 @@ public interface CommonSelectMapper {
     @SelectProvider(type = SqlProviderAdapter.class, method = "select")
     List<Long> selectManyLongs(SelectStatementProvider selectStatement);
 
+    /**
+     * Retrieve a Cursor of {@link java.lang.Long} from a result set. The result set must have
+     * only one column, but can have any number of rows. The column must be retrievable from the result set
+     * via the ResultSet.getLong() method.
+     *
+     * @param selectStatement the select statement
+     * @return a cursor of extracted values that must be closed. Any value may be null if a column in the result
+     *     set is null
+     */
+    @SelectProvider(type = SqlProviderAdapter.class, method = "select")
+    Cursor<Long> selectManyLongsCursor(SelectStatementProvider selectStatement);
+
     /**
      * Retrieve a single {@link java.lang.String} from a result set. The result set must have
      * only one column and one or zero rows. The column must be retrievable from the result set
@@ -287,4 +387,16 @@ public interface CommonSelectMapper {
      */
     @SelectProvider(type = SqlProviderAdapter.class, method = "select")
     List<String> selectManyStrings(SelectStatementProvider selectStatement);
+
+    /**
+     * Retrieve a Cursor of {@link java.lang.String} from a result set. The result set must have
+     * only one column, but can have any number of rows. The column must be retrievable from the result set
+     * via the ResultSet.getString() method.
+     *
+     * @param selectStatement the select statement
+     * @return a cursor of extracted values that must be closed. Any value may be null if a column in the result
+     *     set is null
+     */
+    @SelectProvider(type = SqlProviderAdapter.class, method = "select")
+    Cursor<String> selectManyStringsCursor(SelectStatementProvider selectStatement);
 }
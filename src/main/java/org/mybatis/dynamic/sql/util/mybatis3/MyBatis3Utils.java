@@ -16,21 +16,27 @@
 package org.mybatis.dynamic.sql.util.mybatis3;
 
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.ToIntBiFunction;
 import java.util.function.ToIntFunction;
 import java.util.function.ToLongFunction;
 import java.util.function.UnaryOperator;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.mybatis.dynamic.sql.BasicColumn;
 import org.mybatis.dynamic.sql.SqlBuilder;
 import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.VisitableCondition;
 import org.mybatis.dynamic.sql.delete.DeleteDSLCompleter;
 import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
 import org.mybatis.dynamic.sql.insert.GeneralInsertDSL;
 import org.mybatis.dynamic.sql.insert.InsertDSL;
+import org.mybatis.dynamic.sql.insert.MultiRowInsertLimits;
 import org.mybatis.dynamic.sql.insert.MultiRowInsertDSL;
+import org.mybatis.dynamic.sql.insert.render.ChunkedBatchInsert;
 import org.mybatis.dynamic.sql.insert.render.GeneralInsertStatementProvider;
 import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
 import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
@@ -43,6 +49,7 @@ import org.mybatis.dynamic.sql.select.SelectModel;
 import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
 import org.mybatis.dynamic.sql.update.UpdateDSLCompleter;
 import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+import org.mybatis.dynamic.sql.util.LargeInListStrategy;
 
 /**
  * Utility functions for building MyBatis3 mappers.
@@ -139,12 +146,74 @@ public class MyBatis3Utils {
         return mapper.applyAsInt(insertMultiple(records, table, completer));
     }
 
+    public static <R> List<MultiRowInsertStatementProvider<R>> insertMultiple(Collection<R> records, SqlTable table,
+            UnaryOperator<MultiRowInsertDSL<R>> completer, MultiRowInsertLimits limits) {
+        return completer.apply(SqlBuilder.insertMultiple(records).into(table))
+                .build()
+                .render(RenderingStrategies.MYBATIS3, limits);
+    }
+
+    /**
+     * Executes a multiple row insert as one or more statements that each stay within the limits. The statements
+     * are executed in order with the mapper method.
+     *
+     * @param mapper the mapper insert method
+     * @param records the records to insert
+     * @param table the table
+     * @param completer the column mappings
+     * @param limits the limits for each statement
+     * @param <R> the type of record to insert
+     * @return the total number of rows inserted
+     */
+    public static <R> int insertMultiple(ToIntFunction<MultiRowInsertStatementProvider<R>> mapper,
+            Collection<R> records, SqlTable table, UnaryOperator<MultiRowInsertDSL<R>> completer,
+            MultiRowInsertLimits limits) {
+        return insertMultiple(records, table, completer, limits).stream()
+                .mapToInt(mapper)
+                .sum();
+    }
+
+    public static <R> int insertMultipleWithGeneratedKeys(ToIntBiFunction<String, List<R>> mapper,
+            Collection<R> records, SqlTable table, UnaryOperator<MultiRowInsertDSL<R>> completer,
+            MultiRowInsertLimits limits) {
+        return insertMultiple(records, table, completer, limits).stream()
+                .mapToInt(p -> mapper.applyAsInt(p.getInsertStatement(), p.getRecords()))
+                .sum();
+    }
+
     public static <R> int insertMultipleWithGeneratedKeys(ToIntBiFunction<String, List<R>> mapper,
             Collection<R> records, SqlTable table, UnaryOperator<MultiRowInsertDSL<R>> completer) {
         MultiRowInsertStatementProvider<R> provider = insertMultiple(records, table, completer);
         return mapper.applyAsInt(provider.getInsertStatement(), provider.getRecords());
     }
 
+    /**
+     * Executes a chunked batch insert with a mapper insert method. The mapper should belong to a session with
+     * the batch executor, so each chunk is queued as one JDBC batch. The callback is called after each chunk - it
+     * should flush the statements (and optionally commit) so that MyBatis does not hold more than one chunk of
+     * records in memory. For example: {@code () -> sqlSession.flushStatements()}.
+     *
+     * @param mapper the mapper insert method
+     * @param batchInsert the rendered batch insert
+     * @param afterChunk called after each chunk is queued
+     * @param <R> the type of record to insert
+     * @return the number of records inserted
+     */
+    public static <R> long insertBatch(ToIntFunction<InsertStatementProvider<R>> mapper,
+            ChunkedBatchInsert<R> batchInsert, Runnable afterChunk) {
+        long count = 0;
+        Iterator<List<R>> chunks = batchInsert.chunks();
+        while (chunks.hasNext()) {
+            List<R> chunk = chunks.next();
+            for (R row : chunk) {
+                mapper.applyAsInt(batchInsert.insertStatement(row));
+            }
+            afterChunk.run();
+            count += chunk.size();
+        }
+        return count;
+    }
+
     public static SelectStatementProvider select(BasicColumn[] selectList, SqlTable table,
             SelectDSLCompleter completer) {
         return select(SqlBuilder.select(selectList).from(table), completer);
@@ -157,6 +226,16 @@ public class MyBatis3Utils {
                 .render(RenderingStrategies.MYBATIS3);
     }
 
+    public static <R> Cursor<R> selectCursor(Function<SelectStatementProvider, Cursor<R>> mapper,
+            BasicColumn[] selectList, SqlTable table, SelectDSLCompleter completer) {
+        return mapper.apply(select(selectList, table, completer));
+    }
+
+    public static <R> Cursor<R> selectCursor(Function<SelectStatementProvider, Cursor<R>> mapper,
+            QueryExpressionDSL<SelectModel> start, SelectDSLCompleter completer) {
+        return mapper.apply(select(start, completer));
+    }
+
     public static SelectStatementProvider selectDistinct(BasicColumn[] selectList, SqlTable table,
             SelectDSLCompleter completer) {
         return select(SqlBuilder.selectDistinct(selectList).from(table), completer);
@@ -177,6 +256,26 @@ public class MyBatis3Utils {
         return mapper.apply(select(start, completer));
     }
 
+    /**
+     * Renders a select statement and executes it with a mapper method that handles the rows one at a time - for
+     * example a method with a ResultHandler, or {@link CommonSelectMapper#selectMany(SelectStatementProvider,
+     * Function, Consumer)}.
+     *
+     * @param mapper executes the statement
+     * @param selectList the columns to select
+     * @param table the table
+     * @param completer the rest of the select statement
+     */
+    public static void selectForEach(Consumer<SelectStatementProvider> mapper,
+            BasicColumn[] selectList, SqlTable table, SelectDSLCompleter completer) {
+        mapper.accept(select(selectList, table, completer));
+    }
+
+    public static void selectForEach(Consumer<SelectStatementProvider> mapper,
+            QueryExpressionDSL<SelectModel> start, SelectDSLCompleter completer) {
+        mapper.accept(select(start, completer));
+    }
+
     public static <R> R selectOne(Function<SelectStatementProvider, R> mapper,
             BasicColumn[] selectList, SqlTable table, SelectDSLCompleter completer) {
         return mapper.apply(select(selectList, table, completer));
@@ -187,6 +286,30 @@ public class MyBatis3Utils {
         return mapper.apply(select(start, completer));
     }
 
+    /**
+     * Executes a statement that is restricted to a list of keys. The strategy chooses the condition for the keys
+     * based on the size of the list - see {@link LargeInListStrategy}. If the strategy uses a key table, each batch of
+     * keys is inserted with a single multiple row insert statement. The mappers and the statement must use the same
+     * SqlSession.
+     *
+     * @param strategy the strategy for the key list
+     * @param keys the keys
+     * @param statement executes the statement with the supplied condition applied to the key column
+     * @param insertMapper typically a reference to {@link CommonInsertMapper#insertMultiple} of a mapper that extends
+     *     {@code CommonInsertMapper<LargeInListStrategy.KeyRow>}
+     * @param deleteMapper typically a reference to {@link CommonDeleteMapper#delete}
+     * @param <K> the type of the keys
+     * @param <R> the type of the statement result
+     * @return the result of the statement
+     */
+    public static <K, R> R executeWithKeys(LargeInListStrategy<K> strategy, Collection<K> keys,
+            Function<VisitableCondition<K>, R> statement,
+            ToIntFunction<MultiRowInsertStatementProvider<LargeInListStrategy.KeyRow>> insertMapper,
+            ToIntFunction<DeleteStatementProvider> deleteMapper) {
+        return strategy.execute(keys, statement, RenderingStrategies.MYBATIS3,
+                insertMapper::applyAsInt, deleteMapper::applyAsInt);
+    }
+
     public static UpdateStatementProvider update(SqlTable table, UpdateDSLCompleter completer) {
         return completer.apply(SqlBuilder.update(table))
                 .build()
@@ -0,0 +1,79 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.spring;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.springframework.jdbc.core.ParameterDisposer;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementCreatorFactory;
+import org.springframework.jdbc.core.SqlParameter;
+import org.springframework.jdbc.core.SqlProvider;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+/**
+ * Creates the prepared statement for a select statement rendered with
+ * {@link org.mybatis.dynamic.sql.render.RenderingStrategies#SPRING_NAMED_PARAMETER}, and sets a fetch size on the
+ * statement before it is executed. The named parameters are expanded in the same way as
+ * <code>NamedParameterJdbcTemplate</code> does.
+ *
+ * <p>The template applies its own statement settings after the statement is created - so if a fetch size is
+ * configured on the template, the template's fetch size is used.
+ */
+class FetchSizeStatementCreator implements PreparedStatementCreator, SqlProvider, ParameterDisposer {
+    private final PreparedStatementCreator delegate;
+    private final int fetchSize;
+
+    private FetchSizeStatementCreator(PreparedStatementCreator delegate, int fetchSize) {
+        this.delegate = delegate;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public PreparedStatement createPreparedStatement(Connection con) throws SQLException {
+        PreparedStatement ps = delegate.createPreparedStatement(con);
+        ps.setFetchSize(fetchSize);
+        return ps;
+    }
+
+    @Override
+    public String getSql() {
+        return ((SqlProvider) delegate).getSql();
+    }
+
+    @Override
+    public void cleanupParameters() {
+        ((ParameterDisposer) delegate).cleanupParameters();
+    }
+
+    static FetchSizeStatementCreator of(SelectStatementProvider selectStatement, int fetchSize) {
+        SqlParameterSource parameterSource = new MapSqlParameterSource(selectStatement.getParameters());
+        ParsedSql parsedSql = NamedParameterUtils.parseSqlStatement(selectStatement.getSelectStatement());
+        String sql = NamedParameterUtils.substituteNamedParameters(parsedSql, parameterSource);
+        List<SqlParameter> declaredParameters = NamedParameterUtils.buildSqlParameterList(parsedSql, parameterSource);
+        Object[] values = NamedParameterUtils.buildValueArray(parsedSql, parameterSource, null);
+        PreparedStatementCreator delegate = new PreparedStatementCreatorFactory(sql, declaredParameters)
+                .newPreparedStatementCreator(values);
+        return new FetchSizeStatementCreator(delegate, fetchSize);
+    }
+}
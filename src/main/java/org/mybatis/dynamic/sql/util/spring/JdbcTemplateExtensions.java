@@ -0,0 +1,244 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.spring;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.mybatis.dynamic.sql.VisitableCondition;
+import org.mybatis.dynamic.sql.delete.BatchDeleteModel;
+import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.delete.render.BatchDelete;
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.insert.BatchInsertModel;
+import org.mybatis.dynamic.sql.insert.ChunkedBatchInsertModel;
+import org.mybatis.dynamic.sql.insert.GeneralInsertModel;
+import org.mybatis.dynamic.sql.insert.InsertModel;
+import org.mybatis.dynamic.sql.insert.MultiRowInsertLimits;
+import org.mybatis.dynamic.sql.insert.MultiRowInsertModel;
+import org.mybatis.dynamic.sql.insert.render.BatchInsert;
+import org.mybatis.dynamic.sql.insert.render.ChunkedBatchInsert;
+import org.mybatis.dynamic.sql.insert.render.GeneralInsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.BatchUpdateModel;
+import org.mybatis.dynamic.sql.update.UpdateModel;
+import org.mybatis.dynamic.sql.update.render.BatchUpdate;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+import org.mybatis.dynamic.sql.util.Buildable;
+import org.mybatis.dynamic.sql.util.LargeInListStrategy;
+import org.springframework.dao.support.DataAccessUtils;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.SingleColumnRowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.KeyHolder;
+
+/**
+ * Executes statements with a plain {@link JdbcTemplate}. Statements are rendered with
+ * {@link RenderingStrategies#JDBC_POSITIONAL}, so the SQL is passed to the driver as is and the parameters are set
+ * by position - the template does not parse the SQL or look up parameters by name.
+ *
+ * <p>Single row, multi row and batch inserts bind properties of the rows by name. Those statements are rendered
+ * with {@link RenderingStrategies#SPRING_NAMED_PARAMETER} and executed with a {@link NamedParameterJdbcTemplate}
+ * that wraps the same {@link JdbcTemplate}.
+ */
+public class JdbcTemplateExtensions {
+    private final JdbcTemplate template;
+    private final NamedParameterJdbcTemplateExtensions namedParameterExtensions;
+
+    public JdbcTemplateExtensions(JdbcTemplate template) {
+        this.template = Objects.requireNonNull(template);
+        namedParameterExtensions = new NamedParameterJdbcTemplateExtensions(new NamedParameterJdbcTemplate(template));
+    }
+
+    public long count(Buildable<SelectModel> countStatement) {
+        return count(countStatement.build().render(RenderingStrategies.JDBC_POSITIONAL));
+    }
+
+    public long count(SelectStatementProvider countStatement) {
+        List<Long> results = template.query(countStatement.getSelectStatement(),
+                PositionalParameterSetter.of(countStatement.getParameters()), new SingleColumnRowMapper<>(Long.class));
+        return DataAccessUtils.requiredSingleResult(results);
+    }
+
+    public int delete(Buildable<DeleteModel> deleteStatement) {
+        return delete(deleteStatement.build().render(RenderingStrategies.JDBC_POSITIONAL));
+    }
+
+    public int delete(DeleteStatementProvider deleteStatement) {
+        return template.update(deleteStatement.getDeleteStatement(),
+                PositionalParameterSetter.of(deleteStatement.getParameters()));
+    }
+
+    public <T> int[] deleteBatch(Buildable<BatchDeleteModel<T>> deleteStatement) {
+        return deleteBatch(deleteStatement.build().render(RenderingStrategies.JDBC_POSITIONAL));
+    }
+
+    public <T> int[] deleteBatch(BatchDelete<T> deleteStatement) {
+        return batchUpdate(deleteStatement.getDeleteStatementSQL(), deleteStatement.getRecords(),
+                deleteStatement::parameters);
+    }
+
+    public int generalInsert(Buildable<GeneralInsertModel> insertStatement) {
+        return generalInsert(insertStatement.build().render(RenderingStrategies.JDBC_POSITIONAL));
+    }
+
+    public int generalInsert(GeneralInsertStatementProvider insertStatement) {
+        return template.update(insertStatement.getInsertStatement(),
+                PositionalParameterSetter.of(insertStatement.getParameters()));
+    }
+
+    public int generalInsert(Buildable<GeneralInsertModel> insertStatement, KeyHolder keyHolder) {
+        return generalInsert(insertStatement.build().render(RenderingStrategies.JDBC_POSITIONAL), keyHolder);
+    }
+
+    public int generalInsert(GeneralInsertStatementProvider insertStatement, KeyHolder keyHolder) {
+        return template.update(PositionalParameterSetter.of(insertStatement.getParameters())
+                .generatedKeysCreator(insertStatement.getInsertStatement()), keyHolder);
+    }
+
+    public <T> int insert(Buildable<InsertModel<T>> insertStatement) {
+        return namedParameterExtensions.insert(insertStatement);
+    }
+
+    public <T> int insert(InsertStatementProvider<T> insertStatement) {
+        return namedParameterExtensions.insert(insertStatement);
+    }
+
+    public <T> int insert(Buildable<InsertModel<T>> insertStatement, KeyHolder keyHolder) {
+        return namedParameterExtensions.insert(insertStatement, keyHolder);
+    }
+
+    public <T> int insert(InsertStatementProvider<T> insertStatement, KeyHolder keyHolder) {
+        return namedParameterExtensions.insert(insertStatement, keyHolder);
+    }
+
+    public <T> int[] insertBatch(Buildable<BatchInsertModel<T>> insertStatement) {
+        return namedParameterExtensions.insertBatch(insertStatement);
+    }
+
+    public <T> int[] insertBatch(BatchInsert<T> insertStatement) {
+        return namedParameterExtensions.insertBatch(insertStatement);
+    }
+
+    public <T> long insertBatch(Buildable<ChunkedBatchInsertModel<T>> insertStatement, Consumer<int[]> afterChunk) {
+        return namedParameterExtensions.insertBatch(insertStatement, afterChunk);
+    }
+
+    public <T> long insertBatch(ChunkedBatchInsert<T> insertStatement, Consumer<int[]> afterChunk) {
+        return namedParameterExtensions.insertBatch(insertStatement, afterChunk);
+    }
+
+    public <T> int insertMultiple(Buildable<MultiRowInsertModel<T>> insertStatement) {
+        return namedParameterExtensions.insertMultiple(insertStatement);
+    }
+
+    public <T> int insertMultiple(MultiRowInsertStatementProvider<T> insertStatement) {
+        return namedParameterExtensions.insertMultiple(insertStatement);
+    }
+
+    public <T> int insertMultiple(Buildable<MultiRowInsertModel<T>> insertStatement, MultiRowInsertLimits limits) {
+        return namedParameterExtensions.insertMultiple(insertStatement, limits);
+    }
+
+    public <T> int insertMultiple(Buildable<MultiRowInsertModel<T>> insertStatement, KeyHolder keyHolder) {
+        return namedParameterExtensions.insertMultiple(insertStatement, keyHolder);
+    }
+
+    public <T> int insertMultiple(MultiRowInsertStatementProvider<T> insertStatement, KeyHolder keyHolder) {
+        return namedParameterExtensions.insertMultiple(insertStatement, keyHolder);
+    }
+
+    public <T> List<T> selectList(Buildable<SelectModel> selectStatement, RowMapper<T> rowMapper) {
+        return selectList(selectStatement.build().render(RenderingStrategies.JDBC_POSITIONAL), rowMapper);
+    }
+
+    public <T> List<T> selectList(SelectStatementProvider selectStatement, RowMapper<T> rowMapper) {
+        return template.query(selectStatement.getSelectStatement(),
+                PositionalParameterSetter.of(selectStatement.getParameters()), rowMapper);
+    }
+
+    public <T> Optional<T> selectOne(Buildable<SelectModel> selectStatement, RowMapper<T> rowMapper) {
+        return selectOne(selectStatement.build().render(RenderingStrategies.JDBC_POSITIONAL), rowMapper);
+    }
+
+    public <T> Optional<T> selectOne(SelectStatementProvider selectStatement, RowMapper<T> rowMapper) {
+        return Optional.ofNullable(DataAccessUtils.singleResult(selectList(selectStatement, rowMapper)));
+    }
+
+    /**
+     * Executes a statement that is restricted to a list of keys. The strategy chooses the condition for the keys
+     * based on the size of the list - see {@link LargeInListStrategy}. If the strategy uses a key table, each batch of
+     * keys is inserted with a single multiple row insert statement. The key table statements are executed with named
+     * parameters. This method must be called in a transaction if the strategy uses a key table, so that all the
+     * statements use the same connection.
+     *
+     * @param strategy the strategy for the key list
+     * @param keys the keys
+     * @param statement executes the statement with the supplied condition applied to the key column
+     * @param <K> the type of the keys
+     * @param <R> the type of the statement result
+     * @return the result of the statement
+     */
+    public <K, R> R executeWithKeys(LargeInListStrategy<K> strategy, Collection<K> keys,
+            Function<VisitableCondition<K>, R> statement) {
+        return namedParameterExtensions.executeWithKeys(strategy, keys, statement);
+    }
+
+    public int update(Buildable<UpdateModel> updateStatement) {
+        return update(updateStatement.build().render(RenderingStrategies.JDBC_POSITIONAL));
+    }
+
+    public int update(UpdateStatementProvider updateStatement) {
+        return template.update(updateStatement.getUpdateStatement(),
+                PositionalParameterSetter.of(updateStatement.getParameters()));
+    }
+
+    public <T> int[] updateBatch(Buildable<BatchUpdateModel<T>> updateStatement) {
+        return updateBatch(updateStatement.build().render(RenderingStrategies.JDBC_POSITIONAL));
+    }
+
+    public <T> int[] updateBatch(BatchUpdate<T> updateStatement) {
+        return batchUpdate(updateStatement.getUpdateStatementSQL(), updateStatement.getRecords(),
+                updateStatement::parameters);
+    }
+
+    private <T> int[] batchUpdate(String statement, List<T> records, Function<T, Map<String, Object>> parameters) {
+        return template.batchUpdate(statement, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                PositionalParameterSetter.of(parameters.apply(records.get(i))).setValues(ps);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return records.size();
+            }
+        });
+    }
+}
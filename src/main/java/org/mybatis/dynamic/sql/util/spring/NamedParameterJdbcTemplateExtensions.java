@@ -15,27 +15,45 @@
  */
 package org.mybatis.dynamic.sql.util.spring;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
+import org.mybatis.dynamic.sql.VisitableCondition;
+import org.mybatis.dynamic.sql.delete.BatchDeleteModel;
 import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.delete.render.BatchDelete;
 import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
 import org.mybatis.dynamic.sql.insert.BatchInsertModel;
+import org.mybatis.dynamic.sql.insert.ChunkedBatchInsertModel;
 import org.mybatis.dynamic.sql.insert.GeneralInsertModel;
 import org.mybatis.dynamic.sql.insert.InsertModel;
+import org.mybatis.dynamic.sql.insert.MultiRowInsertLimits;
 import org.mybatis.dynamic.sql.insert.MultiRowInsertModel;
 import org.mybatis.dynamic.sql.insert.render.BatchInsert;
+import org.mybatis.dynamic.sql.insert.render.ChunkedBatchInsert;
 import org.mybatis.dynamic.sql.insert.render.GeneralInsertStatementProvider;
 import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
 import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
 import org.mybatis.dynamic.sql.render.RenderingStrategies;
 import org.mybatis.dynamic.sql.select.SelectModel;
 import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.BatchUpdateModel;
 import org.mybatis.dynamic.sql.update.UpdateModel;
+import org.mybatis.dynamic.sql.update.render.BatchUpdate;
 import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
 import org.mybatis.dynamic.sql.util.Buildable;
+import org.mybatis.dynamic.sql.util.LargeInListStrategy;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
@@ -67,6 +85,15 @@ public class NamedParameterJdbcTemplateExtensions {
         return template.update(deleteStatement.getDeleteStatement(), deleteStatement.getParameters());
     }
 
+    public <T> int[] deleteBatch(Buildable<BatchDeleteModel<T>> deleteStatement) {
+        return deleteBatch(deleteStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER));
+    }
+
+    public <T> int[] deleteBatch(BatchDelete<T> deleteStatement) {
+        return template.batchUpdate(deleteStatement.getDeleteStatementSQL(),
+                createBatch(deleteStatement.getRecords(), deleteStatement::parameters));
+    }
+
     public int generalInsert(Buildable<GeneralInsertModel> insertStatement) {
         return generalInsert(insertStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER));
     }
@@ -111,6 +138,32 @@ public class NamedParameterJdbcTemplateExtensions {
         return template.batchUpdate(insertStatement.getInsertStatementSQL(), batch);
     }
 
+    public <T> long insertBatch(Buildable<ChunkedBatchInsertModel<T>> insertStatement, Consumer<int[]> afterChunk) {
+        return insertBatch(insertStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER), afterChunk);
+    }
+
+    /**
+     * Executes a chunked batch insert. Each chunk of records is executed as one JDBC batch, and the callback is
+     * called with the update counts of the chunk after it is executed - it can be used to commit or to report
+     * progress.
+     *
+     * @param insertStatement the rendered batch insert
+     * @param afterChunk called with the update counts of each chunk after the chunk is executed
+     * @param <T> the type of record to insert
+     * @return the number of records inserted
+     */
+    public <T> long insertBatch(ChunkedBatchInsert<T> insertStatement, Consumer<int[]> afterChunk) {
+        long count = 0;
+        Iterator<List<T>> chunks = insertStatement.chunks();
+        while (chunks.hasNext()) {
+            List<T> chunk = chunks.next();
+            SqlParameterSource[] batch = SqlParameterSourceUtils.createBatch(chunk);
+            afterChunk.accept(template.batchUpdate(insertStatement.getInsertStatementSQL(), batch));
+            count += chunk.size();
+        }
+        return count;
+    }
+
     public <T> int insertMultiple(Buildable<MultiRowInsertModel<T>> insertStatement) {
         return insertMultiple(insertStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER));
     }
@@ -120,6 +173,20 @@ public class NamedParameterJdbcTemplateExtensions {
                 new BeanPropertySqlParameterSource(insertStatement));
     }
 
+    /**
+     * Executes a multiple row insert as one or more statements that each stay within the limits.
+     *
+     * @param insertStatement the insert statement
+     * @param limits the limits for each statement
+     * @param <T> the type of record to insert
+     * @return the total number of rows inserted
+     */
+    public <T> int insertMultiple(Buildable<MultiRowInsertModel<T>> insertStatement, MultiRowInsertLimits limits) {
+        return insertStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER, limits).stream()
+                .mapToInt(this::insertMultiple)
+                .sum();
+    }
+
     public <T> int insertMultiple(Buildable<MultiRowInsertModel<T>> insertStatement, KeyHolder keyHolder) {
         return insertMultiple(insertStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER), keyHolder);
     }
@@ -137,6 +204,43 @@ public class NamedParameterJdbcTemplateExtensions {
         return template.query(selectStatement.getSelectStatement(), selectStatement.getParameters(), rowMapper);
     }
 
+    public <T> void selectForEach(Buildable<SelectModel> selectStatement, RowMapper<T> rowMapper,
+            Consumer<? super T> action) {
+        selectForEach(selectStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER), rowMapper, action);
+    }
+
+    /**
+     * Executes a select statement and passes each row to an action as it is read. Rows are not collected, so the
+     * heap used does not depend on the number of rows - if the driver streams the result. Many drivers read the
+     * entire result unless a fetch size is set, either on the template or with
+     * {@link #selectForEach(SelectStatementProvider, int, RowMapper, Consumer)}.
+     *
+     * @param selectStatement the select statement
+     * @param rowMapper the row mapper
+     * @param action the action for each row
+     * @param <T> the type of the rows
+     */
+    public <T> void selectForEach(SelectStatementProvider selectStatement, RowMapper<T> rowMapper,
+            Consumer<? super T> action) {
+        template.query(selectStatement.getSelectStatement(), selectStatement.getParameters(),
+                new MappingRowCallbackHandler<>(rowMapper, action));
+    }
+
+    /**
+     * Executes a select statement with a fetch size, and passes each row to an action as it is read.
+     *
+     * @param selectStatement the select statement
+     * @param fetchSize the fetch size for the statement. This is used only if the template has no fetch size
+     * @param rowMapper the row mapper
+     * @param action the action for each row
+     * @param <T> the type of the rows
+     */
+    public <T> void selectForEach(SelectStatementProvider selectStatement, int fetchSize, RowMapper<T> rowMapper,
+            Consumer<? super T> action) {
+        template.getJdbcOperations().query(FetchSizeStatementCreator.of(selectStatement, fetchSize),
+                new MappingRowCallbackHandler<>(rowMapper, action));
+    }
+
     public <T> Optional<T> selectOne(Buildable<SelectModel> selectStatement, RowMapper<T> rowMapper) {
         return selectOne(selectStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER), rowMapper);
     }
@@ -153,6 +257,59 @@ public class NamedParameterJdbcTemplateExtensions {
         return Optional.ofNullable(result);
     }
 
+    public <T> Stream<T> selectStream(Buildable<SelectModel> selectStatement, RowMapper<T> rowMapper) {
+        return selectStream(selectStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER), rowMapper);
+    }
+
+    /**
+     * Executes a select statement and returns a stream of the rows. Rows are read from the open result set as the
+     * stream is consumed. The stream holds a connection, so it must be closed - for example with a
+     * try-with-resources statement.
+     *
+     * @param selectStatement the select statement
+     * @param rowMapper the row mapper
+     * @param <T> the type of the rows
+     * @return a stream of the rows that must be closed
+     */
+    public <T> Stream<T> selectStream(SelectStatementProvider selectStatement, RowMapper<T> rowMapper) {
+        return template.queryForStream(selectStatement.getSelectStatement(), selectStatement.getParameters(),
+                rowMapper);
+    }
+
+    /**
+     * Executes a select statement with a fetch size and returns a stream of the rows. The stream must be closed.
+     *
+     * @param selectStatement the select statement
+     * @param fetchSize the fetch size for the statement. This is used only if the template has no fetch size
+     * @param rowMapper the row mapper
+     * @param <T> the type of the rows
+     * @return a stream of the rows that must be closed
+     */
+    public <T> Stream<T> selectStream(SelectStatementProvider selectStatement, int fetchSize,
+            RowMapper<T> rowMapper) {
+        return template.getJdbcOperations().queryForStream(FetchSizeStatementCreator.of(selectStatement, fetchSize),
+                rowMapper);
+    }
+
+    /**
+     * Executes a statement that is restricted to a list of keys. The strategy chooses the condition for the keys
+     * based on the size of the list - see {@link LargeInListStrategy}. If the strategy uses a key table, each batch of
+     * keys is inserted with a single multiple row insert statement. This method must be called in a transaction if the
+     * strategy uses a key table, so that all the statements use the same connection.
+     *
+     * @param strategy the strategy for the key list
+     * @param keys the keys
+     * @param statement executes the statement with the supplied condition applied to the key column
+     * @param <K> the type of the keys
+     * @param <R> the type of the statement result
+     * @return the result of the statement
+     */
+    public <K, R> R executeWithKeys(LargeInListStrategy<K> strategy, Collection<K> keys,
+            Function<VisitableCondition<K>, R> statement) {
+        return strategy.execute(keys, statement, RenderingStrategies.SPRING_NAMED_PARAMETER,
+                this::insertMultiple, this::delete);
+    }
+
     public int update(Buildable<UpdateModel> updateStatement) {
         return update(updateStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER));
     }
@@ -160,4 +317,37 @@ public class NamedParameterJdbcTemplateExtensions {
     public int update(UpdateStatementProvider updateStatement) {
         return template.update(updateStatement.getUpdateStatement(), updateStatement.getParameters());
     }
+
+    public <T> int[] updateBatch(Buildable<BatchUpdateModel<T>> updateStatement) {
+        return updateBatch(updateStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER));
+    }
+
+    public <T> int[] updateBatch(BatchUpdate<T> updateStatement) {
+        return template.batchUpdate(updateStatement.getUpdateStatementSQL(),
+                createBatch(updateStatement.getRecords(), updateStatement::parameters));
+    }
+
+    private static <T> SqlParameterSource[] createBatch(List<T> records,
+            Function<T, Map<String, Object>> parameters) {
+        return records.stream()
+                .map(parameters)
+                .map(MapSqlParameterSource::new)
+                .toArray(SqlParameterSource[]::new);
+    }
+
+    private static class MappingRowCallbackHandler<T> implements RowCallbackHandler {
+        private final RowMapper<T> rowMapper;
+        private final Consumer<? super T> action;
+        private int rowNum;
+
+        private MappingRowCallbackHandler(RowMapper<T> rowMapper, Consumer<? super T> action) {
+            this.rowMapper = Objects.requireNonNull(rowMapper);
+            this.action = Objects.requireNonNull(action);
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            action.accept(rowMapper.mapRow(rs, rowNum++));
+        }
+    }
 }
@@ -0,0 +1,74 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.spring;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.Objects;
+
+import org.mybatis.dynamic.sql.render.PositionalParameters;
+import org.springframework.jdbc.core.ParameterDisposer;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.StatementCreatorUtils;
+
+/**
+ * Sets the parameters of a statement rendered with
+ * {@link org.mybatis.dynamic.sql.render.RenderingStrategies#JDBC_POSITIONAL} on a JDBC prepared statement.
+ */
+public class PositionalParameterSetter implements PreparedStatementSetter, ParameterDisposer {
+    private final PositionalParameters parameters;
+
+    private PositionalParameterSetter(PositionalParameters parameters) {
+        this.parameters = Objects.requireNonNull(parameters);
+    }
+
+    @Override
+    public void setValues(PreparedStatement ps) throws SQLException {
+        for (int i = 0; i < parameters.size(); i++) {
+            StatementCreatorUtils.setParameterValue(ps, i + 1, parameters.sqlType(i), parameters.value(i));
+        }
+    }
+
+    /**
+     * Returns a statement creator that prepares the statement to return generated keys, and sets the parameters.
+     *
+     * @param sql the statement
+     * @return the statement creator
+     */
+    public PreparedStatementCreator generatedKeysCreator(String sql) {
+        return con -> {
+            PreparedStatement ps = con.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+            setValues(ps);
+            return ps;
+        };
+    }
+
+    @Override
+    public void cleanupParameters() {
+        StatementCreatorUtils.cleanupParameters(parameters.values());
+    }
+
+    public static PositionalParameterSetter of(PositionalParameters parameters) {
+        return new PositionalParameterSetter(parameters);
+    }
+
+    public static PositionalParameterSetter of(Map<String, Object> parameters) {
+        return of(PositionalParameters.of(parameters));
+    }
+}
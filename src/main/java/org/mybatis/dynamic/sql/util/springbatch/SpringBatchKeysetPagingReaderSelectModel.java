@@ -0,0 +1,138 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.springbatch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.mybatis.dynamic.sql.BindParameter;
+import org.mybatis.dynamic.sql.select.Keyset;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.render.PreparedSelect;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+
+/**
+ * A select model for paging item readers that uses keyset (seek) pagination instead of LIMIT and OFFSET. Pages after
+ * the first select the rows that sort after the last row of the previous page, so the database does not read and
+ * discard the rows of earlier pages and every page costs about the same.
+ *
+ * <p>The statement is rendered twice when the model is created - once for the first page, and once, with a seek
+ * predicate for the order by columns, for the following pages. The reader must tell the statement the keyset of the
+ * last row it read with {@link KeysetPagingStatementProvider#seekAfter(Keyset)} before it reads a page. The keyset
+ * should also be saved in the reader's execution context so the reader can continue after the last row when a job
+ * is restarted.
+ */
+public class SpringBatchKeysetPagingReaderSelectModel {
+    private static final String LIMIT_CLAUSE = " LIMIT #{_pagesize}"; //$NON-NLS-1$
+
+    private final SelectStatementProvider firstPage;
+    private final PreparedSelect nextPage;
+    private final List<BindParameter<Object>> keyParameters = new ArrayList<>();
+
+    public SpringBatchKeysetPagingReaderSelectModel(SelectModel selectModel) {
+        long orderByColumnCount = selectModel.orderByModel()
+                .map(om -> om.mapColumns(Function.identity()).count())
+                .orElse(0L);
+        for (int i = 0; i < orderByColumnCount; i++) {
+            keyParameters.add(BindParameter.of("_key" + i, Object.class)); //$NON-NLS-1$
+        }
+
+        firstPage = selectModel.render(SpringBatchUtility.SPRING_BATCH_READER_RENDERING_STRATEGY);
+        nextPage = selectModel.seekAfter(Keyset.of(keyParameters))
+                .prepare(SpringBatchUtility.SPRING_BATCH_READER_RENDERING_STRATEGY);
+    }
+
+    /**
+     * Creates a statement for one reader. The statement holds the keyset of the reader, so it must not be shared
+     * between readers.
+     *
+     * @return a statement that reads the first page until a keyset is set
+     */
+    public KeysetPagingStatementProvider render() {
+        return new KeysetPagingStatementProvider(this);
+    }
+
+    public static class KeysetPagingStatementProvider implements SelectStatementProvider {
+        private final SpringBatchKeysetPagingReaderSelectModel model;
+        private final String firstPageStatement;
+        private final String nextPageStatement;
+        private final Map<String, Object> firstPageParameters;
+        private Keyset keyset;
+        private Map<String, Object> parameters;
+
+        private KeysetPagingStatementProvider(SpringBatchKeysetPagingReaderSelectModel model) {
+            this.model = model;
+            firstPageStatement = model.firstPage.getSelectStatement() + LIMIT_CLAUSE;
+            nextPageStatement = model.nextPage.getSelectStatement() + LIMIT_CLAUSE;
+            // the first page is rendered once for the model and shared by every provider, so it must not be changed
+            firstPageParameters = Collections.unmodifiableMap(model.firstPage.getParameters());
+            parameters = firstPageParameters;
+        }
+
+        /**
+         * Sets the keyset of the last row that was read. The next page will start with the following row.
+         *
+         * @param keyset the order by column values of the last row that was read, or null to read the first page
+         */
+        public void seekAfter(Keyset keyset) {
+            if (Objects.equals(keyset, this.keyset)) {
+                return;
+            }
+
+            if (keyset == null) {
+                parameters = firstPageParameters;
+            } else {
+                parameters = model.nextPage.bind(keyValues(keyset)).getParameters();
+            }
+            this.keyset = keyset;
+        }
+
+        private Map<String, Object> keyValues(Keyset keyset) {
+            if (keyset.size() != model.keyParameters.size()) {
+                throw new IllegalArgumentException(
+                        "A keyset must have one value for each order by column - there are " //$NON-NLS-1$
+                        + model.keyParameters.size() + " order by columns and " //$NON-NLS-1$
+                        + keyset.size() + " keyset values"); //$NON-NLS-1$
+            }
+
+            Map<String, Object> values = new HashMap<>();
+            for (int i = 0; i < keyset.size(); i++) {
+                values.put(model.keyParameters.get(i).name(), keyset.values().get(i));
+            }
+            return values;
+        }
+
+        public Optional<Keyset> keyset() {
+            return Optional.ofNullable(keyset);
+        }
+
+        @Override
+        public Map<String, Object> getParameters() {
+            return parameters;
+        }
+
+        @Override
+        public String getSelectStatement() {
+            return keyset == null ? firstPageStatement : nextPageStatement;
+        }
+    }
+}
@@ -52,6 +52,22 @@ public class SpringBatchUtility {
         return SelectDSL.select(SpringBatchPagingReaderSelectModel::new, selectList);
     }
 
+    /**
+     * Select builder that renders in a manner appropriate for a MyBatisPagingItemReader that uses keyset (seek)
+     * pagination. The statement must have an order by clause, and the order by columns must uniquely identify a row.
+     *
+     * <b>Important</b> rendered SQL will contain a LIMIT clause in the SELECT statement. If your database
+     * (Oracle) does not support LIMIT, the queries will fail.
+     *
+     * @param selectList a column list for the SELECT statement
+     * @return FromGatherer used to continue a SELECT statement
+     * @see SpringBatchKeysetPagingReaderSelectModel
+     */
+    public static QueryExpressionDSL.FromGatherer<SpringBatchKeysetPagingReaderSelectModel> selectForKeysetPaging(
+            BasicColumn...selectList) {
+        return SelectDSL.select(SpringBatchKeysetPagingReaderSelectModel::new, selectList);
+    }
+
     /**
      * Select builder that renders in a manner appropriate for the MyBatisCursorItemReader.
      *
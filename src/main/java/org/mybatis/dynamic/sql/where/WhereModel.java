@@ -17,11 +17,11 @@ package org.mybatis.dynamic.sql.where;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
 import org.mybatis.dynamic.sql.SqlCriterion;
+import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.render.TableAliasCalculator;
 import org.mybatis.dynamic.sql.where.render.WhereClauseProvider;
@@ -49,9 +49,7 @@ public class WhereModel {
      */
     public WhereClauseProvider render(RenderingStrategy renderingStrategy) {
         return WhereRenderer.withWhereModel(this)
-                .withRenderingStrategy(renderingStrategy)
-                .withSequence(new AtomicInteger(1))
-                .withTableAliasCalculator(TableAliasCalculator.empty())
+                .withRenderingContext(renderingContext(renderingStrategy, TableAliasCalculator.empty()))
                 .build()
                 .render()
                 .orElse(EMPTY_WHERE_CLAUSE);
@@ -60,9 +58,7 @@ public class WhereModel {
     public WhereClauseProvider render(RenderingStrategy renderingStrategy,
             TableAliasCalculator tableAliasCalculator) {
         return WhereRenderer.withWhereModel(this)
-                .withRenderingStrategy(renderingStrategy)
-                .withSequence(new AtomicInteger(1))
-                .withTableAliasCalculator(tableAliasCalculator)
+                .withRenderingContext(renderingContext(renderingStrategy, tableAliasCalculator))
                 .build()
                 .render()
                 .orElse(EMPTY_WHERE_CLAUSE);
@@ -71,9 +67,7 @@ public class WhereModel {
     public WhereClauseProvider render(RenderingStrategy renderingStrategy,
             String parameterName) {
         return WhereRenderer.withWhereModel(this)
-                .withRenderingStrategy(renderingStrategy)
-                .withSequence(new AtomicInteger(1))
-                .withTableAliasCalculator(TableAliasCalculator.empty())
+                .withRenderingContext(renderingContext(renderingStrategy, TableAliasCalculator.empty()))
                 .withParameterName(parameterName)
                 .build()
                 .render()
@@ -83,15 +77,20 @@ public class WhereModel {
     public WhereClauseProvider render(RenderingStrategy renderingStrategy,
             TableAliasCalculator tableAliasCalculator, String parameterName) {
         return WhereRenderer.withWhereModel(this)
-                .withRenderingStrategy(renderingStrategy)
-                .withSequence(new AtomicInteger(1))
-                .withTableAliasCalculator(tableAliasCalculator)
+                .withRenderingContext(renderingContext(renderingStrategy, tableAliasCalculator))
                 .withParameterName(parameterName)
                 .build()
                 .render()
                 .orElse(EMPTY_WHERE_CLAUSE);
     }
 
+    private static RenderingContext renderingContext(RenderingStrategy renderingStrategy,
+            TableAliasCalculator tableAliasCalculator) {
+        return RenderingContext.withRenderingStrategy(renderingStrategy)
+                .withTableAliasCalculator(tableAliasCalculator)
+                .build();
+    }
+
     public static WhereModel of(List<SqlCriterion> criteria) {
         return new WhereModel(criteria);
     }
@@ -0,0 +1,82 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.where.condition;
+
+import java.util.AbstractList;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.IntFunction;
+
+import org.mybatis.dynamic.sql.Callback;
+import org.mybatis.dynamic.sql.render.InListPadding;
+
+/**
+ * Base class for "in" conditions that are backed by a primitive array. The values are only boxed when they are
+ * read, so a large list of ids does not create a boxed object for every id before the statement is rendered.
+ * Conditions of this type render exactly like {@link IsIn}.
+ *
+ * @param <T> the boxed type of the array elements
+ * @param <S> the type of the condition
+ */
+public abstract class AbstractPrimitiveIsIn<T, S extends AbstractPrimitiveIsIn<T, S>> extends IsIn<T> {
+
+    protected AbstractPrimitiveIsIn(int size, IntFunction<T> valueAt, Callback emptyCallback,
+            InListPadding listPadding) {
+        super(new BoxingList<>(size, valueAt), emptyCallback, listPadding);
+    }
+
+    /**
+     * Returns a condition with the same values as this condition, and the specified callback and padding.
+     *
+     * @param emptyCallback the callback for an empty list
+     * @param listPadding the padding, or null to use the padding of the rendering strategy
+     * @return the new condition
+     */
+    protected abstract S copy(Callback emptyCallback, InListPadding listPadding);
+
+    @Override
+    public S withListEmptyCallback(Callback callback) {
+        return copy(callback, listPadding);
+    }
+
+    @Override
+    public S withListPadding(InListPadding listPadding) {
+        return copy(emptyCallback, Objects.requireNonNull(listPadding));
+    }
+
+    /**
+     * A read only list view of a primitive array. Values are boxed when they are read.
+     */
+    private static class BoxingList<T> extends AbstractList<T> implements RandomAccess {
+        private final int size;
+        private final IntFunction<T> valueAt;
+
+        private BoxingList(int size, IntFunction<T> valueAt) {
+            this.size = size;
+            this.valueAt = valueAt;
+        }
+
+        @Override
+        public T get(int index) {
+            return valueAt.apply(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
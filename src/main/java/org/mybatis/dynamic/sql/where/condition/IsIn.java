@@ -21,7 +21,9 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
@@ -30,6 +32,8 @@ import java.util.stream.Stream;
 
 import org.mybatis.dynamic.sql.AbstractListValueCondition;
 import org.mybatis.dynamic.sql.Callback;
+import org.mybatis.dynamic.sql.render.InListPadding;
+import org.mybatis.dynamic.sql.render.SqlWriter;
 
 public class IsIn<T> extends AbstractListValueCondition<T> {
     private static final IsIn<?> EMPTY = new IsIn<>(Collections.emptyList());
@@ -48,15 +52,58 @@ public class IsIn<T> extends AbstractListValueCondition<T> {
         super(values, emptyCallback);
     }
 
+    protected IsIn(Collection<T> values, Callback emptyCallback, InListPadding listPadding) {
+        super(values, emptyCallback, listPadding);
+    }
+
     @Override
     public String renderCondition(String columnName, Stream<String> placeholders) {
         return spaceAfter(columnName)
                 + placeholders.collect(Collectors.joining(",", "in (", ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
     }
 
+    @Override
+    public void renderCondition(String columnName, Stream<String> placeholders, SqlWriter writer) {
+        if (!isRenderedBy(IsIn.class)) {
+            super.renderCondition(columnName, placeholders, writer);
+            return;
+        }
+        writer.append(columnName).append(" in (") //$NON-NLS-1$
+                .appendJoined(placeholders, ",") //$NON-NLS-1$
+                .append(')');
+    }
+
+    @Override
+    public boolean renderCondition(String columnName, Consumer<SqlWriter> placeholderWriter, SqlWriter writer) {
+        if (!isRenderedBy(IsIn.class)) {
+            return false;
+        }
+        writer.append(columnName).append(" in ("); //$NON-NLS-1$
+        placeholderWriter.accept(writer);
+        writer.append(')');
+        return true;
+    }
+
     @Override
     public IsIn<T> withListEmptyCallback(Callback callback) {
-        return new IsIn<>(values, callback);
+        return new IsIn<>(values, callback, listPadding);
+    }
+
+    /**
+     * Returns a new condition that pads the rendered list with the specified padding. This overrides padding
+     * configured on the rendering strategy or globally.
+     *
+     * @param listPadding the padding to apply. Use {@link InListPadding#none()} to disable padding for this
+     *     condition
+     * @return a new condition with the padding set
+     */
+    public IsIn<T> withListPadding(InListPadding listPadding) {
+        return new IsIn<>(values, emptyCallback, Objects.requireNonNull(listPadding));
+    }
+
+    @Override
+    public boolean allowsPadding() {
+        return true;
     }
 
     /**
@@ -74,12 +121,12 @@ public class IsIn<T> extends AbstractListValueCondition<T> {
     public IsIn<T> then(UnaryOperator<Stream<T>> valueStreamTransformer) {
         List<T> mapped = valueStreamTransformer.apply(values.stream())
                 .collect(Collectors.toList());
-        return new IsIn<>(mapped, emptyCallback);
+        return new IsIn<>(mapped, emptyCallback, listPadding);
     }
 
     @Override
     public IsIn<T> filter(Predicate<? super T> predicate) {
-        return filterSupport(predicate, IsIn::new, this, IsIn::empty);
+        return filterSupport(predicate, (v, c) -> new IsIn<>(v, c, listPadding), this, IsIn::empty);
     }
 
     /**
@@ -92,7 +139,8 @@ public class IsIn<T> extends AbstractListValueCondition<T> {
      *     that will not render.
      */
     public <R> IsIn<R> map(Function<? super T, ? extends R> mapper) {
-        BiFunction<Collection<R>, Callback, IsIn<R>> constructor = IsIn::new;
+        BiFunction<Collection<R>, Callback, IsIn<R>> constructor =
+                (v, c) -> new IsIn<>(v, c, listPadding);
         return mapSupport(mapper, constructor, IsIn::empty);
     }
 
@@ -0,0 +1,122 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.where.condition;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.mybatis.dynamic.sql.AbstractArrayValueCondition;
+import org.mybatis.dynamic.sql.Callback;
+import org.mybatis.dynamic.sql.ParameterTypeConverter;
+
+public class IsInArray<T> extends AbstractArrayValueCondition<T> {
+    private static final IsInArray<?> EMPTY = new IsInArray<>(Collections.emptyList());
+
+    public static <T> IsInArray<T> empty() {
+        @SuppressWarnings("unchecked")
+        IsInArray<T> t = (IsInArray<T>) EMPTY;
+        return t;
+    }
+
+    protected IsInArray(Collection<T> values) {
+        this(values, () -> { }, ArrayParameter.defaults());
+    }
+
+    protected IsInArray(Collection<T> values, Callback emptyCallback, ArrayParameter arrayParameter) {
+        super(values, emptyCallback, arrayParameter);
+    }
+
+    @Override
+    public String renderCondition(String columnName, String arrayExpression) {
+        return columnName + " = any(" + arrayExpression + ")"; //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    @Override
+    public IsIn<T> toListValueCondition() {
+        return IsIn.of(values).withListEmptyCallback(emptyCallback);
+    }
+
+    @Override
+    public IsInArray<T> withListEmptyCallback(Callback callback) {
+        return new IsInArray<>(values, callback, arrayParameter);
+    }
+
+    /**
+     * Returns a new condition that renders the array parameter with a MyBatis type handler. Type handlers
+     * are ignored by other rendering strategies.
+     *
+     * @param typeHandler the fully qualified class name of the type handler
+     * @return a new condition with the type handler set
+     */
+    public IsInArray<T> withTypeHandler(String typeHandler) {
+        return new IsInArray<>(values, emptyCallback, arrayParameter.withTypeHandler(typeHandler));
+    }
+
+    /**
+     * Returns a new condition that wraps the array parameter in a function. Some databases cannot infer the
+     * type of an array parameter - with HSQLDB, for example, use "unnest" to render
+     * {@code id = any(unnest(?))}.
+     *
+     * @param arrayFunction the name of the function
+     * @return a new condition with the array function set
+     */
+    public IsInArray<T> withArrayFunction(String arrayFunction) {
+        return new IsInArray<>(values, emptyCallback, arrayParameter.withArrayFunction(arrayFunction));
+    }
+
+    /**
+     * Returns a new condition that converts the array before it is placed in the parameter map. This can
+     * be used to bind a primitive array, for example.
+     *
+     * @param arrayConverter the converter for the array
+     * @return a new condition with the array converter set
+     */
+    public IsInArray<T> withArrayConverter(ParameterTypeConverter<Object[], ?> arrayConverter) {
+        return new IsInArray<>(values, emptyCallback, arrayParameter.withArrayConverter(arrayConverter));
+    }
+
+    @Override
+    public IsInArray<T> filter(Predicate<? super T> predicate) {
+        return filterSupport(predicate, v -> new IsInArray<>(v, emptyCallback, arrayParameter), this,
+                IsInArray::empty);
+    }
+
+    /**
+     * If renderable, apply the mapping to each value in the list return a new condition with the mapped values.
+     *     Else return a condition that will not render (this).
+     *
+     * @param mapper a mapping function to apply to the values, if renderable
+     * @param <R> type of the new condition
+     * @return a new condition with mapped values if renderable, otherwise a condition
+     *     that will not render.
+     */
+    public <R> IsInArray<R> map(Function<? super T, ? extends R> mapper) {
+        Function<Collection<R>, IsInArray<R>> constructor = v -> new IsInArray<>(v, emptyCallback, arrayParameter);
+        return mapSupport(mapper, constructor, IsInArray::empty);
+    }
+
+    @SafeVarargs
+    public static <T> IsInArray<T> of(T... values) {
+        return of(Arrays.asList(values));
+    }
+
+    public static <T> IsInArray<T> of(Collection<T> values) {
+        return new IsInArray<>(values);
+    }
+}
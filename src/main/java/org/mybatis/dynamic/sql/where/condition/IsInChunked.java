@@ -0,0 +1,121 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.where.condition;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.mybatis.dynamic.sql.AbstractListValueCondition;
+import org.mybatis.dynamic.sql.Callback;
+import org.mybatis.dynamic.sql.render.SqlWriter;
+
+/**
+ * An "in" condition that splits the list of values into groups of a maximum size, and combines the groups
+ * with "or" - for example {@code (id in (?,?) or id in (?))}. This is useful for databases that limit the number of
+ * values in an "in" list - Oracle, for example, allows at most 1000 values. If the list is no larger than the
+ * maximum size, this condition renders exactly like {@link IsIn}.
+ *
+ * @param <T> the Java type of the column
+ */
+public class IsInChunked<T> extends AbstractListValueCondition<T> {
+    private static final IsInChunked<?> EMPTY = new IsInChunked<>(Collections.emptyList(), 1, () -> { });
+
+    private final int chunkSize;
+
+    public static <T> IsInChunked<T> empty() {
+        @SuppressWarnings("unchecked")
+        IsInChunked<T> t = (IsInChunked<T>) EMPTY;
+        return t;
+    }
+
+    protected IsInChunked(Collection<T> values, int chunkSize, Callback emptyCallback) {
+        super(values, emptyCallback);
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive"); //$NON-NLS-1$
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    public int chunkSize() {
+        return chunkSize;
+    }
+
+    @Override
+    public String renderCondition(String columnName, Stream<String> placeholders) {
+        SqlWriter writer = SqlWriter.withInitialCapacity(values.size() * 8);
+        renderCondition(columnName, placeholders, writer);
+        return writer.toSql();
+    }
+
+    @Override
+    public void renderCondition(String columnName, Stream<String> placeholders, SqlWriter writer) {
+        boolean isChunked = values.size() > chunkSize;
+        if (isChunked) {
+            writer.append('(');
+        }
+
+        Iterator<String> iterator = placeholders.iterator();
+        int count = 0;
+        while (iterator.hasNext()) {
+            if (count % chunkSize == 0) {
+                if (count > 0) {
+                    writer.append(") or "); //$NON-NLS-1$
+                }
+                writer.append(columnName).append(" in ("); //$NON-NLS-1$
+            } else {
+                writer.append(',');
+            }
+            writer.append(iterator.next());
+            count++;
+        }
+        writer.append(')');
+
+        if (isChunked) {
+            writer.append(')');
+        }
+    }
+
+    @Override
+    public IsInChunked<T> withListEmptyCallback(Callback callback) {
+        return new IsInChunked<>(values, chunkSize, callback);
+    }
+
+    @Override
+    public IsInChunked<T> filter(Predicate<? super T> predicate) {
+        return filterSupport(predicate, (v, c) -> new IsInChunked<>(v, chunkSize, c), this, IsInChunked::empty);
+    }
+
+    /**
+     * If renderable, apply the mapping to each value in the list return a new condition with the mapped values.
+     *     Else return a condition that will not render (this).
+     *
+     * @param mapper a mapping function to apply to the values, if renderable
+     * @param <R> type of the new condition
+     * @return a new condition with mapped values if renderable, otherwise a condition
+     *     that will not render.
+     */
+    public <R> IsInChunked<R> map(Function<? super T, ? extends R> mapper) {
+        return mapSupport(mapper, (v, c) -> new IsInChunked<>(v, chunkSize, c), IsInChunked::empty);
+    }
+
+    public static <T> IsInChunked<T> of(Collection<T> values, int chunkSize) {
+        return new IsInChunked<>(values, chunkSize, () -> { });
+    }
+}
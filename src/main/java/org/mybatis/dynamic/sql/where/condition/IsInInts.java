@@ -0,0 +1,114 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.where.condition;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import org.mybatis.dynamic.sql.Callback;
+import org.mybatis.dynamic.sql.render.InListPadding;
+
+/**
+ * An "in" condition for int values that is backed by a primitive array. The values are only boxed when they are
+ * bound as parameters, so a large list of ids does not create a boxed object for every id before the statement
+ * is rendered. The condition renders exactly like {@link IsIn}.
+ */
+public class IsInInts extends AbstractPrimitiveIsIn<Integer, IsInInts> {
+    private static final IsInInts EMPTY = new IsInInts(new int[0], () -> { }, null);
+
+    private final int[] ints;
+
+    public static IsInInts empty() {
+        return EMPTY;
+    }
+
+    protected IsInInts(int[] values, Callback emptyCallback, InListPadding listPadding) {
+        super(values.length, i -> values[i], emptyCallback, listPadding);
+        ints = values;
+    }
+
+    /**
+     * Returns a copy of the values of this condition.
+     *
+     * @return the values
+     */
+    public int[] intValues() {
+        return ints.clone();
+    }
+
+    @Override
+    protected IsInInts copy(Callback emptyCallback, InListPadding listPadding) {
+        return new IsInInts(ints, emptyCallback, listPadding);
+    }
+
+    @Override
+    public IsInInts filter(Predicate<? super Integer> predicate) {
+        Objects.requireNonNull(predicate);
+        return filterInts(predicate::test);
+    }
+
+    /**
+     * If renderable, apply the predicate to each value and return a new condition with the filtered values. Else
+     *     returns a condition that will not render (this). If all values are filtered out, then the condition will
+     *     not render. The values are not boxed.
+     *
+     * @param predicate predicate applied to the values, if renderable
+     * @return a new condition with filtered values if renderable, otherwise a condition
+     *     that will not render.
+     */
+    public IsInInts filterInts(IntPredicate predicate) {
+        if (shouldRender()) {
+            int[] filtered = Arrays.stream(ints).filter(predicate).toArray();
+            return filtered.length == 0 ? empty() : new IsInInts(filtered, emptyCallback, listPadding);
+        } else {
+            return this;
+        }
+    }
+
+    /**
+     * If renderable, apply the mapping to each value and return a new condition with the mapped values. Else
+     *     return a condition that will not render (this). The values are not boxed.
+     *
+     * @param mapper a mapping function to apply to the values, if renderable
+     * @return a new condition with mapped values if renderable, otherwise a condition
+     *     that will not render.
+     */
+    public IsInInts mapInts(IntUnaryOperator mapper) {
+        if (shouldRender()) {
+            return new IsInInts(Arrays.stream(ints).map(mapper).toArray(), emptyCallback, listPadding);
+        } else {
+            return empty();
+        }
+    }
+
+    /**
+     * Creates a condition from a copy of the array, so later changes to the array do not affect the condition.
+     *
+     * @param values the values
+     * @return the condition
+     */
+    public static IsInInts of(int[] values) {
+        return new IsInInts(values.clone(), () -> { }, null);
+    }
+
+    public static IsInInts of(IntStream values) {
+        return new IsInInts(values.toArray(), () -> { }, null);
+    }
+}
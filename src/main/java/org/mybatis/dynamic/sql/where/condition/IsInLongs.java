@@ -0,0 +1,114 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.where.condition;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Predicate;
+import java.util.stream.LongStream;
+
+import org.mybatis.dynamic.sql.Callback;
+import org.mybatis.dynamic.sql.render.InListPadding;
+
+/**
+ * An "in" condition for long values that is backed by a primitive array. The values are only boxed when they are
+ * bound as parameters, so a large list of ids does not create a boxed object for every id before the statement
+ * is rendered. The condition renders exactly like {@link IsIn}.
+ */
+public class IsInLongs extends AbstractPrimitiveIsIn<Long, IsInLongs> {
+    private static final IsInLongs EMPTY = new IsInLongs(new long[0], () -> { }, null);
+
+    private final long[] longs;
+
+    public static IsInLongs empty() {
+        return EMPTY;
+    }
+
+    protected IsInLongs(long[] values, Callback emptyCallback, InListPadding listPadding) {
+        super(values.length, i -> values[i], emptyCallback, listPadding);
+        longs = values;
+    }
+
+    /**
+     * Returns a copy of the values of this condition.
+     *
+     * @return the values
+     */
+    public long[] longValues() {
+        return longs.clone();
+    }
+
+    @Override
+    protected IsInLongs copy(Callback emptyCallback, InListPadding listPadding) {
+        return new IsInLongs(longs, emptyCallback, listPadding);
+    }
+
+    @Override
+    public IsInLongs filter(Predicate<? super Long> predicate) {
+        Objects.requireNonNull(predicate);
+        return filterLongs(predicate::test);
+    }
+
+    /**
+     * If renderable, apply the predicate to each value and return a new condition with the filtered values. Else
+     *     returns a condition that will not render (this). If all values are filtered out, then the condition will
+     *     not render. The values are not boxed.
+     *
+     * @param predicate predicate applied to the values, if renderable
+     * @return a new condition with filtered values if renderable, otherwise a condition
+     *     that will not render.
+     */
+    public IsInLongs filterLongs(LongPredicate predicate) {
+        if (shouldRender()) {
+            long[] filtered = Arrays.stream(longs).filter(predicate).toArray();
+            return filtered.length == 0 ? empty() : new IsInLongs(filtered, emptyCallback, listPadding);
+        } else {
+            return this;
+        }
+    }
+
+    /**
+     * If renderable, apply the mapping to each value and return a new condition with the mapped values. Else
+     *     return a condition that will not render (this). The values are not boxed.
+     *
+     * @param mapper a mapping function to apply to the values, if renderable
+     * @return a new condition with mapped values if renderable, otherwise a condition
+     *     that will not render.
+     */
+    public IsInLongs mapLongs(LongUnaryOperator mapper) {
+        if (shouldRender()) {
+            return new IsInLongs(Arrays.stream(longs).map(mapper).toArray(), emptyCallback, listPadding);
+        } else {
+            return empty();
+        }
+    }
+
+    /**
+     * Creates a condition from a copy of the array, so later changes to the array do not affect the condition.
+     *
+     * @param values the values
+     * @return the condition
+     */
+    public static IsInLongs of(long[] values) {
+        return new IsInLongs(values.clone(), () -> { }, null);
+    }
+
+    public static IsInLongs of(LongStream values) {
+        return new IsInLongs(values.toArray(), () -> { }, null);
+    }
+}
@@ -21,7 +21,9 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
@@ -30,6 +32,8 @@ import java.util.stream.Stream;
 
 import org.mybatis.dynamic.sql.AbstractListValueCondition;
 import org.mybatis.dynamic.sql.Callback;
+import org.mybatis.dynamic.sql.render.InListPadding;
+import org.mybatis.dynamic.sql.render.SqlWriter;
 
 public class IsNotIn<T> extends AbstractListValueCondition<T> {
     private static final IsNotIn<?> EMPTY = new IsNotIn<>(Collections.emptyList());
@@ -48,6 +52,10 @@ public class IsNotIn<T> extends AbstractListValueCondition<T> {
         super(values, emptyCallback);
     }
 
+    protected IsNotIn(Collection<T> values, Callback emptyCallback, InListPadding listPadding) {
+        super(values, emptyCallback, listPadding);
+    }
+
     @Override
     public String renderCondition(String columnName, Stream<String> placeholders) {
         return spaceAfter(columnName)
@@ -55,9 +63,48 @@ public class IsNotIn<T> extends AbstractListValueCondition<T> {
                         Collectors.joining(",", "not in (", ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
     }
 
+    @Override
+    public void renderCondition(String columnName, Stream<String> placeholders, SqlWriter writer) {
+        if (!isRenderedBy(IsNotIn.class)) {
+            super.renderCondition(columnName, placeholders, writer);
+            return;
+        }
+        writer.append(columnName).append(" not in (") //$NON-NLS-1$
+                .appendJoined(placeholders, ",") //$NON-NLS-1$
+                .append(')');
+    }
+
+    @Override
+    public boolean renderCondition(String columnName, Consumer<SqlWriter> placeholderWriter, SqlWriter writer) {
+        if (!isRenderedBy(IsNotIn.class)) {
+            return false;
+        }
+        writer.append(columnName).append(" not in ("); //$NON-NLS-1$
+        placeholderWriter.accept(writer);
+        writer.append(')');
+        return true;
+    }
+
     @Override
     public IsNotIn<T> withListEmptyCallback(Callback callback) {
-        return new IsNotIn<>(values, callback);
+        return new IsNotIn<>(values, callback, listPadding);
+    }
+
+    /**
+     * Returns a new condition that pads the rendered list with the specified padding. This overrides padding
+     * configured on the rendering strategy or globally.
+     *
+     * @param listPadding the padding to apply. Use {@link InListPadding#none()} to disable padding for this
+     *     condition
+     * @return a new condition with the padding set
+     */
+    public IsNotIn<T> withListPadding(InListPadding listPadding) {
+        return new IsNotIn<>(values, emptyCallback, Objects.requireNonNull(listPadding));
+    }
+
+    @Override
+    public boolean allowsPadding() {
+        return true;
     }
 
     /**
@@ -76,12 +123,12 @@ public class IsNotIn<T> extends AbstractListValueCondition<T> {
         List<T> mapped = valueStreamTransformer.apply(values.stream())
                 .collect(Collectors.toList());
 
-        return new IsNotIn<>(mapped, emptyCallback);
+        return new IsNotIn<>(mapped, emptyCallback, listPadding);
     }
 
     @Override
     public IsNotIn<T> filter(Predicate<? super T> predicate) {
-        return filterSupport(predicate, IsNotIn::new, this, IsNotIn::empty);
+        return filterSupport(predicate, (v, c) -> new IsNotIn<>(v, c, listPadding), this, IsNotIn::empty);
     }
 
     /**
@@ -94,7 +141,8 @@ public class IsNotIn<T> extends AbstractListValueCondition<T> {
      *     that will not render.
      */
     public <R> IsNotIn<R> map(Function<? super T, ? extends R> mapper) {
-        BiFunction<Collection<R>, Callback, IsNotIn<R>> constructor = IsNotIn::new;
+        BiFunction<Collection<R>, Callback, IsNotIn<R>> constructor =
+                (v, c) -> new IsNotIn<>(v, c, listPadding);
         return mapSupport(mapper, constructor, IsNotIn::empty);
     }
 
@@ -18,6 +18,8 @@ package org.mybatis.dynamic.sql.where.condition;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
@@ -25,6 +27,8 @@ import java.util.stream.Stream;
 
 import org.mybatis.dynamic.sql.AbstractListValueCondition;
 import org.mybatis.dynamic.sql.Callback;
+import org.mybatis.dynamic.sql.render.InListPadding;
+import org.mybatis.dynamic.sql.render.SqlWriter;
 import org.mybatis.dynamic.sql.util.StringUtilities;
 
 public class IsNotInCaseInsensitive extends AbstractListValueCondition<String> {
@@ -42,6 +46,10 @@ public class IsNotInCaseInsensitive extends AbstractListValueCondition<String> {
         super(values, emptyCallback);
     }
 
+    protected IsNotInCaseInsensitive(Collection<String> values, Callback emptyCallback, InListPadding listPadding) {
+        super(values, emptyCallback, listPadding);
+    }
+
     @Override
     public String renderCondition(String columnName, Stream<String> placeholders) {
         return "upper(" + columnName + ") " //$NON-NLS-1$ //$NON-NLS-2$
@@ -49,14 +57,54 @@ public class IsNotInCaseInsensitive extends AbstractListValueCondition<String> {
                         Collectors.joining(",", "not in (", ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
     }
 
+    @Override
+    public void renderCondition(String columnName, Stream<String> placeholders, SqlWriter writer) {
+        if (!isRenderedBy(IsNotInCaseInsensitive.class)) {
+            super.renderCondition(columnName, placeholders, writer);
+            return;
+        }
+        writer.append("upper(").append(columnName).append(") not in (") //$NON-NLS-1$ //$NON-NLS-2$
+                .appendJoined(placeholders, ",") //$NON-NLS-1$
+                .append(')');
+    }
+
+    @Override
+    public boolean renderCondition(String columnName, Consumer<SqlWriter> placeholderWriter, SqlWriter writer) {
+        if (!isRenderedBy(IsNotInCaseInsensitive.class)) {
+            return false;
+        }
+        writer.append("upper(").append(columnName).append(") not in ("); //$NON-NLS-1$ //$NON-NLS-2$
+        placeholderWriter.accept(writer);
+        writer.append(')');
+        return true;
+    }
+
     @Override
     public IsNotInCaseInsensitive withListEmptyCallback(Callback callback) {
-        return new IsNotInCaseInsensitive(values, callback);
+        return new IsNotInCaseInsensitive(values, callback, listPadding);
+    }
+
+    /**
+     * Returns a new condition that pads the rendered list with the specified padding. This overrides padding
+     * configured on the rendering strategy or globally.
+     *
+     * @param listPadding the padding to apply. Use {@link InListPadding#none()} to disable padding for this
+     *     condition
+     * @return a new condition with the padding set
+     */
+    public IsNotInCaseInsensitive withListPadding(InListPadding listPadding) {
+        return new IsNotInCaseInsensitive(values, emptyCallback, Objects.requireNonNull(listPadding));
+    }
+
+    @Override
+    public boolean allowsPadding() {
+        return true;
     }
 
     @Override
     public IsNotInCaseInsensitive filter(Predicate<? super String> predicate) {
-        return filterSupport(predicate, IsNotInCaseInsensitive::new, this, IsNotInCaseInsensitive::empty);
+        return filterSupport(predicate, (v, c) -> new IsNotInCaseInsensitive(v, c, listPadding), this,
+                IsNotInCaseInsensitive::empty);
     }
 
     /**
@@ -68,7 +116,8 @@ public class IsNotInCaseInsensitive extends AbstractListValueCondition<String> {
      *     that will not render.
      */
     public IsNotInCaseInsensitive map(UnaryOperator<String> mapper) {
-        return mapSupport(mapper, IsNotInCaseInsensitive::new, IsNotInCaseInsensitive::empty);
+        return mapSupport(mapper, (v, c) -> new IsNotInCaseInsensitive(v, c, listPadding),
+                IsNotInCaseInsensitive::empty);
     }
 
     public static IsNotInCaseInsensitive of(String... values) {
@@ -15,23 +15,20 @@
  */
 package org.mybatis.dynamic.sql.where.render;
 
-import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
 
 import org.mybatis.dynamic.sql.ColumnAndConditionCriterion;
+import org.mybatis.dynamic.sql.CriteriaGroup;
 import org.mybatis.dynamic.sql.ExistsCriterion;
-import org.mybatis.dynamic.sql.ExistsPredicate;
 import org.mybatis.dynamic.sql.SqlCriterion;
 import org.mybatis.dynamic.sql.SqlCriterionVisitor;
+import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.render.SqlWriter;
 import org.mybatis.dynamic.sql.render.TableAliasCalculator;
-import org.mybatis.dynamic.sql.select.render.SelectRenderer;
-import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
 import org.mybatis.dynamic.sql.util.FragmentAndParameters;
-import org.mybatis.dynamic.sql.util.FragmentCollector;
 
 /**
  * Renders a {@link SqlCriterion} to a {@link RenderedCriterion}. The process is complex because all conditions
@@ -49,128 +46,57 @@ import org.mybatis.dynamic.sql.util.FragmentCollector;
  * <p>It is also possible that the end result will be empty if all criteria and sub-criteria are not valid for
  * rendering.
  *
+ * <p>The rendering itself is done by a {@code CriterionWriter} that writes directly to a {@link SqlWriter}.
+ *
  * @author Jeff Butler
  */
 public class CriterionRenderer implements SqlCriterionVisitor<Optional<RenderedCriterion>> {
     private final AtomicInteger sequence;
     private final RenderingStrategy renderingStrategy;
     private final TableAliasCalculator tableAliasCalculator;
-    private final String parameterName;
+    private final String parameterPrefix;
 
     private CriterionRenderer(Builder builder) {
         sequence = Objects.requireNonNull(builder.sequence);
         renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
         tableAliasCalculator = Objects.requireNonNull(builder.tableAliasCalculator);
-        parameterName = builder.parameterName;
+        parameterPrefix = WhereConditionWriter.calculateParameterPrefix(builder.parameterName);
     }
 
     @Override
     public <T> Optional<RenderedCriterion> visit(ColumnAndConditionCriterion<T> criterion) {
-        if (criterion.condition().shouldRender()) {
-            return renderWithInitialCondition(renderCondition(criterion), criterion);
-        } else {
-            criterion.condition().renderingSkipped();
-            return renderWithoutInitialCondition(criterion);
-        }
+        return render(criterion);
     }
 
     @Override
     public Optional<RenderedCriterion> visit(ExistsCriterion criterion) {
-        ExistsPredicate existsPredicate = criterion.existsPredicate();
-
-        SelectStatementProvider selectStatement = SelectRenderer
-                .withSelectModel(existsPredicate.selectModelBuilder().build())
-                .withRenderingStrategy(renderingStrategy)
-                .withSequence(sequence)
-                .build()
-                .render();
-
-        String fragment = existsPredicate.operator() + " (" //$NON-NLS-1$
-                + selectStatement.getSelectStatement() + ")"; //$NON-NLS-1$
-
-        FragmentAndParameters initialCondition = FragmentAndParameters
-                .withFragment(fragment)
-                .withParameters(selectStatement.getParameters())
-                .build();
-
-        return renderWithInitialCondition(initialCondition, criterion);
+        return render(criterion);
     }
 
-    private <T> FragmentAndParameters renderCondition(ColumnAndConditionCriterion<T> criterion) {
-        WhereConditionVisitor<T> visitor = WhereConditionVisitor.withColumn(criterion.column())
-                .withRenderingStrategy(renderingStrategy)
-                .withSequence(sequence)
-                .withTableAliasCalculator(tableAliasCalculator)
-                .withParameterName(parameterName)
-                .build();
-        return criterion.condition().accept(visitor);
-    }
-
-    private List<RenderedCriterion> renderSubCriteria(SqlCriterion criterion) {
-        return criterion.mapSubCriteria(c -> c.accept(this))
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .collect(Collectors.toList());
+    @Override
+    public Optional<RenderedCriterion> visit(CriteriaGroup criterion) {
+        return render(criterion);
     }
 
-    private Optional<RenderedCriterion> renderWithoutInitialCondition(SqlCriterion criterion) {
-        List<RenderedCriterion> subCriteria = renderSubCriteria(criterion);
-        if (subCriteria.isEmpty()) {
+    private Optional<RenderedCriterion> render(SqlCriterion criterion) {
+        if (!CriterionWriter.willRender(criterion)) {
+            CriterionWriter.skip(criterion);
             return Optional.empty();
         }
 
-        return calculateRenderedCriterion(subCriteria, criterion);
-    }
-
-    private Optional<RenderedCriterion> renderWithInitialCondition(FragmentAndParameters initialCondition,
-            SqlCriterion criterion) {
-        List<RenderedCriterion> subCriteria = renderSubCriteria(criterion);
-        if (subCriteria.isEmpty()) {
-            return calculateRenderedCriterion(initialCondition, criterion);
-        }
-
-        return calculateRenderedCriterion(initialCondition, criterion, subCriteria);
-    }
-
-    private Optional<RenderedCriterion> calculateRenderedCriterion(FragmentAndParameters initialCondition,
-            SqlCriterion criterion) {
-        return fromFragmentAndParameters(initialCondition, criterion);
-    }
-
-    private Optional<RenderedCriterion> calculateRenderedCriterion(List<RenderedCriterion> subCriteria,
-            SqlCriterion criterion) {
-        return calculateRenderedCriterion(subCriteria.get(0).fragmentAndParameters(),
-                criterion,
-                subCriteria.subList(1, subCriteria.size()));
-    }
-
-    private Optional<RenderedCriterion> calculateRenderedCriterion(FragmentAndParameters initialCondition,
-            SqlCriterion criterion,
-            List<RenderedCriterion> subCriteria) {
-        FragmentCollector fc = subCriteria.stream()
-                .map(RenderedCriterion::fragmentAndParametersWithConnector)
-                .collect(FragmentCollector.collect(initialCondition));
-        return fromFragmentAndParameters(FragmentAndParameters.withFragment(calculateFragment(fc))
-                .withParameters(fc.parameters())
-                .build(), criterion);
-    }
-
-    private String calculateFragment(FragmentCollector collector) {
-        if (collector.hasMultipleFragments()) {
-            return collector.fragments()
-                    .collect(Collectors.joining(" ", "(", ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-        } else {
-            return collector.fragments().findFirst().orElse(""); //$NON-NLS-1$
-        }
-    }
+        RenderingContext renderingContext = RenderingContext.withRenderingStrategy(renderingStrategy)
+                .withSequence(sequence.get())
+                .withTableAliasCalculator(tableAliasCalculator)
+                .build();
+        SqlWriter writer = SqlWriter.withInitialCapacity(64);
+        new CriterionWriter(renderingContext, parameterPrefix, writer).write(criterion);
+        sequence.set(renderingContext.sequence());
 
-    private Optional<RenderedCriterion> fromFragmentAndParameters(FragmentAndParameters fragmentAndParameters,
-            SqlCriterion criterion) {
         RenderedCriterion.Builder builder = new RenderedCriterion.Builder()
-                .withFragmentAndParameters(fragmentAndParameters);
-
+                .withFragmentAndParameters(FragmentAndParameters.withFragment(writer.toSql())
+                        .withParameters(writer.parameters())
+                        .build());
         criterion.connector().ifPresent(builder::withConnector);
-
         return Optional.of(builder.build());
     }
 
@@ -0,0 +1,236 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.where.render;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.mybatis.dynamic.sql.ColumnAndConditionCriterion;
+import org.mybatis.dynamic.sql.CriteriaGroup;
+import org.mybatis.dynamic.sql.ExistsCriterion;
+import org.mybatis.dynamic.sql.ExistsPredicate;
+import org.mybatis.dynamic.sql.SqlCriterion;
+import org.mybatis.dynamic.sql.SqlCriterionVisitor;
+import org.mybatis.dynamic.sql.render.RenderingContext;
+import org.mybatis.dynamic.sql.render.SqlWriter;
+import org.mybatis.dynamic.sql.select.render.SelectRenderer;
+
+/**
+ * Writes criteria directly to a {@link SqlWriter}. One instance is used for all the criteria of a where clause.
+ *
+ * <p>Before anything is written, the writer determines which criteria will render so that parentheses and
+ * connectors can be written in a single pass.
+ *
+ * @see CriterionRenderer
+ */
+class CriterionWriter {
+    private static final RenderableCriterionVisitor RENDERABLE_CRITERION_VISITOR = new RenderableCriterionVisitor();
+    private static final SkippedCriterionVisitor SKIPPED_CRITERION_VISITOR = new SkippedCriterionVisitor();
+    private static final InitialConditionVisitor INITIAL_CONDITION_VISITOR = new InitialConditionVisitor();
+    private static final InitialConditionSkipper INITIAL_CONDITION_SKIPPER = new InitialConditionSkipper();
+
+    private final RenderingContext renderingContext;
+    private final SqlWriter writer;
+    private final WhereConditionWriter conditionWriter;
+    private final InitialConditionWriter initialConditionWriter = new InitialConditionWriter();
+
+    CriterionWriter(RenderingContext renderingContext, String parameterPrefix, SqlWriter writer) {
+        this.renderingContext = Objects.requireNonNull(renderingContext);
+        this.writer = Objects.requireNonNull(writer);
+        conditionWriter = new WhereConditionWriter(renderingContext, parameterPrefix, writer);
+    }
+
+    /**
+     * Returns true if the criterion, or any of its sub-criteria, will render.
+     *
+     * @param criterion the criterion to check
+     * @return true if something will be rendered for this criterion
+     */
+    static boolean willRender(SqlCriterion criterion) {
+        return criterion.accept(RENDERABLE_CRITERION_VISITOR);
+    }
+
+    /**
+     * Notifies every condition in the criterion, and its sub-criteria, that rendering was skipped. This should only
+     * be called for criteria that will not render.
+     *
+     * @param criterion the criterion that will not render
+     * @return the number of conditions that were skipped
+     */
+    static int skip(SqlCriterion criterion) {
+        return criterion.accept(SKIPPED_CRITERION_VISITOR);
+    }
+
+    /**
+     * Writes the criterion, without its connector. This should only be called for criteria that will render.
+     *
+     * @param criterion the criterion to render
+     */
+    void write(SqlCriterion criterion) {
+        if (!criterion.hasSubCriteria()) {
+            // the common case - the criterion will render, so the initial condition will render
+            criterion.accept(initialConditionWriter);
+            return;
+        }
+
+        boolean hasInitialCondition = criterion.accept(INITIAL_CONDITION_VISITOR);
+        List<SqlCriterion> subCriteria = criterion.mapSubCriteria(Function.identity()).collect(Collectors.toList());
+        boolean[] subCriteriaWillRender = new boolean[subCriteria.size()];
+        int renderedFragments = hasInitialCondition ? 1 : 0;
+        for (int i = 0; i < subCriteriaWillRender.length; i++) {
+            subCriteriaWillRender[i] = willRender(subCriteria.get(i));
+            if (subCriteriaWillRender[i]) {
+                renderedFragments++;
+            }
+        }
+
+        boolean needsParentheses = renderedFragments > 1;
+        if (needsParentheses) {
+            writer.append('(');
+        }
+
+        if (hasInitialCondition) {
+            criterion.accept(initialConditionWriter);
+        } else {
+            renderingContext.conditionsSkipped(criterion.accept(INITIAL_CONDITION_SKIPPER));
+        }
+
+        boolean isFirst = !hasInitialCondition;
+        for (int i = 0; i < subCriteriaWillRender.length; i++) {
+            SqlCriterion subCriterion = subCriteria.get(i);
+            if (subCriteriaWillRender[i]) {
+                // The first is rendered without the connector because we don't want something like
+                // (and id = ?).  This can happen if the initial condition doesn't render.
+                if (!isFirst) {
+                    writer.append(' ');
+                    subCriterion.connector().ifPresent(c -> writer.append(c).append(' '));
+                }
+                write(subCriterion);
+                isFirst = false;
+            } else {
+                renderingContext.conditionsSkipped(skip(subCriterion));
+            }
+        }
+
+        if (needsParentheses) {
+            writer.append(')');
+        }
+    }
+
+    private class InitialConditionWriter implements SqlCriterionVisitor<Void> {
+        @Override
+        public <T> Void visit(ColumnAndConditionCriterion<T> criterion) {
+            conditionWriter.write(criterion.column(), criterion.condition());
+            return null;
+        }
+
+        @Override
+        public Void visit(ExistsCriterion criterion) {
+            ExistsPredicate existsPredicate = criterion.existsPredicate();
+            writer.append(existsPredicate.operator()).append(" ("); //$NON-NLS-1$
+            SelectRenderer.withSelectModel(existsPredicate.selectModelBuilder().build())
+                    .withRenderingContext(renderingContext)
+                    .build()
+                    .render(writer);
+            writer.append(')');
+            return null;
+        }
+
+        @Override
+        public Void visit(CriteriaGroup criterion) {
+            // a group has no initial condition - the group is written as sub-criteria
+            return null;
+        }
+    }
+
+    private static class RenderableCriterionVisitor implements SqlCriterionVisitor<Boolean> {
+        @Override
+        public <T> Boolean visit(ColumnAndConditionCriterion<T> criterion) {
+            return criterion.condition().shouldRender()
+                    || (criterion.hasSubCriteria()
+                        && criterion.mapSubCriteria(Function.identity()).anyMatch(CriterionWriter::willRender));
+        }
+
+        @Override
+        public Boolean visit(ExistsCriterion criterion) {
+            return true;
+        }
+
+        @Override
+        public Boolean visit(CriteriaGroup criterion) {
+            return criterion.mapSubCriteria(Function.identity()).anyMatch(CriterionWriter::willRender);
+        }
+    }
+
+    private static class SkippedCriterionVisitor implements SqlCriterionVisitor<Integer> {
+        @Override
+        public <T> Integer visit(ColumnAndConditionCriterion<T> criterion) {
+            criterion.condition().renderingSkipped();
+            int skipped = 1;
+            if (criterion.hasSubCriteria()) {
+                skipped += criterion.mapSubCriteria(Function.identity()).mapToInt(CriterionWriter::skip).sum();
+            }
+            return skipped;
+        }
+
+        @Override
+        public Integer visit(ExistsCriterion criterion) {
+            return 0;
+        }
+
+        @Override
+        public Integer visit(CriteriaGroup criterion) {
+            return criterion.mapSubCriteria(Function.identity()).mapToInt(CriterionWriter::skip).sum();
+        }
+    }
+
+    private static class InitialConditionVisitor implements SqlCriterionVisitor<Boolean> {
+        @Override
+        public <T> Boolean visit(ColumnAndConditionCriterion<T> criterion) {
+            return criterion.condition().shouldRender();
+        }
+
+        @Override
+        public Boolean visit(ExistsCriterion criterion) {
+            return true;
+        }
+
+        @Override
+        public Boolean visit(CriteriaGroup criterion) {
+            return false;
+        }
+    }
+
+    private static class InitialConditionSkipper implements SqlCriterionVisitor<Integer> {
+        @Override
+        public <T> Integer visit(ColumnAndConditionCriterion<T> criterion) {
+            criterion.condition().renderingSkipped();
+            return 1;
+        }
+
+        @Override
+        public Integer visit(ExistsCriterion criterion) {
+            return 0;
+        }
+
+        @Override
+        public Integer visit(CriteriaGroup criterion) {
+            return 0;
+        }
+    }
+}
@@ -16,10 +16,11 @@
 package org.mybatis.dynamic.sql.where.render;
 
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
+import org.mybatis.dynamic.sql.render.RenderedParameters;
+
 public class WhereClauseProvider {
     private final String whereClause;
     private final Map<String, Object> parameters;
@@ -43,7 +44,7 @@ public class WhereClauseProvider {
 
     public static class Builder {
         private String whereClause;
-        private final Map<String, Object> parameters = new HashMap<>();
+        private Map<String, Object> parameters = Collections.emptyMap();
 
         public Builder withWhereClause(String whereClause) {
             this.whereClause = whereClause;
@@ -51,7 +52,7 @@ public class WhereClauseProvider {
         }
 
         public Builder withParameters(Map<String, Object> parameters) {
-            this.parameters.putAll(parameters);
+            this.parameters = RenderedParameters.combine(this.parameters, parameters);
             return this;
         }
 
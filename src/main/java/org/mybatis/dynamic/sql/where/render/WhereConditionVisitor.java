@@ -18,6 +18,7 @@ package org.mybatis.dynamic.sql.where.render;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.mybatis.dynamic.sql.AbstractArrayValueCondition;
 import org.mybatis.dynamic.sql.AbstractColumnComparisonCondition;
 import org.mybatis.dynamic.sql.AbstractListValueCondition;
 import org.mybatis.dynamic.sql.AbstractNoValueCondition;
@@ -26,12 +27,12 @@ import org.mybatis.dynamic.sql.AbstractSubselectCondition;
 import org.mybatis.dynamic.sql.AbstractTwoValueCondition;
 import org.mybatis.dynamic.sql.BindableColumn;
 import org.mybatis.dynamic.sql.ConditionVisitor;
+import org.mybatis.dynamic.sql.VisitableCondition;
+import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.render.SqlWriter;
 import org.mybatis.dynamic.sql.render.TableAliasCalculator;
-import org.mybatis.dynamic.sql.select.render.SelectRenderer;
-import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
 import org.mybatis.dynamic.sql.util.FragmentAndParameters;
-import org.mybatis.dynamic.sql.util.FragmentCollector;
 
 public class WhereConditionVisitor<T> implements ConditionVisitor<T, FragmentAndParameters> {
 
@@ -51,86 +52,50 @@ public class WhereConditionVisitor<T> implements ConditionVisitor<T, FragmentAnd
 
     @Override
     public FragmentAndParameters visit(AbstractListValueCondition<T> condition) {
-        FragmentCollector fc = condition.mapValues(this::toFragmentAndParameters)
-                .collect(FragmentCollector.collect());
-
-        return FragmentAndParameters.withFragment(condition.renderCondition(columnName(), fc.fragments()))
-                .withParameters(fc.parameters())
-                .build();
+        return render(condition);
     }
 
     @Override
     public FragmentAndParameters visit(AbstractNoValueCondition<T> condition) {
-        return FragmentAndParameters.withFragment(condition.renderCondition(columnName()))
-                .build();
+        return render(condition);
     }
 
     @Override
     public FragmentAndParameters visit(AbstractSingleValueCondition<T> condition) {
-        String mapKey = RenderingStrategy.formatParameterMapKey(sequence);
-        String fragment = condition.renderCondition(columnName(),
-                getFormattedJdbcPlaceholder(mapKey));
-
-        return FragmentAndParameters.withFragment(fragment)
-                .withParameter(mapKey, convertValue(condition.value()))
-                .build();
+        return render(condition);
     }
 
     @Override
     public FragmentAndParameters visit(AbstractTwoValueCondition<T> condition) {
-        String mapKey1 = RenderingStrategy.formatParameterMapKey(sequence);
-        String mapKey2 = RenderingStrategy.formatParameterMapKey(sequence);
-        String fragment = condition.renderCondition(columnName(),
-                getFormattedJdbcPlaceholder(mapKey1),
-                getFormattedJdbcPlaceholder(mapKey2));
-
-        return FragmentAndParameters.withFragment(fragment)
-                .withParameter(mapKey1, convertValue(condition.value1()))
-                .withParameter(mapKey2, convertValue(condition.value2()))
-                .build();
+        return render(condition);
     }
 
-
     @Override
     public FragmentAndParameters visit(AbstractSubselectCondition<T> condition) {
-        SelectStatementProvider selectStatement = SelectRenderer.withSelectModel(condition.selectModel())
-                .withRenderingStrategy(renderingStrategy)
-                .withSequence(sequence)
-                .build()
-                .render();
-
-        String fragment = condition.renderCondition(columnName(), selectStatement.getSelectStatement());
-
-        return FragmentAndParameters.withFragment(fragment)
-                .withParameters(selectStatement.getParameters())
-                .build();
+        return render(condition);
     }
 
     @Override
     public FragmentAndParameters visit(AbstractColumnComparisonCondition<T> condition) {
-        String fragment = condition.renderCondition(columnName(), tableAliasCalculator);
-        return FragmentAndParameters.withFragment(fragment).build();
+        return render(condition);
     }
 
-    private Object convertValue(T value) {
-        return column.convertParameterType(value);
+    @Override
+    public FragmentAndParameters visit(AbstractArrayValueCondition<T> condition) {
+        return render(condition);
     }
 
-    private FragmentAndParameters toFragmentAndParameters(T value) {
-        String mapKey = RenderingStrategy.formatParameterMapKey(sequence);
-
-        return FragmentAndParameters.withFragment(getFormattedJdbcPlaceholder(mapKey))
-                .withParameter(mapKey, convertValue(value))
+    private FragmentAndParameters render(VisitableCondition<T> condition) {
+        RenderingContext renderingContext = RenderingContext.withRenderingStrategy(renderingStrategy)
+                .withSequence(sequence.get())
+                .withTableAliasCalculator(tableAliasCalculator)
+                .build();
+        SqlWriter writer = SqlWriter.withInitialCapacity(64);
+        new WhereConditionWriter(renderingContext, parameterPrefix, writer).write(column, condition);
+        sequence.set(renderingContext.sequence());
+        return FragmentAndParameters.withFragment(writer.toSql())
+                .withParameters(writer.parameters())
                 .build();
-    }
-
-    private String getFormattedJdbcPlaceholder(String mapKey) {
-        return column.renderingStrategy().orElse(renderingStrategy)
-                .getFormattedJdbcPlaceholder(column, parameterPrefix, mapKey);
-    }
-
-    private String columnName() {
-        return column.renderWithTableAlias(tableAliasCalculator);
     }
 
     public static <T> Builder<T> withColumn(BindableColumn<T> column) {
@@ -165,9 +130,7 @@ public class WhereConditionVisitor<T> implements ConditionVisitor<T, FragmentAnd
         }
 
         public Builder<T> withParameterName(String parameterName) {
-            if (parameterName != null) {
-                parameterPrefix = parameterName + "." + RenderingStrategy.DEFAULT_PARAMETER_PREFIX; //$NON-NLS-1$
-            }
+            parameterPrefix = WhereConditionWriter.calculateParameterPrefix(parameterName);
             return this;
         }
 
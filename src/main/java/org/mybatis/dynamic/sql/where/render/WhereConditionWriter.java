@@ -0,0 +1,205 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.where.render;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import org.mybatis.dynamic.sql.AbstractArrayValueCondition;
+import org.mybatis.dynamic.sql.AbstractColumnComparisonCondition;
+import org.mybatis.dynamic.sql.AbstractListValueCondition;
+import org.mybatis.dynamic.sql.AbstractNoValueCondition;
+import org.mybatis.dynamic.sql.AbstractSingleValueCondition;
+import org.mybatis.dynamic.sql.AbstractSubselectCondition;
+import org.mybatis.dynamic.sql.AbstractTwoValueCondition;
+import org.mybatis.dynamic.sql.BindParameter;
+import org.mybatis.dynamic.sql.BindParameterCondition;
+import org.mybatis.dynamic.sql.BindableColumn;
+import org.mybatis.dynamic.sql.ConditionVisitor;
+import org.mybatis.dynamic.sql.VisitableCondition;
+import org.mybatis.dynamic.sql.render.InListPadding;
+import org.mybatis.dynamic.sql.render.PlaceholderTemplate;
+import org.mybatis.dynamic.sql.render.RenderingContext;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.render.SqlWriter;
+import org.mybatis.dynamic.sql.select.render.SelectRenderer;
+
+/**
+ * Writes a condition, and its parameters, directly to a {@link SqlWriter}. This is the writer based
+ * equivalent of {@link WhereConditionVisitor}.
+ *
+ * <p>One instance is used for every condition in a where clause, so the column of the condition being written is
+ * held in a field. The visitor is typed to Object so it can accept conditions of any type - this is safe because
+ * the column and the condition always have the same type.
+ */
+class WhereConditionWriter implements ConditionVisitor<Object, Void> {
+
+    private final RenderingContext renderingContext;
+    private final String parameterPrefix;
+    private final SqlWriter writer;
+    private BindableColumn<Object> column;
+
+    WhereConditionWriter(RenderingContext renderingContext, String parameterPrefix, SqlWriter writer) {
+        this.renderingContext = Objects.requireNonNull(renderingContext);
+        this.parameterPrefix = Objects.requireNonNull(parameterPrefix);
+        this.writer = Objects.requireNonNull(writer);
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> void write(BindableColumn<T> column, VisitableCondition<T> condition) {
+        this.column = (BindableColumn<Object>) column;
+        condition.accept((ConditionVisitor<T, Void>) (ConditionVisitor<?, Void>) this);
+    }
+
+    @Override
+    public Void visit(AbstractListValueCondition<Object> condition) {
+        String columnName = columnName();
+        if (!condition.renderCondition(columnName, w -> writePlaceholders(condition, w), writer)) {
+            condition.renderCondition(columnName, condition.mapValues(this::bindValue), writer);
+        }
+        return null;
+    }
+
+    @Override
+    public Void visit(AbstractNoValueCondition<Object> condition) {
+        writer.append(condition.renderCondition(columnName()));
+        return null;
+    }
+
+    @Override
+    public Void visit(AbstractSingleValueCondition<Object> condition) {
+        String placeholder = bindValue(condition.value());
+        writer.append(condition.renderCondition(columnName(), placeholder));
+        return null;
+    }
+
+    @Override
+    public Void visit(AbstractTwoValueCondition<Object> condition) {
+        String placeholder1 = bindValue(condition.value1());
+        String placeholder2 = bindValue(condition.value2());
+        writer.append(condition.renderCondition(columnName(), placeholder1, placeholder2));
+        return null;
+    }
+
+    @Override
+    public Void visit(AbstractSubselectCondition<Object> condition) {
+        // the condition wraps the rendered sub select, so the text is rendered separately. The parameters
+        // are shared with the enclosing statement
+        String columnName = columnName();
+        SqlWriter subSelectWriter = writer.nestedWriter(128);
+        SelectRenderer.withSelectModel(condition.selectModel())
+                .withRenderingContext(renderingContext)
+                .build()
+                .render(subSelectWriter);
+
+        writer.append(condition.renderCondition(columnName, subSelectWriter.toSql()));
+        return null;
+    }
+
+    @Override
+    public Void visit(AbstractColumnComparisonCondition<Object> condition) {
+        writer.append(condition.renderCondition(columnName(), renderingContext.tableAliasCalculator()));
+        return null;
+    }
+
+    @Override
+    public Void visit(AbstractArrayValueCondition<Object> condition) {
+        String mapKey = renderingContext.nextParameterMapKey();
+        writer.addParameter(mapKey, condition.arrayValue(column::convertParameterType));
+        String placeholder = renderingContext.formattedPlaceholder(condition.arrayParameterColumn(column),
+                parameterPrefix, mapKey);
+        writer.append(condition.renderCondition(columnName(), condition.arrayExpression(placeholder)));
+        return null;
+    }
+
+    @Override
+    public Void visit(BindParameterCondition<Object> condition) {
+        writer.append(condition.renderCondition(columnName(), this::bindValue, this::bindMarker));
+        return null;
+    }
+
+    private String bindValue(Object value) {
+        String mapKey = renderingContext.nextParameterMapKey();
+        writer.addParameter(mapKey, column.convertParameterType(value));
+        return renderingContext.formattedPlaceholder(column, parameterPrefix, mapKey);
+    }
+
+    private String bindMarker(BindParameter<?> bindParameter) {
+        String mapKey = renderingContext.nextParameterMapKey();
+        renderingContext.addBindParameter(mapKey, bindParameter, column);
+        // the slot keeps the parameters in order for positional strategies - the value is set when bound
+        writer.addParameter(mapKey, null);
+        return renderingContext.formattedPlaceholder(column, parameterPrefix, mapKey);
+    }
+
+    private void writePlaceholders(AbstractListValueCondition<Object> condition, SqlWriter placeholderWriter) {
+        PlaceholderTemplate template = renderingContext.placeholderTemplate(column, parameterPrefix);
+        ListValueWriter listValueWriter = new ListValueWriter(template, placeholderWriter);
+        condition.forEachValue(listValueWriter);
+
+        InListPadding listPadding = InListPadding.forCondition(condition, renderingContext.renderingStrategy());
+        listValueWriter.repeatLastValue(listPadding.paddedSize(listValueWriter.count) - listValueWriter.count);
+    }
+
+    static String calculateParameterPrefix(String parameterName) {
+        if (parameterName == null) {
+            return RenderingStrategy.DEFAULT_PARAMETER_PREFIX;
+        } else {
+            return parameterName + "." + RenderingStrategy.DEFAULT_PARAMETER_PREFIX; //$NON-NLS-1$
+        }
+    }
+
+    private String columnName() {
+        return column.renderWithTableAlias(renderingContext.tableAliasCalculator());
+    }
+
+    /**
+     * Writes list values in a single pass - the placeholder is written straight from the template, and the
+     * value is added to the parameters by sequence number, so nothing is allocated for each value.
+     */
+    private class ListValueWriter implements Consumer<Object> {
+        private final PlaceholderTemplate template;
+        private final SqlWriter placeholderWriter;
+        private int count;
+        private Object lastValue;
+
+        private ListValueWriter(PlaceholderTemplate template, SqlWriter placeholderWriter) {
+            this.template = template;
+            this.placeholderWriter = placeholderWriter;
+        }
+
+        @Override
+        public void accept(Object value) {
+            write(column.convertParameterType(value));
+        }
+
+        private void repeatLastValue(int times) {
+            for (int i = 0; i < times; i++) {
+                write(lastValue);
+            }
+        }
+
+        private void write(Object convertedValue) {
+            if (count++ > 0) {
+                placeholderWriter.append(',');
+            }
+            int index = renderingContext.nextParameterIndex();
+            placeholderWriter.addParameter(index, convertedValue);
+            template.write(placeholderWriter, index);
+            lastValue = convertedValue;
+        }
+    }
+}
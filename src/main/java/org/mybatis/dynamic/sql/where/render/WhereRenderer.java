@@ -19,62 +19,92 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.mybatis.dynamic.sql.SqlCriterion;
+import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.render.SqlWriter;
 import org.mybatis.dynamic.sql.render.TableAliasCalculator;
-import org.mybatis.dynamic.sql.util.FragmentAndParameters;
-import org.mybatis.dynamic.sql.util.FragmentCollector;
 import org.mybatis.dynamic.sql.where.WhereModel;
 
 public class WhereRenderer {
     private final WhereModel whereModel;
-    private final CriterionRenderer criterionRenderer;
+    private final String parameterPrefix;
+    private final RenderingContext renderingContext;
+    private final AtomicInteger sequence;
+    private final RenderingStrategy renderingStrategy;
+    private final TableAliasCalculator tableAliasCalculator;
 
     private WhereRenderer(Builder builder) {
         whereModel = Objects.requireNonNull(builder.whereModel);
-
-        criterionRenderer = new CriterionRenderer.Builder()
-                .withSequence(builder.sequence)
-                .withRenderingStrategy(builder.renderingStrategy)
-                .withTableAliasCalculator(builder.tableAliasCalculator)
-                .withParameterName(builder.parameterName)
-                .build();
+        parameterPrefix = WhereConditionWriter.calculateParameterPrefix(builder.parameterName);
+        renderingContext = builder.renderingContext;
+        if (renderingContext == null) {
+            sequence = Objects.requireNonNull(builder.sequence);
+            renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
+            tableAliasCalculator = Objects.requireNonNull(builder.tableAliasCalculator);
+        } else {
+            sequence = null;
+            renderingStrategy = null;
+            tableAliasCalculator = null;
+        }
     }
 
     public Optional<WhereClauseProvider> render() {
-        List<RenderedCriterion> renderedCriteria = whereModel.mapCriteria(this::render)
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .collect(Collectors.toList());
-
-        if (renderedCriteria.isEmpty()) {
+        SqlWriter writer = SqlWriter.withInitialCapacity(128);
+        if (!render(writer)) {
             return Optional.empty();
         }
 
-        // The first is rendered without the initial connector because we don't want something like
-        // where and(id = ?).  This can happen if the first condition doesn't render.
-        FragmentAndParameters initialCriterion = renderedCriteria.get(0).fragmentAndParameters();
-
-        FragmentCollector fc = renderedCriteria.stream()
-                .skip(1)
-                .map(RenderedCriterion::fragmentAndParametersWithConnector)
-                .collect(FragmentCollector.collect(initialCriterion));
-
-        WhereClauseProvider wcp = WhereClauseProvider.withWhereClause(calculateWhereClause(fc))
-                .withParameters(fc.parameters())
+        WhereClauseProvider wcp = WhereClauseProvider.withWhereClause(writer.toSql())
+                .withParameters(writer.parameters())
                 .build();
         return Optional.of(wcp);
     }
 
-    private Optional<RenderedCriterion> render(SqlCriterion criterion) {
-        return criterion.accept(criterionRenderer);
+    /**
+     * Writes the where clause, if any criteria will render. A space is written before the where clause
+     * if the writer already has content.
+     *
+     * @param writer the writer for the current statement
+     * @return true if a where clause was written
+     */
+    public boolean render(SqlWriter writer) {
+        if (renderingContext != null) {
+            return render(renderingContext, writer);
+        }
+
+        RenderingContext context = RenderingContext.withRenderingStrategy(renderingStrategy)
+                .withSequence(sequence.get())
+                .withTableAliasCalculator(tableAliasCalculator)
+                .build();
+        boolean rendered = render(context, writer);
+        sequence.set(context.sequence());
+        return rendered;
     }
 
-    private String calculateWhereClause(FragmentCollector collector) {
-        return collector.fragments()
-                .collect(Collectors.joining(" ", "where ", "")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    private boolean render(RenderingContext context, SqlWriter writer) {
+        CriterionWriter criterionWriter = null;
+        List<SqlCriterion> criteria = whereModel.mapCriteria(Function.identity()).collect(Collectors.toList());
+        for (SqlCriterion criterion : criteria) {
+            if (CriterionWriter.willRender(criterion)) {
+                if (criterionWriter == null) {
+                    writer.appendSpace().append("where "); //$NON-NLS-1$
+                    criterionWriter = new CriterionWriter(context, parameterPrefix, writer);
+                } else {
+                    // The first is rendered without the initial connector because we don't want something like
+                    // where and(id = ?).  This can happen if the first condition doesn't render.
+                    writer.append(' ');
+                    criterion.connector().ifPresent(c -> writer.append(c).append(' '));
+                }
+                criterionWriter.write(criterion);
+            } else {
+                context.conditionsSkipped(CriterionWriter.skip(criterion));
+            }
+        }
+        return criterionWriter != null;
     }
 
     public static Builder withWhereModel(WhereModel whereModel) {
@@ -87,6 +117,7 @@ public class WhereRenderer {
         private TableAliasCalculator tableAliasCalculator;
         private AtomicInteger sequence;
         private String parameterName;
+        private RenderingContext renderingContext;
 
         public Builder withWhereModel(WhereModel whereModel) {
             this.whereModel = whereModel;
@@ -113,6 +144,18 @@ public class WhereRenderer {
             return this;
         }
 
+        /**
+         * Sets the rendering context for the statement that contains this where clause. When a rendering context
+         * is set, the rendering strategy, sequence, and table alias calculator are taken from the context.
+         *
+         * @param renderingContext the rendering context for the current statement
+         * @return this builder
+         */
+        public Builder withRenderingContext(RenderingContext renderingContext) {
+            this.renderingContext = renderingContext;
+            return this;
+        }
+
         public WhereRenderer build() {
             return new WhereRenderer(this);
         }
@@ -18,6 +18,7 @@ package org.mybatis.dynamic.sql.util.kotlin
 import org.mybatis.dynamic.sql.BasicColumn
 import org.mybatis.dynamic.sql.SortSpecification
 import org.mybatis.dynamic.sql.SqlTable
+import org.mybatis.dynamic.sql.select.Keyset
 import org.mybatis.dynamic.sql.select.QueryExpressionDSL
 import org.mybatis.dynamic.sql.select.SelectModel
 import org.mybatis.dynamic.sql.util.Buildable
@@ -71,6 +72,20 @@ class KotlinSelectBuilder(private val fromGatherer: QueryExpressionDSL.FromGathe
             getDsl().fetchFirst(fetchFirstRows).rowsOnly()
         }
 
+    fun seekAfter(vararg values: Any): KotlinSelectBuilder = seekAfter(Keyset.of(*values))
+
+    fun seekAfter(keyset: Keyset): KotlinSelectBuilder =
+        apply {
+            getDsl().seekAfter(keyset)
+        }
+
+    fun seekBefore(vararg values: Any): KotlinSelectBuilder = seekBefore(Keyset.of(*values))
+
+    fun seekBefore(keyset: Keyset): KotlinSelectBuilder =
+        apply {
+            getDsl().seekBefore(keyset)
+        }
+
     fun union(union: KotlinUnionBuilder.() -> Unit): KotlinSelectBuilder =
         apply {
             union(KotlinUnionBuilder(getDsl().union()))
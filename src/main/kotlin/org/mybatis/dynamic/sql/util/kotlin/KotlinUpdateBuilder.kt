@@ -16,6 +16,7 @@
 package org.mybatis.dynamic.sql.util.kotlin
 
 import org.mybatis.dynamic.sql.BasicColumn
+import org.mybatis.dynamic.sql.BindParameter
 import org.mybatis.dynamic.sql.SqlColumn
 import org.mybatis.dynamic.sql.update.UpdateDSL
 import org.mybatis.dynamic.sql.update.UpdateModel
@@ -64,6 +65,11 @@ class KotlinUpdateBuilder(private val dsl: UpdateDSL<UpdateModel>) :
                 set(column).equalTo(rightColumn)
             }
 
+        fun equalTo(bindParameter: BindParameter<T>): KotlinUpdateBuilder =
+            applyToDsl {
+                set(column).equalTo(bindParameter)
+            }
+
         fun equalToOrNull(value: T?): KotlinUpdateBuilder = equalToOrNull { value }
 
         fun equalToOrNull(value: () -> T?): KotlinUpdateBuilder =
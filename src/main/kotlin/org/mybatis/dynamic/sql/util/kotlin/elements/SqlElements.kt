@@ -17,6 +17,8 @@
 package org.mybatis.dynamic.sql.util.kotlin.elements
 
 import org.mybatis.dynamic.sql.BasicColumn
+import org.mybatis.dynamic.sql.BindParameter
+import org.mybatis.dynamic.sql.BindParameterCondition
 import org.mybatis.dynamic.sql.BindableColumn
 import org.mybatis.dynamic.sql.Constant
 import org.mybatis.dynamic.sql.ExistsPredicate
@@ -53,7 +55,10 @@ import org.mybatis.dynamic.sql.where.condition.IsGreaterThanOrEqualToColumn
 import org.mybatis.dynamic.sql.where.condition.IsGreaterThanOrEqualToWithSubselect
 import org.mybatis.dynamic.sql.where.condition.IsGreaterThanWithSubselect
 import org.mybatis.dynamic.sql.where.condition.IsIn
+import org.mybatis.dynamic.sql.where.condition.IsInArray
 import org.mybatis.dynamic.sql.where.condition.IsInCaseInsensitive
+import org.mybatis.dynamic.sql.where.condition.IsInInts
+import org.mybatis.dynamic.sql.where.condition.IsInLongs
 import org.mybatis.dynamic.sql.where.condition.IsInWithSubselect
 import org.mybatis.dynamic.sql.where.condition.IsLessThan
 import org.mybatis.dynamic.sql.where.condition.IsLessThanColumn
@@ -68,6 +73,7 @@ import org.mybatis.dynamic.sql.where.condition.IsNotEqualTo
 import org.mybatis.dynamic.sql.where.condition.IsNotEqualToColumn
 import org.mybatis.dynamic.sql.where.condition.IsNotEqualToWithSubselect
 import org.mybatis.dynamic.sql.where.condition.IsNotIn
+import org.mybatis.dynamic.sql.where.condition.IsNotInArray
 import org.mybatis.dynamic.sql.where.condition.IsNotInCaseInsensitive
 import org.mybatis.dynamic.sql.where.condition.IsNotInWithSubselect
 import org.mybatis.dynamic.sql.where.condition.IsNotLike
@@ -149,6 +155,9 @@ fun <T> upper(column: BindableColumn<T>): Upper<T> = SqlBuilder.upper(column)
 // conditions for all data types
 fun <T> isNull(): IsNull<T> = SqlBuilder.isNull()
 
+inline fun <reified T : Any> bindParameter(name: String): BindParameter<T> =
+    SqlBuilder.bindParameter(name, T::class.javaObjectType)
+
 fun <T> isNotNull(): IsNotNull<T> = SqlBuilder.isNotNull()
 
 fun exists(subQuery: KotlinSubQueryBuilder.() -> Unit): ExistsPredicate =
@@ -159,6 +168,8 @@ fun notExists(subQuery: KotlinSubQueryBuilder.() -> Unit): ExistsPredicate =
 
 fun <T : Any> isEqualTo(value: T): IsEqualTo<T> = SqlBuilder.isEqualTo(value)
 
+fun <T> isEqualTo(bindParameter: BindParameter<T>): BindParameterCondition<T> = SqlBuilder.isEqualTo(bindParameter)
+
 fun <T> isEqualTo(subQuery: KotlinSubQueryBuilder.() -> Unit): IsEqualToWithSubselect<T> =
     SqlBuilder.isEqualTo(KotlinSubQueryBuilder().apply(subQuery))
 
@@ -168,6 +179,9 @@ fun <T : Any> isEqualToWhenPresent(value: T?): IsEqualTo<T> = SqlBuilder.isEqual
 
 fun <T : Any> isNotEqualTo(value: T): IsNotEqualTo<T> = SqlBuilder.isNotEqualTo(value)
 
+fun <T> isNotEqualTo(bindParameter: BindParameter<T>): BindParameterCondition<T> =
+    SqlBuilder.isNotEqualTo(bindParameter)
+
 fun <T> isNotEqualTo(subQuery: KotlinSubQueryBuilder.() -> Unit): IsNotEqualToWithSubselect<T> =
     SqlBuilder.isNotEqualTo(KotlinSubQueryBuilder().apply(subQuery))
 
@@ -177,6 +191,9 @@ fun <T : Any> isNotEqualToWhenPresent(value: T?): IsNotEqualTo<T> = SqlBuilder.i
 
 fun <T : Any> isGreaterThan(value: T): IsGreaterThan<T> = SqlBuilder.isGreaterThan(value)
 
+fun <T> isGreaterThan(bindParameter: BindParameter<T>): BindParameterCondition<T> =
+    SqlBuilder.isGreaterThan(bindParameter)
+
 fun <T> isGreaterThan(subQuery: KotlinSubQueryBuilder.() -> Unit): IsGreaterThanWithSubselect<T> =
     SqlBuilder.isGreaterThan(KotlinSubQueryBuilder().apply(subQuery))
 
@@ -186,6 +203,9 @@ fun <T : Any> isGreaterThanWhenPresent(value: T?): IsGreaterThan<T> = SqlBuilder
 
 fun <T : Any> isGreaterThanOrEqualTo(value: T): IsGreaterThanOrEqualTo<T> = SqlBuilder.isGreaterThanOrEqualTo(value)
 
+fun <T> isGreaterThanOrEqualTo(bindParameter: BindParameter<T>): BindParameterCondition<T> =
+    SqlBuilder.isGreaterThanOrEqualTo(bindParameter)
+
 fun <T> isGreaterThanOrEqualTo(subQuery: KotlinSubQueryBuilder.() -> Unit): IsGreaterThanOrEqualToWithSubselect<T> =
     SqlBuilder.isGreaterThanOrEqualTo(KotlinSubQueryBuilder().apply(subQuery))
 
@@ -197,6 +217,8 @@ fun <T : Any> isGreaterThanOrEqualToWhenPresent(value: T?): IsGreaterThanOrEqual
 
 fun <T : Any> isLessThan(value: T): IsLessThan<T> = SqlBuilder.isLessThan(value)
 
+fun <T> isLessThan(bindParameter: BindParameter<T>): BindParameterCondition<T> = SqlBuilder.isLessThan(bindParameter)
+
 fun <T> isLessThan(subQuery: KotlinSubQueryBuilder.() -> Unit): IsLessThanWithSubselect<T> =
     SqlBuilder.isLessThan(KotlinSubQueryBuilder().apply(subQuery))
 
@@ -206,6 +228,9 @@ fun <T : Any> isLessThanWhenPresent(value: T?): IsLessThan<T> = SqlBuilder.isLes
 
 fun <T : Any> isLessThanOrEqualTo(value: T): IsLessThanOrEqualTo<T> = SqlBuilder.isLessThanOrEqualTo(value)
 
+fun <T> isLessThanOrEqualTo(bindParameter: BindParameter<T>): BindParameterCondition<T> =
+    SqlBuilder.isLessThanOrEqualTo(bindParameter)
+
 fun <T> isLessThanOrEqualTo(subQuery: KotlinSubQueryBuilder.() -> Unit): IsLessThanOrEqualToWithSubselect<T> =
     SqlBuilder.isLessThanOrEqualTo(KotlinSubQueryBuilder().apply(subQuery))
 
@@ -218,6 +243,10 @@ fun <T : Any> isIn(vararg values: T): IsIn<T> = isIn(values.asList())
 
 fun <T : Any> isIn(values: Collection<T>): IsIn<T> = SqlBuilder.isIn(values)
 
+fun isIn(values: LongArray): IsInLongs = SqlBuilder.isIn(values)
+
+fun isIn(values: IntArray): IsInInts = SqlBuilder.isIn(values)
+
 fun <T> isIn(subQuery: KotlinSubQueryBuilder.() -> Unit): IsInWithSubselect<T> =
     SqlBuilder.isIn(KotlinSubQueryBuilder().apply(subQuery))
 
@@ -236,6 +265,14 @@ fun <T : Any> isNotInWhenPresent(vararg values: T?): IsNotIn<T> = isNotInWhenPre
 
 fun <T : Any> isNotInWhenPresent(values: Collection<T?>?): IsNotIn<T> = SqlBuilder.isNotInWhenPresent(values)
 
+fun <T : Any> isInArray(vararg values: T): IsInArray<T> = isInArray(values.asList())
+
+fun <T : Any> isInArray(values: Collection<T>): IsInArray<T> = SqlBuilder.isInArray(values)
+
+fun <T : Any> isNotInArray(vararg values: T): IsNotInArray<T> = isNotInArray(values.asList())
+
+fun <T : Any> isNotInArray(values: Collection<T>): IsNotInArray<T> = SqlBuilder.isNotInArray(values)
+
 fun <T : Any> isBetween(value1: T): BetweenBuilder<T> = BetweenBuilder(value1)
 
 fun <T : Any> isBetweenWhenPresent(value1: T?): BetweenWhenPresentBuilder<T> = BetweenWhenPresentBuilder(value1)
@@ -248,10 +285,14 @@ fun <T : Any> isNotBetweenWhenPresent(value1: T?): NotBetweenWhenPresentBuilder<
 // for string columns, but generic for columns with type handlers
 fun <T : Any> isLike(value: T): IsLike<T> = SqlBuilder.isLike(value)
 
+fun <T> isLike(bindParameter: BindParameter<T>): BindParameterCondition<T> = SqlBuilder.isLike(bindParameter)
+
 fun <T : Any> isLikeWhenPresent(value: T?): IsLike<T> = SqlBuilder.isLikeWhenPresent(value)
 
 fun <T : Any> isNotLike(value: T): IsNotLike<T> = SqlBuilder.isNotLike(value)
 
+fun <T> isNotLike(bindParameter: BindParameter<T>): BindParameterCondition<T> = SqlBuilder.isNotLike(bindParameter)
+
 fun <T : Any> isNotLikeWhenPresent(value: T?): IsNotLike<T> = SqlBuilder.isNotLikeWhenPresent(value)
 
 // shortcuts for booleans
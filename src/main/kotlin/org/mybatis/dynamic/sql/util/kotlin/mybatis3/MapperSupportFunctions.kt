@@ -16,6 +16,7 @@
 @file:Suppress("TooManyFunctions")
 package org.mybatis.dynamic.sql.util.kotlin.mybatis3
 
+import org.apache.ibatis.cursor.Cursor
 import org.mybatis.dynamic.sql.BasicColumn
 import org.mybatis.dynamic.sql.SqlTable
 import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider
@@ -125,6 +126,17 @@ fun insertSelect(
 ): Int =
     insertSelect(table, completer).run(mapper)
 
+fun <T> selectCursor(
+    mapper: (SelectStatementProvider) -> Cursor<T>,
+    selectList: List<BasicColumn>,
+    table: SqlTable,
+    completer: SelectCompleter
+): Cursor<T> =
+    select(selectList) {
+        from(table)
+        completer()
+    }.run(mapper)
+
 fun <T> selectDistinct(
     mapper: (SelectStatementProvider) -> List<T>,
     selectList: List<BasicColumn>,
@@ -147,6 +159,18 @@ fun <T> selectList(
         completer()
     }.run(mapper)
 
+fun selectForEach(
+    mapper: (SelectStatementProvider) -> Unit,
+    selectList: List<BasicColumn>,
+    table: SqlTable,
+    completer: SelectCompleter
+) {
+    select(selectList) {
+        from(table)
+        completer()
+    }.run(mapper)
+}
+
 fun <T> selectOne(
     mapper: (SelectStatementProvider) -> T?,
     selectList: List<BasicColumn>,
@@ -0,0 +1,243 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+@file:Suppress("TooManyFunctions")
+package org.mybatis.dynamic.sql.util.kotlin.spring
+
+import org.mybatis.dynamic.sql.BasicColumn
+import org.mybatis.dynamic.sql.SqlTable
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider
+import org.mybatis.dynamic.sql.insert.render.BatchInsert
+import org.mybatis.dynamic.sql.insert.render.GeneralInsertStatementProvider
+import org.mybatis.dynamic.sql.insert.render.InsertSelectStatementProvider
+import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider
+import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider
+import org.mybatis.dynamic.sql.render.RenderingStrategies
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider
+import org.mybatis.dynamic.sql.util.kotlin.CountCompleter
+import org.mybatis.dynamic.sql.util.kotlin.DeleteCompleter
+import org.mybatis.dynamic.sql.util.kotlin.GeneralInsertCompleter
+import org.mybatis.dynamic.sql.util.kotlin.InsertSelectCompleter
+import org.mybatis.dynamic.sql.util.kotlin.MyBatisDslMarker
+import org.mybatis.dynamic.sql.util.kotlin.SelectCompleter
+import org.mybatis.dynamic.sql.util.kotlin.UpdateCompleter
+import org.mybatis.dynamic.sql.util.spring.PositionalParameterSetter
+import org.springframework.dao.support.DataAccessUtils
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.jdbc.core.SingleColumnRowMapper
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate
+import org.springframework.jdbc.support.KeyHolder
+import java.sql.ResultSet
+import kotlin.reflect.KClass
+
+// Statements are rendered with RenderingStrategies.JDBC_POSITIONAL and executed with positional parameters.
+// Single row, multi row and batch inserts bind row properties by name, so they are executed with a
+// NamedParameterJdbcTemplate that wraps this template.
+
+fun JdbcTemplate.count(selectStatement: SelectStatementProvider): Long =
+    DataAccessUtils.requiredSingleResult(
+        query(
+            selectStatement.selectStatement,
+            PositionalParameterSetter.of(selectStatement.parameters),
+            SingleColumnRowMapper(Long::class.javaObjectType)
+        )
+    )
+
+fun JdbcTemplate.count(column: BasicColumn, completer: CountCompleter): Long =
+    count(
+        org.mybatis.dynamic.sql.util.kotlin.model.count(column, completer)
+            .render(RenderingStrategies.JDBC_POSITIONAL)
+    )
+
+fun JdbcTemplate.countDistinct(column: BasicColumn, completer: CountCompleter): Long =
+    count(
+        org.mybatis.dynamic.sql.util.kotlin.model.countDistinct(column, completer)
+            .render(RenderingStrategies.JDBC_POSITIONAL)
+    )
+
+fun JdbcTemplate.countFrom(table: SqlTable, completer: CountCompleter): Long =
+    count(
+        org.mybatis.dynamic.sql.util.kotlin.model.countFrom(table, completer)
+            .render(RenderingStrategies.JDBC_POSITIONAL)
+    )
+
+fun JdbcTemplate.delete(deleteStatement: DeleteStatementProvider): Int =
+    update(deleteStatement.deleteStatement, PositionalParameterSetter.of(deleteStatement.parameters))
+
+fun JdbcTemplate.deleteFrom(table: SqlTable, completer: DeleteCompleter): Int =
+    delete(
+        org.mybatis.dynamic.sql.util.kotlin.model.deleteFrom(table, completer)
+            .render(RenderingStrategies.JDBC_POSITIONAL)
+    )
+
+// batch insert
+fun <T> JdbcTemplate.insertBatch(insertStatement: BatchInsert<T>): IntArray =
+    NamedParameterJdbcTemplate(this).insertBatch(insertStatement)
+
+fun <T : Any> JdbcTemplate.insertBatch(vararg records: T): BatchInsertHelper<T> =
+    insertBatch(records.asList())
+
+fun <T : Any> JdbcTemplate.insertBatch(records: List<T>): BatchInsertHelper<T> =
+    BatchInsertHelper(records, NamedParameterJdbcTemplate(this))
+
+// single row insert
+fun <T : Any> JdbcTemplate.insert(insertStatement: InsertStatementProvider<T>): Int =
+    NamedParameterJdbcTemplate(this).insert(insertStatement)
+
+fun <T : Any> JdbcTemplate.insert(insertStatement: InsertStatementProvider<T>, keyHolder: KeyHolder): Int =
+    NamedParameterJdbcTemplate(this).insert(insertStatement, keyHolder)
+
+fun <T : Any> JdbcTemplate.insert(row: T): SingleRowInsertHelper<T> =
+    SingleRowInsertHelper(row, NamedParameterJdbcTemplate(this))
+
+// general insert
+fun JdbcTemplate.generalInsert(insertStatement: GeneralInsertStatementProvider): Int =
+    update(insertStatement.insertStatement, PositionalParameterSetter.of(insertStatement.parameters))
+
+fun JdbcTemplate.generalInsert(insertStatement: GeneralInsertStatementProvider, keyHolder: KeyHolder): Int =
+    update(
+        PositionalParameterSetter.of(insertStatement.parameters).generatedKeysCreator(insertStatement.insertStatement),
+        keyHolder
+    )
+
+fun JdbcTemplate.insertInto(table: SqlTable, completer: GeneralInsertCompleter): Int =
+    generalInsert(
+        org.mybatis.dynamic.sql.util.kotlin.model.insertInto(table, completer)
+            .render(RenderingStrategies.JDBC_POSITIONAL)
+    )
+
+// multiple row insert
+fun <T : Any> JdbcTemplate.insertMultiple(vararg records: T): MultiRowInsertHelper<T> =
+    insertMultiple(records.asList())
+
+fun <T : Any> JdbcTemplate.insertMultiple(records: List<T>): MultiRowInsertHelper<T> =
+    MultiRowInsertHelper(records, NamedParameterJdbcTemplate(this))
+
+fun <T> JdbcTemplate.insertMultiple(insertStatement: MultiRowInsertStatementProvider<T>): Int =
+    NamedParameterJdbcTemplate(this).insertMultiple(insertStatement)
+
+fun <T> JdbcTemplate.insertMultiple(insertStatement: MultiRowInsertStatementProvider<T>, keyHolder: KeyHolder): Int =
+    NamedParameterJdbcTemplate(this).insertMultiple(insertStatement, keyHolder)
+
+fun JdbcTemplate.insertSelect(table: SqlTable, completer: InsertSelectCompleter): Int =
+    insertSelect(
+        org.mybatis.dynamic.sql.util.kotlin.model.insertSelect(table, completer)
+            .render(RenderingStrategies.JDBC_POSITIONAL)
+    )
+
+fun JdbcTemplate.insertSelect(insertStatement: InsertSelectStatementProvider): Int =
+    update(insertStatement.insertStatement, PositionalParameterSetter.of(insertStatement.parameters))
+
+fun JdbcTemplate.insertSelect(insertStatement: InsertSelectStatementProvider, keyHolder: KeyHolder): Int =
+    update(
+        PositionalParameterSetter.of(insertStatement.parameters).generatedKeysCreator(insertStatement.insertStatement),
+        keyHolder
+    )
+
+fun JdbcTemplate.select(
+    vararg selectList: BasicColumn,
+    completer: SelectCompleter
+): PositionalSelectListMapperGatherer =
+    select(selectList.toList(), completer)
+
+fun JdbcTemplate.select(selectList: List<BasicColumn>, completer: SelectCompleter): PositionalSelectListMapperGatherer =
+    PositionalSelectListMapperGatherer(
+        org.mybatis.dynamic.sql.util.kotlin.model.select(selectList, completer)
+            .render(RenderingStrategies.JDBC_POSITIONAL),
+        this
+    )
+
+fun JdbcTemplate.selectDistinct(
+    vararg selectList: BasicColumn,
+    completer: SelectCompleter
+): PositionalSelectListMapperGatherer =
+    selectDistinct(selectList.toList(), completer)
+
+fun JdbcTemplate.selectDistinct(
+    selectList: List<BasicColumn>,
+    completer: SelectCompleter
+): PositionalSelectListMapperGatherer =
+    PositionalSelectListMapperGatherer(
+        org.mybatis.dynamic.sql.util.kotlin.model.selectDistinct(selectList, completer)
+            .render(RenderingStrategies.JDBC_POSITIONAL),
+        this
+    )
+
+fun <T> JdbcTemplate.selectList(
+    selectStatement: SelectStatementProvider,
+    rowMapper: (rs: ResultSet, rowNum: Int) -> T
+): List<T> =
+    query(selectStatement.selectStatement, PositionalParameterSetter.of(selectStatement.parameters), rowMapper)
+
+fun <T : Any> JdbcTemplate.selectList(selectStatement: SelectStatementProvider, type: KClass<T>): List<T?> =
+    query(
+        selectStatement.selectStatement,
+        PositionalParameterSetter.of(selectStatement.parameters),
+        SingleColumnRowMapper(type.java)
+    )
+
+fun JdbcTemplate.selectOne(
+    vararg selectList: BasicColumn,
+    completer: SelectCompleter
+): PositionalSelectOneMapperGatherer =
+    selectOne(selectList.toList(), completer)
+
+fun JdbcTemplate.selectOne(
+    selectList: List<BasicColumn>,
+    completer: SelectCompleter
+): PositionalSelectOneMapperGatherer =
+    PositionalSelectOneMapperGatherer(
+        org.mybatis.dynamic.sql.util.kotlin.model.select(selectList, completer)
+            .render(RenderingStrategies.JDBC_POSITIONAL),
+        this
+    )
+
+fun <T> JdbcTemplate.selectOne(
+    selectStatement: SelectStatementProvider,
+    rowMapper: (rs: ResultSet, rowNum: Int) -> T
+): T? =
+    DataAccessUtils.singleResult(selectList(selectStatement, rowMapper))
+
+fun <T : Any> JdbcTemplate.selectOne(selectStatement: SelectStatementProvider, type: KClass<T>): T? =
+    DataAccessUtils.singleResult(selectList(selectStatement, type))
+
+fun JdbcTemplate.update(updateStatement: UpdateStatementProvider): Int =
+    update(updateStatement.updateStatement, PositionalParameterSetter.of(updateStatement.parameters))
+
+fun JdbcTemplate.update(table: SqlTable, completer: UpdateCompleter): Int =
+    update(
+        org.mybatis.dynamic.sql.util.kotlin.model.update(table, completer)
+            .render(RenderingStrategies.JDBC_POSITIONAL)
+    )
+
+// support classes for select DSL
+@MyBatisDslMarker
+class PositionalSelectListMapperGatherer(
+    private val selectStatement: SelectStatementProvider,
+    private val template: JdbcTemplate
+) {
+    fun <T> withRowMapper(rowMapper: (rs: ResultSet, rowNum: Int) -> T): List<T> =
+        template.selectList(selectStatement, rowMapper)
+}
+
+@MyBatisDslMarker
+class PositionalSelectOneMapperGatherer(
+    private val selectStatement: SelectStatementProvider,
+    private val template: JdbcTemplate
+) {
+    fun <T> withRowMapper(rowMapper: (rs: ResultSet, rowNum: Int) -> T): T? =
+        template.selectOne(selectStatement, rowMapper)
+}
@@ -39,6 +39,7 @@ import org.mybatis.dynamic.sql.util.kotlin.UpdateCompleter
 import org.mybatis.dynamic.sql.util.kotlin.elements.insert
 import org.mybatis.dynamic.sql.util.kotlin.elements.insertBatch
 import org.mybatis.dynamic.sql.util.kotlin.elements.insertMultiple
+import org.mybatis.dynamic.sql.util.spring.NamedParameterJdbcTemplateExtensions
 import org.springframework.dao.EmptyResultDataAccessException
 import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource
@@ -47,6 +48,7 @@ import org.springframework.jdbc.core.namedparam.SqlParameterSourceUtils
 import org.springframework.jdbc.support.KeyHolder
 import java.sql.ResultSet
 import kotlin.reflect.KClass
+import kotlin.streams.asSequence
 
 fun NamedParameterJdbcTemplate.count(selectStatement: SelectStatementProvider): Long =
     queryForObject(selectStatement.selectStatement, selectStatement.parameters, Long::class.java)!!
@@ -173,6 +175,44 @@ fun <T : Any> NamedParameterJdbcTemplate.selectList(
 ): List<T?> =
     queryForList(selectStatement.selectStatement, selectStatement.parameters, type.java)
 
+fun NamedParameterJdbcTemplate.selectSequence(
+    vararg selectList: BasicColumn,
+    completer: SelectCompleter
+): SelectSequenceMapperGatherer =
+    selectSequence(selectList.toList(), completer)
+
+fun NamedParameterJdbcTemplate.selectSequence(
+    selectList: List<BasicColumn>,
+    completer: SelectCompleter
+): SelectSequenceMapperGatherer =
+    SelectSequenceMapperGatherer(org.mybatis.dynamic.sql.util.kotlin.spring.select(selectList, completer), this)
+
+/**
+ * Executes a select statement and calls [block] with a sequence of the rows. Rows are read from the open result set
+ * as the sequence is iterated, and the result set is closed when [block] returns - in the same way as
+ * [java.io.File.useLines]. The sequence must not be used after [block] returns.
+ */
+fun <T, R> NamedParameterJdbcTemplate.selectSequence(
+    selectStatement: SelectStatementProvider,
+    rowMapper: (rs: ResultSet, rowNum: Int) -> T,
+    block: (Sequence<T>) -> R
+): R =
+    queryForStream(selectStatement.selectStatement, selectStatement.parameters, rowMapper)
+        .use { block(it.asSequence()) }
+
+/**
+ * Executes a select statement with a fetch size and calls [block] with a sequence of the rows. The fetch size is used
+ * only if the template has no fetch size.
+ */
+fun <T, R> NamedParameterJdbcTemplate.selectSequence(
+    selectStatement: SelectStatementProvider,
+    fetchSize: Int,
+    rowMapper: (rs: ResultSet, rowNum: Int) -> T,
+    block: (Sequence<T>) -> R
+): R =
+    NamedParameterJdbcTemplateExtensions(this).selectStream(selectStatement, fetchSize, rowMapper)
+        .use { block(it.asSequence()) }
+
 fun NamedParameterJdbcTemplate.selectOne(
     vararg selectList: BasicColumn,
     completer: SelectCompleter
@@ -222,6 +262,25 @@ class SelectListMapperGatherer(
         template.selectList(selectStatement, rowMapper)
 }
 
+@MyBatisDslMarker
+class SelectSequenceMapperGatherer(
+    private val selectStatement: SelectStatementProvider,
+    private val template: NamedParameterJdbcTemplate
+) {
+    private var fetchSize: Int? = null
+
+    fun withFetchSize(fetchSize: Int): SelectSequenceMapperGatherer = apply { this.fetchSize = fetchSize }
+
+    fun <T, R> withRowMapper(rowMapper: (rs: ResultSet, rowNum: Int) -> T, block: (Sequence<T>) -> R): R {
+        val size = fetchSize
+        return if (size == null) {
+            template.selectSequence(selectStatement, rowMapper, block)
+        } else {
+            template.selectSequence(selectStatement, size, rowMapper, block)
+        }
+    }
+}
+
 @MyBatisDslMarker
 class SelectOneMapperGatherer(
     private val selectStatement: SelectStatementProvider,
@@ -33,6 +33,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.stream.IntStream;
 
 import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
 import org.apache.ibatis.jdbc.ScriptRunner;
@@ -48,15 +49,20 @@ import org.junit.jupiter.api.Test;
 import org.mybatis.dynamic.sql.BasicColumn;
 import org.mybatis.dynamic.sql.Callback;
 import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.delete.render.BatchDelete;
 import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.insert.UpsertDialect;
 import org.mybatis.dynamic.sql.insert.render.BatchInsert;
+import org.mybatis.dynamic.sql.insert.render.ChunkedBatchInsert;
 import org.mybatis.dynamic.sql.insert.render.GeneralInsertStatementProvider;
 import org.mybatis.dynamic.sql.insert.render.InsertSelectStatementProvider;
 import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
 import org.mybatis.dynamic.sql.render.RenderingStrategies;
 import org.mybatis.dynamic.sql.render.TableAliasCalculator;
 import org.mybatis.dynamic.sql.select.SelectModel;
 import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.render.BatchUpdate;
 import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
 import org.mybatis.dynamic.sql.util.mybatis3.CommonSelectMapper;
 import org.mybatis.dynamic.sql.util.mybatis3.MyBatis3Utils;
@@ -658,6 +664,129 @@ class AnimalDataTest {
         }
     }
 
+    @Test
+    void testInPrimitiveArrayCondition() {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+            AnimalDataMapper mapper = sqlSession.getMapper(AnimalDataMapper.class);
+
+            SelectStatementProvider selectStatement = select(id, animalName, bodyWeight, brainWeight)
+                    .from(animalData)
+                    .where(id, isIn(new int[] {5, 8, 10}).filterInts(i -> i != 8))
+                    .orderBy(id)
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            List<AnimalData> animals = mapper.selectMany(selectStatement);
+            assertThat(animals).extracting(AnimalData::getId).containsExactly(5, 10);
+        }
+    }
+
+    @Test
+    void testInArrayCondition() {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+            AnimalDataMapper mapper = sqlSession.getMapper(AnimalDataMapper.class);
+
+            SelectStatementProvider selectStatement = select(id, animalName, bodyWeight, brainWeight)
+                    .from(animalData)
+                    .where(id, isInArray(5, 8, 10).withArrayFunction("unnest"))
+                    .orderBy(id)
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            assertThat(selectStatement.getSelectStatement()).isEqualTo(
+                    "select id, animal_name, body_weight, brain_weight from AnimalData"
+                            + " where id = any(unnest(#{parameters.p1,jdbcType=ARRAY})) order by id");
+            assertThat(selectStatement.getParameters().get("p1")).isEqualTo(new Integer[] {5, 8, 10});
+
+            List<AnimalData> animals = mapper.selectMany(selectStatement);
+            assertThat(animals).extracting(AnimalData::getId).containsExactly(5, 8, 10);
+        }
+    }
+
+    @Test
+    void testInArrayConditionWithLargeList() {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+            AnimalDataMapper mapper = sqlSession.getMapper(AnimalDataMapper.class);
+
+            List<Integer> ids = new ArrayList<>();
+            for (int i = 1; i <= 50_000; i += 2) {
+                ids.add(i);
+            }
+
+            SelectStatementProvider selectStatement = select(id, animalName, bodyWeight, brainWeight)
+                    .from(animalData)
+                    .where(id, isInArray(ids).withArrayFunction("unnest"))
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            assertThat(selectStatement.getParameters()).hasSize(1);
+
+            List<AnimalData> animals = mapper.selectMany(selectStatement);
+            assertThat(animals).hasSize(33);
+        }
+    }
+
+    @Test
+    void testNotInArrayCondition() {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+            AnimalDataMapper mapper = sqlSession.getMapper(AnimalDataMapper.class);
+
+            SelectStatementProvider selectStatement = select(id, animalName, bodyWeight, brainWeight)
+                    .from(animalData)
+                    .where(id, isNotInArray(5, 8, 10).withArrayFunction("unnest"))
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            assertThat(selectStatement.getSelectStatement()).isEqualTo(
+                    "select id, animal_name, body_weight, brain_weight from AnimalData"
+                            + " where id <> all(unnest(#{parameters.p1,jdbcType=ARRAY}))");
+
+            List<AnimalData> animals = mapper.selectMany(selectStatement);
+            assertThat(animals).hasSize(62);
+        }
+    }
+
+    @Test
+    void testInArrayConditionWithMappedValues() {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+            AnimalDataMapper mapper = sqlSession.getMapper(AnimalDataMapper.class);
+
+            SelectStatementProvider selectStatement = select(id, animalName, bodyWeight, brainWeight)
+                    .from(animalData)
+                    .where(animalName, isInArray("  Mouse", null, "Musk shrew  ")
+                            .filter(Objects::nonNull)
+                            .map(String::trim)
+                            .withArrayFunction("unnest"))
+                    .orderBy(id)
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            assertThat(selectStatement.getParameters().get("p1")).isEqualTo(new String[] {"Mouse", "Musk shrew"});
+
+            List<AnimalData> animals = mapper.selectMany(selectStatement);
+            assertThat(animals).extracting(AnimalData::getAnimalName).containsExactly("Mouse", "Musk shrew");
+        }
+    }
+
+    @Test
+    void testInArrayConditionWithEmptyList() {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+            AnimalDataMapper mapper = sqlSession.getMapper(AnimalDataMapper.class);
+
+            SelectStatementProvider selectStatement = select(id, animalName, bodyWeight, brainWeight)
+                    .from(animalData)
+                    .where(id, isInArray(Collections.<Integer>emptyList()))
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            assertThat(selectStatement.getSelectStatement()).isEqualTo(
+                    "select id, animal_name, body_weight, brain_weight from AnimalData");
+
+            List<AnimalData> animals = mapper.selectMany(selectStatement);
+            assertThat(animals).hasSize(65);
+        }
+    }
+
     @Test
     void testNotInCaseSensitiveCondition() {
         try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
@@ -1494,6 +1623,47 @@ class AnimalDataTest {
         }
     }
 
+    @Test
+    void testBulkInsertInChunks() {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession(ExecutorType.BATCH)) {
+            AnimalDataMapper mapper = sqlSession.getMapper(AnimalDataMapper.class);
+            ChunkedBatchInsert<AnimalData> batchInsert = insertBatch(IntStream.range(100, 125).mapToObj(i -> {
+                        AnimalData record = new AnimalData();
+                        record.setId(i);
+                        record.setAnimalName("Animal " + i);
+                        record.setBodyWeight(22.5);
+                        return record;
+                    }))
+                    .into(animalData)
+                    .map(id).toProperty("id")
+                    .map(animalName).toProperty("animalName")
+                    .map(bodyWeight).toProperty("bodyWeight")
+                    .map(brainWeight).toConstant("1.2")
+                    .withChunkSize(10)
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            List<Integer> flushedRows = new ArrayList<>();
+            long rows = MyBatis3Utils.insertBatch(mapper::insert, batchInsert, () -> {
+                flushedRows.add(sqlSession.flushStatements().get(0).getUpdateCounts().length);
+                sqlSession.commit();
+            });
+
+            assertThat(rows).isEqualTo(25);
+            assertThat(flushedRows).containsExactly(10, 10, 5);
+
+            SelectStatementProvider selectStatement = select(id, animalName, bodyWeight, brainWeight)
+                    .from(animalData)
+                    .where(id, isBetween(100).and(124))
+                    .orderBy(id)
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+            List<AnimalData> animals = mapper.selectMany(selectStatement);
+            assertThat(animals).hasSize(25);
+            assertThat(animals).extracting(AnimalData::getBrainWeight).containsOnly(1.2);
+        }
+    }
+
     @Test
     void testBulkInsert() {
         try (SqlSession sqlSession = sqlSessionFactory.openSession(ExecutorType.BATCH)) {
@@ -1594,6 +1764,110 @@ class AnimalDataTest {
         }
     }
 
+    @Test
+    void testBatchUpdateAndDelete() {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession(ExecutorType.BATCH)) {
+            AnimalDataMapper mapper = sqlSession.getMapper(AnimalDataMapper.class);
+            List<AnimalData> records = new ArrayList<>();
+            for (int i = 1; i <= 3; i++) {
+                AnimalData record = new AnimalData();
+                record.setId(i);
+                record.setBodyWeight(i * 10.0);
+                records.add(record);
+            }
+
+            BatchUpdate<AnimalData> batchUpdate = updateBatch(records)
+                    .into(animalData)
+                    .set(bodyWeight).toProperty("bodyWeight")
+                    .set(brainWeight).toConstant("1.5")
+                    .where(id, isEqualToProperty("id"))
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            batchUpdate.updateStatements().forEach(mapper::update);
+            mapper.flush();
+
+            SelectStatementProvider selectStatement = select(id, animalName, bodyWeight, brainWeight)
+                    .from(animalData)
+                    .where(id, isIn(1, 2, 3))
+                    .orderBy(id)
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            List<AnimalData> animals = mapper.selectMany(selectStatement);
+            assertThat(animals).extracting(AnimalData::getBodyWeight).containsExactly(10.0, 20.0, 30.0);
+            assertThat(animals).extracting(AnimalData::getBrainWeight).containsExactly(1.5, 1.5, 1.5);
+
+            BatchDelete<AnimalData> batchDelete = deleteBatch(records)
+                    .from(animalData)
+                    .where(id, isEqualToProperty("id"))
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            batchDelete.deleteStatements().forEach(mapper::delete);
+            mapper.flush();
+
+            assertThat(mapper.selectMany(selectStatement)).isEmpty();
+        }
+    }
+
+    @Test
+    void testMergeUpsert() {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+            AnimalDataMapper mapper = sqlSession.getMapper(AnimalDataMapper.class);
+            AnimalData existing = new AnimalData();
+            existing.setId(1);
+            existing.setAnimalName("Updated Shrew");
+            existing.setBodyWeight(0.2);
+            existing.setBrainWeight(0.3);
+
+            AnimalData added = new AnimalData();
+            added.setId(100);
+            added.setAnimalName("Pygmy Marmoset");
+            added.setBodyWeight(0.1);
+            added.setBrainWeight(0.004);
+
+            MultiRowInsertStatementProvider<AnimalData> upsertStatement = insertMultiple(existing, added)
+                    .into(animalData)
+                    .map(id).toProperty("id")
+                    .map(animalName).toProperty("animalName")
+                    .map(bodyWeight).toProperty("bodyWeight")
+                    .map(brainWeight).toProperty("brainWeight")
+                    .onConflict(id)
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3, UpsertDialect.MERGE);
+
+            int rows = mapper.insertMultiple(upsertStatement);
+            assertThat(rows).isEqualTo(2);
+
+            InsertStatementProvider<AnimalData> singleUpsert = insert(added)
+                    .into(animalData)
+                    .map(id).toProperty("id")
+                    .map(animalName).toStringConstant("Ignored")
+                    .map(bodyWeight).toProperty("bodyWeight")
+                    .map(brainWeight).toProperty("brainWeight")
+                    .onConflict(id)
+                    .doNothing()
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3, UpsertDialect.MERGE);
+
+            rows = mapper.insert(singleUpsert);
+            assertThat(rows).isZero();
+
+            SelectStatementProvider selectStatement = select(id, animalName, bodyWeight, brainWeight)
+                    .from(animalData)
+                    .where(id, isIn(1, 100))
+                    .orderBy(id)
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            List<AnimalData> animals = mapper.selectMany(selectStatement);
+            assertThat(animals).extracting(AnimalData::getAnimalName)
+                    .containsExactly("Updated Shrew", "Pygmy Marmoset");
+            assertThat(animals).extracting(AnimalData::getBodyWeight).containsExactly(0.2, 0.1);
+        }
+    }
+
     @Test
     void testOrderByAndDistinct() {
         try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
@@ -19,16 +19,19 @@ import static examples.animal.data.AnimalDataDynamicSqlSupport.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mybatis.dynamic.sql.SqlBuilder.*;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
 import org.apache.ibatis.jdbc.ScriptRunner;
 import org.apache.ibatis.mapping.Environment;
@@ -40,9 +43,11 @@ import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
 import org.assertj.core.data.Percentage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.BasicColumn;
 import org.mybatis.dynamic.sql.render.RenderingStrategies;
 import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
 import org.mybatis.dynamic.sql.util.mybatis3.CommonSelectMapper;
+import org.mybatis.dynamic.sql.util.mybatis3.MyBatis3Utils;
 
 class CommonSelectMapperTest {
 
@@ -158,6 +163,114 @@ class CommonSelectMapperTest {
         }
     }
 
+    @Test
+    void testGeneralSelectManyMappedRowsCursor() throws IOException {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+            CommonSelectMapper mapper = sqlSession.getMapper(CommonSelectMapper.class);
+            SelectStatementProvider selectStatement = select(id, animalName)
+                    .from(animalData)
+                    .where(id, isIn(1, 2))
+                    .orderBy(id)
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            List<Object> ids = new ArrayList<>();
+            try (Cursor<Map<String, Object>> rows = mapper.selectManyMappedRowsCursor(selectStatement)) {
+                rows.forEach(row -> ids.add(row.get("ID")));
+            }
+
+            assertThat(ids).containsExactly(1, 2);
+        }
+    }
+
+    @Test
+    void testGeneralSelectManyMappedRowsWithHandler() {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+            CommonSelectMapper mapper = sqlSession.getMapper(CommonSelectMapper.class);
+            SelectStatementProvider selectStatement = select(id, animalName)
+                    .from(animalData)
+                    .where(id, isIn(1, 2))
+                    .orderBy(id)
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            List<Object> names = new ArrayList<>();
+            mapper.selectManyMappedRowsWithHandler(selectStatement,
+                    context -> names.add(context.getResultObject().get("ANIMAL_NAME")));
+
+            assertThat(names).containsExactly("Lesser short-tailed shrew", "Little brown bat");
+        }
+    }
+
+    @Test
+    void testGeneralSelectManyWithConsumer() {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+            CommonSelectMapper mapper = sqlSession.getMapper(CommonSelectMapper.class);
+            SelectStatementProvider selectStatement = select(id, animalName, bodyWeight, brainWeight)
+                    .from(animalData)
+                    .where(id, isIn(1, 2))
+                    .orderBy(id)
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            List<AnimalData> rows = new ArrayList<>();
+            mapper.selectMany(selectStatement, rowMapper, rows::add);
+
+            assertThat(rows).extracting(AnimalData::getId).containsExactly(1, 2);
+            assertThat(rows.get(1).getAnimalName()).isEqualTo("Little brown bat");
+            assertThat(rows.get(1).getBodyWeight()).isEqualTo(0.25);
+        }
+    }
+
+    @Test
+    void testSelectForEachWithUtils() {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+            CommonSelectMapper mapper = sqlSession.getMapper(CommonSelectMapper.class);
+
+            List<AnimalData> rows = new ArrayList<>();
+            MyBatis3Utils.selectForEach(s -> mapper.selectMany(s, rowMapper, rows::add),
+                    BasicColumn.columnList(id, animalName, bodyWeight, brainWeight), animalData,
+                    c -> c.where(id, isLessThan(4)).orderBy(id));
+
+            assertThat(rows).extracting(AnimalData::getId).containsExactly(1, 2, 3);
+        }
+    }
+
+    @Test
+    void testSelectManyIntegersCursorWithUtils() throws IOException {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+            CommonSelectMapper mapper = sqlSession.getMapper(CommonSelectMapper.class);
+
+            List<Integer> ids = new ArrayList<>();
+            try (Cursor<Integer> cursor = MyBatis3Utils.selectCursor(mapper::selectManyIntegersCursor,
+                    BasicColumn.columnList(id), animalData, c -> c.where(id, isLessThan(4)).orderBy(id))) {
+                cursor.forEach(ids::add);
+            }
+
+            assertThat(ids).containsExactly(1, 2, 3);
+        }
+    }
+
+    @Test
+    void testSelectManyStringsCursor() throws IOException {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+            CommonSelectMapper mapper = sqlSession.getMapper(CommonSelectMapper.class);
+            SelectStatementProvider selectStatement = select(animalName)
+                    .from(animalData)
+                    .where(id, isIn(1, 2))
+                    .orderBy(id)
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            List<String> names = new ArrayList<>();
+            try (Cursor<String> cursor = mapper.selectManyStringsCursor(selectStatement)) {
+                cursor.forEach(names::add);
+            }
+
+            assertThat(names).containsExactly("Lesser short-tailed shrew", "Little brown bat");
+        }
+    }
+
     @Test
     void testSelectOneBigDecimal() {
         try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
@@ -0,0 +1,319 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package examples.animal.data;
+
+import static examples.animal.data.AnimalDataDynamicSqlSupport.*;
+import static examples.animal.data.KeyListDynamicSqlSupport.keyList;
+import static examples.animal.data.KeyListDynamicSqlSupport.keyValue;
+import static examples.animal.data.KeyListDynamicSqlSupport.sharedKeyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
+import org.apache.ibatis.jdbc.ScriptRunner;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.util.LargeInListStrategy;
+import org.mybatis.dynamic.sql.util.mybatis3.CommonCountMapper;
+import org.mybatis.dynamic.sql.util.mybatis3.MyBatis3Utils;
+import org.mybatis.dynamic.sql.where.condition.IsIn;
+import org.mybatis.dynamic.sql.where.condition.IsInChunked;
+
+class LargeInListTest {
+
+    private static final String JDBC_URL = "jdbc:hsqldb:mem:aname";
+    private static final String JDBC_DRIVER = "org.hsqldb.jdbcDriver";
+
+    private final LargeInListStrategy<Integer> strategy = LargeInListStrategy.withTemporaryKeyTable(keyList, keyValue)
+            .withMaximumListSize(10)
+            .withKeyTableThreshold(30)
+            .withKeyBatchSize(7)
+            .build();
+
+    private SqlSessionFactory sqlSessionFactory;
+
+    @BeforeEach
+    void setup() throws Exception {
+        Class.forName(JDBC_DRIVER);
+        InputStream is = getClass().getResourceAsStream("/examples/animal/data/CreateAnimalData.sql");
+        try (Connection connection = DriverManager.getConnection(JDBC_URL, "sa", "")) {
+            ScriptRunner sr = new ScriptRunner(connection);
+            sr.setLogWriter(null);
+            sr.runScript(new InputStreamReader(is));
+        }
+
+        UnpooledDataSource ds = new UnpooledDataSource(JDBC_DRIVER, JDBC_URL, "sa", "");
+        Environment environment = new Environment("test", new JdbcTransactionFactory(), ds);
+        Configuration config = new Configuration(environment);
+        config.addMapper(AnimalDataMapper.class);
+        config.addMapper(CommonCountMapper.class);
+        config.addMapper(KeyListMapper.class);
+        sqlSessionFactory = new SqlSessionFactoryBuilder().build(config);
+    }
+
+    @Test
+    void testChunkedRendering() {
+        SelectStatementProvider selectStatement = select(id)
+                .from(animalData)
+                .where(id, IsInChunked.of(ids(1, 5), 2))
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertThat(selectStatement.getSelectStatement()).isEqualTo(
+                "select id from AnimalData where (id in (:p1,:p2) or id in (:p3,:p4) or id in (:p5))");
+        assertThat(selectStatement.getParameters()).hasSize(5);
+    }
+
+    @Test
+    void testChunkedRenderingWithSingleChunk() {
+        SelectStatementProvider selectStatement = select(id)
+                .from(animalData)
+                .where(id, IsInChunked.of(ids(1, 2), 2))
+                .and(animalName, isNotNull())
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertThat(selectStatement.getSelectStatement()).isEqualTo(
+                "select id from AnimalData where id in (:p1,:p2) and animal_name is not null");
+    }
+
+    @Test
+    void testConditionChoice() {
+        assertThat(strategy.inCondition(ids(1, 10))).isExactlyInstanceOf(IsIn.class);
+        assertThat(strategy.inCondition(ids(1, 11))).isExactlyInstanceOf(IsInChunked.class);
+        assertThat(strategy.usesKeyTable(30)).isFalse();
+        assertThat(strategy.usesKeyTable(31)).isTrue();
+    }
+
+    @Test
+    void testSmallListUsesInList() {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+            List<String> statements = new ArrayList<>();
+            List<AnimalData> animals = selectWithKeys(sqlSession, ids(1, 10), statements);
+
+            assertThat(animals).hasSize(10);
+            assertThat(statements).containsExactly(
+                    "select id, animal_name from AnimalData where id in (#{parameters.p1,jdbcType=INTEGER},"
+                            + "#{parameters.p2,jdbcType=INTEGER},#{parameters.p3,jdbcType=INTEGER},"
+                            + "#{parameters.p4,jdbcType=INTEGER},#{parameters.p5,jdbcType=INTEGER},"
+                            + "#{parameters.p6,jdbcType=INTEGER},#{parameters.p7,jdbcType=INTEGER},"
+                            + "#{parameters.p8,jdbcType=INTEGER},#{parameters.p9,jdbcType=INTEGER},"
+                            + "#{parameters.p10,jdbcType=INTEGER}) order by id");
+        }
+    }
+
+    @Test
+    void testMediumListIsChunked() {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+            List<String> statements = new ArrayList<>();
+            List<AnimalData> animals = selectWithKeys(sqlSession, ids(11, 35), statements);
+
+            assertThat(animals).hasSize(25);
+            assertThat(animals.get(0).getId()).isEqualTo(11);
+            assertThat(statements.get(0)).containsSubsequence("(id in (", ") or id in (", ") or id in (", "))");
+            assertThat(keyCount(sqlSession)).isZero();
+        }
+    }
+
+    @Test
+    void testLargeListUsesKeyTable() {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+            List<String> statements = new ArrayList<>();
+            List<Integer> keys = ids(20, 1000);
+            List<AnimalData> animals = selectWithKeys(sqlSession, keys, statements);
+
+            assertThat(animals).hasSize(46);
+            assertThat(animals.get(0).getId()).isEqualTo(20);
+            assertThat(statements).containsExactly(
+                    "select id, animal_name from AnimalData where id in (select key_value from KeyList) order by id");
+            assertThat(keyCount(sqlSession)).isZero();
+        }
+    }
+
+    @Test
+    void testKeysAreInsertedWithMultipleRowInserts() {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+            KeyListMapper keyMapper = sqlSession.getMapper(KeyListMapper.class);
+            List<String> inserts = new ArrayList<>();
+            List<String> deletes = new ArrayList<>();
+
+            long count = MyBatis3Utils.executeWithKeys(strategy, ids(1, 33), condition -> {
+                assertThat(keyCount(sqlSession)).isEqualTo(33);
+                return 0L;
+            }, insertStatement -> {
+                inserts.add(insertStatement.getInsertStatement());
+                return keyMapper.insertMultiple(insertStatement);
+            }, deleteStatement -> {
+                deletes.add(deleteStatement.getDeleteStatement());
+                return keyMapper.delete(deleteStatement);
+            });
+
+            assertThat(count).isZero();
+            assertThat(inserts).hasSize(5);
+            assertThat(inserts.get(4)).isEqualTo("insert into KeyList (key_value) values "
+                    + "(#{records[0].key,jdbcType=INTEGER}), (#{records[1].key,jdbcType=INTEGER}), "
+                    + "(#{records[2].key,jdbcType=INTEGER}), (#{records[3].key,jdbcType=INTEGER}), "
+                    + "(#{records[4].key,jdbcType=INTEGER})");
+            assertThat(deletes).hasSize(5);
+            assertThat(deletes.get(0)).startsWith("delete from KeyList where key_value in (");
+            assertThat(keyCount(sqlSession)).isZero();
+        }
+    }
+
+    @Test
+    void testCleanupOnlyDeletesKeysOfThisCall() {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+            AnimalDataMapper mapper = sqlSession.getMapper(AnimalDataMapper.class);
+            mapper.generalInsert(insertInto(keyList).set(keyValue).toValue(1000).build()
+                    .render(RenderingStrategies.MYBATIS3));
+            KeyListMapper keyMapper = sqlSession.getMapper(KeyListMapper.class);
+
+            MyBatis3Utils.executeWithKeys(strategy, ids(1, 40), condition -> 0, keyMapper::insertMultiple,
+                    keyMapper::delete);
+
+            assertThat(keyCount(sqlSession)).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void testKeysAreDeletedWhenStatementFails() {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+            KeyListMapper keyMapper = sqlSession.getMapper(KeyListMapper.class);
+
+            assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() ->
+                    MyBatis3Utils.executeWithKeys(strategy, ids(1, 40), condition -> {
+                        throw new IllegalStateException("statement failed");
+                    }, keyMapper::insertMultiple, keyMapper::delete)
+            ).withMessage("statement failed");
+
+            assertThat(keyCount(sqlSession)).isZero();
+        }
+    }
+
+    @Test
+    void testCleanupFailureIsSuppressed() {
+        List<String> inserts = new ArrayList<>();
+
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() ->
+                strategy.execute(ids(1, 40), condition -> {
+                    throw new IllegalStateException("statement failed");
+                }, RenderingStrategies.MYBATIS3, insertStatement -> inserts.add(insertStatement.getInsertStatement()),
+                        deleteStatement -> {
+                            throw new IllegalArgumentException("cleanup failed");
+                        })
+        ).withMessage("statement failed")
+                .satisfies(e -> assertThat(e.getSuppressed()).extracting(Throwable::getMessage)
+                        .containsExactly("cleanup failed"));
+
+        assertThat(inserts).hasSize(6);
+    }
+
+    @Test
+    void testSharedKeyTableWithCallTag() {
+        LargeInListStrategy<Integer> taggedStrategy = LargeInListStrategy
+                .withKeyTable(sharedKeyList, sharedKeyList.keyValue, sharedKeyList.callTag)
+                .withKeyTableThreshold(30)
+                .withKeyBatchSize(7)
+                .build();
+
+        try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+            AnimalDataMapper mapper = sqlSession.getMapper(AnimalDataMapper.class);
+            KeyListMapper keyMapper = sqlSession.getMapper(KeyListMapper.class);
+            // keys written by another call
+            mapper.generalInsert(insertInto(sharedKeyList)
+                    .set(sharedKeyList.keyValue).toValue(1)
+                    .set(sharedKeyList.callTag).toValue("another call")
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3));
+
+            List<String> statements = new ArrayList<>();
+            List<AnimalData> animals = MyBatis3Utils.executeWithKeys(taggedStrategy, ids(20, 60), condition -> {
+                SelectStatementProvider selectStatement = select(id, animalName)
+                        .from(animalData)
+                        .where(id, condition)
+                        .orderBy(id)
+                        .build()
+                        .render(RenderingStrategies.MYBATIS3);
+                statements.add(selectStatement.getSelectStatement());
+                return mapper.selectMany(selectStatement);
+            }, keyMapper::insertMultiple, keyMapper::delete);
+
+            assertThat(animals).hasSize(41);
+            assertThat(animals.get(0).getId()).isEqualTo(20);
+            assertThat(statements).containsExactly("select id, animal_name from AnimalData where id in "
+                    + "(select key_value from SharedKeyList where call_tag = #{parameters.p1,jdbcType=VARCHAR}) "
+                    + "order by id");
+
+            CommonCountMapper countMapper = sqlSession.getMapper(CommonCountMapper.class);
+            assertThat(countMapper.count(countFrom(sharedKeyList).build().render(RenderingStrategies.MYBATIS3)))
+                    .isEqualTo(1);
+        }
+    }
+
+    @Test
+    void testLargeListUsesKeyTableInBatchSession() {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession(ExecutorType.BATCH)) {
+            List<String> statements = new ArrayList<>();
+            List<AnimalData> animals = selectWithKeys(sqlSession, ids(1, 100), statements);
+
+            assertThat(animals).hasSize(65);
+            assertThat(keyCount(sqlSession)).isZero();
+        }
+    }
+
+    private List<AnimalData> selectWithKeys(SqlSession sqlSession, List<Integer> keys, List<String> statements) {
+        AnimalDataMapper mapper = sqlSession.getMapper(AnimalDataMapper.class);
+        KeyListMapper keyMapper = sqlSession.getMapper(KeyListMapper.class);
+        return MyBatis3Utils.executeWithKeys(strategy, keys, condition -> {
+            SelectStatementProvider selectStatement = select(id, animalName)
+                    .from(animalData)
+                    .where(id, condition)
+                    .orderBy(id)
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+            statements.add(selectStatement.getSelectStatement());
+            return mapper.selectMany(selectStatement);
+        }, keyMapper::insertMultiple, keyMapper::delete);
+    }
+
+    private long keyCount(SqlSession sqlSession) {
+        CommonCountMapper mapper = sqlSession.getMapper(CommonCountMapper.class);
+        return mapper.count(countFrom(keyList).build().render(RenderingStrategies.MYBATIS3));
+    }
+
+    private static List<Integer> ids(int from, int to) {
+        return IntStream.rangeClosed(from, to).boxed().collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,448 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package examples.jdbc;
+
+import static examples.spring.KeyListDynamicSqlSupport.keyList;
+import static examples.spring.KeyListDynamicSqlSupport.keyValue;
+import static examples.spring.PersonDynamicSqlSupport.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import examples.spring.LastName;
+import examples.spring.PersonRecord;
+import org.apache.ibatis.jdbc.ScriptRunner;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.BindParameter;
+import org.mybatis.dynamic.sql.insert.BatchInsertModel;
+import org.mybatis.dynamic.sql.insert.ChunkedBatchInsertModel;
+import org.mybatis.dynamic.sql.insert.InsertModel;
+import org.mybatis.dynamic.sql.insert.MultiRowInsertLimits;
+import org.mybatis.dynamic.sql.insert.MultiRowInsertModel;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.render.PreparedSelect;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.util.Buildable;
+import org.mybatis.dynamic.sql.util.jdbc.JdbcExecutor;
+import org.mybatis.dynamic.sql.util.jdbc.RowMapper;
+
+class PersonJdbcExecutorTest {
+
+    private static final String JDBC_URL = "jdbc:hsqldb:mem:jdbcexecutor";
+    private static final String JDBC_DRIVER = "org.hsqldb.jdbcDriver";
+
+    private static final RowMapper<PersonRecord> personRowMapper = (rs, rowNum) -> {
+        PersonRecord row = new PersonRecord();
+        row.setId(rs.getInt(1));
+        row.setFirstName(rs.getString(2));
+        row.setLastName(LastName.of(rs.getString(3)));
+        row.setBirthDate(rs.getTimestamp(4));
+        row.setEmployed("Yes".equals(rs.getString(5)));
+        row.setOccupation(rs.getString(6));
+        row.setAddressId(rs.getInt(7));
+        return row;
+    };
+
+    private Connection connection;
+    private final AtomicInteger prepareCount = new AtomicInteger();
+
+    @BeforeEach
+    void setup() throws Exception {
+        Class.forName(JDBC_DRIVER);
+        InputStream is = getClass().getResourceAsStream("/examples/simple/CreateSimpleDB.sql");
+        try (Connection c = DriverManager.getConnection(JDBC_URL, "sa", "")) {
+            ScriptRunner sr = new ScriptRunner(c);
+            sr.setLogWriter(null);
+            sr.runScript(new InputStreamReader(is));
+        }
+        connection = DriverManager.getConnection(JDBC_URL, "sa", "");
+    }
+
+    @AfterEach
+    void teardown() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    void testSelect() throws SQLException {
+        try (JdbcExecutor executor = JdbcExecutor.of(connection)) {
+            List<PersonRecord> rows = executor.selectList(
+                    select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                            .from(person)
+                            .where(id, isEqualTo(1))
+                            .or(occupation, isNull())
+                            .orderBy(id),
+                    personRowMapper);
+
+            assertThat(rows).extracting(PersonRecord::getId).containsExactly(1, 3, 6);
+        }
+    }
+
+    @Test
+    void testSelectWithConverters() throws SQLException {
+        try (JdbcExecutor executor = JdbcExecutor.of(connection)) {
+            List<PersonRecord> rows = executor.selectList(
+                    select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                            .from(person)
+                            .where(lastName, isEqualTo(LastName.of("Rubble")))
+                            .and(employed, isEqualTo(true))
+                            .orderBy(id),
+                    personRowMapper);
+
+            assertThat(rows).extracting(PersonRecord::getId).containsExactly(4, 5);
+        }
+    }
+
+    @Test
+    void testSelectOne() throws SQLException {
+        try (JdbcExecutor executor = JdbcExecutor.of(connection)) {
+            Optional<PersonRecord> row = executor.selectOne(
+                    select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                            .from(person)
+                            .where(id, isEqualTo(4)),
+                    personRowMapper);
+
+            assertThat(row).hasValueSatisfying(r -> assertThat(r.getFirstName()).isEqualTo("Barney"));
+
+            row = executor.selectOne(
+                    select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                            .from(person)
+                            .where(id, isEqualTo(40)),
+                    personRowMapper);
+
+            assertThat(row).isEmpty();
+        }
+    }
+
+    @Test
+    void testSelectOneTooManyRows() throws SQLException {
+        try (JdbcExecutor executor = JdbcExecutor.of(connection)) {
+            SelectStatementProvider selectStatement = select(id, firstName, lastName, birthDate, employed,
+                    occupation, addressId)
+                    .from(person)
+                    .where(id, isLessThan(3))
+                    .build()
+                    .render(RenderingStrategies.JDBC_POSITIONAL);
+
+            assertThatExceptionOfType(SQLException.class)
+                    .isThrownBy(() -> executor.selectOne(selectStatement, personRowMapper))
+                    .withMessage("Expected one row, but the statement returned 2");
+        }
+    }
+
+    @Test
+    void testCount() throws SQLException {
+        try (JdbcExecutor executor = JdbcExecutor.of(connection)) {
+            assertThat(executor.count(countFrom(person).where(id, isIn(1, 2, 3)))).isEqualTo(3);
+        }
+    }
+
+    @Test
+    void testGeneralInsertUpdateAndDelete() throws SQLException {
+        try (JdbcExecutor executor = JdbcExecutor.of(connection)) {
+            int rows = executor.generalInsert(insertInto(person)
+                    .set(id).toValue(100)
+                    .set(firstName).toValue("Joe")
+                    .set(lastName).toValue(LastName.of("Jones"))
+                    .set(birthDate).toValue(new Date())
+                    .set(employed).toValue(true)
+                    .set(occupation).toValue("Developer")
+                    .set(addressId).toValue(1));
+            assertThat(rows).isEqualTo(1);
+
+            rows = executor.update(update(person)
+                    .set(occupation).equalToOrNull((String) null)
+                    .set(firstName).equalTo("Joseph")
+                    .where(id, isEqualTo(100)));
+            assertThat(rows).isEqualTo(1);
+            assertThat(executor.count(countFrom(person).where(occupation, isNull()).and(firstName,
+                    isEqualTo("Joseph")))).isEqualTo(1);
+
+            rows = executor.delete(deleteFrom(person).where(id, isEqualTo(100)));
+            assertThat(rows).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void testRecordInserts() throws SQLException {
+        try (JdbcExecutor executor = JdbcExecutor.of(connection)) {
+            Buildable<InsertModel<PersonRecord>> insertStatement = insert(newPerson(100)).into(person)
+                    .map(id).toProperty("id")
+                    .map(firstName).toProperty("firstName")
+                    .map(lastName).toProperty("lastNameAsString")
+                    .map(birthDate).toProperty("birthDate")
+                    .map(employed).toProperty("employedAsString")
+                    .map(occupation).toPropertyWhenPresent("occupation", () -> null)
+                    .map(addressId).toProperty("addressId");
+            assertThat(executor.insert(insertStatement)).isEqualTo(1);
+
+            Buildable<MultiRowInsertModel<PersonRecord>> multiRowStatement =
+                    insertMultiple(newPerson(101), newPerson(102)).into(person)
+                    .map(id).toProperty("id")
+                    .map(firstName).toProperty("firstName")
+                    .map(lastName).toProperty("lastNameAsString")
+                    .map(birthDate).toProperty("birthDate")
+                    .map(employed).toProperty("employedAsString")
+                    .map(occupation).toProperty("occupation")
+                    .map(addressId).toProperty("addressId");
+            assertThat(executor.insertMultiple(multiRowStatement)).isEqualTo(2);
+
+            Buildable<BatchInsertModel<PersonRecord>> batchStatement =
+                    insertBatch(newPerson(103), newPerson(104)).into(person)
+                    .map(id).toProperty("id")
+                    .map(firstName).toProperty("firstName")
+                    .map(lastName).toProperty("lastNameAsString")
+                    .map(birthDate).toProperty("birthDate")
+                    .map(employed).toProperty("employedAsString")
+                    .map(occupation).toProperty("occupation")
+                    .map(addressId).toProperty("addressId");
+            assertThat(executor.insertBatch(batchStatement)).containsExactly(1, 1);
+
+            List<PersonRecord> rows = executor.selectList(
+                    select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                            .from(person)
+                            .where(lastName, isEqualTo(LastName.of("Jones")))
+                            .orderBy(id),
+                    personRowMapper);
+            assertThat(rows).extracting(PersonRecord::getId).containsExactly(100, 101, 102, 103, 104);
+            assertThat(rows).extracting(PersonRecord::getOccupation).containsOnlyNulls();
+            assertThat(rows).extracting(PersonRecord::getEmployed).containsOnly(true);
+        }
+    }
+
+    @Test
+    void testInsertMultipleWithLimits() throws SQLException {
+        try (JdbcExecutor executor = JdbcExecutor.of(countingConnection())) {
+            Buildable<MultiRowInsertModel<PersonRecord>> insertStatement = insertMultiple(newPerson(100),
+                    newPerson(101), newPerson(102), newPerson(103), newPerson(104)).into(person)
+                    .map(id).toProperty("id")
+                    .map(firstName).toProperty("firstName")
+                    .map(lastName).toProperty("lastNameAsString")
+                    .map(birthDate).toProperty("birthDate")
+                    .map(employed).toProperty("employedAsString")
+                    .map(occupation).toNull()
+                    .map(addressId).toProperty("addressId");
+
+            // two rows in each statement - the first two statements have the same SQL
+            assertThat(executor.insertMultiple(insertStatement, MultiRowInsertLimits.maxParameters(12)))
+                    .isEqualTo(5);
+            assertThat(prepareCount).hasValue(2);
+        }
+    }
+
+    @Test
+    void testInsertBatchInChunks() throws SQLException {
+        try (JdbcExecutor executor = JdbcExecutor.of(countingConnection())) {
+            Buildable<ChunkedBatchInsertModel<PersonRecord>> insertStatement =
+                    insertBatch(Arrays.asList(newPerson(100), newPerson(101), newPerson(102)).iterator()).into(person)
+                    .map(id).toProperty("id")
+                    .map(firstName).toProperty("firstName")
+                    .map(lastName).toProperty("lastNameAsString")
+                    .map(birthDate).toProperty("birthDate")
+                    .map(employed).toProperty("employedAsString")
+                    .map(occupation).toNull()
+                    .map(addressId).toProperty("addressId")
+                    .withChunkSize(2);
+
+            List<int[]> chunks = new ArrayList<>();
+            assertThat(executor.insertBatch(insertStatement, chunks::add)).isEqualTo(3);
+            assertThat(chunks).extracting(c -> c.length).containsExactly(2, 1);
+            assertThat(prepareCount).hasValue(1);
+            assertThat(executor.count(countFrom(person).where(lastName, isEqualTo(LastName.of("Jones")))))
+                    .isEqualTo(3);
+        }
+    }
+
+    @Test
+    void testInsertSelect() throws SQLException {
+        // rows in the key table are deleted on commit
+        connection.setAutoCommit(false);
+        try (JdbcExecutor executor = JdbcExecutor.of(connection)) {
+            int rows = executor.insertSelect(insertInto(keyList)
+                    .withColumnList(keyValue)
+                    .withSelectStatement(select(id).from(person).where(id, isGreaterThan(3))));
+            assertThat(rows).isEqualTo(3);
+            assertThat(executor.count(countFrom(keyList))).isEqualTo(3);
+        } finally {
+            connection.rollback();
+        }
+    }
+
+    @Test
+    void testStatementReuse() throws SQLException {
+        try (JdbcExecutor executor = JdbcExecutor.of(countingConnection())) {
+            for (int i = 1; i <= 3; i++) {
+                assertThat(executor.count(countFrom(person).where(id, isEqualTo(i)))).isEqualTo(1);
+            }
+            assertThat(prepareCount).hasValue(1);
+
+            assertThat(executor.count(countFrom(person).where(id, isLessThan(3)))).isEqualTo(2);
+            assertThat(executor.count(countFrom(person).where(id, isEqualTo(4)))).isEqualTo(1);
+            assertThat(prepareCount).hasValue(3);
+        }
+    }
+
+    @Test
+    void testForEachParameterSet() throws SQLException {
+        BindParameter<LastName> lastNameParameter = bindParameter("lastName", LastName.class);
+        BindParameter<Integer> idParameter = bindParameter("id", Integer.class);
+
+        PreparedSelect selectStatement = select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                .from(person)
+                .where(lastName, isEqualTo(lastNameParameter))
+                .and(id, isGreaterThan(idParameter))
+                .orderBy(id)
+                .build()
+                .prepare(RenderingStrategies.JDBC_POSITIONAL);
+
+        List<Map<String, ?>> parameterSets = Arrays.asList(
+                parameters("Flintstone", 1),
+                parameters("Rubble", 0),
+                parameters("Jones", 0));
+
+        try (JdbcExecutor executor = JdbcExecutor.of(countingConnection())) {
+            List<List<PersonRecord>> results = executor.forEachParameterSet(selectStatement, parameterSets,
+                    personRowMapper);
+
+            assertThat(results).hasSize(3);
+            assertThat(results.get(0)).extracting(PersonRecord::getId).containsExactly(2, 3);
+            assertThat(results.get(1)).extracting(PersonRecord::getId).containsExactly(4, 5, 6);
+            assertThat(results.get(2)).isEmpty();
+            assertThat(prepareCount).hasValue(1);
+        }
+    }
+
+    @Test
+    void testDataSourceConnectionIsClosed() throws SQLException {
+        List<Connection> connections = new ArrayList<>();
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (method.getName().equals("getConnection")) {
+                Connection c = DriverManager.getConnection(JDBC_URL, "sa", "");
+                connections.add(c);
+                return c;
+            }
+            throw new UnsupportedOperationException(method.getName());
+        };
+        DataSource dataSource = (DataSource) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { DataSource.class }, handler);
+
+        try (JdbcExecutor executor = JdbcExecutor.of(dataSource)) {
+            assertThat(connections).isEmpty();
+            assertThat(executor.count(countFrom(person))).isEqualTo(6);
+            assertThat(executor.count(countFrom(person))).isEqualTo(6);
+            assertThat(connections).hasSize(1);
+        }
+        assertThat(connections.get(0).isClosed()).isTrue();
+    }
+
+    @Test
+    void testCloseFailureDoesNotHideStatementFailure() {
+        SQLException closeFailure = new SQLException("close failed");
+        InvocationHandler handler = (proxy, method, args) -> {
+            try {
+                Object result = method.invoke(connection, args);
+                if (!method.getName().equals("prepareStatement")) {
+                    return result;
+                }
+                PreparedStatement ps = (PreparedStatement) result;
+                return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { PreparedStatement.class },
+                        (psProxy, psMethod, psArgs) -> {
+                            if (psMethod.getName().equals("close")) {
+                                ps.close();
+                                throw closeFailure;
+                            }
+                            try {
+                                return psMethod.invoke(ps, psArgs);
+                            } catch (InvocationTargetException e) {
+                                throw e.getCause();
+                            }
+                        });
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        };
+        Connection failingConnection = (Connection) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { Connection.class }, handler);
+
+        JdbcExecutor executor = JdbcExecutor.of(failingConnection);
+        // a duplicate key fails when the statement executes
+        assertThatExceptionOfType(SQLException.class)
+                .isThrownBy(() -> executor.generalInsert(insertInto(person)
+                        .set(id).toValue(1)
+                        .set(firstName).toValue("Joe")
+                        .set(lastName).toValue(LastName.of("Jones"))
+                        .set(birthDate).toValue(new Date())
+                        .set(employed).toValue(true)
+                        .set(addressId).toValue(1)))
+                .isNotSameAs(closeFailure)
+                .satisfies(e -> assertThat(e.getSuppressed()).containsExactly(closeFailure));
+    }
+
+    private Map<String, ?> parameters(String lastName, int id) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("lastName", LastName.of(lastName));
+        parameters.put("id", id);
+        return parameters;
+    }
+
+    private PersonRecord newPerson(int id) {
+        PersonRecord row = new PersonRecord();
+        row.setId(id);
+        row.setFirstName("Joe");
+        row.setLastName(LastName.of("Jones"));
+        row.setBirthDate(new Date());
+        row.setEmployed(true);
+        row.setAddressId(1);
+        return row;
+    }
+
+    private Connection countingConnection() {
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (method.getName().equals("prepareStatement")) {
+                prepareCount.incrementAndGet();
+            }
+            try {
+                return method.invoke(connection, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        };
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Connection.class },
+                handler);
+    }
+}
@@ -0,0 +1,300 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package examples.paging;
+
+import static examples.animal.data.AnimalDataDynamicSqlSupport.animalData;
+import static examples.animal.data.AnimalDataDynamicSqlSupport.animalName;
+import static examples.animal.data.AnimalDataDynamicSqlSupport.bodyWeight;
+import static examples.animal.data.AnimalDataDynamicSqlSupport.id;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mybatis.dynamic.sql.SqlBuilder.isGreaterThan;
+import static org.mybatis.dynamic.sql.SqlBuilder.isLessThan;
+import static org.mybatis.dynamic.sql.SqlBuilder.select;
+import static org.mybatis.dynamic.sql.SqlBuilder.sortColumn;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
+import org.apache.ibatis.jdbc.ScriptRunner;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.ColumnAndConditionCriterion;
+import org.mybatis.dynamic.sql.CriteriaGroup;
+import org.mybatis.dynamic.sql.ExistsCriterion;
+import org.mybatis.dynamic.sql.SqlCriterionVisitor;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.Keyset;
+import org.mybatis.dynamic.sql.select.SimpleSortSpecification;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+
+import examples.animal.data.AnimalData;
+import examples.animal.data.AnimalDataMapper;
+
+class KeysetPaginationTest {
+
+    private static final String JDBC_URL = "jdbc:hsqldb:mem:aname";
+    private static final String JDBC_DRIVER = "org.hsqldb.jdbcDriver";
+
+    private SqlSessionFactory sqlSessionFactory;
+
+    @BeforeEach
+    void setup() throws Exception {
+        Class.forName(JDBC_DRIVER);
+        InputStream is = getClass().getResourceAsStream("/examples/animal/data/CreateAnimalData.sql");
+        try (Connection connection = DriverManager.getConnection(JDBC_URL, "sa", "")) {
+            ScriptRunner sr = new ScriptRunner(connection);
+            sr.setLogWriter(null);
+            sr.runScript(new InputStreamReader(is));
+        }
+
+        UnpooledDataSource ds = new UnpooledDataSource(JDBC_DRIVER, JDBC_URL, "sa", "");
+        Environment environment = new Environment("test", new JdbcTransactionFactory(), ds);
+        Configuration config = new Configuration(environment);
+        config.addMapper(AnimalDataMapper.class);
+        sqlSessionFactory = new SqlSessionFactoryBuilder().build(config);
+    }
+
+    @Test
+    void testSeekAfterSingleColumn() {
+        SelectStatementProvider selectStatement = select(id, animalName)
+                .from(animalData)
+                .orderBy(id)
+                .seekAfter(20)
+                .limit(3)
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        String expected = "select id, animal_name from AnimalData"
+                + " where id > #{parameters.p1,jdbcType=INTEGER}"
+                + " order by id limit #{parameters.p2}";
+        assertThat(selectStatement.getSelectStatement()).isEqualTo(expected);
+        assertThat(selectStatement.getParameters()).containsEntry("p1", 20);
+
+        try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+            AnimalDataMapper mapper = sqlSession.getMapper(AnimalDataMapper.class);
+            List<AnimalData> rows = mapper.selectMany(selectStatement);
+            assertThat(rows).extracting(AnimalData::getId).containsExactly(21, 22, 23);
+        }
+    }
+
+    @Test
+    void testSeekAfterMixedDirections() {
+        SelectStatementProvider selectStatement = select(id, animalName, bodyWeight)
+                .from(animalData, "a")
+                .where(id, isLessThan(50))
+                .or(id, isGreaterThan(60))
+                .orderBy(bodyWeight.descending(), id)
+                .seekAfter(2.5, 10)
+                .limit(5)
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        String expected = "select a.id, a.animal_name, a.body_weight from AnimalData a"
+                + " where (a.id < #{parameters.p1,jdbcType=INTEGER} or a.id > #{parameters.p2,jdbcType=INTEGER})"
+                + " and (a.body_weight <= #{parameters.p3,jdbcType=DOUBLE}"
+                + " and (a.body_weight < #{parameters.p4,jdbcType=DOUBLE}"
+                + " or (a.body_weight = #{parameters.p5,jdbcType=DOUBLE} and a.id > #{parameters.p6,jdbcType=INTEGER})))"
+                + " order by body_weight DESC, id limit #{parameters.p7}";
+        assertThat(selectStatement.getSelectStatement()).isEqualTo(expected);
+        assertThat(selectStatement.getParameters()).containsEntry("p3", 2.5)
+                .containsEntry("p4", 2.5)
+                .containsEntry("p5", 2.5)
+                .containsEntry("p6", 10);
+    }
+
+    @Test
+    void testSeekAfterThreeColumns() {
+        SelectStatementProvider selectStatement = select(id)
+                .from(animalData)
+                .orderBy(animalName, bodyWeight, id)
+                .seekAfter("Cat", 3.3, 7)
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        String expected = "select id from AnimalData"
+                + " where (animal_name >= :p1 and (animal_name > :p2"
+                + " or (animal_name = :p3 and body_weight > :p4)"
+                + " or (animal_name = :p5 and body_weight = :p6 and id > :p7)))"
+                + " order by animal_name, body_weight, id";
+        assertThat(selectStatement.getSelectStatement()).isEqualTo(expected);
+    }
+
+    @Test
+    void testPageThroughAllRows() {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+            AnimalDataMapper mapper = sqlSession.getMapper(AnimalDataMapper.class);
+
+            List<AnimalData> allRows = mapper.selectMany(select(id, animalName, bodyWeight)
+                    .from(animalData)
+                    .orderBy(bodyWeight.descending(), id)
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3));
+
+            List<AnimalData> pagedRows = new ArrayList<>();
+            List<AnimalData> page = mapper.selectMany(select(id, animalName, bodyWeight)
+                    .from(animalData)
+                    .orderBy(bodyWeight.descending(), id)
+                    .limit(7)
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3));
+            while (!page.isEmpty()) {
+                pagedRows.addAll(page);
+                Keyset keyset = Keyset.ofLastRow(page, AnimalData::getBodyWeight, AnimalData::getId)
+                        .orElseThrow(IllegalStateException::new);
+                page = mapper.selectMany(select(id, animalName, bodyWeight)
+                        .from(animalData)
+                        .orderBy(bodyWeight.descending(), id)
+                        .seekAfter(keyset)
+                        .limit(7)
+                        .build()
+                        .render(RenderingStrategies.MYBATIS3));
+            }
+
+            assertThat(pagedRows).hasSize(65);
+            assertThat(pagedRows).extracting(AnimalData::getId)
+                    .containsExactlyElementsOf(allRows.stream().map(AnimalData::getId).collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    void testSeekBefore() {
+        SelectStatementProvider selectStatement = select(id, animalName)
+                .from(animalData, "a")
+                .where(id, isLessThan(60))
+                .orderBy(sortColumn("a", id))
+                .seekBefore(20)
+                .limit(3)
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        String expected = "select a.id, a.animal_name from AnimalData a"
+                + " where a.id < #{parameters.p1,jdbcType=INTEGER}"
+                + " and a.id < #{parameters.p2,jdbcType=INTEGER}"
+                + " order by a.id DESC limit #{parameters.p3}";
+        assertThat(selectStatement.getSelectStatement()).isEqualTo(expected);
+    }
+
+    @Test
+    void testSeekBeforeReturnsNearestRowsFirst() {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+            AnimalDataMapper mapper = sqlSession.getMapper(AnimalDataMapper.class);
+
+            List<AnimalData> rows = mapper.selectMany(select(id, animalName, bodyWeight)
+                    .from(animalData)
+                    .orderBy(id.descending())
+                    .seekBefore(20)
+                    .limit(3)
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3));
+
+            assertThat(rows).extracting(AnimalData::getId).containsExactly(21, 22, 23);
+            Collections.reverse(rows);
+            assertThat(rows).extracting(AnimalData::getId).containsExactly(23, 22, 21);
+        }
+    }
+
+    @Test
+    void testKeysetOfLastRow() {
+        assertThat(Keyset.ofLastRow(Collections.<AnimalData> emptyList(), AnimalData::getId)).isEmpty();
+
+        AnimalData row = new AnimalData();
+        row.setId(3);
+        row.setAnimalName("Cat");
+        Optional<Keyset> keyset = Keyset.ofLastRow(Collections.singletonList(row), AnimalData::getAnimalName,
+                AnimalData::getId);
+        assertThat(keyset).hasValue(Keyset.of("Cat", 3));
+    }
+
+    @Test
+    void testKeysetValueCountMismatch() {
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() ->
+                select(id)
+                        .from(animalData)
+                        .orderBy(bodyWeight, id)
+                        .seekAfter(3)
+                        .build()
+        ).withMessage("A keyset must have one value for each order by column - there are 2 order by columns"
+                + " and 1 keyset values");
+    }
+
+    @Test
+    void testKeysetRequiresTableColumns() {
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() ->
+                select(id, animalName.as("name"))
+                        .from(animalData)
+                        .orderBy(SimpleSortSpecification.of("name"))
+                        .seekAfter("Cat")
+                        .build()
+        ).withMessage("Keyset pagination requires order by columns that are table columns."
+                + " \"name\" is not a table column");
+    }
+
+    @Test
+    void testKeysetNotSupportedForUnion() {
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() ->
+                select(id)
+                        .from(animalData)
+                        .where(id, isLessThan(5))
+                        .union()
+                        .select(id)
+                        .from(animalData)
+                        .where(id, isGreaterThan(60))
+                        .orderBy(id)
+                        .seekAfter(3)
+                        .build()
+        ).withMessage("Keyset pagination is not supported for union queries");
+    }
+
+    @Test
+    void testKeysetNullValue() {
+        assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> Keyset.of("Cat", null))
+                .withMessage("Keyset values cannot be null");
+    }
+
+    @Test
+    void testVisitorWithoutGroupSupport() {
+        SqlCriterionVisitor<String> visitor = new SqlCriterionVisitor<String>() {
+            @Override
+            public <T> String visit(ColumnAndConditionCriterion<T> criterion) {
+                return "column";
+            }
+
+            @Override
+            public String visit(ExistsCriterion criterion) {
+                return "exists";
+            }
+        };
+
+        CriteriaGroup group = new CriteriaGroup.Builder().build();
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> group.accept(visitor))
+                .withMessageStartingWith("Criteria groups are not supported by");
+    }
+}
@@ -33,6 +33,7 @@ import org.apache.ibatis.type.JdbcType;
 import org.mybatis.dynamic.sql.BasicColumn;
 import org.mybatis.dynamic.sql.delete.DeleteDSLCompleter;
 import org.mybatis.dynamic.sql.insert.GeneralInsertDSL;
+import org.mybatis.dynamic.sql.insert.MultiRowInsertLimits;
 import org.mybatis.dynamic.sql.select.CountDSLCompleter;
 import org.mybatis.dynamic.sql.select.SelectDSLCompleter;
 import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
@@ -128,6 +129,19 @@ public interface PersonMapper extends CommonCountMapper, CommonDeleteMapper, Com
         );
     }
 
+    default int insertMultiple(Collection<PersonRecord> records, MultiRowInsertLimits limits) {
+        return MyBatis3Utils.insertMultiple(this::insertMultiple, records, person, c ->
+            c.map(id).toProperty("id")
+            .map(firstName).toProperty("firstName")
+            .map(lastName).toProperty("lastName")
+            .map(birthDate).toProperty("birthDate")
+            .map(employed).toProperty("employed")
+            .map(occupation).toProperty("occupation")
+            .map(addressId).toProperty("addressId"),
+            limits
+        );
+    }
+
     default int insertSelective(PersonRecord record) {
         return MyBatis3Utils.insert(this::insert, record, person, c ->
             c.map(id).toPropertyWhenPresent("id", record::getId)
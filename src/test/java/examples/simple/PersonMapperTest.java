@@ -27,6 +27,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mybatis.dynamic.sql.delete.DeleteDSLCompleter;
 import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.insert.MultiRowInsertLimits;
 import org.mybatis.dynamic.sql.render.RenderingStrategies;
 import org.mybatis.dynamic.sql.select.CountDSLCompleter;
 import org.mybatis.dynamic.sql.select.SelectDSLCompleter;
@@ -41,6 +42,8 @@ import java.util.Date;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static examples.simple.PersonDynamicSqlSupport.addressId;
 import static examples.simple.PersonDynamicSqlSupport.birthDate;
@@ -372,6 +375,29 @@ class PersonMapperTest {
         }
     }
 
+    @Test
+    void testInsertMultipleWithLimits() {
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            PersonMapper mapper = session.getMapper(PersonMapper.class);
+
+            List<PersonRecord> records = IntStream.range(100, 125).mapToObj(i -> {
+                PersonRecord record = new PersonRecord();
+                record.setId(i);
+                record.setFirstName("Joe");
+                record.setLastName(LastName.of("Jones"));
+                record.setBirthDate(new Date());
+                record.setEmployed(true);
+                record.setAddressId(1);
+                return record;
+            }).collect(Collectors.toList());
+
+            // seven parameters in a row - so three rows in each statement
+            int rows = mapper.insertMultiple(records, MultiRowInsertLimits.maxParameters(21));
+            assertThat(rows).isEqualTo(25);
+            assertThat(mapper.count(c -> c.where(id, isGreaterThan(99)))).isEqualTo(25);
+        }
+    }
+
     @Test
     void testInsertSelective() {
         try (SqlSession session = sqlSessionFactory.openSession()) {
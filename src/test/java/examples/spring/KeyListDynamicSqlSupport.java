@@ -0,0 +1,34 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package examples.spring;
+
+import java.sql.JDBCType;
+
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+
+public final class KeyListDynamicSqlSupport {
+    public static final KeyList keyList = new KeyList();
+    public static final SqlColumn<Integer> keyValue = keyList.keyValue;
+
+    public static final class KeyList extends SqlTable {
+        public final SqlColumn<Integer> keyValue = column("key_value", JDBCType.INTEGER);
+
+        public KeyList() {
+            super("KeyList");
+        }
+    }
+}
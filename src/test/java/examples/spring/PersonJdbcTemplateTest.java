@@ -0,0 +1,234 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package examples.spring;
+
+import static examples.spring.KeyListDynamicSqlSupport.keyList;
+import static examples.spring.KeyListDynamicSqlSupport.keyValue;
+import static examples.spring.PersonDynamicSqlSupport.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.insert.BatchInsertModel;
+import org.mybatis.dynamic.sql.insert.GeneralInsertModel;
+import org.mybatis.dynamic.sql.insert.InsertModel;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.util.Buildable;
+import org.mybatis.dynamic.sql.util.LargeInListStrategy;
+import org.mybatis.dynamic.sql.util.spring.JdbcTemplateExtensions;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringJUnitConfig(classes = SpringConfiguration.class)
+@Transactional
+class PersonJdbcTemplateTest {
+
+    @Autowired
+    private JdbcTemplateExtensions template;
+
+    @Test
+    void testSelect() {
+        SelectStatementProvider selectStatement = select(id, firstName, lastName, birthDate, employed, occupation,
+                addressId)
+                .from(person)
+                .where(id, isEqualTo(1))
+                .or(occupation, isNull())
+                .orderBy(id)
+                .build()
+                .render(RenderingStrategies.JDBC_POSITIONAL);
+
+        assertThat(selectStatement.getSelectStatement()).isEqualTo("select id, first_name, last_name, birth_date, "
+                + "employed, occupation, address_id from Person where id = ? or occupation is null order by id");
+
+        List<PersonRecord> rows = template.selectList(selectStatement, PersonTemplateTest.personRowMapper);
+
+        assertThat(rows).extracting(PersonRecord::getId).containsExactly(1, 3, 6);
+    }
+
+    @Test
+    void testSelectWithUnionAndConverters() {
+        Buildable<SelectModel> selectStatement = select(id, firstName, lastName, birthDate, employed, occupation,
+                addressId)
+                .from(person)
+                .where(lastName, isEqualTo(LastName.of("Rubble")))
+                .and(employed, isEqualTo(true))
+                .union()
+                .select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                .from(person)
+                .where(id, isLessThan(3))
+                .orderBy(id)
+                .limit(3)
+                .offset(1);
+
+        List<PersonRecord> rows = template.selectList(selectStatement, PersonTemplateTest.personRowMapper);
+
+        assertThat(rows).extracting(PersonRecord::getId).containsExactly(2, 4, 5);
+    }
+
+    @Test
+    void testSelectOne() {
+        Optional<PersonRecord> row = template.selectOne(
+                select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                        .from(person)
+                        .where(id, isEqualTo(4)),
+                PersonTemplateTest.personRowMapper);
+
+        assertThat(row).hasValueSatisfying(r -> assertThat(r.getFirstName()).isEqualTo("Barney"));
+    }
+
+    @Test
+    void testSelectOneNoRows() {
+        Optional<PersonRecord> row = template.selectOne(
+                select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                        .from(person)
+                        .where(id, isEqualTo(40)),
+                PersonTemplateTest.personRowMapper);
+
+        assertThat(row).isEmpty();
+    }
+
+    @Test
+    void testCount() {
+        long rows = template.count(countFrom(person).where(id, isIn(1, 2, 3)));
+
+        assertThat(rows).isEqualTo(3);
+    }
+
+    @Test
+    void testGeneralInsertAndUpdateWithNulls() {
+        Buildable<GeneralInsertModel> insertStatement = insertInto(person)
+                .set(id).toValue(100)
+                .set(firstName).toValue("Joe")
+                .set(lastName).toValue(LastName.of("Jones"))
+                .set(birthDate).toValue(new Date())
+                .set(employed).toValue(true)
+                .set(occupation).toValue("Developer")
+                .set(addressId).toValue(1);
+
+        assertThat(template.generalInsert(insertStatement)).isEqualTo(1);
+
+        int rows = template.update(update(person)
+                .set(occupation).equalToOrNull((String) null)
+                .set(firstName).equalTo("Joseph")
+                .where(id, isEqualTo(100)));
+
+        assertThat(rows).isEqualTo(1);
+        assertThat(template.count(countFrom(person).where(occupation, isNull()).and(firstName, isEqualTo("Joseph"))))
+                .isEqualTo(1);
+    }
+
+    @Test
+    void testRecordInserts() {
+        PersonRecord record = new PersonRecord();
+        record.setId(100);
+        record.setFirstName("Joe");
+        record.setLastName(LastName.of("Jones"));
+        record.setBirthDate(new Date());
+        record.setEmployed(true);
+        record.setOccupation("Developer");
+        record.setAddressId(1);
+
+        Buildable<InsertModel<PersonRecord>> insertStatement = insert(record).into(person)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toProperty("lastNameAsString")
+                .map(birthDate).toProperty("birthDate")
+                .map(employed).toProperty("employedAsString")
+                .map(occupation).toProperty("occupation")
+                .map(addressId).toProperty("addressId");
+
+        assertThat(template.insert(insertStatement)).isEqualTo(1);
+
+        List<PersonRecord> records = new ArrayList<>();
+        for (int i = 101; i < 103; i++) {
+            PersonRecord r = new PersonRecord();
+            r.setId(i);
+            r.setFirstName("Joe");
+            r.setLastName(LastName.of("Jones"));
+            r.setBirthDate(new Date());
+            r.setEmployed(true);
+            r.setAddressId(1);
+            records.add(r);
+        }
+
+        Buildable<BatchInsertModel<PersonRecord>> batchStatement = insertBatch(records).into(person)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toProperty("lastNameAsString")
+                .map(birthDate).toProperty("birthDate")
+                .map(employed).toProperty("employedAsString")
+                .map(addressId).toProperty("addressId");
+
+        assertThat(template.insertBatch(batchStatement)).containsExactly(1, 1);
+        assertThat(template.delete(deleteFrom(person).where(lastName, isEqualTo(LastName.of("Jones"))))).isEqualTo(3);
+    }
+
+    @Test
+    void testUpdateAndDeleteBatch() {
+        List<PersonRecord> records = new ArrayList<>();
+        for (int i : new int[] {1, 2}) {
+            PersonRecord record = new PersonRecord();
+            record.setId(i);
+            record.setLastName(LastName.of("Slate"));
+            records.add(record);
+        }
+
+        int[] rows = template.updateBatch(updateBatch(records)
+                .into(person)
+                .set(lastName).toProperty("lastName")
+                .where(id, isEqualToProperty("id")));
+
+        assertThat(rows).containsExactly(1, 1);
+        assertThat(template.count(countFrom(person).where(lastName, isEqualTo(LastName.of("Slate"))))).isEqualTo(2);
+
+        rows = template.deleteBatch(deleteBatch(records)
+                .from(person)
+                .where(id, isEqualToProperty("id"))
+                .and(lastName, isEqualToProperty("lastName")));
+
+        assertThat(rows).containsExactly(1, 1);
+        assertThat(template.count(countFrom(person))).isEqualTo(4);
+    }
+
+    @Test
+    void testExecuteWithKeyTable() {
+        LargeInListStrategy<Integer> strategy = LargeInListStrategy.withTemporaryKeyTable(keyList, keyValue)
+                .withMaximumListSize(2)
+                .withKeyTableThreshold(3)
+                .withKeyBatchSize(2)
+                .build();
+
+        List<PersonRecord> rows = template.executeWithKeys(strategy, Arrays.asList(2, 4, 6, 8, 10),
+                condition -> template.selectList(
+                        select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                                .from(person)
+                                .where(id, condition)
+                                .orderBy(id),
+                        PersonTemplateTest.personRowMapper));
+
+        assertThat(rows).extracting(PersonRecord::getId).containsExactly(2, 4, 6);
+        assertThat(template.count(countFrom(keyList))).isZero();
+    }
+}
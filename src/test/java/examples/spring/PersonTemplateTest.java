@@ -16,24 +16,36 @@
 package examples.spring;
 
 import static examples.spring.AddressDynamicSqlSupport.address;
+import static examples.spring.KeyListDynamicSqlSupport.keyList;
+import static examples.spring.KeyListDynamicSqlSupport.keyValue;
 import static examples.spring.PersonDynamicSqlSupport.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mybatis.dynamic.sql.SqlBuilder.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.delete.BatchDeleteModel;
 import org.mybatis.dynamic.sql.delete.DeleteModel;
 import org.mybatis.dynamic.sql.insert.BatchInsertModel;
+import org.mybatis.dynamic.sql.insert.ChunkedBatchInsertModel;
 import org.mybatis.dynamic.sql.insert.GeneralInsertModel;
 import org.mybatis.dynamic.sql.insert.InsertModel;
+import org.mybatis.dynamic.sql.insert.MultiRowInsertLimits;
 import org.mybatis.dynamic.sql.insert.MultiRowInsertModel;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
 import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.BatchUpdateModel;
 import org.mybatis.dynamic.sql.update.UpdateModel;
 import org.mybatis.dynamic.sql.util.Buildable;
+import org.mybatis.dynamic.sql.util.LargeInListStrategy;
 import org.mybatis.dynamic.sql.util.spring.NamedParameterJdbcTemplateExtensions;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.RowMapper;
@@ -72,6 +84,61 @@ class PersonTemplateTest {
 
     }
 
+    @Test
+    void testSelectStream() {
+        Buildable<SelectModel> selectStatement = select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                .from(person)
+                .orderBy(id);
+
+        try (Stream<PersonRecord> rows = template.selectStream(selectStatement, personRowMapper)) {
+            assertThat(rows.filter(PersonRecord::getEmployed).map(PersonRecord::getId)).containsExactly(1, 2, 4, 5);
+        }
+    }
+
+    @Test
+    void testSelectStreamWithFetchSize() {
+        SelectStatementProvider selectStatement = select(id, firstName, lastName, birthDate, employed, occupation,
+                addressId)
+                .from(person)
+                .where(id, isIn(1, 3, 5))
+                .orderBy(id)
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        try (Stream<PersonRecord> rows = template.selectStream(selectStatement, 2, personRowMapper)) {
+            assertThat(rows.map(PersonRecord::getId)).containsExactly(1, 3, 5);
+        }
+    }
+
+    @Test
+    void testSelectForEach() {
+        Buildable<SelectModel> selectStatement = select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                .from(person)
+                .where(lastName, isEqualTo(LastName.of("Rubble")))
+                .orderBy(id);
+
+        List<Integer> ids = new ArrayList<>();
+        template.selectForEach(selectStatement, personRowMapper, r -> ids.add(r.getId()));
+
+        assertThat(ids).containsExactly(4, 5, 6);
+    }
+
+    @Test
+    void testSelectForEachWithFetchSize() {
+        SelectStatementProvider selectStatement = select(id, firstName, lastName, birthDate, employed, occupation,
+                addressId)
+                .from(person)
+                .where(id, isGreaterThan(2))
+                .orderBy(id)
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        List<Integer> ids = new ArrayList<>();
+        template.selectForEach(selectStatement, 1, personRowMapper, r -> ids.add(r.getId()));
+
+        assertThat(ids).containsExactly(3, 4, 5, 6);
+    }
+
     @Test
     void testSelectAllOrdered() {
         Buildable<SelectModel> selectStatement = select(id, firstName, lastName, birthDate, employed, occupation, addressId)
@@ -204,6 +271,81 @@ class PersonTemplateTest {
         assertThat(rows.get(1).getLastName().getName()).isEqualTo("Rubble");
     }
 
+    @Test
+    void testIdInArray() {
+        Buildable<SelectModel> selectStatement = select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                .from(person)
+                .where(id, isInArray(1, 3, 5).withArrayFunction("unnest"))
+                .orderBy(id);
+
+        SelectStatementProvider provider = selectStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+        assertThat(provider.getSelectStatement()).isEqualTo("select id, first_name, last_name, birth_date, employed,"
+                + " occupation, address_id from Person where id = any(unnest(:p1)) order by id");
+        assertThat(provider.getParameters().get("p1")).isEqualTo(new Integer[] {1, 3, 5});
+
+        List<PersonRecord> rows = template.selectList(selectStatement, personRowMapper);
+
+        assertThat(rows).extracting(PersonRecord::getId).containsExactly(1, 3, 5);
+    }
+
+    @Test
+    void testLastNameNotInArrayWithConverter() {
+        Buildable<SelectModel> selectStatement = select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                .from(person)
+                .where(lastName, isNotInArray(LastName.of("Flintstone")).withArrayFunction("unnest"))
+                .orderBy(id);
+
+        SelectStatementProvider provider = selectStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+        assertThat(provider.getParameters().get("p1")).isEqualTo(new String[] {"Flintstone"});
+
+        List<PersonRecord> rows = template.selectList(selectStatement, personRowMapper);
+
+        assertThat(rows).extracting(PersonRecord::getId).containsExactly(4, 5, 6);
+    }
+
+    @Test
+    void testExecuteWithChunkedKeys() {
+        LargeInListStrategy<Integer> strategy = LargeInListStrategy.<Integer>withMaximumListSize(2).build();
+
+        List<PersonRecord> rows = template.executeWithKeys(strategy, Arrays.asList(1, 3, 5),
+                condition -> template.selectList(
+                        select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                                .from(person)
+                                .where(id, condition)
+                                .orderBy(id),
+                        personRowMapper));
+
+        assertThat(rows).extracting(PersonRecord::getId).containsExactly(1, 3, 5);
+    }
+
+    @Test
+    void testExecuteWithKeyTable() {
+        LargeInListStrategy<Integer> strategy = LargeInListStrategy.withTemporaryKeyTable(keyList, keyValue)
+                .withMaximumListSize(2)
+                .withKeyTableThreshold(3)
+                .withKeyBatchSize(2)
+                .build();
+
+        List<String> statements = new ArrayList<>();
+        List<PersonRecord> rows = template.executeWithKeys(strategy, Arrays.asList(2, 4, 6, 8, 10),
+                condition -> {
+                    SelectStatementProvider selectStatement = select(id, firstName, lastName, birthDate, employed,
+                            occupation, addressId)
+                            .from(person)
+                            .where(id, condition)
+                            .orderBy(id)
+                            .build()
+                            .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+                    statements.add(selectStatement.getSelectStatement());
+                    return template.selectList(selectStatement, personRowMapper);
+                });
+
+        assertThat(rows).extracting(PersonRecord::getId).containsExactly(2, 4, 6);
+        assertThat(statements).hasSize(1);
+        assertThat(statements.get(0)).endsWith("where id in (select key_value from KeyList) order by id");
+        assertThat(template.count(countFrom(keyList))).isZero();
+    }
+
     @Test
     void testDelete() {
         Buildable<DeleteModel> deleteStatement = deleteFrom(person)
@@ -233,6 +375,25 @@ class PersonTemplateTest {
         assertThat(rows).isEqualTo(1);
     }
 
+    @Test
+    void testDeleteBatch() {
+        List<PersonRecord> records = new ArrayList<>();
+        for (int i : new int[] {2, 4, 40}) {
+            PersonRecord record = new PersonRecord();
+            record.setId(i);
+            records.add(record);
+        }
+
+        Buildable<BatchDeleteModel<PersonRecord>> deleteStatement = deleteBatch(records)
+                .from(person)
+                .where(id, isEqualToProperty("id"));
+
+        int[] rows = template.deleteBatch(deleteStatement);
+
+        assertThat(rows).containsExactly(1, 1, 0);
+        assertThat(template.count(countFrom(person))).isEqualTo(4);
+    }
+
     @Test
     void testInsert() {
         PersonRecord record = new PersonRecord();
@@ -354,6 +515,66 @@ class PersonTemplateTest {
         assertThat(rows[1]).isEqualTo(1);
     }
 
+    @Test
+    void testInsertMultipleWithLimits() {
+        List<PersonRecord> records = new ArrayList<>();
+        for (int i = 100; i < 110; i++) {
+            PersonRecord record = new PersonRecord();
+            record.setId(i);
+            record.setFirstName("Joe");
+            record.setLastName(LastName.of("Jones"));
+            record.setBirthDate(new Date());
+            record.setEmployed(true);
+            record.setAddressId(1);
+            records.add(record);
+        }
+
+        Buildable<MultiRowInsertModel<PersonRecord>> insertStatement = insertMultiple(records).into(person)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toProperty("lastNameAsString")
+                .map(birthDate).toProperty("birthDate")
+                .map(employed).toProperty("employedAsString")
+                .map(occupation).toNull()
+                .map(addressId).toProperty("addressId");
+
+        int rows = template.insertMultiple(insertStatement, MultiRowInsertLimits.maxParameters(18));
+
+        assertThat(rows).isEqualTo(10);
+        assertThat(template.count(countFrom(person).where(id, isBetween(100).and(109)))).isEqualTo(10);
+    }
+
+    @Test
+    void testInsertBatchInChunks() {
+        Stream<PersonRecord> records = IntStream.range(100, 125).mapToObj(i -> {
+            PersonRecord record = new PersonRecord();
+            record.setId(i);
+            record.setFirstName("Joe");
+            record.setLastName(LastName.of("Jones"));
+            record.setBirthDate(new Date());
+            record.setEmployed(true);
+            record.setAddressId(1);
+            return record;
+        });
+
+        Buildable<ChunkedBatchInsertModel<PersonRecord>> insertStatement = insertBatch(records).into(person)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toProperty("lastNameAsString")
+                .map(birthDate).toProperty("birthDate")
+                .map(employed).toProperty("employedAsString")
+                .map(occupation).toNull()
+                .map(addressId).toProperty("addressId")
+                .withChunkSize(10);
+
+        List<Integer> chunkSizes = new ArrayList<>();
+        long rows = template.insertBatch(insertStatement, counts -> chunkSizes.add(counts.length));
+
+        assertThat(rows).isEqualTo(25);
+        assertThat(chunkSizes).containsExactly(10, 10, 5);
+        assertThat(template.count(countFrom(person).where(id, isBetween(100).and(124)))).isEqualTo(25);
+    }
+
     @Test
     void testInsertSelective() {
         PersonRecord record = new PersonRecord();
@@ -378,6 +599,39 @@ class PersonTemplateTest {
         assertThat(rows).isEqualTo(1);
     }
 
+    @Test
+    void testUpdateBatch() {
+        List<PersonRecord> records = new ArrayList<>();
+        PersonRecord record = new PersonRecord();
+        record.setId(1);
+        record.setLastName(LastName.of("Slate"));
+        record.setOccupation("Quarry Owner");
+        records.add(record);
+
+        record = new PersonRecord();
+        record.setId(4);
+        record.setLastName(LastName.of("Slate"));
+        record.setOccupation("Bowler");
+        records.add(record);
+
+        // the last name property is converted by the parameter type converter of the column
+        Buildable<BatchUpdateModel<PersonRecord>> updateStatement = updateBatch(records)
+                .into(person)
+                .set(lastName).toProperty("lastName")
+                .set(occupation).toProperty("occupation")
+                .where(id, isEqualToProperty("id"));
+
+        int[] rows = template.updateBatch(updateStatement);
+        assertThat(rows).containsExactly(1, 1);
+
+        Buildable<SelectModel> selectStatement = select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                .from(person)
+                .where(lastName, isEqualTo(LastName.of("Slate")))
+                .orderBy(id);
+        List<PersonRecord> updatedRecords = template.selectList(selectStatement, personRowMapper);
+        assertThat(updatedRecords).extracting(PersonRecord::getOccupation).containsExactly("Quarry Owner", "Bowler");
+    }
+
     @Test
     void testUpdateByPrimaryKey() {
 
@@ -17,9 +17,11 @@ package examples.spring;
 
 import javax.sql.DataSource;
 
+import org.mybatis.dynamic.sql.util.spring.JdbcTemplateExtensions;
 import org.mybatis.dynamic.sql.util.spring.NamedParameterJdbcTemplateExtensions;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.datasource.DataSourceTransactionManager;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
@@ -51,4 +53,9 @@ public class SpringConfiguration {
     public NamedParameterJdbcTemplateExtensions templateExtensions(NamedParameterJdbcTemplate template) {
         return new NamedParameterJdbcTemplateExtensions(template);
     }
+
+    @Bean
+    public JdbcTemplateExtensions jdbcTemplateExtensions(DataSource dataSource) {
+        return new JdbcTemplateExtensions(new JdbcTemplate(dataSource));
+    }
 }
@@ -0,0 +1,85 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package examples.springbatch.keyset;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.mybatis.dynamic.sql.select.Keyset;
+import org.mybatis.dynamic.sql.util.springbatch.SpringBatchKeysetPagingReaderSelectModel;
+import org.mybatis.dynamic.sql.util.springbatch.SpringBatchKeysetPagingReaderSelectModel.KeysetPagingStatementProvider;
+import org.mybatis.dynamic.sql.util.springbatch.SpringBatchUtility;
+import org.mybatis.spring.batch.MyBatisPagingItemReader;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.util.ClassUtils;
+
+/**
+ * A paging reader that reads pages with keyset pagination. The keyset of the last row that was read is saved in
+ * the execution context, so a restarted job continues after that row without reading the earlier rows again.
+ *
+ * @param <T> the type of row
+ */
+public class KeysetPagingItemReader<T> extends MyBatisPagingItemReader<T> {
+    private static final String KEYSET_KEY = "keyset";
+
+    private final KeysetPagingStatementProvider selectStatement;
+    private final Function<T, Keyset> keysetFunction;
+    private Keyset lastKeyset;
+
+    public KeysetPagingItemReader(SpringBatchKeysetPagingReaderSelectModel selectModel,
+            Function<T, Keyset> keysetFunction) {
+        selectStatement = selectModel.render();
+        this.keysetFunction = keysetFunction;
+        setParameterValues(SpringBatchUtility.toParameterValues(selectStatement));
+        setName(ClassUtils.getShortName(KeysetPagingItemReader.class));
+    }
+
+    @Override
+    protected T doRead() throws Exception {
+        T item = super.doRead();
+        if (item != null) {
+            lastKeyset = keysetFunction.apply(item);
+        }
+        return item;
+    }
+
+    @Override
+    protected void doReadPage() {
+        selectStatement.seekAfter(lastKeyset);
+        super.doReadPage();
+    }
+
+    @Override
+    protected void jumpToItem(int itemIndex) {
+        // the position is restored from the keyset in the execution context, rows are not skipped
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) {
+        super.open(executionContext);
+        List<?> keysetValues = (List<?>) executionContext.get(getExecutionContextKey(KEYSET_KEY));
+        lastKeyset = keysetValues == null ? null : Keyset.of(keysetValues);
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) {
+        super.update(executionContext);
+        if (lastKeyset != null) {
+            executionContext.put(getExecutionContextKey(KEYSET_KEY), new ArrayList<>(lastKeyset.values()));
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package examples.springbatch.keyset;
+
+import static examples.springbatch.mapper.PersonDynamicSqlSupport.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.Keyset;
+import org.mybatis.dynamic.sql.select.SelectDSL;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.util.springbatch.SpringBatchKeysetPagingReaderSelectModel;
+import org.mybatis.dynamic.sql.util.springbatch.SpringBatchKeysetPagingReaderSelectModel.KeysetPagingStatementProvider;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import examples.springbatch.common.PersonRecord;
+import examples.springbatch.mapper.PersonMapper;
+
+@SpringBatchTest
+@SpringJUnitConfig(classes=KeysetReaderBatchConfiguration.class)
+class SpringBatchKeysetPagingTest {
+
+    @Autowired
+    private JobLauncherTestUtils jobLauncherTestUtils;
+
+    @Autowired
+    private SqlSessionFactory sqlSessionFactory;
+
+    @Autowired
+    private SpringBatchKeysetPagingReaderSelectModel selectModel;
+
+    @Test
+    void testThatRowsAreTransformedToUpperCase() throws Exception {
+        // starting condition
+        assertThat(upperCaseRowCount()).isZero();
+
+        JobExecution execution = jobLauncherTestUtils.launchJob();
+        assertThat(execution.getExitStatus()).isEqualTo(ExitStatus.COMPLETED);
+        assertThat(numberOfChunks(execution)).isEqualTo(14);
+        assertThat(numberOfRowsProcessed(execution)).isEqualTo(93);
+
+        // ending condition
+        assertThat(upperCaseRowCount()).isEqualTo(93);
+    }
+
+    @Test
+    void testRenderedStatements() {
+        KeysetPagingStatementProvider selectStatement = selectModel.render();
+
+        assertThat(selectStatement.getSelectStatement()).isEqualTo(
+                "select * from person"
+                + " where for_paging_test = #{mybatis3_dsql_query.parameters.p1,jdbcType=BOOLEAN}"
+                + " order by id LIMIT #{_pagesize}");
+        assertThat(selectStatement.getParameters()).containsEntry("p1", true);
+        assertThat(selectStatement.keyset()).isEmpty();
+
+        selectStatement.seekAfter(Keyset.of(21));
+
+        assertThat(selectStatement.getSelectStatement()).isEqualTo(
+                "select * from person"
+                + " where for_paging_test = #{mybatis3_dsql_query.parameters.p1,jdbcType=BOOLEAN}"
+                + " and id > #{mybatis3_dsql_query.parameters.p2,jdbcType=INTEGER}"
+                + " order by id LIMIT #{_pagesize}");
+        assertThat(selectStatement.getParameters()).containsEntry("p1", true).containsEntry("p2", 21);
+        assertThat(selectStatement.keyset()).hasValue(Keyset.of(21));
+
+        selectStatement.seekAfter(null);
+        assertThat(selectStatement.getSelectStatement()).doesNotContain("id >");
+
+        // the first page parameters are shared by every provider of the model
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> selectStatement.getParameters().put("p1", false));
+        assertThat(selectModel.render().getParameters()).containsEntry("p1", true);
+    }
+
+    @Test
+    void testRestartContinuesAfterLastKeyset() throws Exception {
+        List<Integer> ids = new ArrayList<>();
+        ExecutionContext executionContext = new ExecutionContext();
+
+        KeysetPagingItemReader<PersonRecord> reader = newReader();
+        reader.open(executionContext);
+        for (int i = 0; i < 10; i++) {
+            ids.add(reader.read().getId());
+        }
+        reader.update(executionContext);
+        reader.close();
+
+        assertThat(executionContext.get("KeysetPagingItemReader.keyset")).isEqualTo(Keyset.of(ids.get(9)).values());
+
+        KeysetPagingItemReader<PersonRecord> restartedReader = newReader();
+        restartedReader.open(executionContext);
+        PersonRecord row;
+        while ((row = restartedReader.read()) != null) {
+            ids.add(row.getId());
+        }
+        restartedReader.close();
+
+        assertThat(ids).hasSize(93).doesNotHaveDuplicates().isSorted();
+    }
+
+    private KeysetPagingItemReader<PersonRecord> newReader() throws Exception {
+        KeysetPagingItemReader<PersonRecord> reader =
+                new KeysetPagingItemReader<>(selectModel, r -> Keyset.of(r.getId()));
+        reader.setQueryId(PersonMapper.class.getName() + ".selectMany");
+        reader.setSqlSessionFactory(sqlSessionFactory);
+        reader.setPageSize(7);
+        reader.afterPropertiesSet();
+        return reader;
+    }
+
+    private int numberOfRowsProcessed(JobExecution jobExecution) {
+        return jobExecution.getStepExecutions().stream()
+                .map(StepExecution::getExecutionContext)
+                .mapToInt(this::getRowCount)
+                .sum();
+    }
+
+    private int getRowCount(ExecutionContext executionContext) {
+        return executionContext.getInt("row_count", 0);
+    }
+
+    private int numberOfChunks(JobExecution jobExecution) {
+        return jobExecution.getStepExecutions().stream()
+                .map(StepExecution::getExecutionContext)
+                .mapToInt(this::getChunkCount)
+                .sum();
+    }
+
+    private int getChunkCount(ExecutionContext executionContext) {
+        return executionContext.getInt("chunk_count", 0);
+    }
+
+    private long upperCaseRowCount() throws Exception {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+            PersonMapper personMapper = sqlSession.getMapper(PersonMapper.class);
+
+            SelectStatementProvider selectStatement = SelectDSL.select(count())
+                    .from(person)
+                    .where(lastName, isEqualTo("SMITH"))
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            return personMapper.count(selectStatement);
+        }
+    }
+}
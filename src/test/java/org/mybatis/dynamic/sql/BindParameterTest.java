@@ -0,0 +1,275 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.delete.render.PreparedDelete;
+import org.mybatis.dynamic.sql.render.RenderCache;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.render.TableAliasCalculator;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.render.PreparedSelect;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.UpdateModel;
+import org.mybatis.dynamic.sql.update.render.PreparedUpdate;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+
+class BindParameterTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> name = foo.column("name", JDBCType.VARCHAR);
+    private static final SqlColumn<Boolean> active = foo.column("active", JDBCType.VARCHAR)
+            .withParameterTypeConverter(b -> b == null ? null : (b ? "Y" : "N"));
+
+    private static final BindParameter<Integer> minimumId = bindParameter("minimumId", Integer.class);
+    private static final BindParameter<String> nameParameter = bindParameter("name", String.class);
+
+    private static final PreparedSelect preparedSelect = select(id, name)
+            .from(foo)
+            .where(id, isGreaterThan(minimumId))
+            .and(name, isLike(nameParameter))
+            .and(active, isEqualTo(true))
+            .build()
+            .prepare(RenderingStrategies.MYBATIS3);
+
+    @Test
+    void testPreparedSelect() {
+        assertThat(preparedSelect.getSelectStatement()).isEqualTo("select id, name from foo "
+                + "where id > #{parameters.p1,jdbcType=INTEGER} and name like #{parameters.p2,jdbcType=VARCHAR} "
+                + "and active = #{parameters.p3,jdbcType=VARCHAR}");
+        assertThat(preparedSelect.parameterNames()).containsExactly("minimumId", "name");
+
+        Map<String, Object> values = new HashMap<>();
+        values.put("minimumId", 3);
+        values.put("name", "F%");
+        SelectStatementProvider selectStatement = preparedSelect.bind(values);
+
+        assertThat(selectStatement.getSelectStatement()).isEqualTo(preparedSelect.getSelectStatement());
+        assertThat(selectStatement.getParameters()).containsOnly(entry("p1", 3), entry("p2", "F%"),
+                entry("p3", "Y"));
+    }
+
+    @Test
+    void testFluentBindIsIndependentForEachCall() {
+        SelectStatementProvider first = preparedSelect.bind(minimumId, 1).bind(nameParameter, "A%").build();
+        SelectStatementProvider second = preparedSelect.bind("minimumId", 2).bind("name", "B%").build();
+
+        assertThat(first.getParameters()).containsOnly(entry("p1", 1), entry("p2", "A%"), entry("p3", "Y"));
+        assertThat(second.getParameters()).containsOnly(entry("p1", 2), entry("p2", "B%"), entry("p3", "Y"));
+    }
+
+    @Test
+    void testMarkerUsedTwiceAndConverted() {
+        BindParameter<Boolean> activeParameter = bindParameter("active", Boolean.class);
+        BindParameter<Integer> low = bindParameter("low", Integer.class);
+
+        PreparedSelect prepared = select(id)
+                .from(foo)
+                .where(id, isBetween(low).and(bindParameter("high", Integer.class)))
+                .or(id, isEqualTo(low), and(active, isEqualTo(activeParameter)))
+                .build()
+                .prepare(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertThat(prepared.getSelectStatement()).isEqualTo("select id from foo "
+                + "where id between :p1 and :p2 or (id = :p3 and active = :p4)");
+
+        SelectStatementProvider selectStatement = prepared.bind(low, 2)
+                .bind("high", 5)
+                .bind(activeParameter, false)
+                .build();
+
+        assertThat(selectStatement.getParameters()).containsOnly(entry("p1", 2), entry("p2", 5), entry("p3", 2),
+                entry("p4", "N"));
+    }
+
+    @Test
+    void testPreparedUpdate() {
+        PreparedUpdate prepared = update(foo)
+                .set(name).equalTo(nameParameter)
+                .set(active).equalTo(false)
+                .where(id, isEqualTo(bindParameter("id", Integer.class)))
+                .build()
+                .prepare(RenderingStrategies.MYBATIS3);
+
+        assertThat(prepared.getUpdateStatement()).isEqualTo("update foo "
+                + "set name = #{parameters.p1,jdbcType=VARCHAR}, active = #{parameters.p2,jdbcType=VARCHAR} "
+                + "where id = #{parameters.p3,jdbcType=INTEGER}");
+
+        UpdateStatementProvider updateStatement = prepared.bind("name", "Fred").bind("id", 4).build();
+        assertThat(updateStatement.getParameters()).containsOnly(entry("p1", "Fred"), entry("p2", "N"),
+                entry("p3", 4));
+    }
+
+    @Test
+    void testPreparedDelete() {
+        PreparedDelete prepared = deleteFrom(foo)
+                .where(id, isLessThan(minimumId))
+                .build()
+                .prepare(RenderingStrategies.MYBATIS3);
+
+        DeleteStatementProvider deleteStatement = prepared.bind(minimumId, 7).build();
+
+        assertThat(deleteStatement.getDeleteStatement())
+                .isEqualTo("delete from foo where id < #{parameters.p1,jdbcType=INTEGER}");
+        assertThat(deleteStatement.getParameters()).containsOnly(entry("p1", 7));
+    }
+
+    @Test
+    void testNullValueIsAllowed() {
+        SelectStatementProvider selectStatement = preparedSelect.bind("minimumId", null).bind("name", "F%").build();
+        assertThat(selectStatement.getParameters()).containsEntry("p1", null);
+    }
+
+    @Test
+    void testMissingValue() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> preparedSelect.bind("minimumId", 3).build())
+                .withMessageContaining("Missing values: [name]");
+    }
+
+    @Test
+    void testUnknownValue() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> preparedSelect.bind("minimumId", 3).bind("name", "F%").bind("other", 4).build())
+                .withMessageContaining("unknown parameters: [other]");
+    }
+
+    @Test
+    void testWrongType() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> preparedSelect.bind("minimumId", "3").bind("name", "F%").build())
+                .withMessage("Bind parameter \"minimumId\" requires a value of type java.lang.Integer, "
+                        + "but a value of type java.lang.String was supplied");
+    }
+
+    @Test
+    void testSecondValueOfBetweenIsAValue() {
+        PreparedSelect prepared = select(id)
+                .from(foo)
+                .where(id, isNotBetween(minimumId).and(10))
+                .build()
+                .prepare(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertThat(prepared.getSelectStatement()).isEqualTo("select id from foo where id not between :p1 and :p2");
+        assertThat(prepared.bind(minimumId, 4).build().getParameters()).containsOnly(entry("p1", 4),
+                entry("p2", 10));
+    }
+
+    @Test
+    void testValuesAreConvertedByAnyBindableColumn() {
+        PreparedSelect prepared = select(id)
+                .from(foo)
+                .where(new YesNoColumn(), isEqualTo(bindParameter("flag", Boolean.class)))
+                .build()
+                .prepare(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertThat(prepared.getSelectStatement()).isEqualTo("select id from foo where flag = :p1");
+        assertThat(prepared.bind("flag", true).build().getParameters()).containsOnly(entry("p1", "Y"));
+    }
+
+    @Test
+    void testRenderRejectsMarkers() {
+        SelectModel selectModel = select(id)
+                .from(foo)
+                .where(id, isGreaterThan(minimumId))
+                .build();
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> selectModel.render(RenderingStrategies.MYBATIS3))
+                .withMessage("The statement contains the bind parameter marker \"minimumId\". "
+                        + "Statements with markers must be rendered with prepare()");
+    }
+
+    @Test
+    void testRenderRejectsMarkersInSetClause() {
+        UpdateModel updateModel = update(foo)
+                .set(name).equalTo(nameParameter)
+                .build();
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> updateModel.render(RenderingStrategies.MYBATIS3))
+                .withMessageContaining("\"name\"");
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> updateModel.render(RenderingStrategies.MYBATIS3, RenderCache.withMaximumSize(5)))
+                .withMessageContaining("\"name\"");
+    }
+
+    @Test
+    void testPreparedUpdateWithRenderCache() {
+        RenderCache renderCache = RenderCache.withMaximumSize(5);
+        for (int i = 0; i < 2; i++) {
+            PreparedUpdate prepared = update(foo)
+                    .set(name).equalTo(nameParameter)
+                    .set(active).equalTo(i == 0)
+                    .where(id, isEqualTo(bindParameter("id", Integer.class)))
+                    .build()
+                    .prepare(RenderingStrategies.SPRING_NAMED_PARAMETER, renderCache);
+
+            assertThat(prepared.getUpdateStatement())
+                    .isEqualTo("update foo set name = :p1, active = :p2 where id = :p3");
+            assertThat(prepared.bind("name", "Fred").bind("id", 4).build().getParameters())
+                    .containsOnly(entry("p1", "Fred"), entry("p2", i == 0 ? "Y" : "N"), entry("p3", 4));
+        }
+
+        assertThat(renderCache.missCount()).isEqualTo(1);
+        assertThat(renderCache.hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testStatementWithoutMarkers() {
+        PreparedSelect prepared = select(id)
+                .from(foo)
+                .where(id, isEqualTo(3))
+                .build()
+                .prepare(RenderingStrategies.MYBATIS3);
+
+        assertThat(prepared.parameterNames()).isEmpty();
+        assertThat(prepared.bind(new HashMap<>()).getParameters()).containsOnly(entry("p1", 3));
+    }
+
+    private static class YesNoColumn implements BindableColumn<Boolean> {
+        @Override
+        public Optional<String> alias() {
+            return Optional.empty();
+        }
+
+        @Override
+        public BindableColumn<Boolean> as(String alias) {
+            return this;
+        }
+
+        @Override
+        public String renderWithTableAlias(TableAliasCalculator tableAliasCalculator) {
+            return "flag";
+        }
+
+        @Override
+        public Object convertParameterType(Boolean value) {
+            return value == null ? null : (value ? "Y" : "N");
+        }
+    }
+}
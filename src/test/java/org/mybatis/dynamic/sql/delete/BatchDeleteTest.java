@@ -0,0 +1,70 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.delete;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mybatis.dynamic.sql.SqlBuilder.bindParameter;
+import static org.mybatis.dynamic.sql.SqlBuilder.deleteBatch;
+import static org.mybatis.dynamic.sql.SqlBuilder.isEqualToProperty;
+import static org.mybatis.dynamic.sql.SqlBuilder.isLessThan;
+
+import java.sql.JDBCType;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.delete.render.BatchDelete;
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+
+class BatchDeleteTest {
+
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<Integer> version = foo.column("version", JDBCType.INTEGER);
+
+    @Test
+    void testStatementIsRenderedOnce() {
+        BatchDelete<Map<String, Object>> batchDelete = deleteBatch(Arrays.asList(row(1, 3), row(2, 5)))
+                .from(foo)
+                .where(id, isEqualToProperty("id"))
+                .and(version, isLessThan(bindParameter("version", Integer.class)))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        String expected = "delete from foo where id = #{parameters.p1,jdbcType=INTEGER} "
+                + "and version < #{parameters.p2,jdbcType=INTEGER}";
+        assertThat(batchDelete.getDeleteStatementSQL()).isEqualTo(expected);
+
+        List<DeleteStatementProvider> deleteStatements = batchDelete.deleteStatements();
+        assertThat(deleteStatements).hasSize(2);
+        assertThat(deleteStatements.get(0).getDeleteStatement()).isEqualTo(expected);
+        assertThat(deleteStatements.get(0).getParameters()).containsOnly(entry("p1", 1), entry("p2", 3));
+        assertThat(deleteStatements.get(1).getParameters()).containsOnly(entry("p1", 2), entry("p2", 5));
+    }
+
+    private static Map<String, Object> row(Integer id, Integer version) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", id);
+        row.put("version", version);
+        return row;
+    }
+}
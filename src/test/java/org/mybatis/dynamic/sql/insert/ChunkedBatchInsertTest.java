@@ -0,0 +1,160 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mybatis.dynamic.sql.SqlBuilder.insertBatch;
+
+import java.sql.JDBCType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.insert.render.BatchInsert;
+import org.mybatis.dynamic.sql.insert.render.ChunkedBatchInsert;
+import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+
+class ChunkedBatchInsertTest {
+
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> firstName = foo.column("first_name", JDBCType.VARCHAR);
+
+    @Test
+    void testStatementIsRenderedOnce() {
+        ChunkedBatchInsert<TestRecord> batchInsert = insertBatch(Stream.of(new TestRecord(), new TestRecord()))
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(firstName).toStringConstant("fred")
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        assertThat(batchInsert.getInsertStatementSQL())
+                .isEqualTo("insert into foo (id, first_name) values (#{record.id,jdbcType=INTEGER}, 'fred')");
+        assertThat(batchInsert.getChunkSize()).isEqualTo(ChunkedBatchInsertModel.DEFAULT_CHUNK_SIZE);
+
+        TestRecord row = new TestRecord();
+        InsertStatementProvider<TestRecord> insertStatement = batchInsert.insertStatement(row);
+        assertThat(insertStatement.getInsertStatement()).isEqualTo(batchInsert.getInsertStatementSQL());
+        assertThat(insertStatement.getRow()).isSameAs(row);
+    }
+
+    @Test
+    void testBatchInsertRecordsAreReadOnly() {
+        List<TestRecord> records = new ArrayList<>(Arrays.asList(new TestRecord(), new TestRecord()));
+        BatchInsert<TestRecord> batchInsert = insertBatch(records)
+                .into(foo)
+                .map(id).toProperty("id")
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        assertThat(batchInsert.getRecords()).containsExactlyElementsOf(records);
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> batchInsert.getRecords().add(new TestRecord()));
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> batchInsert.insertStatementsView().remove(0));
+        assertThat(batchInsert.insertStatementsView()).extracting(InsertStatementProvider::getRow)
+                .containsExactlyElementsOf(records);
+        assertThat(batchInsert.insertStatements()).extracting(InsertStatementProvider::getRow)
+                .containsExactlyElementsOf(records);
+    }
+
+    @Test
+    void testRecordsAreReadOneChunkAtATime() {
+        AtomicInteger recordsRead = new AtomicInteger();
+        // an endless stream - the records can only be read lazily
+        Stream<TestRecord> records = Stream.generate(() -> {
+            recordsRead.incrementAndGet();
+            return new TestRecord();
+        });
+
+        ChunkedBatchInsert<TestRecord> batchInsert = insertBatch(records)
+                .into(foo)
+                .map(id).toProperty("id")
+                .withChunkSize(3)
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+        assertThat(recordsRead).hasValue(0);
+
+        Iterator<List<TestRecord>> chunks = batchInsert.chunks();
+        assertThat(chunks.next()).hasSize(3);
+        assertThat(recordsRead).hasValue(3);
+        assertThat(chunks.next()).hasSize(3);
+        assertThat(recordsRead).hasValue(6);
+    }
+
+    @Test
+    void testLastChunkIsSmaller() {
+        Iterator<TestRecord> records = Stream.generate(TestRecord::new).limit(7).iterator();
+
+        ChunkedBatchInsert<TestRecord> batchInsert = insertBatch(records)
+                .into(foo)
+                .map(id).toProperty("id")
+                .withChunkSize(3)
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        Iterator<List<TestRecord>> chunks = batchInsert.chunks();
+        assertThat(chunks.next()).hasSize(3);
+        assertThat(chunks.next()).hasSize(3);
+        assertThat(chunks.next()).hasSize(1);
+        assertThat(chunks.hasNext()).isFalse();
+    }
+
+    @Test
+    void testRecordsCanOnlyBeReadOnce() {
+        ChunkedBatchInsert<TestRecord> batchInsert = insertBatch(Stream.of(new TestRecord()))
+                .into(foo)
+                .map(id).toProperty("id")
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        batchInsert.chunks();
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(batchInsert::chunks)
+                .withMessage("The records in a chunked batch insert can only be read once");
+    }
+
+    @Test
+    void testInvalidChunkSize() {
+        ChunkedBatchInsertDSL<TestRecord> dsl = insertBatch(Stream.of(new TestRecord()))
+                .into(foo)
+                .map(id).toProperty("id")
+                .withChunkSize(0);
+
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(dsl::build)
+                .withMessage("The chunk size must be at least 1");
+    }
+
+    static class TestRecord {
+        private Integer id;
+
+        public Integer getId() {
+            return id;
+        }
+
+        public void setId(Integer id) {
+            this.id = id;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mybatis.dynamic.sql.SqlBuilder.insertMultiple;
+
+import java.sql.JDBCType;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+
+class MultiRowInsertLimitsTest {
+
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> firstName = foo.column("first_name", JDBCType.VARCHAR);
+    private static final SqlColumn<String> occupation = foo.column("occupation", JDBCType.VARCHAR);
+
+    @Test
+    void testSingleStatementRendering() {
+        MultiRowInsertStatementProvider<TestRecord> insertStatement = insertMultiple(records(3))
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(occupation).toStringConstant("50% off")
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        String expected = "insert into foo (id, first_name, occupation) values"
+                + " (#{records[0].id,jdbcType=INTEGER}, #{records[0].firstName,jdbcType=VARCHAR}, '50% off'),"
+                + " (#{records[1].id,jdbcType=INTEGER}, #{records[1].firstName,jdbcType=VARCHAR}, '50% off'),"
+                + " (#{records[2].id,jdbcType=INTEGER}, #{records[2].firstName,jdbcType=VARCHAR}, '50% off')";
+        assertThat(insertStatement.getInsertStatement()).isEqualTo(expected);
+    }
+
+    @Test
+    void testConstantsAreNotSplitAtTheRowIndex() {
+        MultiRowInsertStatementProvider<TestRecord> insertStatement = insertMultiple(records(2))
+                .into(foo)
+                .map(id).toConstant("'__row__'")
+                .map(firstName).toProperty("firstName")
+                .map(occupation).toStringConstant("records[__row__]")
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertThat(insertStatement.getInsertStatement()).isEqualTo("insert into foo (id, first_name, occupation)"
+                + " values ('__row__', :records[0].firstName, 'records[__row__]'),"
+                + " ('__row__', :records[1].firstName, 'records[__row__]')");
+    }
+
+    @Test
+    void testChunkedByParameters() {
+        List<TestRecord> records = records(11);
+
+        List<MultiRowInsertStatementProvider<TestRecord>> statements = insertMultiple(records)
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(occupation).toNull()
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER, MultiRowInsertLimits.maxParameters(9));
+
+        assertThat(statements).extracting(s -> s.getRecords().size()).containsExactly(4, 4, 3);
+        assertThat(statements.get(0).getInsertStatement()).isSameAs(statements.get(1).getInsertStatement());
+        assertThat(statements.get(2).getInsertStatement()).isEqualTo("insert into foo (id, first_name, occupation)"
+                + " values (:records[0].id, :records[0].firstName, null),"
+                + " (:records[1].id, :records[1].firstName, null),"
+                + " (:records[2].id, :records[2].firstName, null)");
+        assertThat(statements.stream().flatMap(s -> s.getRecords().stream()).collect(Collectors.toList()))
+                .isEqualTo(records);
+    }
+
+    @Test
+    void testChunkedByStatementLength() {
+        List<MultiRowInsertStatementProvider<TestRecord>> statements = insertMultiple(records(25))
+                .into(foo)
+                .map(id).toProperty("id")
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER, MultiRowInsertLimits.maxStatementLength(200));
+
+        // the row phrase is "(:records[n].id)" - 16 characters for rows 0 - 9, and 17 characters after that
+        assertThat(statements).allSatisfy(s -> assertThat(s.getInsertStatement()).hasSizeLessThanOrEqualTo(200));
+        assertThat(statements).extracting(s -> s.getRecords().size()).containsExactly(9, 9, 7);
+    }
+
+    @Test
+    void testStatementsAreNotChunkedWithinLimits() {
+        List<MultiRowInsertStatementProvider<TestRecord>> statements = insertMultiple(records(5))
+                .into(foo)
+                .map(id).toProperty("id")
+                .build()
+                .render(RenderingStrategies.MYBATIS3, MultiRowInsertLimits.maxParameters(2100));
+
+        assertThat(statements).hasSize(1);
+        assertThat(statements.get(0).getRecords()).hasSize(5);
+    }
+
+    @Test
+    void testRowExceedsLimits() {
+        MultiRowInsertModel<TestRecord> model = insertMultiple(records(2))
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .build();
+        MultiRowInsertLimits limits = MultiRowInsertLimits.maxParameters(1);
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> model.render(RenderingStrategies.MYBATIS3, limits))
+                .withMessage("A single row of a multiple row insert does not fit within the limits");
+    }
+
+    @Test
+    void testInvalidLimits() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> MultiRowInsertLimits.maxParameters(0));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> MultiRowInsertLimits.maxParameters(10).withMaxStatementLength(0));
+    }
+
+    private static List<TestRecord> records(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(TestRecord::new)
+                .collect(Collectors.toList());
+    }
+
+    static class TestRecord {
+        private final Integer id;
+
+        TestRecord(Integer id) {
+            this.id = id;
+        }
+
+        public Integer getId() {
+            return id;
+        }
+
+        public String getFirstName() {
+            return "Fred";
+        }
+    }
+}
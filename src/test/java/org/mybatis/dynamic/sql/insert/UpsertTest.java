@@ -0,0 +1,244 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mybatis.dynamic.sql.SqlBuilder.insert;
+import static org.mybatis.dynamic.sql.SqlBuilder.insertBatch;
+import static org.mybatis.dynamic.sql.SqlBuilder.insertMultiple;
+
+import java.sql.JDBCType;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.insert.render.BatchInsert;
+import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.util.Buildable;
+
+class UpsertTest {
+
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> firstName = foo.column("first_name", JDBCType.VARCHAR);
+    private static final SqlColumn<String> lastName = foo.column("last_name", JDBCType.VARCHAR);
+    private static final SqlColumn<Integer> version = foo.column("version", JDBCType.INTEGER);
+
+    @Test
+    void testOnConflictUpdatesAllColumns() {
+        TestRecord row = new TestRecord(1, "Fred");
+
+        InsertStatementProvider<TestRecord> insertStatement = insert(row).into(foo)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toStringConstant("Flintstone")
+                .onConflict(id)
+                .build()
+                .render(RenderingStrategies.MYBATIS3, UpsertDialect.ON_CONFLICT);
+
+        String expected = "insert into foo (id, first_name, last_name) "
+                + "values (#{record.id,jdbcType=INTEGER}, #{record.firstName,jdbcType=VARCHAR}, 'Flintstone') "
+                + "on conflict (id) do update set first_name = excluded.first_name, last_name = excluded.last_name";
+        assertThat(insertStatement.getInsertStatement()).isEqualTo(expected);
+        assertThat(insertStatement.getRow()).isSameAs(row);
+    }
+
+    @Test
+    void testOnConflictWithUpdateMappings() {
+        InsertStatementProvider<TestRecord> insertStatement = insert(new TestRecord(1, "Fred")).into(foo)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(version).toConstant("1")
+                .onConflict(id)
+                .set(firstName).toInsertedValue()
+                .set(version).toConstant("version + 1")
+                .set(lastName).toNull()
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER, UpsertDialect.ON_CONFLICT);
+
+        assertThat(insertStatement.getInsertStatement())
+                .isEqualTo("insert into foo (id, first_name, version) values (:id, :firstName, 1) "
+                        + "on conflict (id) do update set first_name = excluded.first_name, "
+                        + "version = version + 1, last_name = null");
+    }
+
+    @Test
+    void testOnConflictDoNothing() {
+        Buildable<UpsertModel<TestRecord>> upsert = insert(new TestRecord(1, "Fred")).into(foo)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .onConflict(id, firstName)
+                .doNothing();
+
+        assertThat(upsert.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER, UpsertDialect.ON_CONFLICT)
+                .getInsertStatement())
+                .isEqualTo("insert into foo (id, first_name) values (:id, :firstName) "
+                        + "on conflict (id, first_name) do nothing");
+        assertThat(upsert.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER,
+                UpsertDialect.ON_DUPLICATE_KEY_UPDATE).getInsertStatement())
+                .isEqualTo("insert into foo (id, first_name) values (:id, :firstName) "
+                        + "on duplicate key update id = id");
+        assertThat(upsert.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER, UpsertDialect.MERGE)
+                .getInsertStatement())
+                .isEqualTo("merge into foo t using (values (:id, :firstName)) s (id, first_name) "
+                        + "on t.id = s.id and t.first_name = s.first_name "
+                        + "when not matched then insert (id, first_name) values (s.id, s.first_name)");
+    }
+
+    @Test
+    void testOnDuplicateKeyUpdate() {
+        InsertStatementProvider<TestRecord> insertStatement = insert(new TestRecord(1, "Fred")).into(foo)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(version).toConstant("1")
+                .onConflict(id)
+                .set(firstName).toInsertedValue()
+                .set(version).toConstant("version + 1")
+                .build()
+                .render(RenderingStrategies.MYBATIS3, UpsertDialect.ON_DUPLICATE_KEY_UPDATE);
+
+        assertThat(insertStatement.getInsertStatement())
+                .isEqualTo("insert into foo (id, first_name, version) "
+                        + "values (#{record.id,jdbcType=INTEGER}, #{record.firstName,jdbcType=VARCHAR}, 1) "
+                        + "on duplicate key update first_name = values(first_name), version = version + 1");
+    }
+
+    @Test
+    void testMerge() {
+        InsertStatementProvider<TestRecord> insertStatement = insert(new TestRecord(1, "Fred")).into(foo)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toNull()
+                .map(version).toConstant("1")
+                .onConflict(id)
+                .build()
+                .render(RenderingStrategies.MYBATIS3, UpsertDialect.MERGE);
+
+        assertThat(insertStatement.getInsertStatement())
+                .isEqualTo("merge into foo t using (values (#{record.id,jdbcType=INTEGER}, "
+                        + "#{record.firstName,jdbcType=VARCHAR})) s (id, first_name) on t.id = s.id "
+                        + "when matched then update set first_name = s.first_name, last_name = null, version = 1 "
+                        + "when not matched then insert (id, first_name, last_name, version) "
+                        + "values (s.id, s.first_name, null, 1)");
+    }
+
+    @Test
+    void testBatchMerge() {
+        List<TestRecord> records = Arrays.asList(new TestRecord(1, "Fred"), new TestRecord(2, "Wilma"));
+
+        BatchInsert<TestRecord> batchInsert = insertBatch(records).into(foo)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .onConflict(id)
+                .set(firstName).toInsertedValue()
+                .build()
+                .render(RenderingStrategies.MYBATIS3, UpsertDialect.MERGE);
+
+        assertThat(batchInsert.getInsertStatementSQL())
+                .isEqualTo("merge into foo t using (values (#{record.id,jdbcType=INTEGER}, "
+                        + "#{record.firstName,jdbcType=VARCHAR})) s (id, first_name) on t.id = s.id "
+                        + "when matched then update set first_name = s.first_name "
+                        + "when not matched then insert (id, first_name) values (s.id, s.first_name)");
+        assertThat(batchInsert.getRecords()).isEqualTo(records);
+        assertThat(batchInsert.insertStatements()).hasSize(2);
+    }
+
+    @Test
+    void testMultiRowUpsert() {
+        MultiRowUpsertModel<TestRecord> model = insertMultiple(new TestRecord(1, "Fred"), new TestRecord(2, "Wilma"))
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .onConflict(id)
+                .build();
+
+        MultiRowInsertStatementProvider<TestRecord> insertStatement =
+                model.render(RenderingStrategies.SPRING_NAMED_PARAMETER, UpsertDialect.ON_CONFLICT);
+        assertThat(insertStatement.getInsertStatement())
+                .isEqualTo("insert into foo (id, first_name) values "
+                        + "(:records[0].id, :records[0].firstName), (:records[1].id, :records[1].firstName) "
+                        + "on conflict (id) do update set first_name = excluded.first_name");
+        assertThat(insertStatement.getRecords()).hasSize(2);
+
+        insertStatement = model.render(RenderingStrategies.SPRING_NAMED_PARAMETER, UpsertDialect.MERGE);
+        assertThat(insertStatement.getInsertStatement())
+                .isEqualTo("merge into foo t using (values "
+                        + "(:records[0].id, :records[0].firstName), (:records[1].id, :records[1].firstName)) "
+                        + "s (id, first_name) on t.id = s.id "
+                        + "when matched then update set first_name = s.first_name "
+                        + "when not matched then insert (id, first_name) values (s.id, s.first_name)");
+    }
+
+    @Test
+    void testTargetColumnMustBeMapped() {
+        UpsertModel<TestRecord> model = insert(new TestRecord(1, "Fred")).into(foo)
+                .map(firstName).toProperty("firstName")
+                .onConflict(id)
+                .build();
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> model.render(RenderingStrategies.MYBATIS3, UpsertDialect.ON_CONFLICT))
+                .withMessage("The conflict target column \"id\" is not mapped in the insert");
+    }
+
+    @Test
+    void testInsertedValueColumnMustBeMapped() {
+        UpsertModel<TestRecord> model = insert(new TestRecord(1, "Fred")).into(foo)
+                .map(id).toProperty("id")
+                .onConflict(id)
+                .set(firstName).toInsertedValue()
+                .build();
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> model.render(RenderingStrategies.MYBATIS3, UpsertDialect.MERGE))
+                .withMessage("The column \"first_name\" is not mapped in the insert, so it has no inserted value");
+    }
+
+    @Test
+    void testUpdateMappingsCannotBeCombinedWithDoNothing() {
+        Buildable<UpsertModel<TestRecord>> upsert = insert(new TestRecord(1, "Fred")).into(foo)
+                .map(id).toProperty("id")
+                .onConflict(id)
+                .set(firstName).toNull()
+                .doNothing();
+
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(upsert::build)
+                .withMessage("An upsert cannot both update columns and do nothing on conflict");
+    }
+
+    public static class TestRecord {
+        private final Integer id;
+        private final String firstName;
+
+        TestRecord(Integer id, String firstName) {
+            this.id = id;
+            this.firstName = firstName;
+        }
+
+        public Integer getId() {
+            return id;
+        }
+
+        public String getFirstName() {
+            return firstName;
+        }
+    }
+}
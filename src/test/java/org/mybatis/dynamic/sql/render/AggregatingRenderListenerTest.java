@@ -0,0 +1,144 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class AggregatingRenderListenerTest {
+
+    @Test
+    void testStatisticsForEachShape() {
+        AggregatingRenderListener listener = AggregatingRenderListener.withMaximumShapes(10);
+
+        listener.statementRendered(event(StatementType.SELECT, "select a from t where b = ?", 100, 1));
+        listener.statementRendered(event(StatementType.SELECT, "select a from t where b = ?", 300, 0));
+        listener.statementRendered(event(StatementType.SELECT, "select a from t where b = ?", 1000, 1));
+        listener.statementRendered(event(StatementType.UPDATE, "update t set a = ?", 5, 0));
+
+        List<RenderStatistics> statistics = listener.snapshot();
+        assertThat(listener.shapeCount()).isEqualTo(2);
+        assertThat(statistics).extracting(RenderStatistics::statementType)
+                .containsExactly(StatementType.SELECT, StatementType.UPDATE);
+
+        RenderStatistics select = statistics.get(0);
+        assertThat(select.fingerprint()).isEqualTo(StatementFingerprint.shapeOf("select a from t where b = ?"));
+        assertThat(select.sqlSample()).isEqualTo("select a from t where b = ?");
+        assertThat(select.count()).isEqualTo(3);
+        assertThat(select.totalNanos()).isEqualTo(1400);
+        assertThat(select.maxNanos()).isEqualTo(1000);
+        assertThat(select.meanNanos()).isEqualTo(466);
+        assertThat(select.sqlLength()).isEqualTo(27);
+        assertThat(select.parameterCount()).isEqualTo(1);
+        assertThat(select.skippedConditions()).isEqualTo(2);
+        assertThat(select.histogram()[6]).isEqualTo(1);
+        assertThat(select.histogram()[8]).isEqualTo(1);
+        assertThat(select.histogram()[9]).isEqualTo(1);
+        assertThat(select.percentileNanos(0)).isEqualTo(127);
+        assertThat(select.percentileNanos(50)).isEqualTo(511);
+        assertThat(select.percentileNanos(100)).isEqualTo(1000);
+    }
+
+    @Test
+    void testSameSqlWithDifferentStatementTypes() {
+        AggregatingRenderListener listener = AggregatingRenderListener.withMaximumShapes(10);
+
+        listener.statementRendered(event(StatementType.INSERT, "insert into t (a) values (?)", 10, 0));
+        listener.statementRendered(event(StatementType.BATCH_INSERT, "insert into t (a) values (?)", 10, 0));
+
+        assertThat(listener.shapeCount()).isEqualTo(2);
+    }
+
+    @Test
+    void testMaximumShapes() {
+        AggregatingRenderListener listener = AggregatingRenderListener.withMaximumShapes(2);
+
+        listener.statementRendered(event(StatementType.SELECT, "select a from t", 10, 0));
+        listener.statementRendered(event(StatementType.SELECT, "select b from t", 10, 0));
+        listener.statementRendered(event(StatementType.SELECT, "select c from t", 10, 0));
+        listener.statementRendered(event(StatementType.SELECT, "select a from t", 10, 0));
+
+        assertThat(listener.maximumShapes()).isEqualTo(2);
+        assertThat(listener.shapeCount()).isEqualTo(2);
+        assertThat(listener.overflowCount()).isEqualTo(1);
+        assertThat(listener.snapshot()).extracting(RenderStatistics::sqlSample)
+                .containsExactly("select a from t", "select b from t");
+
+        listener.reset();
+        assertThat(listener.shapeCount()).isZero();
+        assertThat(listener.overflowCount()).isZero();
+    }
+
+    @Test
+    void testLongSqlIsTruncated() {
+        AggregatingRenderListener listener = AggregatingRenderListener.withMaximumShapes(10);
+        StringBuilder sb = new StringBuilder("select a from t where a in (?");
+        for (int i = 0; i < 100; i++) {
+            sb.append(", ?");
+        }
+        String sql = sb.append(')').toString();
+
+        listener.statementRendered(event(StatementType.SELECT, sql, 10, 0));
+
+        RenderStatistics statistics = listener.snapshot().get(0);
+        assertThat(statistics.sqlSample()).hasSize(203).endsWith("...").startsWith(sql.substring(0, 200));
+        assertThat(statistics.sqlLength()).isEqualTo(sql.length());
+    }
+
+    @Test
+    void testDump() {
+        AggregatingRenderListener listener = AggregatingRenderListener.withMaximumShapes(1);
+
+        listener.statementRendered(event(StatementType.DELETE, "delete from t where a = ?", 40, 0));
+        listener.statementRendered(event(StatementType.DELETE, "delete from t", 40, 0));
+
+        String fingerprint = StatementFingerprint.toHex(StatementFingerprint.shapeOf("delete from t where a = ?"));
+        assertThat(listener.dump())
+                .startsWith("Render statistics: 1 shapes, 1 renders of shapes over the maximum")
+                .contains("DELETE " + fingerprint + " count=1 ")
+                .contains(" maxNanos=40 ")
+                .endsWith("sql=delete from t where a = ?" + System.lineSeparator());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> AggregatingRenderListener.withMaximumShapes(0))
+                .withMessage("The maximum number of shapes must be positive");
+
+        AggregatingRenderListener listener = AggregatingRenderListener.withMaximumShapes(1);
+        listener.statementRendered(event(StatementType.SELECT, "select a from t", 10, 0));
+        RenderStatistics statistics = listener.snapshot().get(0);
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> statistics.percentileNanos(101))
+                .withMessage("A percentile must be between 0 and 100");
+    }
+
+    private static RenderEvent event(StatementType statementType, String sql, long renderNanos,
+            int skippedConditions) {
+        return RenderEvent.withStatementType(statementType)
+                .withRenderingStrategy(RenderingStrategies.MYBATIS3)
+                .withSql(sql)
+                .withRenderNanos(renderNanos)
+                .withParameterCount(1)
+                .withSkippedConditions(skippedConditions)
+                .build();
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.JDBCType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.insert.BatchInsertModel;
+import org.mybatis.dynamic.sql.insert.GeneralInsertModel;
+import org.mybatis.dynamic.sql.insert.InsertModel;
+import org.mybatis.dynamic.sql.insert.InsertSelectModel;
+import org.mybatis.dynamic.sql.insert.MultiRowInsertModel;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.update.UpdateModel;
+
+/**
+ * Checks the bytes allocated by rendering a fixed set of statements against the budgets in
+ * allocation-budgets.properties. A change that makes rendering allocate noticeably more must raise the budget
+ * deliberately. Budgets allow some headroom over the measured values so that JVM differences do not fail the build.
+ */
+class AllocationBudgetTest {
+    private static final String BUDGETS = "allocation-budgets.properties"; //$NON-NLS-1$
+
+    private static final SqlTable person = SqlTable.of("person");
+    private static final SqlColumn<Integer> id = person.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> firstName = person.column("first_name", JDBCType.VARCHAR);
+    private static final SqlColumn<String> lastName = person.column("last_name", JDBCType.VARCHAR);
+    private static final SqlColumn<String> occupation = person.column("occupation", JDBCType.VARCHAR);
+    private static final SqlColumn<Integer> addressId = person.column("address_id", JDBCType.INTEGER);
+
+    private static final SqlTable address = SqlTable.of("address");
+    private static final SqlColumn<Integer> addressTableId = address.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> city = address.column("city", JDBCType.VARCHAR);
+
+    private static AllocationMeter allocationMeter;
+    private static Properties budgets;
+
+    @BeforeAll
+    static void setup() throws IOException {
+        allocationMeter = AllocationMeter.create();
+        budgets = new Properties();
+        try (InputStream inputStream = AllocationBudgetTest.class.getResourceAsStream(BUDGETS)) {
+            budgets.load(inputStream);
+        }
+    }
+
+    static Stream<Statement> statements() {
+        List<Statement> statements = new ArrayList<>();
+
+        SelectModel simpleSelect = select(id, firstName, lastName)
+                .from(person)
+                .where(id, isEqualTo(1))
+                .and(occupation, isNotNull())
+                .orderBy(id)
+                .build();
+        statements.add(new Statement("select.simple", () -> simpleSelect.render(RenderingStrategies.MYBATIS3)));
+
+        SelectModel joinedSelect = select(id, firstName, lastName, city)
+                .from(person, "p")
+                .join(address, "a").on(addressId, equalTo(addressTableId))
+                .where(city, isEqualTo("Bedrock"))
+                .orderBy(lastName, firstName)
+                .build();
+        statements.add(new Statement("select.joined", () -> joinedSelect.render(RenderingStrategies.MYBATIS3)));
+
+        SelectModel unionSelect = select(id, firstName)
+                .from(person)
+                .where(id, isLessThan(10))
+                .union()
+                .select(id, firstName)
+                .from(person)
+                .where(lastName, isLike("F%"))
+                .build();
+        statements.add(new Statement("select.union", () -> unionSelect.render(RenderingStrategies.MYBATIS3)));
+
+        SelectModel subQuerySelect = select(id, firstName)
+                .from(person)
+                .where(addressId, isIn(select(addressTableId).from(address).where(city, isEqualTo("Bedrock"))))
+                .build();
+        statements.add(new Statement("select.subQuery", () -> subQuerySelect.render(RenderingStrategies.MYBATIS3)));
+
+        SelectModel nestedCriteriaSelect = select(id, firstName)
+                .from(person)
+                .where(id, isGreaterThan(1),
+                        or(occupation, isNull(), and(lastName, isEqualTo("Rubble"))))
+                .and(addressId, isEqualTo(1), or(addressId, isEqualTo(2)))
+                .build();
+        statements.add(new Statement("select.nestedCriteria",
+                () -> nestedCriteriaSelect.render(RenderingStrategies.MYBATIS3)));
+
+        List<Integer> ids = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+        SelectModel inListSelect = select(id, firstName)
+                .from(person)
+                .where(id, isIn(ids))
+                .build();
+        statements.add(new Statement("select.inList100", () -> inListSelect.render(RenderingStrategies.MYBATIS3)));
+
+        UpdateModel update = update(person)
+                .set(firstName).equalTo("Barney")
+                .set(lastName).equalTo("Rubble")
+                .set(occupation).equalToNull()
+                .where(id, isEqualTo(3))
+                .build();
+        statements.add(new Statement("update", () -> update.render(RenderingStrategies.MYBATIS3)));
+
+        DeleteModel delete = deleteFrom(person)
+                .where(id, isEqualTo(3))
+                .or(lastName, isLike("F%"))
+                .build();
+        statements.add(new Statement("delete", () -> delete.render(RenderingStrategies.MYBATIS3)));
+
+        InsertModel<PersonRecord> insert = insert(new PersonRecord(1))
+                .into(person)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toProperty("lastName")
+                .map(occupation).toNull()
+                .build();
+        statements.add(new Statement("insert", () -> insert.render(RenderingStrategies.MYBATIS3)));
+
+        List<PersonRecord> records = IntStream.range(0, 10).mapToObj(PersonRecord::new).collect(Collectors.toList());
+        BatchInsertModel<PersonRecord> batchInsert = insertBatch(records)
+                .into(person)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toProperty("lastName")
+                .build();
+        statements.add(new Statement("insert.batch", () -> batchInsert.render(RenderingStrategies.MYBATIS3)));
+
+        MultiRowInsertModel<PersonRecord> multiRowInsert = insertMultiple(records)
+                .into(person)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toProperty("lastName")
+                .build();
+        statements.add(new Statement("insert.multiRow10",
+                () -> multiRowInsert.render(RenderingStrategies.MYBATIS3)));
+
+        GeneralInsertModel generalInsert = insertInto(person)
+                .set(id).toValue(1)
+                .set(firstName).toValue("Fred")
+                .set(lastName).toValue("Flintstone")
+                .set(occupation).toNull()
+                .build();
+        statements.add(new Statement("insert.general", () -> generalInsert.render(RenderingStrategies.MYBATIS3)));
+
+        InsertSelectModel insertSelect = insertInto(person)
+                .withColumnList(id, firstName)
+                .withSelectStatement(select(id, firstName).from(person).where(id, isGreaterThan(10)))
+                .build();
+        statements.add(new Statement("insert.select", () -> insertSelect.render(RenderingStrategies.MYBATIS3)));
+
+        return statements.stream();
+    }
+
+    @ParameterizedTest
+    @MethodSource("statements")
+    void testAllocationBudget(Statement statement) {
+        String budget = budgets.getProperty(statement.name);
+        assertThat(budget).as("allocation budget for %s", statement.name).isNotNull();
+        assumeTrue(allocationMeter != null, "The JVM does not measure thread allocations");
+
+        long allocated = allocationMeter.bytesPerOperation(statement.render);
+        assertThat(allocated)
+                .as("bytes allocated rendering %s", statement.name)
+                .isLessThanOrEqualTo(Long.parseLong(budget));
+    }
+
+    @Test
+    void testEveryBudgetHasAStatement() {
+        List<String> names = statements().map(s -> s.name).collect(Collectors.toList());
+        assertThat(budgets.stringPropertyNames()).allMatch(names::contains);
+    }
+
+    static class Statement {
+        private final String name;
+        private final Runnable render;
+
+        Statement(String name, Runnable render) {
+            this.name = name;
+            this.render = render;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    public static class PersonRecord {
+        private final Integer id;
+
+        PersonRecord(Integer id) {
+            this.id = id;
+        }
+
+        public Integer getId() {
+            return id;
+        }
+
+        public String getFirstName() {
+            return "Fred";
+        }
+
+        public String getLastName() {
+            return "Flintstone";
+        }
+    }
+}
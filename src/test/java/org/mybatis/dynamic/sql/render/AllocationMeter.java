@@ -0,0 +1,74 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures the bytes allocated by the current thread with {@code com.sun.management.ThreadMXBean}.
+ */
+class AllocationMeter {
+    private static final int WARMUP_OPERATIONS = 5000;
+    private static final int ROUNDS = 5;
+    private static final int OPERATIONS_PER_ROUND = 500;
+
+    private final com.sun.management.ThreadMXBean threadMXBean;
+
+    private AllocationMeter(com.sun.management.ThreadMXBean threadMXBean) {
+        this.threadMXBean = threadMXBean;
+    }
+
+    /**
+     * Returns the bytes allocated by one run of the operation. The operation is warmed up first so that class
+     * loading and the interpreter do not count, and the lowest average of several rounds is returned so that a
+     * garbage collection or a JIT deoptimization in one round does not count either.
+     */
+    long bytesPerOperation(Runnable operation) {
+        for (int i = 0; i < WARMUP_OPERATIONS; i++) {
+            operation.run();
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long lowest = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = threadMXBean.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < OPERATIONS_PER_ROUND; i++) {
+                operation.run();
+            }
+            long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - start;
+            lowest = Math.min(lowest, allocated / OPERATIONS_PER_ROUND);
+        }
+        return lowest;
+    }
+
+    /**
+     * Returns a meter, or null if the JVM does not measure thread allocations.
+     */
+    static AllocationMeter create() {
+        java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (!(threadMXBean instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+
+        com.sun.management.ThreadMXBean sunThreadMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+        if (!sunThreadMXBean.isThreadAllocatedMemorySupported()) {
+            return null;
+        }
+
+        sunThreadMXBean.setThreadAllocatedMemoryEnabled(true);
+        return new AllocationMeter(sunThreadMXBean);
+    }
+}
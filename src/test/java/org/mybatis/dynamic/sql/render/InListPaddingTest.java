@@ -0,0 +1,218 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.where.condition.IsIn;
+
+class InListPaddingTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> description = foo.column("description", JDBCType.VARCHAR);
+
+    @Test
+    void testPowersOfTwo() {
+        InListPadding padding = InListPadding.powersOfTwo();
+
+        assertThat(padding.paddedSize(1)).isEqualTo(1);
+        assertThat(padding.paddedSize(2)).isEqualTo(2);
+        assertThat(padding.paddedSize(3)).isEqualTo(4);
+        assertThat(padding.paddedSize(5)).isEqualTo(8);
+        assertThat(padding.paddedSize(8)).isEqualTo(8);
+        assertThat(padding.paddedSize(1000)).isEqualTo(1024);
+        assertThat(padding.paddedSize((1 << 30) + 1)).isEqualTo((1 << 30) + 1);
+    }
+
+    @Test
+    void testBucketSizes() {
+        InListPadding padding = InListPadding.withBucketSizes(100, 10, 50, 10);
+
+        assertThat(padding.paddedSize(1)).isEqualTo(10);
+        assertThat(padding.paddedSize(10)).isEqualTo(10);
+        assertThat(padding.paddedSize(11)).isEqualTo(50);
+        assertThat(padding.paddedSize(99)).isEqualTo(100);
+        assertThat(padding.paddedSize(101)).isEqualTo(200);
+        assertThat(padding.paddedSize(300)).isEqualTo(300);
+    }
+
+    @Test
+    void testInvalidBucketSizes() {
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(InListPadding::withBucketSizes);
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> InListPadding.withBucketSizes(0, 10));
+    }
+
+    @Test
+    void testNone() {
+        InListPadding padding = InListPadding.none();
+
+        assertThat(padding.isEnabled()).isFalse();
+        assertThat(padding.paddedSize(3)).isEqualTo(3);
+        assertThat(padding.distinctListSizes()).isZero();
+    }
+
+    @Test
+    void testStatistics() {
+        InListPadding padding = InListPadding.powersOfTwo();
+
+        for (int i = 1; i <= 16; i++) {
+            padding.paddedSize(i);
+        }
+        padding.paddedSize(16);
+
+        assertThat(padding.distinctListSizes()).isEqualTo(16);
+        assertThat(padding.distinctPaddedSizes()).isEqualTo(5);
+        assertThat(padding.shapesAvoided()).isEqualTo(11);
+
+        padding.resetStatistics();
+        assertThat(padding.shapesAvoided()).isZero();
+    }
+
+    @Test
+    void testStatisticsIgnoreLargeSizes() {
+        InListPadding padding = InListPadding.withBucketSizes(100);
+
+        for (int i = 1; i <= 100_000; i++) {
+            padding.paddedSize(i);
+        }
+
+        assertThat(padding.distinctListSizes()).isEqualTo(InListPadding.MAX_RECORDED_SIZE);
+        assertThat(padding.distinctPaddedSizes()).isEqualTo(InListPadding.MAX_RECORDED_SIZE / 100);
+        assertThat(padding.paddedSize(100_001)).isEqualTo(100_100);
+    }
+
+    @Test
+    void testConditionPadding() {
+        InListPadding padding = InListPadding.powersOfTwo();
+
+        SelectStatementProvider selectStatement = select(id)
+                .from(foo)
+                .where(id, isIn(1, 2, 3).withListPadding(padding))
+                .and(description, isNotInCaseInsensitive("a", "b", "c", "d", "e").withListPadding(padding))
+                .and(id, isEqualTo(4))
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertThat(selectStatement.getSelectStatement()).isEqualTo("select id from foo"
+                + " where id in (:p1,:p2,:p3,:p4)"
+                + " and upper(description) not in (:p5,:p6,:p7,:p8,:p9,:p10,:p11,:p12)"
+                + " and id = :p13");
+        assertThat(selectStatement.getParameters()).containsExactly(entry("p1", 1), entry("p2", 2),
+                entry("p3", 3), entry("p4", 3), entry("p5", "A"), entry("p6", "B"), entry("p7", "C"),
+                entry("p8", "D"), entry("p9", "E"), entry("p10", "E"), entry("p11", "E"), entry("p12", "E"),
+                entry("p13", 4));
+        assertThat(padding.shapesAvoided()).isZero();
+        assertThat(padding.distinctPaddedSizes()).isEqualTo(2);
+    }
+
+    @Test
+    void testPaddingSurvivesFilterAndMap() {
+        IsIn<Integer> condition = isIn(1, 2, 3, 4, 5)
+                .withListPadding(InListPadding.withBucketSizes(4))
+                .filter(i -> i > 1)
+                .map(i -> i * 10)
+                .withListEmptyCallback(() -> { });
+
+        SelectStatementProvider selectStatement = select(id)
+                .from(foo)
+                .where(id, condition)
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        assertThat(selectStatement.getSelectStatement()).isEqualTo("select id from foo where id in ("
+                + "#{parameters.p1,jdbcType=INTEGER},#{parameters.p2,jdbcType=INTEGER},"
+                + "#{parameters.p3,jdbcType=INTEGER},#{parameters.p4,jdbcType=INTEGER})");
+    }
+
+    @Test
+    void testStrategyPadding() {
+        RenderingStrategy strategy = new SpringNamedParameterRenderingStrategy() {
+            private final InListPadding padding = InListPadding.withBucketSizes(5);
+
+            @Override
+            public Optional<InListPadding> inListPadding() {
+                return Optional.of(padding);
+            }
+        };
+
+        SelectStatementProvider selectStatement = select(id)
+                .from(foo)
+                .where(id, isIn(1, 2))
+                .or(id, isIn(3).withListPadding(InListPadding.none()))
+                .build()
+                .render(strategy);
+
+        assertThat(selectStatement.getSelectStatement())
+                .isEqualTo("select id from foo where id in (:p1,:p2,:p3,:p4,:p5) or id in (:p6)");
+        assertThat(selectStatement.getParameters()).containsValues(1, 2, 3).hasSize(6);
+    }
+
+    @Test
+    void testGlobalDefault() {
+        try {
+            InListPadding.setGlobalDefault(InListPadding.powersOfTwo());
+
+            SelectStatementProvider selectStatement = select(id)
+                    .from(foo)
+                    .where(id, isNotIn(1, 2, 3))
+                    .and(id, isInWhenPresent(4, 5, 6))
+                    .build()
+                    .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+            assertThat(selectStatement.getSelectStatement()).isEqualTo("select id from foo"
+                    + " where id not in (:p1,:p2,:p3,:p4) and id in (:p5,:p6,:p7,:p8)");
+        } finally {
+            InListPadding.setGlobalDefault(InListPadding.none());
+        }
+    }
+
+    @Test
+    void testRenderCacheSharesPaddedShape() {
+        RenderCache renderCache = RenderCache.withMaximumSize(10);
+        InListPadding padding = InListPadding.powersOfTwo();
+
+        SelectStatementProvider selectStatement1 = select(id)
+                .from(foo)
+                .where(id, isIn(1, 2, 3).withListPadding(padding))
+                .build()
+                .render(RenderingStrategies.MYBATIS3, renderCache);
+
+        SelectStatementProvider selectStatement2 = select(id)
+                .from(foo)
+                .where(id, isIn(5, 6, 7, 8).withListPadding(padding))
+                .build()
+                .render(RenderingStrategies.MYBATIS3, renderCache);
+
+        assertThat(selectStatement2.getSelectStatement()).isSameAs(selectStatement1.getSelectStatement());
+        assertThat(selectStatement1.getParameters()).containsExactly(entry("p1", 1), entry("p2", 2),
+                entry("p3", 3), entry("p4", 3));
+        assertThat(selectStatement2.getParameters()).containsExactly(entry("p1", 5), entry("p2", 6),
+                entry("p3", 7), entry("p4", 8));
+        assertThat(renderCache.hitCount()).isEqualTo(1);
+        assertThat(padding.shapesAvoided()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.JDBCType;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.BindableColumn;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+
+class PlaceholderTemplateTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+
+    @Test
+    void testMyBatis3Template() {
+        SqlColumn<String> column = foo.column("name", JDBCType.VARCHAR).withTypeHandler("foo.Bar");
+        PlaceholderTemplate template = column.placeholderTemplate(RenderingStrategies.MYBATIS3, "parameters");
+
+        assertThat(template.isSpliced()).isTrue();
+        assertThat(template.placeholder("p7"))
+                .isEqualTo("#{parameters.p7,jdbcType=VARCHAR,typeHandler=foo.Bar}")
+                .isEqualTo(RenderingStrategies.MYBATIS3.getFormattedJdbcPlaceholder(column, "parameters", "p7"));
+    }
+
+    @Test
+    void testSpringTemplate() {
+        PlaceholderTemplate template = id.placeholderTemplate(RenderingStrategies.SPRING_NAMED_PARAMETER,
+                "parameters");
+
+        assertThat(template.isSpliced()).isTrue();
+        assertThat(template.placeholder("p3")).isEqualTo(":p3");
+    }
+
+    @Test
+    void testSubclassedStrategyIsSpliced() {
+        RenderingStrategy strategy = new MyBatis3RenderingStrategy() {
+            @Override
+            public String getFormattedJdbcPlaceholder(BindableColumn<?> column, String prefix, String parameterName) {
+                return super.getFormattedJdbcPlaceholder(column, prefix, parameterName) + "::json";
+            }
+        };
+
+        PlaceholderTemplate template = id.placeholderTemplate(strategy, "record");
+        assertThat(template.isSpliced()).isTrue();
+        assertThat(template.placeholder("p2")).isEqualTo("#{record.p2,jdbcType=INTEGER}::json");
+    }
+
+    @Test
+    void testStrategyThatChangesTheKeyIsNotSpliced() {
+        RenderingStrategy strategy = new SpringNamedParameterRenderingStrategy() {
+            @Override
+            public String getFormattedJdbcPlaceholder(String prefix, String parameterName) {
+                return ":" + parameterName.toUpperCase();
+            }
+        };
+
+        PlaceholderTemplate template = id.placeholderTemplate(strategy, "parameters");
+        assertThat(template.isSpliced()).isFalse();
+        assertThat(template.placeholder("p4")).isEqualTo(":P4");
+    }
+
+    @Test
+    void testDefaultTemplateCallsStrategy() {
+        RenderingStrategy strategy = new RenderingStrategy() {
+            @Override
+            public String getFormattedJdbcPlaceholder(BindableColumn<?> column, String prefix,
+                    String parameterName) {
+                return getFormattedJdbcPlaceholder(prefix, parameterName);
+            }
+
+            @Override
+            public String getFormattedJdbcPlaceholder(String prefix, String parameterName) {
+                return "?";
+            }
+        };
+
+        PlaceholderTemplate template = id.placeholderTemplate(strategy, "parameters");
+        assertThat(template.isSpliced()).isFalse();
+        assertThat(template.placeholder("p1")).isEqualTo("?");
+    }
+
+    @Test
+    void testColumnCachesTemplate() {
+        PlaceholderTemplate template = id.placeholderTemplate(RenderingStrategies.MYBATIS3, "parameters");
+
+        assertThat(id.placeholderTemplate(RenderingStrategies.MYBATIS3, "parameters")).isSameAs(template);
+        assertThat(id.placeholderTemplate(RenderingStrategies.MYBATIS3, "record")).isNotSameAs(template);
+        assertThat(id.placeholderTemplate(RenderingStrategies.SPRING_NAMED_PARAMETER, "parameters")
+                .placeholder("p1")).isEqualTo(":p1");
+    }
+
+    @Test
+    void testColumnRenderingStrategyOverridesDefault() {
+        SqlColumn<Integer> column = id.withRenderingStrategy(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertThat(column.placeholderTemplate(RenderingStrategies.MYBATIS3, "parameters").placeholder("p1"))
+                .isEqualTo(":p1");
+    }
+
+    @Test
+    void testQualifiedNames() {
+        TableAliasCalculator a = TableAliasCalculator.of(foo, "a");
+        TableAliasCalculator b = TableAliasCalculator.of(foo, "b");
+
+        assertThat(id.renderWithTableAlias(a)).isEqualTo("a.id");
+        assertThat(id.renderWithTableAlias(a)).isSameAs(id.renderWithTableAlias(a));
+        assertThat(id.renderWithTableAlias(b)).isEqualTo("b.id");
+        assertThat(id.renderWithTableAlias(TableAliasCalculator.empty())).isEqualTo("id");
+        assertThat(id.qualifiedWith("q").renderWithTableAlias(a)).isEqualTo("q.id");
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+
+class PositionalParametersTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> description = foo.column("description", JDBCType.VARCHAR);
+
+    @Test
+    void testSelectWithSubQueryUnionAndPaging() {
+        SelectStatementProvider selectStatement = select(id, description)
+                .from(foo)
+                .where(id, isGreaterThan(1))
+                .and(id, isIn(select(id).from(foo).where(description, isLike("%a%"))))
+                .and(description, isIn("x", "y"))
+                .union()
+                .select(id, description)
+                .from(foo)
+                .where(id, isBetween(10).and(20))
+                .orderBy(id)
+                .limit(5)
+                .offset(2)
+                .build()
+                .render(RenderingStrategies.JDBC_POSITIONAL);
+
+        assertThat(selectStatement.getSelectStatement()).isEqualTo("select id, description from foo "
+                + "where id > ? and id in (select id from foo where description like ?) and description in (?,?) "
+                + "union select id, description from foo where id between ? and ? "
+                + "order by id limit ? offset ?");
+
+        PositionalParameters parameters = PositionalParameters.of(selectStatement.getParameters());
+        assertThat(parameters.values()).containsExactly(1, "%a%", "x", "y", 10, 20, 5L, 2L);
+        assertThat(parameters.sqlTypes()).containsExactly(Types.INTEGER, Types.VARCHAR, Types.VARCHAR,
+                Types.VARCHAR, Types.INTEGER, Types.INTEGER, Types.BIGINT, Types.BIGINT);
+    }
+
+    @Test
+    void testUpdate() {
+        UpdateStatementProvider updateStatement = update(foo)
+                .set(description).equalTo("new")
+                .set(id).equalToNull()
+                .set(description).equalToWhenPresent((String) null)
+                .where(id, isEqualTo(3))
+                .build()
+                .render(RenderingStrategies.JDBC_POSITIONAL);
+
+        assertThat(updateStatement.getUpdateStatement())
+                .isEqualTo("update foo set description = ?, id = null where id = ?");
+
+        PositionalParameters parameters = PositionalParameters.of(updateStatement.getParameters());
+        assertThat(parameters.size()).isEqualTo(2);
+        assertThat(parameters.value(0)).isEqualTo("new");
+        assertThat(parameters.value(1)).isEqualTo(3);
+    }
+
+    @Test
+    void testNullValueHasUnknownType() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("p2", null);
+        map.put("p1", new java.util.Date());
+
+        PositionalParameters parameters = PositionalParameters.of(map);
+        assertThat(parameters.sqlTypes()).containsExactly(Types.TIMESTAMP, PositionalParameters.TYPE_UNKNOWN);
+        assertThat(parameters.value(1)).isNull();
+    }
+
+    @Test
+    void testEmpty() {
+        assertThat(PositionalParameters.of(new HashMap<>()).size()).isZero();
+    }
+
+    @Test
+    void testNamedParameterIsRejected() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("p1", 1);
+        map.put("id", 2);
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> PositionalParameters.of(map))
+                .withMessageContaining("\"id\"");
+    }
+
+    @Test
+    void testGapIsRejected() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("p1", 1);
+        map.put("p3", 2);
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> PositionalParameters.of(map))
+                .withMessageContaining("\"p3\"");
+    }
+
+    @Test
+    void testValuesAreCopied() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("p1", 1);
+        PositionalParameters parameters = PositionalParameters.of(map);
+
+        parameters.values()[0] = 2;
+        assertThat(Arrays.asList(parameters.values())).containsExactly(1);
+    }
+}
@@ -0,0 +1,373 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.AbstractSingleValueCondition;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.insert.MultiRowInsertLimits;
+import org.mybatis.dynamic.sql.insert.render.GeneralInsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+
+class RenderCacheTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> description = foo.column("description", JDBCType.VARCHAR);
+
+    private static final SqlTable bar = SqlTable.of("bar");
+    private static final SqlColumn<Integer> barId = bar.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<Integer> fooId = bar.column("foo_id", JDBCType.INTEGER);
+
+    @Test
+    void testSelectHit() {
+        RenderCache renderCache = RenderCache.withMaximumSize(10);
+
+        SelectStatementProvider selectStatement1 = select(id, description)
+                .from(foo)
+                .where(id, isEqualTo(3))
+                .and(description, isLike("%a%"))
+                .build()
+                .render(RenderingStrategies.MYBATIS3, renderCache);
+
+        SelectStatementProvider selectStatement2 = select(id, description)
+                .from(foo)
+                .where(id, isEqualTo(4))
+                .and(description, isLike("%b%"))
+                .build()
+                .render(RenderingStrategies.MYBATIS3, renderCache);
+
+        String expected = "select id, description from foo"
+                + " where id = #{parameters.p1,jdbcType=INTEGER}"
+                + " and description like #{parameters.p2,jdbcType=VARCHAR}";
+
+        assertThat(selectStatement1.getSelectStatement()).isEqualTo(expected);
+        assertThat(selectStatement1.getParameters()).containsOnly(entry("p1", 3), entry("p2", "%a%"));
+        assertThat(selectStatement2.getSelectStatement()).isEqualTo(expected);
+        assertThat(selectStatement2.getParameters()).containsOnly(entry("p1", 4), entry("p2", "%b%"));
+        assertThat(renderCache.missCount()).isEqualTo(1);
+        assertThat(renderCache.hitCount()).isEqualTo(1);
+        assertThat(renderCache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void testDifferentShapesMiss() {
+        RenderCache renderCache = RenderCache.withMaximumSize(10);
+
+        renderListQuery(renderCache, Arrays.asList(1, 2), null);
+        renderListQuery(renderCache, Arrays.asList(1, 2, 3), null);
+        renderListQuery(renderCache, Arrays.asList(1, 2), "fred");
+        renderListQuery(renderCache, Arrays.asList(4, 5), "barney");
+
+        select(id).from(foo).where(id, isEqualTo(3)).build().render(RenderingStrategies.SPRING_NAMED_PARAMETER,
+                renderCache);
+
+        assertThat(renderCache.missCount()).isEqualTo(4);
+        assertThat(renderCache.hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testHitMatchesUncachedRendering() {
+        RenderCache renderCache = RenderCache.withMaximumSize(10);
+
+        for (int i = 0; i < 3; i++) {
+            SelectModel selectModel = complexQuery(i);
+            SelectStatementProvider expected = selectModel.render(RenderingStrategies.MYBATIS3);
+            SelectStatementProvider actual = selectModel.render(RenderingStrategies.MYBATIS3, renderCache);
+
+            assertThat(actual.getSelectStatement()).isEqualTo(expected.getSelectStatement());
+            assertThat(actual.getParameters()).isEqualTo(expected.getParameters());
+        }
+
+        assertThat(renderCache.missCount()).isEqualTo(1);
+        assertThat(renderCache.hitCount()).isEqualTo(2);
+    }
+
+    @Test
+    void testSkippedConditionCallbackOnHit() {
+        RenderCache renderCache = RenderCache.withMaximumSize(10);
+
+        for (int i = 0; i < 2; i++) {
+            SelectModel selectModel = select(id)
+                    .from(foo)
+                    .where(id, isIn(Collections.<Integer>emptyList())
+                            .withListEmptyCallback(() -> { throw new IllegalStateException("Empty"); }))
+                    .build();
+
+            assertThatExceptionOfType(IllegalStateException.class)
+                    .isThrownBy(() -> selectModel.render(RenderingStrategies.MYBATIS3, renderCache))
+                    .withMessage("Empty");
+        }
+    }
+
+    @Test
+    void testRuntimeTableName() {
+        RenderCache renderCache = RenderCache.withMaximumSize(10);
+        StringBuilder tableName = new StringBuilder("t1");
+        SqlTable table = new SqlTable(tableName::toString) {};
+        SqlColumn<Integer> column = table.column("id");
+
+        SelectStatementProvider selectStatement = select(column).from(table)
+                .build()
+                .render(RenderingStrategies.MYBATIS3, renderCache);
+        assertThat(selectStatement.getSelectStatement()).isEqualTo("select id from t1");
+
+        tableName.replace(0, 2, "t2");
+        selectStatement = select(column).from(table)
+                .build()
+                .render(RenderingStrategies.MYBATIS3, renderCache);
+        assertThat(selectStatement.getSelectStatement()).isEqualTo("select id from t2");
+        assertThat(renderCache.hitCount()).isZero();
+    }
+
+    @Test
+    void testUpdateAndDelete() {
+        RenderCache renderCache = RenderCache.withMaximumSize(10);
+
+        for (int i = 0; i < 2; i++) {
+            UpdateStatementProvider updateStatement = update(foo)
+                    .set(description).equalTo("d" + i)
+                    .set(id).equalToWhenPresent((Integer) null)
+                    .where(id, isEqualTo(i))
+                    .build()
+                    .render(RenderingStrategies.SPRING_NAMED_PARAMETER, renderCache);
+
+            assertThat(updateStatement.getUpdateStatement()).isEqualTo("update foo set description = :p1 where id = :p2");
+            assertThat(updateStatement.getParameters()).containsOnly(entry("p1", "d" + i), entry("p2", i));
+
+            DeleteStatementProvider deleteStatement = deleteFrom(foo)
+                    .where(id, isBetween(i).and(i + 10))
+                    .build()
+                    .render(RenderingStrategies.SPRING_NAMED_PARAMETER, renderCache);
+
+            assertThat(deleteStatement.getDeleteStatement()).isEqualTo("delete from foo where id between :p1 and :p2");
+            assertThat(deleteStatement.getParameters()).containsOnly(entry("p1", i), entry("p2", i + 10));
+        }
+
+        assertThat(renderCache.missCount()).isEqualTo(2);
+        assertThat(renderCache.hitCount()).isEqualTo(2);
+    }
+
+    @Test
+    void testInserts() {
+        RenderCache renderCache = RenderCache.withMaximumSize(10);
+
+        for (int i = 0; i < 2; i++) {
+            GeneralInsertStatementProvider generalInsert = insertInto(foo)
+                    .set(id).toValue(i)
+                    .set(description).toConstant("'x'")
+                    .build()
+                    .render(RenderingStrategies.SPRING_NAMED_PARAMETER, renderCache);
+
+            assertThat(generalInsert.getInsertStatement()).isEqualTo("insert into foo (id, description) values (:p1, 'x')");
+            assertThat(generalInsert.getParameters()).containsOnly(entry("p1", i));
+
+            Row row = new Row(i, "d" + i);
+            InsertStatementProvider<Row> insertStatement = insert(row)
+                    .into(foo)
+                    .map(id).toProperty("id")
+                    .map(description).toPropertyWhenPresent("description", row::getDescription)
+                    .build()
+                    .render(RenderingStrategies.SPRING_NAMED_PARAMETER, renderCache);
+
+            assertThat(insertStatement.getInsertStatement())
+                    .isEqualTo("insert into foo (id, description) values (:id, :description)");
+            assertThat(insertStatement.getRow()).isSameAs(row);
+
+            List<Row> records = Arrays.asList(new Row(i, "a"), new Row(i + 1, "b"));
+            MultiRowInsertStatementProvider<Row> multiRowInsert = insertMultiple(records)
+                    .into(foo)
+                    .map(id).toProperty("id")
+                    .build()
+                    .render(RenderingStrategies.SPRING_NAMED_PARAMETER, renderCache);
+
+            assertThat(multiRowInsert.getInsertStatement())
+                    .isEqualTo("insert into foo (id) values (:records[0].id), (:records[1].id)");
+            assertThat(multiRowInsert.getRecords()).containsExactlyElementsOf(records);
+        }
+
+        assertThat(renderCache.missCount()).isEqualTo(3);
+        assertThat(renderCache.hitCount()).isEqualTo(3);
+    }
+
+    @Test
+    void testSplitMultiRowInserts() {
+        RenderCache renderCache = RenderCache.withMaximumSize(10);
+        MultiRowInsertLimits limits = MultiRowInsertLimits.maxParameters(4);
+
+        for (int i = 0; i < 2; i++) {
+            List<Row> records = Arrays.asList(new Row(i, "a"), new Row(i + 1, "b"), new Row(i + 2, "c"));
+            List<MultiRowInsertStatementProvider<Row>> statements = insertMultiple(records)
+                    .into(foo)
+                    .map(id).toProperty("id")
+                    .map(description).toProperty("description")
+                    .build()
+                    .render(RenderingStrategies.SPRING_NAMED_PARAMETER, limits, renderCache);
+
+            assertThat(statements).extracting(MultiRowInsertStatementProvider::getInsertStatement).containsExactly(
+                    "insert into foo (id, description) values (:records[0].id, :records[0].description),"
+                            + " (:records[1].id, :records[1].description)",
+                    "insert into foo (id, description) values (:records[0].id, :records[0].description)");
+            assertThat(statements.get(1).getRecords()).containsExactly(records.get(2));
+        }
+
+        assertThat(renderCache.missCount()).isEqualTo(2);
+        assertThat(renderCache.hitCount()).isEqualTo(2);
+
+        // an unsplit insert of the same rows shares the cached SQL
+        insertMultiple(Collections.singletonList(new Row(5, "e")))
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(description).toProperty("description")
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER, renderCache);
+        assertThat(renderCache.hitCount()).isEqualTo(3);
+    }
+
+    @Test
+    void testEviction() {
+        RenderCache renderCache = RenderCache.withMaximumSize(2);
+
+        renderListQuery(renderCache, Collections.singletonList(1), null);
+        renderListQuery(renderCache, Arrays.asList(1, 2), null);
+        renderListQuery(renderCache, Arrays.asList(1, 2, 3), null);
+
+        assertThat(renderCache.size()).isEqualTo(2);
+        assertThat(renderCache.evictionCount()).isEqualTo(1);
+
+        // the oldest entry was evicted
+        renderListQuery(renderCache, Collections.singletonList(4), null);
+        assertThat(renderCache.hitCount()).isZero();
+
+        renderCache.clear();
+        assertThat(renderCache.size()).isZero();
+    }
+
+    @Test
+    void testCustomConditionsAreKeyedByRendering() {
+        RenderCache renderCache = RenderCache.withMaximumSize(10);
+
+        SelectStatementProvider selectStatement1 = renderCustomQuery(renderCache, ">", 3);
+        SelectStatementProvider selectStatement2 = renderCustomQuery(renderCache, "<", 4);
+        SelectStatementProvider selectStatement3 = renderCustomQuery(renderCache, ">", 5);
+
+        assertThat(selectStatement1.getSelectStatement())
+                .isEqualTo("select id from foo where id > #{parameters.p1,jdbcType=INTEGER}");
+        assertThat(selectStatement2.getSelectStatement())
+                .isEqualTo("select id from foo where id < #{parameters.p1,jdbcType=INTEGER}");
+        assertThat(selectStatement3.getSelectStatement()).isEqualTo(selectStatement1.getSelectStatement());
+        assertThat(selectStatement3.getParameters()).containsExactly(entry("p1", 5));
+        assertThat(renderCache.missCount()).isEqualTo(2);
+        assertThat(renderCache.hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testInvalidMaximumSize() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> RenderCache.withMaximumSize(0));
+    }
+
+    private SelectStatementProvider renderListQuery(RenderCache renderCache, List<Integer> ids, String desc) {
+        return select(id, description)
+                .from(foo)
+                .where(id, isIn(ids))
+                .and(description, isEqualToWhenPresent(desc))
+                .build()
+                .render(RenderingStrategies.MYBATIS3, renderCache);
+    }
+
+    private SelectStatementProvider renderCustomQuery(RenderCache renderCache, String operator, int value) {
+        return select(id)
+                .from(foo)
+                .where(id, new OperatorCondition<>(operator, value))
+                .build()
+                .render(RenderingStrategies.MYBATIS3, renderCache);
+    }
+
+    private SelectModel complexQuery(int i) {
+        return select(id, description, count().as("cnt"))
+                .from(foo, "f")
+                .join(bar, "b").on(id, equalTo(fooId))
+                .where(id, isGreaterThan(i), or(description, isNull()))
+                .and(id, isIn(select(fooId).from(bar).where(barId, isLessThan(i + 100))))
+                .and(exists(select(barId).from(bar).where(barId, isEqualTo(i + 200))))
+                .and(id, isEqualTo(barId))
+                .groupBy(id, description)
+                .union()
+                .select(id, description, count().as("cnt"))
+                .from(foo, "f")
+                .where(description, isIn("a" + i, "b" + i))
+                .groupBy(id, description)
+                .orderBy(id.descending())
+                .limit(i + 10)
+                .offset(i + 20)
+                .build();
+    }
+
+    // renders differently depending on its state, not only on its class
+    private static class OperatorCondition<T> extends AbstractSingleValueCondition<T> {
+        private final String operator;
+
+        private OperatorCondition(String operator, T value) {
+            super(value);
+            this.operator = operator;
+        }
+
+        @Override
+        public OperatorCondition<T> filter(Predicate<? super T> predicate) {
+            return this;
+        }
+
+        @Override
+        public String renderCondition(String columnName, String placeholder) {
+            return columnName + " " + operator + " " + placeholder;
+        }
+    }
+
+    public static class Row {
+        private final Integer id;
+        private final String description;
+
+        public Row(Integer id, String description) {
+            this.id = id;
+            this.description = description;
+        }
+
+        public Integer getId() {
+            return id;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+}
@@ -0,0 +1,301 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.insert.MultiRowInsertLimits;
+import org.mybatis.dynamic.sql.insert.UpsertDialect;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+
+class RenderListenerTest {
+    private static final SqlTable person = SqlTable.of("person");
+    private static final SqlColumn<Integer> id = person.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> firstName = person.column("first_name", JDBCType.VARCHAR);
+    private static final SqlColumn<String> lastName = person.column("last_name", JDBCType.VARCHAR);
+    private static final SqlColumn<String> occupation = person.column("occupation", JDBCType.VARCHAR);
+
+    private final List<RenderEvent> events = new ArrayList<>();
+
+    @AfterEach
+    void removeGlobalListener() {
+        RenderListeners.removeGlobalListener();
+    }
+
+    @Test
+    void testNoListenerByDefault() {
+        assertThat(RenderListeners.globalListener()).isEmpty();
+        assertThat(RenderingStrategies.MYBATIS3.renderListener()).isEmpty();
+        assertThat(RenderTimer.start(RenderingStrategies.MYBATIS3, StatementType.SELECT).isListening()).isFalse();
+    }
+
+    @Test
+    void testGlobalListener() {
+        RenderListeners.setGlobalListener(events::add);
+
+        SelectStatementProvider selectStatement = select(id, firstName)
+                .from(person)
+                .where(id, isEqualTo(3))
+                .and(firstName, isEqualToWhenPresent((String) null))
+                .and(lastName, isLike("F%"))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        assertThat(events).hasSize(1);
+        RenderEvent event = events.get(0);
+        assertThat(event.statementType()).isEqualTo(StatementType.SELECT);
+        assertThat(event.renderingStrategy()).isSameAs(RenderingStrategies.MYBATIS3);
+        assertThat(event.sql()).isEqualTo(selectStatement.getSelectStatement());
+        assertThat(event.sqlLength()).isEqualTo(selectStatement.getSelectStatement().length());
+        assertThat(event.parameterCount()).isEqualTo(2);
+        assertThat(event.skippedConditions()).isEqualTo(1);
+        assertThat(event.renderNanos()).isNotNegative();
+        assertThat(event.fingerprint()).isEqualTo(selectStatement.getShapeFingerprint());
+    }
+
+    @Test
+    void testStrategyListenerReplacesGlobalListener() {
+        List<RenderEvent> globalEvents = new ArrayList<>();
+        RenderListeners.setGlobalListener(globalEvents::add);
+        RenderingStrategy renderingStrategy = new SpringNamedParameterRenderingStrategy() {
+            @Override
+            public Optional<RenderListener> renderListener() {
+                return Optional.of(events::add);
+            }
+        };
+
+        deleteFrom(person)
+                .where(id, isEqualTo(3))
+                .build()
+                .render(renderingStrategy);
+        deleteFrom(person)
+                .where(id, isEqualTo(3))
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertThat(events).extracting(RenderEvent::sql).containsExactly("delete from person where id = :p1");
+        assertThat(globalEvents).extracting(RenderEvent::statementType).containsExactly(StatementType.DELETE);
+    }
+
+    @Test
+    void testRemoveGlobalListener() {
+        RenderListeners.setGlobalListener(events::add);
+        RenderListeners.removeGlobalListener();
+
+        deleteFrom(person).build().render(RenderingStrategies.MYBATIS3);
+
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    void testUpdate() {
+        RenderListeners.setGlobalListener(events::add);
+
+        update(person)
+                .set(firstName).equalTo("Fred")
+                .set(lastName).equalToWhenPresent((String) null)
+                .where(id, isEqualTo(3))
+                .and(occupation, isEqualToWhenPresent((String) null))
+                .or(occupation, isLikeWhenPresent((String) null))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        assertThat(events).hasSize(1);
+        RenderEvent event = events.get(0);
+        assertThat(event.statementType()).isEqualTo(StatementType.UPDATE);
+        assertThat(event.parameterCount()).isEqualTo(2);
+        assertThat(event.skippedConditions()).isEqualTo(2);
+    }
+
+    @Test
+    void testInserts() {
+        RenderListeners.setGlobalListener(events::add);
+        TestRecord row = new TestRecord(1, "Fred");
+
+        insert(row).into(person)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toNull()
+                .map(occupation).toPropertyWhenPresent("occupation", row::getOccupation)
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+        insertBatch(row, row).into(person)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+        insertMultiple(row, row, row).into(person)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toStringConstant("Flintstone")
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+        insertInto(person)
+                .set(id).toValue(1)
+                .set(firstName).toValueWhenPresent((String) null)
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+        insertInto(person)
+                .withColumnList(id, firstName)
+                .withSelectStatement(select(id, firstName).from(person)
+                        .where(id, isGreaterThan(3))
+                        .and(occupation, isEqualToWhenPresent((String) null)))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        assertThat(events).extracting(RenderEvent::statementType).containsExactly(StatementType.INSERT,
+                StatementType.BATCH_INSERT, StatementType.MULTI_ROW_INSERT, StatementType.GENERAL_INSERT,
+                StatementType.INSERT_SELECT);
+        assertThat(events).extracting(RenderEvent::parameterCount).containsExactly(2, 2, 6, 1, 1);
+        assertThat(events).extracting(RenderEvent::skippedConditions).containsExactly(0, 0, 0, 0, 1);
+    }
+
+    @Test
+    void testMultiRowInsertWithLimitsReportsEachStatement() {
+        RenderListeners.setGlobalListener(events::add);
+        TestRecord row = new TestRecord(1, "Fred");
+
+        insertMultiple(row, row, row, row, row).into(person)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER, MultiRowInsertLimits.maxParameters(4));
+
+        assertThat(events).extracting(RenderEvent::statementType).containsOnly(StatementType.MULTI_ROW_INSERT);
+        assertThat(events).extracting(RenderEvent::parameterCount).containsExactly(4, 4, 2);
+        assertThat(events.get(0).fingerprint()).isEqualTo(events.get(1).fingerprint())
+                .isNotEqualTo(events.get(2).fingerprint());
+    }
+
+    @Test
+    void testUpsertIsReportedOnce() {
+        RenderListeners.setGlobalListener(events::add);
+        TestRecord row = new TestRecord(1, "Fred");
+
+        String upsertStatement = insert(row).into(person)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toStringConstant("Flintstone")
+                .onConflict(id)
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER, UpsertDialect.MERGE)
+                .getInsertStatement();
+        insertMultiple(row, row).into(person)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .onConflict(id)
+                .build()
+                .render(RenderingStrategies.MYBATIS3, UpsertDialect.ON_CONFLICT);
+
+        assertThat(events).extracting(RenderEvent::statementType)
+                .containsExactly(StatementType.INSERT, StatementType.MULTI_ROW_INSERT);
+        assertThat(events.get(0).sql()).isEqualTo(upsertStatement);
+        assertThat(events).extracting(RenderEvent::parameterCount).containsExactly(2, 4);
+    }
+
+    @Test
+    void testInListsOfDifferentLengthsAreOneShape() {
+        AggregatingRenderListener listener = AggregatingRenderListener.withMaximumShapes(10);
+        RenderListeners.setGlobalListener(listener);
+
+        SelectStatementProvider selectStatement = select(id).from(person)
+                .where(id, isIn(1, 2))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+        select(id).from(person)
+                .where(id, isIn(1, 2, 3, 4, 5))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        assertThat(listener.snapshot()).hasSize(1);
+        assertThat(listener.snapshot().get(0).count()).isEqualTo(2);
+        assertThat(listener.snapshot().get(0).fingerprint()).isEqualTo(selectStatement.getShapeFingerprint());
+    }
+
+    @Test
+    void testRenderCacheHitsAreNotReported() {
+        RenderListeners.setGlobalListener(events::add);
+        RenderCache renderCache = RenderCache.withMaximumSize(10);
+        SelectModel selectModel = select(id).from(person).where(id, isEqualTo(3)).build();
+
+        selectModel.render(RenderingStrategies.MYBATIS3, renderCache);
+        selectModel.render(RenderingStrategies.MYBATIS3, renderCache);
+
+        assertThat(renderCache.hitCount()).isEqualTo(1);
+        assertThat(events).hasSize(1);
+    }
+
+    @Test
+    void testFingerprint() {
+        assertThat(StatementFingerprint.of("")).isEqualTo("cbf29ce484222325");
+        assertThat(StatementFingerprint.of("select id from person")).hasSize(16)
+                .isEqualTo(StatementFingerprint.of("select id from person"))
+                .isNotEqualTo(StatementFingerprint.of("select id from person "));
+    }
+
+    @Test
+    void testTimerReportsEachStatement() {
+        RenderingStrategy renderingStrategy = new MyBatis3RenderingStrategy() {
+            @Override
+            public Optional<RenderListener> renderListener() {
+                return Optional.of(events::add);
+            }
+        };
+
+        RenderTimer timer = RenderTimer.start(renderingStrategy, StatementType.SELECT);
+        timer.rendered("select 1", 0, 0);
+        timer.rendered("select 2", 1, 2);
+        RenderTimer.none().rendered("select 3", 0, 0);
+
+        assertThat(timer.isListening()).isTrue();
+        assertThat(RenderTimer.none().isListening()).isFalse();
+        assertThat(events).extracting(RenderEvent::sql).containsExactly("select 1", "select 2");
+        assertThat(events).extracting(RenderEvent::skippedConditions).containsExactly(0, 2);
+    }
+
+    static class TestRecord {
+        private final Integer id;
+        private final String firstName;
+
+        TestRecord(Integer id, String firstName) {
+            this.id = id;
+            this.firstName = firstName;
+        }
+
+        public Integer getId() {
+            return id;
+        }
+
+        public String getFirstName() {
+            return firstName;
+        }
+
+        public String getOccupation() {
+            return null;
+        }
+    }
+}
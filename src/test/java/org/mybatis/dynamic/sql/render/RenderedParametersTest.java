@@ -0,0 +1,193 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+
+class RenderedParametersTest {
+
+    @Test
+    void testIndexedKeys() {
+        RenderedParameters parameters = new RenderedParameters(2);
+        parameters.add("p1", "a");
+        parameters.add("p2", null);
+        parameters.add("p20", 20);
+
+        assertThat(parameters).hasSize(3);
+        assertThat(parameters).containsExactly(entry("p1", "a"), entry("p2", null), entry("p20", 20));
+        assertThat(parameters.get("p2")).isNull();
+        assertThat(parameters.containsKey("p2")).isTrue();
+        assertThat(parameters.containsKey("p3")).isFalse();
+        assertThat(parameters.get("p3")).isNull();
+        assertThat(parameters.get(1)).isNull();
+    }
+
+    @Test
+    void testOtherKeys() {
+        RenderedParameters parameters = new RenderedParameters(4);
+        parameters.add("p01", "leading zero");
+        parameters.add("name", "fred");
+        parameters.add("p1", 1);
+        parameters.add("p1000000", "sparse");
+
+        assertThat(parameters).containsExactly(entry("p1", 1), entry("p01", "leading zero"), entry("name", "fred"),
+                entry("p1000000", "sparse"));
+        assertThat(parameters.get("p01")).isEqualTo("leading zero");
+        assertThat(parameters.get("p1000000")).isEqualTo("sparse");
+    }
+
+    @Test
+    void testReplaceValue() {
+        RenderedParameters parameters = new RenderedParameters(4);
+        parameters.add("p1", 1);
+        parameters.add("p1", 2);
+
+        assertThat(parameters).containsExactly(entry("p1", 2));
+    }
+
+    @Test
+    void testAddAll() {
+        RenderedParameters parameters1 = new RenderedParameters(4);
+        parameters1.add("p1", 1);
+        parameters1.add("other", "x");
+
+        RenderedParameters parameters2 = new RenderedParameters(4);
+        parameters2.add("p2", 2);
+        parameters2.addAll(parameters1);
+
+        Map<String, Object> map = new HashMap<>();
+        map.put("p3", 3);
+        parameters2.addAll(map);
+
+        assertThat(parameters2).containsExactly(entry("p1", 1), entry("p2", 2), entry("p3", 3), entry("other", "x"));
+        assertThat(parameters2).isEqualTo(new HashMap<>(parameters2));
+    }
+
+    @Test
+    void testReadOnly() {
+        RenderedParameters parameters = new RenderedParameters(4);
+        parameters.add("p1", 1);
+
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> parameters.put("p2", 2));
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> parameters.remove("p1"));
+    }
+
+    @Test
+    void testParseIndex() {
+        assertThat(RenderedParameters.parseIndex("p0")).isZero();
+        assertThat(RenderedParameters.parseIndex("p123")).isEqualTo(123);
+        assertThat(RenderedParameters.parseIndex("p")).isEqualTo(-1);
+        assertThat(RenderedParameters.parseIndex("p00")).isEqualTo(-1);
+        assertThat(RenderedParameters.parseIndex("q1")).isEqualTo(-1);
+        assertThat(RenderedParameters.parseIndex("p1a")).isEqualTo(-1);
+        assertThat(RenderedParameters.parseIndex("p12345678901")).isEqualTo(-1);
+    }
+
+    @Test
+    void testSharedKeys() {
+        assertThat(RenderingStrategy.formatParameterMapKey(5)).isSameAs(RenderingStrategy.formatParameterMapKey(5));
+        assertThat(RenderingStrategy.formatParameterMapKey(5000)).isEqualTo("p5000");
+    }
+
+    @Test
+    void testCombine() {
+        RenderedParameters parameters = new RenderedParameters(4);
+        parameters.add("p1", 1);
+
+        assertThat(RenderedParameters.combine(new HashMap<>(), parameters)).isSameAs(parameters);
+
+        Map<String, Object> map = new HashMap<>();
+        map.put("p2", 2);
+        Map<String, Object> combined = RenderedParameters.combine(new HashMap<>(), map);
+        assertThat(combined).isNotSameAs(map).containsExactly(entry("p2", 2));
+
+        combined = RenderedParameters.combine(parameters, map);
+        assertThat(combined).containsOnly(entry("p1", 1), entry("p2", 2));
+        assertThat(parameters).containsExactly(entry("p1", 1));
+    }
+
+    @Test
+    void testNestedSelectParametersAreShared() {
+        SqlTable foo = SqlTable.of("foo");
+        SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+
+        SelectStatementProvider selectStatement = select(id)
+                .from(foo)
+                .where(id, isIn(select(id).from(foo).where(id, isGreaterThan(3))))
+                .and(id, isLessThan(10))
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertThat(selectStatement.getSelectStatement())
+                .isEqualTo("select id from foo where id in (select id from foo where id > :p1) and id < :p2");
+        assertThat(selectStatement.getParameters()).containsExactly(entry("p1", 3), entry("p2", 10));
+    }
+
+    @Test
+    void testProviderParametersCopyOnFirstChange() {
+        SqlTable foo = SqlTable.of("foo");
+        SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+
+        SelectStatementProvider selectStatement = select(id)
+                .from(foo)
+                .where(id, isEqualTo(3))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+        Map<String, Object> selectParameters = selectStatement.getParameters();
+        selectParameters.put("limit", 5);
+        selectParameters.remove("p1");
+
+        assertThat(selectStatement.getParameters()).isSameAs(selectParameters);
+        assertThat(selectStatement.getParameters()).containsExactly(entry("limit", 5));
+
+        DeleteStatementProvider deleteStatement = deleteFrom(foo)
+                .where(id, isEqualTo(3))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+        deleteStatement.getParameters().put("p1", 4);
+
+        assertThat(deleteStatement.getParameters()).containsExactly(entry("p1", 4));
+    }
+
+    @Test
+    void testCopyOnWriteViewsAreReadOnlyUntilChanged() {
+        RenderedParameters rendered = new RenderedParameters(4);
+        rendered.add("p1", 1);
+        CopyOnWriteParameters parameters = CopyOnWriteParameters.of(rendered);
+
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> parameters.keySet().remove("p1"));
+
+        parameters.put("p2", 2);
+        parameters.keySet().remove("p1");
+
+        assertThat(parameters).containsExactly(entry("p2", 2));
+        assertThat(rendered).containsExactly(entry("p1", 1));
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mybatis.dynamic.sql.SqlBuilder.isEqualTo;
+import static org.mybatis.dynamic.sql.SqlBuilder.isIn;
+import static org.mybatis.dynamic.sql.SqlBuilder.select;
+import static org.mybatis.dynamic.sql.SqlBuilder.where;
+
+import java.sql.JDBCType;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.select.render.SelectRenderer;
+import org.mybatis.dynamic.sql.where.WhereModel;
+import org.mybatis.dynamic.sql.where.render.WhereRenderer;
+
+class RenderingContextTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+
+    @Test
+    void testSequence() {
+        RenderingContext context = RenderingContext.withRenderingStrategy(RenderingStrategies.MYBATIS3)
+                .withSequence(5)
+                .build();
+
+        assertThat(context.nextParameterMapKey()).isEqualTo("p5");
+        assertThat(context.nextParameterMapKey()).isEqualTo("p6");
+        assertThat(context.sequence()).isEqualTo(7);
+    }
+
+    @Test
+    void testTableNameIsCalculatedOnce() {
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<String> nameSupplier = () -> "bar" + calls.incrementAndGet();
+        SqlTable table = new SqlTable(nameSupplier) {};
+
+        RenderingContext context = RenderingContext.withRenderingStrategy(RenderingStrategies.MYBATIS3).build();
+
+        assertThat(context.tableName(table)).isEqualTo("bar1");
+        assertThat(context.tableName(table)).isEqualTo("bar1");
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void testReplaceAndRestoreTableAliasCalculator() {
+        Map<SqlTable, String> aliases = new HashMap<>();
+        aliases.put(foo, "a");
+
+        RenderingContext context = RenderingContext.withRenderingStrategy(RenderingStrategies.MYBATIS3).build();
+        assertThat(context.tableAliasCalculator().aliasForTable(foo)).isEmpty();
+
+        TableAliasCalculator previous = context.replaceTableAliasCalculator(TableAliasCalculator.of(aliases));
+        assertThat(context.tableAliasCalculator().aliasForTable(foo)).hasValue("a");
+        assertThat(context.tableAliasCalculator().aliasForColumn(foo)).hasValue("a");
+
+        context.replaceTableAliasCalculator(previous);
+        assertThat(context.tableAliasCalculator().aliasForTable(foo)).isEmpty();
+    }
+
+    @Test
+    void testSharedContextContinuesSequence() {
+        RenderingContext context = RenderingContext.withRenderingStrategy(RenderingStrategies.SPRING_NAMED_PARAMETER)
+                .build();
+
+        SqlWriter writer1 = SqlWriter.withInitialCapacity(64);
+        SelectRenderer.withSelectModel(select(id).from(foo).where(id, isIn(1, 2)).build())
+                .withRenderingContext(context)
+                .build()
+                .render(writer1);
+
+        SqlWriter writer2 = SqlWriter.withInitialCapacity(64);
+        SelectRenderer.withSelectModel(select(id).from(foo).where(id, isEqualTo(3)).build())
+                .withRenderingContext(context)
+                .build()
+                .render(writer2);
+
+        assertThat(writer1.toSql()).isEqualTo("select id from foo where id in (:p1,:p2)");
+        assertThat(writer2.toSql()).isEqualTo("select id from foo where id = :p3");
+        assertThat(writer2.parameters()).containsExactly(entry("p3", 3));
+        assertThat(context.sequence()).isEqualTo(4);
+    }
+
+    @Test
+    void testLegacySequenceIsUpdated() {
+        WhereModel whereModel = where(id, isEqualTo(3)).and(id, isEqualTo(4)).build();
+        AtomicInteger sequence = new AtomicInteger(3);
+
+        WhereRenderer renderer = WhereRenderer.withWhereModel(whereModel)
+                .withRenderingStrategy(RenderingStrategies.MYBATIS3)
+                .withSequence(sequence)
+                .withTableAliasCalculator(TableAliasCalculator.empty())
+                .build();
+
+        assertThat(renderer.render()).hasValueSatisfying(wcp -> {
+            assertThat(wcp.getWhereClause()).isEqualTo(
+                    "where id = #{parameters.p3,jdbcType=INTEGER} and id = #{parameters.p4,jdbcType=INTEGER}");
+            assertThat(wcp.getParameters()).containsExactly(entry("p3", 3), entry("p4", 4));
+        });
+        assertThat(sequence).hasValue(5);
+    }
+}
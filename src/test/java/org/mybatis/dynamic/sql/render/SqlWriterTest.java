@@ -0,0 +1,168 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.BasicColumn;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+
+class SqlWriterTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> description = foo.column("description", JDBCType.VARCHAR);
+
+    @Test
+    void testAppendJoined() {
+        SqlWriter writer = SqlWriter.withInitialCapacity(16)
+                .append('(')
+                .appendJoined(Stream.of("a", "b", "c"), ", ")
+                .append(')');
+
+        assertThat(writer.toSql()).isEqualTo("(a, b, c)");
+        assertThat(writer.length()).isEqualTo(9);
+    }
+
+    @Test
+    void testAppendJoinedEmpty() {
+        SqlWriter writer = SqlWriter.withInitialCapacity(16)
+                .appendJoined(Stream.empty(), ", ");
+
+        assertThat(writer.isEmpty()).isTrue();
+        assertThat(writer.toSql()).isEmpty();
+    }
+
+    @Test
+    void testAppendJoinedWithItemWriter() {
+        SqlWriter writer = SqlWriter.withInitialCapacity(16)
+                .appendJoined(Stream.of(1, 2), " and ", (i, w) -> w.append("p").append(i.toString())
+                        .addParameter("p" + i, i));
+
+        assertThat(writer.toSql()).isEqualTo("p1 and p2");
+        assertThat(writer.parameters()).containsOnly(entry("p1", 1), entry("p2", 2));
+    }
+
+    @Test
+    void testAppendSpace() {
+        SqlWriter writer = SqlWriter.withInitialCapacity(16)
+                .appendSpace()
+                .append("select")
+                .appendSpace()
+                .appendSpace()
+                .append("1");
+
+        assertThat(writer.toSql()).isEqualTo("select 1");
+    }
+
+    @Test
+    void testEstimateAdapts() {
+        RenderedLengthEstimate estimate = new RenderedLengthEstimate();
+        int initial = estimate.initialCapacity();
+
+        SqlWriter longWriter = SqlWriter.withInitialCapacity(16);
+        for (int i = 1; i <= 100; i++) {
+            longWriter.append("p").append(Integer.toString(i)).append(", ").addParameter("p" + i, i);
+        }
+        estimate.record(longWriter);
+        assertThat(estimate.initialCapacity()).isGreaterThan(longWriter.length());
+        assertThat(estimate.initialParameterCapacity()).isGreaterThan(100);
+
+        estimate.record(SqlWriter.withInitialCapacity(16).append("select 1"));
+        assertThat(estimate.initialCapacity()).isLessThan(longWriter.length() + 16).isGreaterThanOrEqualTo(initial);
+        assertThat(estimate.initialParameterCapacity()).isLessThanOrEqualTo(101);
+    }
+
+    @Test
+    void testEstimateIsCapped() {
+        RenderedLengthEstimate estimate = new RenderedLengthEstimate();
+
+        SqlWriter hugeWriter = SqlWriter.withInitialCapacity(16);
+        for (int i = 1; i <= 100000; i++) {
+            hugeWriter.append("#{parameters.p").append(Integer.toString(i)).append("}, ").addParameter("p" + i, i);
+        }
+        estimate.record(hugeWriter);
+
+        assertThat(estimate.initialCapacity()).isLessThanOrEqualTo(4096 + 16);
+        assertThat(estimate.initialParameterCapacity()).isLessThanOrEqualTo(257);
+    }
+
+    @Test
+    void testCustomColumnWritesDirectly() {
+        SelectStatementProvider selectStatement = select(id, new UpperColumn(description).as("d"))
+                .from(foo, "f")
+                .where(id, isEqualTo(3))
+                .and(exists(select(id).from(foo).where(id, isGreaterThan(1))))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        String expected = "select f.id, upper(f.description) as d from foo f"
+                + " where f.id = #{parameters.p1,jdbcType=INTEGER}"
+                + " and exists (select id from foo where id > #{parameters.p2,jdbcType=INTEGER})";
+        assertThat(selectStatement.getSelectStatement()).isEqualTo(expected);
+        assertThat(selectStatement.getParameters()).containsOnly(entry("p1", 3), entry("p2", 1));
+    }
+
+    private static class UpperColumn implements BasicColumn {
+        private final BasicColumn column;
+        private final String alias;
+
+        private UpperColumn(BasicColumn column) {
+            this(column, null);
+        }
+
+        private UpperColumn(BasicColumn column, String alias) {
+            this.column = column;
+            this.alias = alias;
+        }
+
+        @Override
+        public Optional<String> alias() {
+            return Optional.ofNullable(alias);
+        }
+
+        @Override
+        public UpperColumn as(String alias) {
+            return new UpperColumn(column, alias);
+        }
+
+        @Override
+        public String renderWithTableAlias(TableAliasCalculator tableAliasCalculator) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void renderWithTableAlias(TableAliasCalculator tableAliasCalculator, SqlWriter writer) {
+            writer.append("upper(");
+            column.renderWithTableAlias(tableAliasCalculator, writer);
+            writer.append(')');
+        }
+
+        @Override
+        public void renderWithTableAndColumnAlias(TableAliasCalculator tableAliasCalculator, SqlWriter writer) {
+            renderWithTableAlias(tableAliasCalculator, writer);
+            alias().ifPresent(a -> writer.append(" as ").append(a));
+        }
+    }
+}
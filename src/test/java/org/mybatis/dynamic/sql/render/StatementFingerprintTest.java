@@ -0,0 +1,161 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.insert.render.BatchInsert;
+import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.render.BatchUpdate;
+
+class StatementFingerprintTest {
+    private static final SqlTable person = SqlTable.of("person");
+    private static final SqlColumn<Integer> id = person.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> firstName = person.column("first_name", JDBCType.VARCHAR);
+
+    @Test
+    void testFingerprint() {
+        assertThat(StatementFingerprint.of("")).isEqualTo("cbf29ce484222325");
+        assertThat(StatementFingerprint.toHex(0xcbf29ce484222325L)).isEqualTo("cbf29ce484222325");
+        assertThat(StatementFingerprint.toHex(255)).isEqualTo("00000000000000ff");
+        assertThat(StatementFingerprint.toHex(StatementFingerprint.shapeOf("select 1")))
+                .isEqualTo(StatementFingerprint.of("select 1"));
+    }
+
+    @Test
+    void testNormalizeMyBatisPlaceholders() {
+        String sql = "select id from person where id in (#{parameters.p1,jdbcType=INTEGER}, "
+                + "#{parameters.p2,jdbcType=INTEGER}) and first_name = #{parameters.p3,jdbcType=VARCHAR}";
+
+        assertThat(StatementFingerprint.normalize(sql))
+                .isEqualTo("select id from person where id in (?) and first_name = ?");
+    }
+
+    @Test
+    void testNormalizeNamedAndPositionalPlaceholders() {
+        assertThat(StatementFingerprint.normalize("select id from person where id in (:p1, :p2, :p3) and a = :p4"))
+                .isEqualTo("select id from person where id in (?) and a = ?");
+        assertThat(StatementFingerprint.normalize("select id from person where id in (?,?, ?) and a = ?"))
+                .isEqualTo("select id from person where id in (?) and a = ?");
+    }
+
+    @Test
+    void testNormalizeKeepsLiteralsAndCasts() {
+        assertThat(StatementFingerprint.normalize("select a::int from t where b = 'x:y?, ?' and c = :p1"))
+                .isEqualTo("select a::int from t where b = 'x:y?, ?' and c = ?");
+        assertThat(StatementFingerprint.normalize("update t set a = :p1, b = :p2 where c = 'it''s'"))
+                .isEqualTo("update t set a = ?, b = ? where c = 'it''s'");
+    }
+
+    @Test
+    void testNormalizeInsertRows() {
+        assertThat(StatementFingerprint.normalize("insert into t (a, b, c) values (:records[0].a, 'x', "
+                + ":records[0].b), (:records[1].a, 'x', :records[1].b)"))
+                .isEqualTo("insert into t (a, b, c) values (?, 'x', ?), (?, 'x', ?)");
+        assertThat(StatementFingerprint.normalize("insert into t (a, b) values (:a, :b)"))
+                .isEqualTo("insert into t (a, b) values (?, ?)");
+    }
+
+    @Test
+    void testOnlyInListsAreCollapsed() {
+        assertThat(StatementFingerprint.normalize("select coalesce(:p1, :p2) from t where a not in (:p3, :p4) "
+                + "and b in (select c from u where d in (?, ?) and e = coalesce(?, ?)) and join_in = (?)"))
+                .isEqualTo("select coalesce(?, ?) from t where a not in (?) "
+                        + "and b in (select c from u where d in (?) and e = coalesce(?, ?)) and join_in = (?)");
+        assertThat(StatementFingerprint.normalize("select a from t where b IN (?, ?) and min(c, ?) > (?, ?)"))
+                .isEqualTo("select a from t where b IN (?) and min(c, ?) > (?, ?)");
+    }
+
+    @Test
+    void testSelectShapeIgnoresInListLengthAndStrategy() {
+        SelectStatementProvider threeIds = select(id).from(person)
+                .where(id, isIn(1, 2, 3))
+                .and(firstName, isEqualTo("Fred"))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+        SelectStatementProvider fiveIds = select(id).from(person)
+                .where(id, isIn(1, 2, 3, 4, 5))
+                .and(firstName, isEqualTo("Fred"))
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+        SelectStatementProvider noName = select(id).from(person)
+                .where(id, isIn(1, 2, 3))
+                .and(firstName, isEqualToWhenPresent((String) null))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        assertThat(threeIds.getShapeFingerprint()).isEqualTo(fiveIds.getShapeFingerprint())
+                .isNotEqualTo(noName.getShapeFingerprint());
+    }
+
+    @Test
+    void testOtherProviders() {
+        BatchInsert<Row> batchInsert = insertBatch(new Row(1, "Fred"), new Row(2, "Wilma"))
+                .into(person)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+        MultiRowInsertStatementProvider<Row> multiRowInsert = insertMultiple(Arrays.asList(new Row(1, "Fred")))
+                .into(person)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+        BatchUpdate<Row> batchUpdate = updateBatch(new Row(1, "Fred"))
+                .into(person)
+                .set(firstName).toProperty("firstName")
+                .where(id, isEqualToProperty("id"))
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertThat(batchInsert.getShapeFingerprint()).isEqualTo(multiRowInsert.getShapeFingerprint())
+                .isEqualTo(batchInsert.insertStatements().get(0).getShapeFingerprint())
+                .isEqualTo(StatementFingerprint.shapeOf("insert into person (id, first_name) values (?, ?)"));
+        assertThat(batchUpdate.getShapeFingerprint())
+                .isEqualTo(batchUpdate.updateStatements().get(0).getShapeFingerprint())
+                .isEqualTo(StatementFingerprint.shapeOf("update person set first_name = ? where id = ?"));
+        assertThat(deleteFrom(person).where(id, isEqualTo(3)).build().render(RenderingStrategies.MYBATIS3)
+                .getShapeFingerprint())
+                .isEqualTo(StatementFingerprint.shapeOf("delete from person where id = ?"));
+    }
+
+    static class Row {
+        private final Integer id;
+        private final String firstName;
+
+        Row(Integer id, String firstName) {
+            this.id = id;
+            this.firstName = firstName;
+        }
+
+        public Integer getId() {
+            return id;
+        }
+
+        public String getFirstName() {
+            return firstName;
+        }
+    }
+}
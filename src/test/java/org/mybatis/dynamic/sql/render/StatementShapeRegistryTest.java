@@ -0,0 +1,93 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class StatementShapeRegistryTest {
+
+    @Test
+    void testShapesAreCountedForTablesAndCallSites() {
+        StatementShapeRegistry registry = StatementShapeRegistry.withShapeLimit(10);
+
+        assertThat(registry.record("person", "PersonMapper.search", 1L)).isTrue();
+        assertThat(registry.record("person", "PersonMapper.search", 1L)).isFalse();
+        assertThat(registry.record("person", "PersonMapper.search", 2L)).isTrue();
+        assertThat(registry.record("person", "PersonMapper.byId", 1L)).isTrue();
+        assertThat(registry.record("address", "AddressMapper.byId", 3L)).isTrue();
+
+        assertThat(registry.shapeCountForTable("person")).isEqualTo(2);
+        assertThat(registry.shapeCountForTable("unknown")).isZero();
+        assertThat(registry.shapeCountForCallSite("PersonMapper.search")).isEqualTo(2);
+        assertThat(registry.shapeCountsByTable()).containsExactly(entry("address", 1), entry("person", 2));
+        assertThat(registry.shapeCountsByCallSite()).containsExactly(entry("AddressMapper.byId", 1),
+                entry("PersonMapper.byId", 1), entry("PersonMapper.search", 2));
+        assertThat(registry.tablesOverLimit()).isEmpty();
+        assertThat(registry.callSitesOverLimit()).isEmpty();
+
+        registry.reset();
+        assertThat(registry.shapeCountsByTable()).isEmpty();
+        assertThat(registry.shapeCountsByCallSite()).isEmpty();
+    }
+
+    @Test
+    void testShapeLimit() {
+        StatementShapeRegistry registry = StatementShapeRegistry.withShapeLimit(2);
+
+        for (long shape = 0; shape < 5; shape++) {
+            registry.record("person", "PersonMapper.search", shape);
+        }
+        registry.record("person", "PersonMapper.byId", 0L);
+
+        assertThat(registry.shapeLimit()).isEqualTo(2);
+        assertThat(registry.shapeCountForCallSite("PersonMapper.search")).isEqualTo(3);
+        assertThat(registry.shapeCountForTable("person")).isEqualTo(3);
+        assertThat(registry.tablesOverLimit()).containsExactly("person");
+        assertThat(registry.callSitesOverLimit()).containsExactly("PersonMapper.search");
+    }
+
+    @Test
+    void testConcurrentRecording() throws InterruptedException {
+        StatementShapeRegistry registry = StatementShapeRegistry.withShapeLimit(1000);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int thread = 0; thread < 4; thread++) {
+            executor.execute(() -> {
+                for (long shape = 0; shape < 500; shape++) {
+                    registry.record("person", "PersonMapper.search", shape);
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(registry.shapeCountForTable("person")).isEqualTo(500);
+    }
+
+    @Test
+    void testInvalidShapeLimit() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> StatementShapeRegistry.withShapeLimit(0))
+                .withMessage("The shape limit must be positive");
+    }
+}
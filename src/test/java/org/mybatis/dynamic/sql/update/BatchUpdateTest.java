@@ -0,0 +1,139 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.update;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mybatis.dynamic.sql.SqlBuilder.isEqualToProperty;
+import static org.mybatis.dynamic.sql.SqlBuilder.isGreaterThan;
+import static org.mybatis.dynamic.sql.SqlBuilder.updateBatch;
+
+import java.sql.JDBCType;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.update.render.BatchUpdate;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+import org.mybatis.dynamic.sql.util.BindParameterMapping;
+
+class BatchUpdateTest {
+
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> firstName = foo.column("first_name", JDBCType.VARCHAR);
+    private static final SqlColumn<String> lastName = foo.column("last_name", JDBCType.VARCHAR)
+            .withParameterTypeConverter(String::toUpperCase);
+    private static final SqlColumn<Integer> version = foo.column("version", JDBCType.INTEGER);
+
+    @Test
+    void testStatementIsRenderedOnce() {
+        BatchUpdate<TestRecord> batchUpdate = updateBatch(new TestRecord(1, "Fred", "Flintstone"),
+                new TestRecord(2, "Wilma", "Flintstone"))
+                .into(foo)
+                .set(firstName).toProperty("firstName")
+                .set(lastName).toProperty("lastName")
+                .set(version).toConstant("version + 1")
+                .where(id, isEqualToProperty("id"))
+                .and(version, isGreaterThan(0))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        String expected = "update foo set first_name = #{parameters.p1,jdbcType=VARCHAR}, "
+                + "last_name = #{parameters.p2,jdbcType=VARCHAR}, version = version + 1 "
+                + "where id = #{parameters.p3,jdbcType=INTEGER} and version > #{parameters.p4,jdbcType=INTEGER}";
+        assertThat(batchUpdate.getUpdateStatementSQL()).isEqualTo(expected);
+
+        List<UpdateStatementProvider> updateStatements = batchUpdate.updateStatements();
+        assertThat(updateStatements).hasSize(2);
+        assertThat(updateStatements.get(0).getUpdateStatement()).isEqualTo(expected);
+        assertThat(updateStatements.get(0).getParameters()).containsOnly(entry("p1", "Fred"),
+                entry("p2", "FLINTSTONE"), entry("p3", 1), entry("p4", 0));
+        assertThat(updateStatements.get(1).getParameters()).containsOnly(entry("p1", "Wilma"),
+                entry("p2", "FLINTSTONE"), entry("p3", 2), entry("p4", 0));
+    }
+
+    @Test
+    void testNullAndStringConstant() {
+        BatchUpdate<TestRecord> batchUpdate = updateBatch(new TestRecord(3, null, null))
+                .into(foo)
+                .set(firstName).toNull()
+                .set(lastName).toStringConstant("Rubble")
+                .where(id, isEqualToProperty("id"))
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertThat(batchUpdate.getUpdateStatementSQL())
+                .isEqualTo("update foo set first_name = null, last_name = 'Rubble' where id = :p1");
+        assertThat(batchUpdate.parameters(batchUpdate.getRecords().get(0))).containsOnly(entry("p1", 3));
+    }
+
+    @Test
+    void testUnknownProperty() {
+        BatchUpdate<TestRecord> batchUpdate = updateBatch(new TestRecord(1, "Fred", "Flintstone"))
+                .into(foo)
+                .set(firstName).toProperty("middleName")
+                .where(id, isEqualToProperty("id"))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        List<UpdateStatementProvider> updateStatements = batchUpdate.updateStatements();
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> updateStatements.get(0))
+                .withMessage("There is no readable property \"middleName\" in class " + TestRecord.class.getName());
+    }
+
+    @Test
+    void testPropertiesAreBindParameterMarkers() {
+        UpdateModel updateModel = updateBatch(new TestRecord(1, "Fred", "Flintstone"))
+                .into(foo)
+                .set(firstName).toProperty("firstName")
+                .where(id, isEqualToProperty("id"))
+                .build()
+                .updateModel();
+
+        assertThat(updateModel.mapColumnMappings(m -> m)).singleElement().isInstanceOf(BindParameterMapping.class);
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> updateModel.render(RenderingStrategies.MYBATIS3))
+                .withMessageContaining("\"firstName\"");
+    }
+
+    public static class TestRecord {
+        private final Integer id;
+        private final String firstName;
+        private final String lastName;
+
+        TestRecord(Integer id, String firstName, String lastName) {
+            this.id = id;
+            this.firstName = firstName;
+            this.lastName = lastName;
+        }
+
+        public Integer getId() {
+            return id;
+        }
+
+        public String getFirstName() {
+            return firstName;
+        }
+
+        public String getLastName() {
+            return lastName;
+        }
+    }
+}
@@ -168,6 +168,16 @@ class ColumnMappingVisitorTest {
         assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> tv.visit(mapping));
     }
 
+    @Test
+    void testThatUpdateVisitorErrorsForInsertedValueMapping() {
+        TestTable table = new TestTable();
+        UpdateVisitor tv = new UpdateVisitor();
+        InsertedValueMapping mapping = InsertedValueMapping.of(table.id);
+
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> tv.visit(mapping))
+                .withMessageStartingWith("Inserted value mappings are only supported in the update clause");
+    }
+
     private static class TestTable extends SqlTable {
         public SqlColumn<Integer> id;
         public SqlColumn<String> description;
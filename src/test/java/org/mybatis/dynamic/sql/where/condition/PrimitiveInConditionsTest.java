@@ -0,0 +1,118 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.where.condition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.render.InListPadding;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+
+class PrimitiveInConditionsTest {
+    private static final SqlTable orders = SqlTable.of("orders");
+    private static final SqlColumn<Long> orderId = orders.column("order_id", JDBCType.BIGINT);
+    private static final SqlColumn<Integer> lineNumber = orders.column("line_number", JDBCType.INTEGER);
+
+    @Test
+    void testLongArray() {
+        SelectStatementProvider selectStatement = select(orderId)
+                .from(orders)
+                .where(orderId, isIn(new long[] {3L, 5_000_000_000L}))
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertThat(selectStatement.getSelectStatement())
+                .isEqualTo("select order_id from orders where order_id in (:p1,:p2)");
+        assertThat(selectStatement.getParameters()).containsExactly(entry("p1", 3L), entry("p2", 5_000_000_000L));
+    }
+
+    @Test
+    void testLongStreamWithFilterAndMap() {
+        IsInLongs condition = isIn(LongStream.rangeClosed(1, 10))
+                .filterLongs(l -> l % 2 == 0)
+                .mapLongs(l -> l * 100);
+
+        assertThat(condition.longValues()).containsExactly(200, 400, 600, 800, 1000);
+
+        SelectStatementProvider selectStatement = select(orderId)
+                .from(orders)
+                .where(orderId, condition)
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        assertThat(selectStatement.getParameters()).hasSize(5).containsEntry("p5", 1000L);
+    }
+
+    @Test
+    void testIntArrayWithBoxedFilterAndPadding() {
+        IsInInts condition = isIn(new int[] {1, 2, 3, 4, 5})
+                .filter(i -> i > 2)
+                .withListPadding(InListPadding.powersOfTwo());
+
+        assertThat(condition.intValues()).containsExactly(3, 4, 5);
+
+        SelectStatementProvider selectStatement = select(lineNumber)
+                .from(orders)
+                .where(lineNumber, condition)
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertThat(selectStatement.getSelectStatement())
+                .isEqualTo("select line_number from orders where line_number in (:p1,:p2,:p3,:p4)");
+        assertThat(selectStatement.getParameters()).containsEntry("p4", 5);
+    }
+
+    @Test
+    void testIntStreamFilteredToEmpty() {
+        IsInInts condition = isIn(IntStream.of(1, 2, 3)).filterInts(i -> i > 10);
+        assertThat(condition.shouldRender()).isFalse();
+        assertThat(condition.mapInts(i -> i + 1).shouldRender()).isFalse();
+
+        SelectStatementProvider selectStatement = select(lineNumber)
+                .from(orders)
+                .where(lineNumber, condition)
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertThat(selectStatement.getSelectStatement()).isEqualTo("select line_number from orders");
+    }
+
+    @Test
+    void testArraysAreCopied() {
+        long[] ids = {1, 2, 3};
+        IsInLongs longCondition = IsInLongs.of(ids);
+        ids[0] = 99;
+
+        assertThat(longCondition.longValues()).isNotSameAs(ids).containsExactly(1, 2, 3);
+        assertThat(longCondition.mapValues(Long::intValue)).containsExactly(1, 2, 3);
+
+        int[] lines = {1, 2, 3};
+        IsInInts intCondition = isIn(lines).withListEmptyCallback(() -> { });
+        lines[0] = 99;
+
+        assertThat(intCondition.intValues()).containsExactly(1, 2, 3);
+        assertThat(intCondition.mapValues(Integer::longValue)).containsExactly(1L, 2L, 3L);
+    }
+}
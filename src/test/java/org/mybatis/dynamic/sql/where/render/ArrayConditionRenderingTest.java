@@ -0,0 +1,163 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.where.render;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.AbstractColumnComparisonCondition;
+import org.mybatis.dynamic.sql.AbstractListValueCondition;
+import org.mybatis.dynamic.sql.AbstractNoValueCondition;
+import org.mybatis.dynamic.sql.AbstractSingleValueCondition;
+import org.mybatis.dynamic.sql.AbstractSubselectCondition;
+import org.mybatis.dynamic.sql.AbstractTwoValueCondition;
+import org.mybatis.dynamic.sql.ConditionVisitor;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.render.RenderCache;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+
+class ArrayConditionRenderingTest {
+    private static final SqlTable person = SqlTable.of("person");
+    private static final SqlColumn<Integer> id = person.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> lastName = person.column("last_name", JDBCType.VARCHAR)
+            .withParameterTypeConverter(String::toUpperCase);
+
+    @Test
+    void testTypeHandler() {
+        SelectStatementProvider selectStatement = select(id)
+                .from(person, "p")
+                .where(id, isInArray(1, 2, 3).withTypeHandler("foo.Bar"))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        assertThat(selectStatement.getSelectStatement())
+                .isEqualTo("select p.id from person p where p.id = any(#{parameters.p1,jdbcType=ARRAY,typeHandler=foo.Bar})");
+        assertThat(selectStatement.getParameters().get("p1")).isEqualTo(new Integer[] {1, 2, 3});
+    }
+
+    @Test
+    void testParameterTypeConverterAndArrayConverter() {
+        SelectStatementProvider selectStatement = select(id)
+                .from(person)
+                .where(id, isEqualTo(4))
+                .and(lastName, isNotInArray("flintstone", "rubble")
+                        .withArrayConverter(a -> String.join(",", (String[]) a)))
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertThat(selectStatement.getSelectStatement())
+                .isEqualTo("select id from person where id = :p1 and last_name <> all(:p2)");
+        assertThat(selectStatement.getParameters()).containsEntry("p2", "FLINTSTONE,RUBBLE");
+    }
+
+    @Test
+    void testMixedAndNullValues() {
+        SqlColumn<Object> anything = person.column("anything");
+
+        SelectStatementProvider selectStatement = select(id)
+                .from(person)
+                .where(anything, isInArray(1, "two", null))
+                .or(id, isInArray(Arrays.asList(null, 2)))
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertThat(selectStatement.getParameters().get("p1")).isExactlyInstanceOf(Object[].class)
+                .isEqualTo(new Object[] {1, "two", null});
+        assertThat(selectStatement.getParameters().get("p2")).isEqualTo(new Integer[] {null, 2});
+    }
+
+    @Test
+    void testStatementIsTheSameForAnyListSize() {
+        RenderCache renderCache = RenderCache.withMaximumSize(10);
+
+        SelectStatementProvider s1 = select(id).from(person)
+                .where(id, isInArray(1, 2))
+                .build()
+                .render(RenderingStrategies.MYBATIS3, renderCache);
+        SelectStatementProvider s2 = select(id).from(person)
+                .where(id, isInArray(1, 2, 3, 4, 5))
+                .build()
+                .render(RenderingStrategies.MYBATIS3, renderCache);
+
+        assertThat(s2.getSelectStatement()).isEqualTo(s1.getSelectStatement());
+        assertThat(s2.getParameters().get("p1")).isEqualTo(new Integer[] {1, 2, 3, 4, 5});
+        assertThat(renderCache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void testEmptyList() {
+        AtomicBoolean skipped = new AtomicBoolean();
+
+        SelectStatementProvider selectStatement = select(id)
+                .from(person)
+                .where(id, isInArray(Collections.<Integer>emptyList())
+                        .withListEmptyCallback(() -> skipped.set(true)))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        assertThat(selectStatement.getSelectStatement()).isEqualTo("select id from person");
+        assertThat(selectStatement.getParameters()).isEmpty();
+        assertThat(skipped).isTrue();
+    }
+
+    @Test
+    void testVisitorWithoutArraySupportSeesListCondition() {
+        ConditionVisitor<Integer, String> visitor = new ConditionVisitor<Integer, String>() {
+            @Override
+            public String visit(AbstractListValueCondition<Integer> condition) {
+                return condition.getClass().getSimpleName() + ": "
+                        + condition.mapValues(String::valueOf).collect(Collectors.joining(", "));
+            }
+
+            @Override
+            public String visit(AbstractNoValueCondition<Integer> condition) {
+                return null;
+            }
+
+            @Override
+            public String visit(AbstractSingleValueCondition<Integer> condition) {
+                return null;
+            }
+
+            @Override
+            public String visit(AbstractTwoValueCondition<Integer> condition) {
+                return null;
+            }
+
+            @Override
+            public String visit(AbstractSubselectCondition<Integer> condition) {
+                return null;
+            }
+
+            @Override
+            public String visit(AbstractColumnComparisonCondition<Integer> condition) {
+                return null;
+            }
+        };
+
+        assertThat(isInArray(1, 2, 3).accept(visitor)).isEqualTo("IsIn: 1, 2, 3");
+        assertThat(isNotInArray(4, 5).accept(visitor)).isEqualTo("IsNotIn: 4, 5");
+    }
+}
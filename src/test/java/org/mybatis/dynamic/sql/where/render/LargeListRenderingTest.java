@@ -0,0 +1,189 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.where.render;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.sql.JDBCType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.BindableColumn;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.where.condition.IsIn;
+import org.mybatis.dynamic.sql.where.condition.IsNotIn;
+
+class LargeListRenderingTest {
+    private static final SqlTable person = SqlTable.of("person");
+    private static final SqlColumn<Integer> id = person.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> lastName = person.column("last_name", JDBCType.VARCHAR);
+
+    @Test
+    void testLargeInList() {
+        List<Integer> ids = ids(100_000);
+
+        SelectStatementProvider selectStatement = select(id)
+                .from(person)
+                .where(id, isIn(ids))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        String sql = selectStatement.getSelectStatement();
+        assertThat(sql).startsWith("select id from person where id in (#{parameters.p1,jdbcType=INTEGER},"
+                + "#{parameters.p2,jdbcType=INTEGER},");
+        assertThat(sql).endsWith(",#{parameters.p100000,jdbcType=INTEGER})");
+        assertThat(selectStatement.getParameters()).hasSize(100_000)
+                .containsEntry("p1", 0)
+                .containsEntry("p1025", 1024)
+                .containsEntry("p100000", 99_999);
+    }
+
+    @Test
+    void testNotInContinuesSequence() {
+        SelectStatementProvider selectStatement = select(id)
+                .from(person)
+                .where(id, isEqualTo(3))
+                .and(id, isNotIn(4, 5))
+                .and(lastName, isInCaseInsensitive("flintstone", "rubble"))
+                .and(lastName, isNotInCaseInsensitive("slate"))
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertThat(selectStatement.getSelectStatement()).isEqualTo("select id from person where id = :p1"
+                + " and id not in (:p2,:p3)"
+                + " and upper(last_name) in (:p4,:p5)"
+                + " and upper(last_name) not in (:p6)");
+        assertThat(selectStatement.getParameters()).containsExactly(entry("p1", 3), entry("p2", 4), entry("p3", 5),
+                entry("p4", "FLINTSTONE"), entry("p5", "RUBBLE"), entry("p6", "SLATE"));
+    }
+
+    @Test
+    void testStrategyWithoutTemplate() {
+        RenderingStrategy strategy = new RenderingStrategy() {
+            @Override
+            public String getFormattedJdbcPlaceholder(BindableColumn<?> column, String prefix,
+                    String parameterName) {
+                return "?";
+            }
+
+            @Override
+            public String getFormattedJdbcPlaceholder(String prefix, String parameterName) {
+                return "?";
+            }
+        };
+
+        SelectStatementProvider selectStatement = select(id)
+                .from(person)
+                .where(id, isIn(1, 2, 3))
+                .build()
+                .render(strategy);
+
+        assertThat(selectStatement.getSelectStatement()).isEqualTo("select id from person where id in (?,?,?)");
+        assertThat(selectStatement.getParameters()).containsExactly(entry("p1", 1), entry("p2", 2), entry("p3", 3));
+    }
+
+    @Test
+    void testAllocationIsLinear() {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) threadMXBean;
+        assumeTrue(bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled());
+
+        List<Integer> small = ids(10_000);
+        List<Integer> large = ids(100_000);
+
+        // warm up
+        render(small);
+        render(large);
+
+        long smallBytes = allocatedBytes(bean, small);
+        long largeBytes = allocatedBytes(bean, large);
+
+        // the rendered text is about 40 characters per value, everything else should be noise
+        assertThat(largeBytes / large.size()).isLessThan(256);
+        assertThat(largeBytes / large.size()).isLessThan(2 * smallBytes / small.size());
+    }
+
+    @Test
+    void testSubclassRenderingIsNotBypassed() {
+        SelectStatementProvider selectStatement = select(id)
+                .from(person)
+                .where(id, new AnyIsIn(ids(2)))
+                .and(id, new AllIsNotIn(ids(1)))
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertThat(selectStatement.getSelectStatement())
+                .isEqualTo("select id from person where id = any(:p1,:p2) and id <> all(:p3)");
+    }
+
+    private static class AnyIsIn extends IsIn<Integer> {
+        AnyIsIn(List<Integer> values) {
+            super(values);
+        }
+
+        @Override
+        public String renderCondition(String columnName, Stream<String> placeholders) {
+            return columnName + placeholders.collect(Collectors.joining(",", " = any(", ")"));
+        }
+    }
+
+    private static class AllIsNotIn extends IsNotIn<Integer> {
+        AllIsNotIn(List<Integer> values) {
+            super(values);
+        }
+
+        @Override
+        public String renderCondition(String columnName, Stream<String> placeholders) {
+            return columnName + placeholders.collect(Collectors.joining(",", " <> all(", ")"));
+        }
+    }
+
+    private long allocatedBytes(com.sun.management.ThreadMXBean bean, List<Integer> values) {
+        long threadId = Thread.currentThread().getId();
+        long before = bean.getThreadAllocatedBytes(threadId);
+        render(values);
+        return bean.getThreadAllocatedBytes(threadId) - before;
+    }
+
+    private SelectStatementProvider render(List<Integer> values) {
+        return select(id)
+                .from(person)
+                .where(id, isIn(values))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+    }
+
+    private List<Integer> ids(int count) {
+        List<Integer> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(i);
+        }
+        return ids;
+    }
+}
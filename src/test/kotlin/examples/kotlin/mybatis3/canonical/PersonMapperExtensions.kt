@@ -41,7 +41,9 @@ import org.mybatis.dynamic.sql.util.kotlin.mybatis3.insertBatch
 import org.mybatis.dynamic.sql.util.kotlin.mybatis3.insertInto
 import org.mybatis.dynamic.sql.util.kotlin.mybatis3.insertMultiple
 import org.mybatis.dynamic.sql.util.kotlin.mybatis3.insertSelect
+import org.mybatis.dynamic.sql.util.kotlin.mybatis3.selectCursor
 import org.mybatis.dynamic.sql.util.kotlin.mybatis3.selectDistinct
+import org.mybatis.dynamic.sql.util.kotlin.mybatis3.selectForEach
 import org.mybatis.dynamic.sql.util.kotlin.mybatis3.selectList
 import org.mybatis.dynamic.sql.util.kotlin.mybatis3.selectOne
 import org.mybatis.dynamic.sql.util.kotlin.mybatis3.update
@@ -127,6 +129,12 @@ fun PersonMapper.selectOne(completer: SelectCompleter) =
 fun PersonMapper.select(completer: SelectCompleter) =
     selectList(this::selectMany, columnList, person, completer)
 
+fun PersonMapper.selectCursor(completer: SelectCompleter) =
+    selectCursor(this::selectCursor, columnList, person, completer)
+
+fun PersonMapper.selectForEach(completer: SelectCompleter, action: (PersonRecord) -> Unit) =
+    selectForEach({ selectWithHandler(it) { context -> action(context.resultObject) } }, columnList, person, completer)
+
 fun PersonMapper.selectDistinct(completer: SelectCompleter) =
     selectDistinct(this::selectMany, columnList, person, completer)
 
@@ -94,6 +94,35 @@ class PersonMapperTest {
         }
     }
 
+    @Test
+    fun testSelectCursor() {
+        newSession().use { session ->
+            val mapper = session.getMapper(PersonMapper::class.java)
+
+            val ids = mapper.selectCursor {
+                where(lastName, isEqualTo(LastName("Rubble")))
+                orderBy(id)
+            }.use { cursor -> cursor.map { it.id }.toList() }
+
+            assertThat(ids).containsExactly(4, 5, 6)
+        }
+    }
+
+    @Test
+    fun testSelectForEach() {
+        newSession().use { session ->
+            val mapper = session.getMapper(PersonMapper::class.java)
+
+            val names = mutableListOf<String?>()
+            mapper.selectForEach({
+                where(id, isLessThan(3))
+                orderBy(id)
+            }) { names.add(it.firstName) }
+
+            assertThat(names).containsExactly("Fred", "Wilma")
+        }
+    }
+
     @Test
     fun testSelectAllOrdered() {
         newSession().use { session ->
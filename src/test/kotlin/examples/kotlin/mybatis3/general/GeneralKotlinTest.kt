@@ -726,6 +726,33 @@ class GeneralKotlinTest {
         }
     }
 
+    @Test
+    fun testSelectWithSeekAfter() {
+        newSession().use { session ->
+            val mapper = session.getMapper(PersonMapper::class.java)
+
+            val selectStatement = select(id.`as`("A_ID"), addressId) {
+                from(person)
+                where(id, isNotEqualTo(4))
+                orderBy(addressId.descending(), id)
+                seekAfter(2, 5)
+                limit(3)
+            }
+
+            val expected = "select id as A_ID, address_id from Person" +
+                " where id <> #{parameters.p1,jdbcType=INTEGER}" +
+                " and (address_id <= #{parameters.p2,jdbcType=INTEGER}" +
+                " and (address_id < #{parameters.p3,jdbcType=INTEGER}" +
+                " or (address_id = #{parameters.p4,jdbcType=INTEGER} and id > #{parameters.p5,jdbcType=INTEGER})))" +
+                " order by address_id DESC, id limit #{parameters.p6}"
+            assertThat(selectStatement.selectStatement).isEqualTo(expected)
+
+            val rows = mapper.selectMany(selectStatement)
+
+            assertThat(rows.map { it.id }).containsExactly(6, 1, 2)
+        }
+    }
+
     @Test
     fun testRawSelectWithGroupBy() {
 
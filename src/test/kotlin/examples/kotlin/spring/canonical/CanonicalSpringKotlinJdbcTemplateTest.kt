@@ -0,0 +1,146 @@
+/*
+ *    Copyright 2016-2021 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package examples.kotlin.spring.canonical
+
+import examples.kotlin.spring.canonical.GeneratedAlwaysDynamicSqlSupport.generatedAlways
+import examples.kotlin.spring.canonical.PersonDynamicSqlSupport.addressId
+import examples.kotlin.spring.canonical.PersonDynamicSqlSupport.birthDate
+import examples.kotlin.spring.canonical.PersonDynamicSqlSupport.employed
+import examples.kotlin.spring.canonical.PersonDynamicSqlSupport.firstName
+import examples.kotlin.spring.canonical.PersonDynamicSqlSupport.id
+import examples.kotlin.spring.canonical.PersonDynamicSqlSupport.lastName
+import examples.kotlin.spring.canonical.PersonDynamicSqlSupport.occupation
+import examples.kotlin.spring.canonical.PersonDynamicSqlSupport.person
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.Test
+import org.mybatis.dynamic.sql.render.RenderingStrategies
+import org.mybatis.dynamic.sql.util.kotlin.elements.isEqualTo
+import org.mybatis.dynamic.sql.util.kotlin.elements.isGreaterThan
+import org.mybatis.dynamic.sql.util.kotlin.elements.isLessThan
+import org.mybatis.dynamic.sql.util.kotlin.spring.countFrom
+import org.mybatis.dynamic.sql.util.kotlin.spring.deleteFrom
+import org.mybatis.dynamic.sql.util.kotlin.spring.generalInsert
+import org.mybatis.dynamic.sql.util.kotlin.spring.insert
+import org.mybatis.dynamic.sql.util.kotlin.spring.insertInto
+import org.mybatis.dynamic.sql.util.kotlin.spring.select
+import org.mybatis.dynamic.sql.util.kotlin.spring.selectOne
+import org.mybatis.dynamic.sql.util.kotlin.spring.update
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.jdbc.support.GeneratedKeyHolder
+import org.springframework.test.annotation.DirtiesContext
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig
+import org.springframework.transaction.annotation.Transactional
+import java.util.Date
+
+@SpringJUnitConfig(classes = [SpringConfiguration::class])
+@Transactional
+class CanonicalSpringKotlinJdbcTemplateTest {
+    @Autowired
+    private lateinit var template: JdbcTemplate
+
+    @Test
+    fun testCount() {
+        val rows = template.countFrom(person) {
+            where(id, isLessThan(4))
+        }
+
+        assertThat(rows).isEqualTo(3)
+    }
+
+    @Test
+    fun testSelect() {
+        val rows = template.select(id, firstName, lastName, birthDate, employed, occupation, addressId) {
+            from(person)
+            where(id, isGreaterThan(1))
+            and(lastName, isEqualTo(LastName("Rubble")))
+            orderBy(id)
+            limit(2)
+        }.withRowMapper(personRowMapper)
+
+        assertThat(rows).extracting<Int> { it.id }.containsExactly(4, 5)
+    }
+
+    @Test
+    fun testSelectOne() {
+        val record = template.selectOne(id, firstName, lastName, birthDate, employed, occupation, addressId) {
+            from(person)
+            where(id, isEqualTo(1))
+        }.withRowMapper(personRowMapper)
+
+        assertThat(record?.firstName).isEqualTo("Fred")
+
+        val missing = template.selectOne(id, firstName, lastName, birthDate, employed, occupation, addressId) {
+            from(person)
+            where(id, isEqualTo(100))
+        }.withRowMapper(personRowMapper)
+
+        assertThat(missing).isNull()
+    }
+
+    @Test
+    fun testInsertUpdateDelete() {
+        val record = PersonRecord(100, "Joe", LastName("Jones"), Date(), true, "Developer", 1)
+
+        val inserted = template.insert(record).into(person) {
+            map(id).toProperty("id")
+            map(firstName).toProperty("firstName")
+            map(lastName).toProperty("lastNameAsString")
+            map(birthDate).toProperty("birthDate")
+            map(employed).toProperty("employedAsString")
+            map(occupation).toProperty("occupation")
+            map(addressId).toProperty("addressId")
+        }
+
+        val generalInserted = template.insertInto(person) {
+            set(id).toValue(101)
+            set(firstName).toValue("Sarah")
+            set(lastName).toValue(LastName("Smith"))
+            set(birthDate).toValue(Date())
+            set(employed).toValue(false)
+            set(addressId).toValue(2)
+        }
+
+        val updated = template.update(person) {
+            set(occupation).equalTo("Architect")
+            where(id, isGreaterThan(99))
+        }
+
+        val deleted = template.deleteFrom(person) {
+            where(occupation, isEqualTo("Architect"))
+        }
+
+        assertThat(inserted).isEqualTo(1)
+        assertThat(generalInserted).isEqualTo(1)
+        assertThat(updated).isEqualTo(2)
+        assertThat(deleted).isEqualTo(2)
+    }
+
+    @Test
+    @DirtiesContext(methodMode = DirtiesContext.MethodMode.AFTER_METHOD)
+    fun testGeneralInsertWithGeneratedKey() {
+        val insertStatement = org.mybatis.dynamic.sql.util.kotlin.model.insertInto(generatedAlways) {
+            set(generatedAlways.firstName).toValue("Fred")
+            set(generatedAlways.lastName).toValue("Flintstone")
+        }.render(RenderingStrategies.JDBC_POSITIONAL)
+
+        val keyHolder = GeneratedKeyHolder()
+        val rows = template.generalInsert(insertStatement, keyHolder)
+
+        assertThat(rows).isEqualTo(1)
+        assertThat(keyHolder.keys).containsEntry("FULL_NAME", "Fred Flintstone")
+    }
+}
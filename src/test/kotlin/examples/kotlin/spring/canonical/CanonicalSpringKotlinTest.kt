@@ -61,6 +61,7 @@ import org.mybatis.dynamic.sql.util.kotlin.spring.select
 import org.mybatis.dynamic.sql.util.kotlin.spring.selectDistinct
 import org.mybatis.dynamic.sql.util.kotlin.spring.selectList
 import org.mybatis.dynamic.sql.util.kotlin.spring.selectOne
+import org.mybatis.dynamic.sql.util.kotlin.spring.selectSequence
 import org.mybatis.dynamic.sql.util.kotlin.spring.update
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate
@@ -558,6 +559,35 @@ class CanonicalSpringKotlinTest {
         }
     }
 
+    @Test
+    fun testRawSelectSequence() {
+        val selectStatement = select(
+            id.`as`("A_ID"), firstName, lastName, birthDate, employed, occupation, addressId
+        ) {
+            from(person)
+            orderBy(id)
+        }
+
+        val ids = template.selectSequence(selectStatement, personRowMapper) { rows ->
+            rows.filter { it.employed == true }.map { it.id }.toList()
+        }
+
+        assertThat(ids).containsExactly(1, 2, 4, 5)
+    }
+
+    @Test
+    fun testSelectSequence() {
+        val names = template.selectSequence(firstName, lastName) {
+            from(person)
+            where(lastName, isEqualTo(LastName("Rubble")))
+            orderBy(id)
+        }.withFetchSize(2).withRowMapper({ rs, _ -> rs.getString(1) }) { rows ->
+            rows.joinToString()
+        }
+
+        assertThat(names).isEqualTo("Barney, Betty, Bamm Bamm")
+    }
+
     @Test
     fun testRawSelectDistinct() {
         val selectStatement = selectDistinct(lastName) {
@@ -21,8 +21,10 @@ import examples.kotlin.spring.canonical.PersonDynamicSqlSupport.id
 import examples.kotlin.spring.canonical.PersonDynamicSqlSupport.lastName
 import org.assertj.core.api.Assertions.assertThat
 import org.junit.jupiter.api.Test
+import org.mybatis.dynamic.sql.render.RenderingStrategies
 import org.mybatis.dynamic.sql.util.kotlin.elements.applyOperator
 import org.mybatis.dynamic.sql.util.kotlin.elements.avg
+import org.mybatis.dynamic.sql.util.kotlin.elements.bindParameter
 import org.mybatis.dynamic.sql.util.kotlin.elements.concatenate
 import org.mybatis.dynamic.sql.util.kotlin.elements.constant
 import org.mybatis.dynamic.sql.util.kotlin.elements.count
@@ -32,8 +34,10 @@ import org.mybatis.dynamic.sql.util.kotlin.elements.isBetween
 import org.mybatis.dynamic.sql.util.kotlin.elements.isBetweenWhenPresent
 import org.mybatis.dynamic.sql.util.kotlin.elements.isEqualTo
 import org.mybatis.dynamic.sql.util.kotlin.elements.isEqualToWhenPresent
+import org.mybatis.dynamic.sql.util.kotlin.elements.isGreaterThan
 import org.mybatis.dynamic.sql.util.kotlin.elements.isGreaterThanOrEqualToWhenPresent
 import org.mybatis.dynamic.sql.util.kotlin.elements.isGreaterThanWhenPresent
+import org.mybatis.dynamic.sql.util.kotlin.elements.isInArray
 import org.mybatis.dynamic.sql.util.kotlin.elements.isInCaseInsensitive
 import org.mybatis.dynamic.sql.util.kotlin.elements.isInCaseInsensitiveWhenPresent
 import org.mybatis.dynamic.sql.util.kotlin.elements.isInWhenPresent
@@ -48,6 +52,7 @@ import org.mybatis.dynamic.sql.util.kotlin.elements.isNotBetween
 import org.mybatis.dynamic.sql.util.kotlin.elements.isNotBetweenWhenPresent
 import org.mybatis.dynamic.sql.util.kotlin.elements.isNotEqualToWhenPresent
 import org.mybatis.dynamic.sql.util.kotlin.elements.isNotIn
+import org.mybatis.dynamic.sql.util.kotlin.elements.isNotInArray
 import org.mybatis.dynamic.sql.util.kotlin.elements.isNotInCaseInsensitive
 import org.mybatis.dynamic.sql.util.kotlin.elements.isNotInCaseInsensitiveWhenPresent
 import org.mybatis.dynamic.sql.util.kotlin.elements.isNotInWhenPresent
@@ -61,6 +66,7 @@ import org.mybatis.dynamic.sql.util.kotlin.elements.substring
 import org.mybatis.dynamic.sql.util.kotlin.elements.subtract
 import org.mybatis.dynamic.sql.util.kotlin.elements.sum
 import org.mybatis.dynamic.sql.util.kotlin.elements.upper
+import org.mybatis.dynamic.sql.util.kotlin.model.select as selectModel
 import org.mybatis.dynamic.sql.util.kotlin.spring.select
 import org.mybatis.dynamic.sql.util.kotlin.spring.selectList
 import org.mybatis.dynamic.sql.util.kotlin.spring.selectOne
@@ -596,6 +602,61 @@ class KotlinElementsTest {
         assertThat(rows[0]).isEqualTo("Wilma")
     }
 
+    @Test
+    fun testIsInArray() {
+        val selectStatement = select(firstName) {
+            from(person)
+            where(id, isInArray(1, 3).withArrayFunction("unnest"))
+            orderBy(id)
+        }
+
+        assertThat(selectStatement.selectStatement).isEqualTo(
+            "select first_name from Person where id = any(unnest(:p1)) order by id"
+        )
+
+        val rows = template.selectList(selectStatement, String::class)
+
+        assertThat(rows).containsExactly("Fred", "Pebbles")
+    }
+
+    @Test
+    fun testBindParameter() {
+        val minimumId = bindParameter<Int>("minimumId")
+        val prepared = selectModel(firstName) {
+            from(person)
+            where(id, isGreaterThan(minimumId))
+            and(lastName, isEqualTo(bindParameter("lastName")))
+            orderBy(id)
+        }.prepare(RenderingStrategies.SPRING_NAMED_PARAMETER)
+
+        assertThat(prepared.selectStatement).isEqualTo(
+            "select first_name from Person where id > :p1 and last_name = :p2 order by id"
+        )
+
+        val rows = template.selectList(prepared.bind(minimumId, 1).bind("lastName", LastName("Rubble")).build(),
+            String::class)
+
+        assertThat(rows).containsExactly("Barney", "Betty", "Bamm Bamm")
+    }
+
+    @Test
+    fun testIsNotInArray() {
+        val selectStatement = select(firstName) {
+            from(person)
+            where(id, isNotInArray(listOf(1, 3)).withArrayFunction("unnest"))
+            orderBy(id)
+        }
+
+        assertThat(selectStatement.selectStatement).isEqualTo(
+            "select first_name from Person where id <> all(unnest(:p1)) order by id"
+        )
+
+        val rows = template.selectList(selectStatement, String::class)
+
+        assertThat(rows).hasSize(4)
+        assertThat(rows[0]).isEqualTo("Wilma")
+    }
+
     @Test
     fun testIsNotInWithList() {
         val myList = mutableListOf<Int>()
@@ -21,6 +21,7 @@ import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType
 import org.springframework.context.annotation.Bean
 import org.springframework.context.annotation.Configuration
+import org.springframework.jdbc.core.JdbcTemplate
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate
 import org.springframework.jdbc.datasource.DataSourceTransactionManager
 
@@ -39,6 +40,9 @@ open class SpringConfiguration {
     @Bean
     open fun template(dataSource: DataSource) = NamedParameterJdbcTemplate(dataSource)
 
+    @Bean
+    open fun jdbcTemplate(dataSource: DataSource) = JdbcTemplate(dataSource)
+
     @Bean
     open fun transactionManager(dataSource: DataSource) = DataSourceTransactionManager(dataSource)
 }
@@ -16,6 +16,8 @@
 
 drop table AnimalData if exists;
 drop table AnimalDataCopy if exists;
+drop table KeyList if exists;
+drop table SharedKeyList if exists;
 
 create table AnimalData (
   id int not null,
@@ -25,6 +27,16 @@ create table AnimalData (
   primary key(id)
 );
 
+-- for the large in list tests
+create global temporary table KeyList (
+  key_value int not null
+) on commit delete rows;
+
+create table SharedKeyList (
+  key_value int not null,
+  call_tag varchar(36) not null
+);
+
 -- for the insert with select tests
 create table AnimalDataCopy (
   id int not null,
@@ -16,6 +16,7 @@
 
 drop table Address if exists;
 drop table Person if exists;
+drop table KeyList if exists;
 
 create table Address (
    address_id int not null,
@@ -36,6 +37,11 @@ create table Person (
    primary key(id)
 );
 
+-- for the large in list tests
+create global temporary table KeyList (
+   key_value int not null
+) on commit delete rows;
+
 insert into Address (address_id, street_address, city, state)
 values(1, '123 Main Street', 'Bedrock', 'IN');
 